@@ -6,6 +6,7 @@ import org.apereo.cas.configuration.support.RequiresModule;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -116,6 +117,13 @@ public class AuditEngineProperties implements Serializable {
      */
     private int abbreviationLength = 100;
 
+    /**
+     * Control how audit records are queued and flushed in batches
+     * when audit records are recorded asynchronously.
+     */
+    @NestedConfigurationProperty
+    private AuditPipelineProperties pipeline = new AuditPipelineProperties();
+
     /**
      * The audit format types.
      */
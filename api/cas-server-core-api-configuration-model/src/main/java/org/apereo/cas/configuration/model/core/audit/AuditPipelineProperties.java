@@ -0,0 +1,82 @@
+package org.apereo.cas.configuration.model.core.audit;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link AuditPipelineProperties}. Controls how audit records
+ * are queued and flushed to the audit storage in batches, when
+ * audit trail managers are configured to record audit records asynchronously.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@RequiresModule(name = "cas-server-core-audit", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+public class AuditPipelineProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 2261548394702417153L;
+
+    /**
+     * Maximum number of audit records that can be held in memory,
+     * waiting to be flushed to the audit storage. Once the queue
+     * is full, the overflow policy decides how new records are handled.
+     */
+    private int capacity = 10_000;
+
+    /**
+     * Maximum number of audit records that are flushed to the audit storage
+     * in a single batch. Audit storage services that support batch operations
+     * would save the entire batch in a single round trip.
+     */
+    private int batchSize = 100;
+
+    /**
+     * Maximum amount of time to wait for a batch to fill up
+     * before it is flushed to the audit storage.
+     */
+    @DurationCapable
+    private String flushInterval = "PT1S";
+
+    /**
+     * Decide how audit records should be handled once the queue is full.
+     */
+    private AuditPipelineOverflowPolicies overflowPolicy = AuditPipelineOverflowPolicies.BLOCK;
+
+    /**
+     * Directory where audit records that overflow the queue are written to
+     * when the overflow policy is set to spill records to disk. Spilled records
+     * are read back and flushed to the audit storage once the queue is drained.
+     * If left undefined, the system temporary directory is used.
+     */
+    private String spillDirectory;
+
+    /**
+     * The overflow policies.
+     */
+    public enum AuditPipelineOverflowPolicies {
+        /**
+         * Block the caller until the queue has room for the audit record.
+         */
+        BLOCK,
+        /**
+         * Drop the oldest audit record in the queue to make room for the new record.
+         */
+        DROP_OLDEST,
+        /**
+         * Write the audit record to a local file, to be flushed later
+         * once the queue has been drained.
+         */
+        SPILL
+    }
+}
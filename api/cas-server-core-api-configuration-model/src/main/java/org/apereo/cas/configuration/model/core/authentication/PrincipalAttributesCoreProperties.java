@@ -1,5 +1,6 @@
 package org.apereo.cas.configuration.model.core.authentication;
 
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import lombok.Getter;
@@ -47,6 +48,22 @@ public class PrincipalAttributesCoreProperties implements Serializable {
      */
     private int maximumCacheSize = 10000;
 
+    /**
+     * Indicates the maximum weight of the cache that holds principal attributes for each
+     * registered service, when the service is assigned a caching principal attribute repository.
+     * Every cached principal is weighed by the number of attribute values it holds, and
+     * the cache begins to evict entries once the total weight exceeds this value.
+     */
+    private long serviceCacheMaximumWeight = 100_000;
+
+    /**
+     * Indicates whether cached principal attributes should also be kept in a distributed store,
+     * so they remain available when requests move from one CAS server node to another.
+     * The distributed store is provided by the ticket registry in use (i.e. Redis or Hazelcast),
+     * and is only used if the ticket registry offers support for it.
+     */
+    private boolean enableDistributedServiceCache;
+
     /**
      * Recover from LDAP exceptions and continue with partial results. Otherwise,
      * die and do not allow to log in.
@@ -75,6 +92,24 @@ public class PrincipalAttributesCoreProperties implements Serializable {
      */
     private AggregationStrategyTypes aggregation = AggregationStrategyTypes.MERGE;
 
+    /**
+     * When {@link #aggregation} is set to {@link AggregationStrategyTypes#CONCURRENT_MERGE},
+     * this setting controls the maximum amount of time to wait for all attribute repositories
+     * to produce results. Attribute repositories that fail to produce results in time
+     * are handled according to {@link #recoverExceptions}.
+     */
+    @DurationCapable
+    private String aggregationTimeout = "PT10S";
+
+    /**
+     * When {@link #aggregation} is set to {@link AggregationStrategyTypes#CONCURRENT_MERGE},
+     * this setting controls the maximum amount of time to wait for each attribute repository
+     * to produce results. Attribute repositories that fail to produce results in time
+     * are handled according to {@link #recoverExceptions}.
+     */
+    @DurationCapable
+    private String aggregationSourceTimeout = "PT5S";
+
     /**
      * In the event that multiple attribute repositories are defined,
      * setting this option to {@code true} forces all repositories
@@ -103,6 +138,13 @@ public class PrincipalAttributesCoreProperties implements Serializable {
          * in order and merge the results into a single result set.
          */
         MERGE,
+        /**
+         * Query multiple repositories concurrently and merge the results
+         * into a single result set, in the order in which repositories are defined.
+         * Repositories that fail to produce results in time are skipped
+         * or halt the resolution, depending on whether exceptions are recovered.
+         */
+        CONCURRENT_MERGE,
         /**
          * Query multiple repositories in order and merge the results into
          * a single result set. As each repository is queried
@@ -64,4 +64,25 @@ public class ServiceRegistryCoreProperties implements Serializable {
      * The indexes allow CAS to execute a direct query on loaded service objects to find the relevant definition.
      */
     private boolean indexServices = true;
+
+    /**
+     * When set to true, CAS maintains a matching index for registered services
+     * to narrow down the list of candidates that need to be evaluated for an incoming service request.
+     * Service definitions that use literal or anchored regular expression service ids are organized by their literal prefix,
+     * and only those whose prefix matches the requested service are evaluated, in addition to all other definitions
+     * whose matching behavior cannot be indexed. The evaluation order of service definitions is always preserved.
+     * This is particularly useful for deployments with a very large number of service definitions.
+     */
+    private boolean indexServiceMatching;
+
+    /**
+     * When set to true, the background task that periodically reloads services
+     * only asks the service registry for service definitions that were added, modified or removed
+     * since the last time services were loaded, and applies those changes to the services cache and indexes.
+     * This is only effective if the service registry is able to track changes to service definitions,
+     * and CAS falls back onto reloading all service definitions otherwise.
+     * Note that changes made directly to the service registry data store outside of CAS
+     * may not be detected; if that is the case, this option should remain disabled.
+     */
+    private boolean incrementalLoad;
 }
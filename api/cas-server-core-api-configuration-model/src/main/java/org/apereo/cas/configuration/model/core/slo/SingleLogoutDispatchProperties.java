@@ -0,0 +1,86 @@
+package org.apereo.cas.configuration.model.core.slo;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link SingleLogoutDispatchProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@RequiresModule(name = "cas-server-core-logout", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+public class SingleLogoutDispatchProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -2742317840174630284L;
+
+    /**
+     * Whether asynchronous back-channel logout messages should be put into a dispatch queue,
+     * from which they are sent in parallel, with a bounded number of concurrent requests per target host,
+     * and are retried upon failures. When false, asynchronous messages are handed off
+     * to the HTTP client and their delivery is not tracked.
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum number of logout messages that may be sent to the same host concurrently.
+     */
+    private int maxConcurrentRequestsPerHost = 4;
+
+    /**
+     * Maximum number of logout messages that may be queued for the same host.
+     * Once the limit is reached, new logout messages for the host are rejected
+     * until the queue drains.
+     */
+    private int maxQueuedRequestsPerHost = 500;
+
+    /**
+     * Maximum number of delivery attempts for each logout message.
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * Amount of time to wait before retrying a failed logout message.
+     * The delay is multiplied by the backoff multiplier after every failed attempt.
+     */
+    @DurationCapable
+    private String backoffDelay = "PT1S";
+
+    /**
+     * Multiplier applied to the backoff delay after every failed attempt.
+     */
+    private double backoffMultiplier = 2.0;
+
+    /**
+     * Maximum amount of time to wait before retrying a failed logout message.
+     */
+    @DurationCapable
+    private String maxBackoffDelay = "PT30S";
+
+    /**
+     * Amount of time to wait, when the CAS server node shuts down, for queued logout messages
+     * to be delivered. Messages that are not delivered in time remain in the queue store,
+     * and are recovered on startup if the store is durable.
+     */
+    @DurationCapable
+    private String shutdownTimeout = "PT10S";
+
+    /**
+     * Indicates whether queued logout messages should be kept in a durable store,
+     * so they survive a restart of the CAS server node and are recovered and sent on startup.
+     * The durable store is provided by the ticket registry in use (i.e. Redis),
+     * and is only used if the ticket registry offers support for it.
+     */
+    private boolean enableDurableQueue;
+}
@@ -0,0 +1,68 @@
+package org.apereo.cas.configuration.model.core.ticket.registry;
+
+import org.apereo.cas.configuration.model.support.quartz.ScheduledJobProperties;
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+
+/**
+ * This is {@link TicketRegistryCleanerProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@RequiresModule(name = "cas-server-core-tickets", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+public class TicketRegistryCleanerProperties extends ScheduledJobProperties {
+    @Serial
+    private static final long serialVersionUID = -1278392187613427465L;
+
+    /**
+     * Determine how the cleaner should locate expired tickets.
+     */
+    private TicketRegistryCleanerModes mode = TicketRegistryCleanerModes.DEFAULT;
+
+    /**
+     * The maximum number of tickets that should be examined and processed in a single batch,
+     * when the cleaner runs in incremental or bulk mode.
+     */
+    private int batchSize = 500;
+
+    /**
+     * The maximum amount of time that a single cleaner run is allowed to spend
+     * when the cleaner runs in incremental or bulk mode. Remaining tickets are processed
+     * in the next scheduled run.
+     */
+    @DurationCapable
+    private String timeBudget = "PT30S";
+
+    /**
+     * The ticket registry cleaner modes.
+     */
+    public enum TicketRegistryCleanerModes {
+        /**
+         * Stream all tickets from the registry and examine each for expiration.
+         */
+        DEFAULT,
+        /**
+         * Examine only tickets that are due for expiration in the current window,
+         * using an expiration-ordered index maintained by the registry. Registries that
+         * do not maintain such an index fall back to the default behavior.
+         */
+        INCREMENTAL,
+        /**
+         * Remove tickets in bulk based on the expiration time recorded by the registry
+         * for each ticket, without loading and examining each ticket. Ticket-granting tickets
+         * are still removed individually to allow for single logout. Registries that do not
+         * record ticket expiration times fall back to the default behavior.
+         */
+        BULK
+    }
+}
@@ -1,5 +1,6 @@
 package org.apereo.cas.configuration.model.core.ticket.registry;
 
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import lombok.Getter;
@@ -34,6 +35,30 @@ public class TicketRegistryCoreProperties implements Serializable {
      */
     private boolean enableLocking = true;
 
+    /**
+     * When set to true, ticket operations are first guarded by striped locks
+     * that are local to this CAS server node, and then by a distributed lease
+     * obtained from the registry lock implementation. Concurrent requests for the same ticket
+     * on a single node wait on the local lock, so at most one thread per node competes for the distributed lease.
+     * This setting only applies when locking is enabled and the ticket registry supports distributed locking.
+     */
+    private boolean enableLeaseLocking;
+
+    /**
+     * Maximum amount of time to wait for a ticket lock to become available,
+     * before the ticket operation is abandoned.
+     */
+    @DurationCapable
+    private String lockWaitTime = "PT3S";
+
+    /**
+     * Amount of time a distributed lock lease is held before it expires
+     * automatically, if the owning CAS server node fails to release it.
+     * This setting only applies to lock implementations that support leases.
+     */
+    @DurationCapable
+    private String lockLeaseTime = "PT60S";
+
     /**
      * Identifier for this CAS server node
      * that tags the sender/receiver in the queue
@@ -42,4 +67,14 @@ public class TicketRegistryCoreProperties implements Serializable {
      * and kept in memory.
      */
     private String queueIdentifier;
+
+    /**
+     * When set to true, core ticket types are turned into a compact binary form
+     * before they are encrypted and stored by the ticket registry, instead of using Java serialization.
+     * Tickets that were previously encoded via Java serialization can still be read.
+     * Note that once enabled, all CAS server nodes that share the same ticket registry
+     * must be able to read the binary form, so this setting should be turned on for all nodes together.
+     * This setting only applies when ticket encryption is enabled for the ticket registry.
+     */
+    private boolean compactBinaryEncoding;
 }
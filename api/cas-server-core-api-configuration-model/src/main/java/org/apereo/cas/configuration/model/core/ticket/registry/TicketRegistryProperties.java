@@ -10,7 +10,6 @@ import org.apereo.cas.configuration.model.support.jpa.ticketregistry.JpaTicketRe
 import org.apereo.cas.configuration.model.support.kafka.KafkaTicketRegistryProperties;
 import org.apereo.cas.configuration.model.support.memcached.MemcachedTicketRegistryProperties;
 import org.apereo.cas.configuration.model.support.mongo.ticketregistry.MongoDbTicketRegistryProperties;
-import org.apereo.cas.configuration.model.support.quartz.ScheduledJobProperties;
 import org.apereo.cas.configuration.model.support.redis.RedisTicketRegistryProperties;
 import org.apereo.cas.configuration.support.RequiresModule;
 
@@ -121,7 +120,7 @@ public class TicketRegistryProperties implements Serializable {
      * Ticket registry cleaner settings.
      */
     @NestedConfigurationProperty
-    private ScheduledJobProperties cleaner = new ScheduledJobProperties();
+    private TicketRegistryCleanerProperties cleaner = new TicketRegistryCleanerProperties();
 
     /**
      * Ticket registry core settings.
@@ -45,4 +45,26 @@ public class WebflowSessionManagementProperties implements Serializable {
      * to the client's IP address and user-agent.
      */
     private boolean pinToSession;
+
+    /**
+     * Decide how the webflow state is transcoded when sessions are stored on the client side.
+     */
+    private WebflowSessionTranscoderTypes transcoder = WebflowSessionTranscoderTypes.DEFAULT;
+
+    /**
+     * Transcoder types for client-side webflow sessions.
+     */
+    public enum WebflowSessionTranscoderTypes {
+        /**
+         * Serialize the webflow state with gzip compression and encrypt the result.
+         */
+        DEFAULT,
+        /**
+         * Stream the serialized webflow state through a raw deflate stream into pooled buffers,
+         * with compact class descriptors for common webflow state types, and encrypt the result.
+         * The encoded state is not compatible with the default transcoder, so all nodes in
+         * a cluster must use the same transcoder.
+         */
+        STREAMING
+    }
 }
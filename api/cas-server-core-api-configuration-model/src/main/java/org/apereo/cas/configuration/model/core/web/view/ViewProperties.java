@@ -82,6 +82,16 @@ public class ViewProperties implements Serializable {
         AGGREGATE
     }
 
+    /**
+     * When set to {@code true}, CAS2 and CAS3 service validation responses in XML
+     * are written directly to the response by CAS instead of being rendered
+     * via the configured view templates. This allows CAS to skip loading and executing
+     * templates on every validation request, and produces the same response elements
+     * as the default templates. Custom template locations for CAS2 and CAS3 views
+     * are ignored when this option is turned on.
+     */
+    private boolean directProtocolResponses;
+
     /**
      * CAS1 views and locations.
      */
@@ -0,0 +1,58 @@
+package org.apereo.cas.configuration.model.support.hazelcast;
+
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link HazelcastNearCacheProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@RequiresModule(name = "cas-server-support-hazelcast-core")
+@Getter
+@Setter
+@Accessors(chain = true)
+public class HazelcastNearCacheProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 2638815012431716358L;
+
+    /**
+     * Whether a near cache should be enabled for the map.
+     * A near cache keeps entries that are frequently read by a member in the memory of that member,
+     * so repeated reads of entries owned by other cluster members do not need a network round trip.
+     * Entries in the near cache are invalidated when they are updated or removed anywhere in the cluster.
+     * Invalidation is eventually consistent, so a member may briefly read a stale entry after it was changed elsewhere.
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum number of entries that are kept in the near cache, per member.
+     */
+    private int maxSize = 10_000;
+
+    /**
+     * Maximum number of seconds for each entry to stay in the near cache.
+     * Entries that are older than this value are automatically evicted from the near cache.
+     * A value of zero means no limit.
+     */
+    private int timeToLiveSeconds;
+
+    /**
+     * Maximum number of seconds each entry can stay in the near cache as untouched (not read).
+     * A value of zero means no limit.
+     */
+    private int maxIdleSeconds;
+
+    /**
+     * Whether entries that are owned by the local member should also be kept in the near cache.
+     */
+    private boolean cacheLocalEntries;
+}
@@ -32,6 +32,31 @@ public class HazelcastTicketRegistryProperties extends BaseHazelcastProperties {
     @NestedConfigurationProperty
     private EncryptionRandomizedSigningJwtCryptographyProperties crypto = new EncryptionRandomizedSigningJwtCryptographyProperties();
 
+    /**
+     * Near cache settings for the map that holds ticket-granting tickets.
+     * Ticket-granting tickets are read repeatedly during a single login flow,
+     * and a near cache allows those reads to be served locally when the ticket is owned by another member.
+     */
+    @NestedConfigurationProperty
+    private HazelcastNearCacheProperties nearCache = new HazelcastNearCacheProperties();
+
+    /**
+     * When set to true, ticket documents are written to the cluster using a dedicated serializer
+     * that encodes core ticket types into a compact binary form, instead of relying on Java serialization
+     * for the ticket document and its ticket. Note that once enabled, all CAS server nodes in the cluster
+     * must be able to read the binary form, so this setting should be turned on for all nodes together.
+     */
+    private boolean enableCompactSerialization;
+
+    /**
+     * When set to true, ticket operations are guarded by distributed locks that are obtained
+     * as leased entry locks on a dedicated Hazelcast map, so that operations on the same ticket
+     * are mutually exclusive across all nodes in the cluster. Every lock then requires a round trip
+     * to the member that owns the lock entry. When turned off, tickets are only locked locally on
+     * each CAS server node, provided ticket registry locking is enabled.
+     */
+    private boolean enableDistributedLocking;
+
     public HazelcastTicketRegistryProperties() {
         this.crypto.setEnabled(false);
     }
@@ -23,4 +23,20 @@ import java.io.Serial;
 public class JsonTrustedDevicesMultifactorProperties extends SpringResourceProperties {
     @Serial
     private static final long serialVersionUID = -8690563713141571620L;
+
+    /**
+     * When enabled, changes to trusted device records are appended to a log file
+     * that is kept next to the JSON resource, instead of rewriting the entire JSON resource
+     * on every change. The JSON resource is rewritten periodically once the log grows beyond the
+     * compaction threshold, and the log is replayed on startup to recover changes
+     * that are not yet compacted. Note that in this mode, changes made to the JSON resource
+     * by external means are not watched and reloaded.
+     */
+    private boolean appendOnly;
+
+    /**
+     * Number of entries that may accumulate in the append-only log
+     * before the JSON resource is rewritten and the log is truncated.
+     */
+    private long compactionThreshold = 1_000;
 }
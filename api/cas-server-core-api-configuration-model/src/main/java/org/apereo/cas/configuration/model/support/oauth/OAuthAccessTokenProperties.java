@@ -65,6 +65,31 @@ public class OAuthAccessTokenProperties implements Serializable {
      */
     private long maxActiveTokensAllowed;
 
+    /**
+     * Whether JWT access tokens presented to the user profile and introspection endpoints
+     * should be validated locally once they are found in the ticket registry. Subsequent requests
+     * with the same token are validated against the token signature, expiration and audience
+     * without a ticket registry lookup, until the token is revoked on this node or the
+     * local validation expiration is reached. Revocations that take place on other
+     * CAS nodes are observed once the local entry expires. Note that access tokens validated locally
+     * do not update the usage and idle timeout records of the token in the ticket registry.
+     */
+    private boolean validateJwtLocally;
+
+    /**
+     * The maximum amount of time a JWT access token, once found in the ticket registry,
+     * may be validated locally before the ticket registry is consulted again.
+     * This effectively determines how long it would take for revocations
+     * on other CAS nodes to be observed.
+     */
+    @DurationCapable
+    private String localValidationExpiration = "PT30S";
+
+    /**
+     * The maximum number of JWT access tokens that may be validated locally at any given time.
+     */
+    private long localValidationMaximumSize = 10_000;
+
     /**
      * Crypto settings.
      */
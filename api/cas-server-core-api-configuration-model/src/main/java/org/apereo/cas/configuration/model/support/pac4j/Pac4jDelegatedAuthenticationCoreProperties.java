@@ -76,6 +76,15 @@ public class Pac4jDelegatedAuthenticationCoreProperties implements Serializable
      */
     private long cacheSize = 100;
 
+    /**
+     * Control how often the collection of built and initialized delegated identity providers
+     * should be checked for changes. Lookups are served from an immutable snapshot of identity providers,
+     * which is rebuilt in the background once this interval has passed and is only replaced when
+     * the identity provider definitions have actually changed. A zero value checks for changes on every lookup.
+     */
+    @DurationCapable
+    private String refreshInterval = "PT1M";
+
     /**
      * Control settings for session replication.
      */
@@ -57,6 +57,15 @@ public class RedisTicketRegistryProperties extends BaseRedisProperties {
      */
     private boolean enableRedisSearch = true;
 
+    /**
+     * The number of keys that should be requested from Redis in each
+     * iteration when scanning the keyspace for tickets, using the {@code SCAN} command.
+     * Tickets that belong to the same page are fetched from Redis in a single pipelined round trip.
+     * This is only a hint to the Redis server and the actual number of keys
+     * returned per iteration may vary.
+     */
+    private long scanCount = 500;
+
     public RedisTicketRegistryProperties() {
         crypto.setEnabled(false);
     }
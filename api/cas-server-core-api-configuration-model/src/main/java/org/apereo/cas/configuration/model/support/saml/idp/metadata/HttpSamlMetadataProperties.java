@@ -1,5 +1,6 @@
 package org.apereo.cas.configuration.model.support.saml.idp.metadata;
 
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.ExpressionLanguageCapable;
 import org.apereo.cas.configuration.support.RequiresModule;
 
@@ -41,4 +42,24 @@ public class HttpSamlMetadataProperties implements Serializable {
      */
     @ExpressionLanguageCapable
     private String metadataBackupLocation;
+
+    /**
+     * Download and parse each distinct metadata location once, and share the
+     * parsed metadata between all registered services that point to the same location.
+     * Entity descriptors are indexed by their entity id, and registered services
+     * are handed a view of the metadata that only contains the entity they ask for.
+     * This is most useful when many registered services point to the same, large
+     * metadata aggregate such as those published by federations. Shared metadata is kept
+     * in memory only, and is not written to or read from the metadata backup location.
+     */
+    private boolean sharedStoreEnabled;
+
+    /**
+     * How often metadata sources in the shared store should be refreshed in the background.
+     * Refresh operations use conditional requests, and metadata that has not changed
+     * is neither downloaded nor parsed again. A zero or negative value disables background refreshes,
+     * in which case each metadata source is loaded once and is never refreshed for as long as CAS is running.
+     */
+    @DurationCapable
+    private String sharedStoreRefreshInterval = "PT1H";
 }
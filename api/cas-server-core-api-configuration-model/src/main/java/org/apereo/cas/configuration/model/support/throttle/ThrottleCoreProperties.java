@@ -43,4 +43,41 @@ public class ThrottleCoreProperties implements Serializable {
      * Application code used to identify this application in the audit logs.
      */
     private String appCode = DEFAULT_APPLICATION_CODE;
+
+    /**
+     * Decide how throttled submissions are tracked in memory
+     * when throttling is handled by the CAS server node itself.
+     */
+    private ThrottledSubmissionStoreTypes storeType = ThrottledSubmissionStoreTypes.MAP;
+
+    /**
+     * Number of counters in each row of the sliding window sketch,
+     * when submissions are tracked using sliding window counters.
+     * Larger values reduce the chance of unrelated keys sharing counters,
+     * at the cost of more memory.
+     */
+    private int slidingWindowWidth = 65_536;
+
+    /**
+     * Number of rows in the sliding window sketch,
+     * when submissions are tracked using sliding window counters.
+     * Each key is tracked in one counter per row, and the smallest counter wins.
+     */
+    private int slidingWindowDepth = 4;
+
+    /**
+     * Types of stores that track throttled submissions.
+     */
+    public enum ThrottledSubmissionStoreTypes {
+        /**
+         * Keep a record for every throttled key in a concurrent map.
+         */
+        MAP,
+        /**
+         * Track submissions in a fixed-size sketch of sliding window counters,
+         * keyed by the hashed throttling key. Memory use is bounded regardless of the number
+         * of distinct keys, and counters expire on their own without having to sweep the store.
+         */
+        SLIDING_WINDOW
+    }
 }
@@ -142,6 +142,15 @@ public class X509Properties implements CasFeatureModule, Serializable {
     @DurationCapable
     private String cacheTimeToLiveSeconds = "PT4H";
 
+    /**
+     * When CRLs are fetched from distribution points and cached, indicate
+     * how long ahead of the CRL's next update the cached CRL should be fetched again
+     * in the background. A zero or negative value disables background refreshes,
+     * leaving CRLs to be fetched again once they are evicted from the cache.
+     */
+    @DurationCapable
+    private String cacheRefreshLeadTime = "PT5M";
+
     /**
      * If the CRL resource is unavailable, activate the this policy.
      * Activated if {@link #revocationChecker} is {@code RESOURCE}.
@@ -0,0 +1,28 @@
+package org.apereo.cas.logout.slo;
+
+import org.apereo.cas.web.HttpMessage;
+
+/**
+ * This is {@link SingleLogoutMessageDispatcher} that accepts back-channel logout messages
+ * and takes over their delivery to the target endpoint, outside the request that initiated the logout.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@FunctionalInterface
+public interface SingleLogoutMessageDispatcher {
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "singleLogoutMessageDispatcher";
+
+    /**
+     * Accept the logout message for delivery. Messages that target the same logout endpoint
+     * for the same ticket (i.e. session index) are considered duplicates.
+     *
+     * @param request the logout request that produced the message
+     * @param message the message
+     * @return true if the message is accepted for delivery, false if it is rejected.
+     */
+    boolean dispatch(SingleLogoutRequestContext request, HttpMessage message);
+}
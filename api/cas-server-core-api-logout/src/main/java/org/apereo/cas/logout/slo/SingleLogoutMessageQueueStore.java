@@ -0,0 +1,66 @@
+package org.apereo.cas.logout.slo;
+
+import org.apereo.cas.web.HttpMessage;
+
+import java.util.Map;
+
+/**
+ * This is {@link SingleLogoutMessageQueueStore} that keeps track of logout messages
+ * that are queued for delivery, so they can survive a restart of the CAS server node
+ * and be recovered and dispatched again. Stores that are shared by several CAS server nodes
+ * must keep the messages of each node apart, so that a node only recovers messages it queued itself
+ * and never removes a message that another node is still delivering.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+public interface SingleLogoutMessageQueueStore {
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "singleLogoutMessageQueueStore";
+
+    /**
+     * Store that does not keep anything.
+     *
+     * @return the store
+     */
+    static SingleLogoutMessageQueueStore noOp() {
+        return new SingleLogoutMessageQueueStore() {
+            @Override
+            public void save(final String id, final HttpMessage message) {
+            }
+
+            @Override
+            public void remove(final String id) {
+            }
+
+            @Override
+            public Map<String, HttpMessage> load() {
+                return Map.of();
+            }
+        };
+    }
+
+    /**
+     * Save a queued logout message.
+     *
+     * @param id      the id
+     * @param message the message
+     */
+    void save(String id, HttpMessage message);
+
+    /**
+     * Remove a logout message once it is no longer queued.
+     *
+     * @param id the id
+     */
+    void remove(String id);
+
+    /**
+     * Load all logout messages queued by this node, keyed by their id.
+     *
+     * @return the map
+     */
+    Map<String, HttpMessage> load();
+}
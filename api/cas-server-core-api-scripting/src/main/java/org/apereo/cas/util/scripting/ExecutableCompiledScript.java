@@ -73,9 +73,11 @@ public interface ExecutableCompiledScript extends AutoCloseable {
     }
 
     /**
-     * Gets compiled script.
+     * Gets compiled script. This is the class compiled from the script,
+     * and not an instance of it; instances are created per execution
+     * so that script state is never shared.
      *
-     * @return the compiled script
+     * @return the compiled script class, or {@code null} if the script could not be compiled
      */
     Object getCompiledScript();
 
@@ -0,0 +1,65 @@
+package org.apereo.cas.authentication.principal;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * This is {@link PrincipalAttributesRepositoryCacheStore} that acts as a second-level,
+ * typically distributed, store for cached principal attributes so they remain
+ * available when requests move from one CAS server node to another.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+public interface PrincipalAttributesRepositoryCacheStore {
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "principalAttributesRepositoryCacheStore";
+
+    /**
+     * Store that does not keep anything.
+     *
+     * @return the store
+     */
+    static PrincipalAttributesRepositoryCacheStore noOp() {
+        return new PrincipalAttributesRepositoryCacheStore() {
+            @Override
+            public Optional<Map<String, List<Object>>> get(final String key) {
+                return Optional.empty();
+            }
+
+            @Override
+            public void put(final String key, final Map<String, List<Object>> attributes, final Duration expiration) {
+            }
+
+            @Override
+            public void clear() {
+            }
+        };
+    }
+
+    /**
+     * Get cached attributes.
+     *
+     * @param key the key
+     * @return the attributes, if any
+     */
+    Optional<Map<String, List<Object>>> get(String key);
+
+    /**
+     * Store attributes.
+     *
+     * @param key        the key
+     * @param attributes the attributes
+     * @param expiration the expiration
+     */
+    void put(String key, Map<String, List<Object>> attributes, Duration expiration);
+
+    /**
+     * Remove all cached attributes.
+     */
+    void clear();
+}
@@ -6,6 +6,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.util.Collection;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -85,6 +86,19 @@ public interface ServiceRegistry extends NamedObject {
      */
     Collection<RegisteredService> load();
 
+    /**
+     * Retrieve the changes made to the data store since the given watermark,
+     * which is the last-modified timestamp (in milliseconds since epoch) of service definitions.
+     * Registries that do not track modifications of service definitions return an empty result,
+     * in which case callers are expected to fall back onto {@link #load()}.
+     *
+     * @param watermark the watermark
+     * @return the change set, if supported
+     */
+    default Optional<ServiceRegistryChangeSet> getChangesSince(final long watermark) {
+        return Optional.empty();
+    }
+
     /**
      * Gets services stream.
      * <p>
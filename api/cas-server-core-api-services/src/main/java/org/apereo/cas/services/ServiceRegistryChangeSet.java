@@ -0,0 +1,63 @@
+package org.apereo.cas.services;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.val;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * This is {@link ServiceRegistryChangeSet}. It describes the changes recorded by a service registry
+ * since a given watermark, which is the last-modified timestamp (in milliseconds since epoch)
+ * of service definitions. The change set carries the service definitions that were added or modified
+ * since the watermark, along with the identifiers of all service definitions that currently
+ * exist in the registry so that deletions can be inferred by the caller.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Getter
+@Builder
+@ToString(of = "watermark")
+public class ServiceRegistryChangeSet {
+
+    /**
+     * Services that were added or modified since the requested watermark.
+     */
+    @Builder.Default
+    private final Collection<RegisteredService> modifiedServices = new ArrayList<>();
+
+    /**
+     * Identifiers of all services that currently exist in the registry.
+     */
+    @Builder.Default
+    private final Set<Long> serviceIds = new HashSet<>();
+
+    /**
+     * The watermark that should be used to ask for the next set of changes.
+     */
+    private final long watermark;
+
+    /**
+     * Merge this change set with the given change set into a new instance.
+     * The resulting watermark is the latest of the two.
+     *
+     * @param changeSet the change set
+     * @return the service registry change set
+     */
+    public ServiceRegistryChangeSet merge(final ServiceRegistryChangeSet changeSet) {
+        val services = new ArrayList<>(modifiedServices);
+        services.addAll(changeSet.getModifiedServices());
+        val ids = new HashSet<>(serviceIds);
+        ids.addAll(changeSet.getServiceIds());
+        return ServiceRegistryChangeSet.builder()
+            .modifiedServices(services)
+            .serviceIds(ids)
+            .watermark(Math.max(watermark, changeSet.getWatermark()))
+            .build();
+    }
+}
@@ -211,6 +211,17 @@ public interface ServicesManager extends Ordered, NamedObject {
      */
     Collection<RegisteredService> load();
 
+    /**
+     * Inform the ServicesManager to refresh its list of services by applying only the changes
+     * that were made to the service registry since the last load, if the registry is able to track them.
+     * Otherwise, services are fully reloaded via {@link #load()}.
+     *
+     * @return the collection
+     */
+    default Collection<RegisteredService> refresh() {
+        return load();
+    }
+
     /**
      * Return a count of loaded services by this manager.
      *
@@ -4,6 +4,7 @@ import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.ticket.AuthenticationAwareTicket;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketGrantingTicket;
+import lombok.val;
 import org.jooq.lambda.Unchecked;
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -164,6 +165,27 @@ public interface TicketRegistry {
         return getTickets().parallelStream();
     }
 
+    /**
+     * Fetch a single page of non-expired tickets that match the given criteria,
+     * using the cursor of the criteria to pick up where the previous page left off.
+     * Registries that are able to order and filter tickets natively should override
+     * this operation; the default implementation streams all tickets and only retains
+     * as many as the page size in memory.
+     *
+     * @param criteria the criteria
+     * @return the page
+     */
+    default TicketRegistryPage page(final TicketRegistryStreamCriteria criteria) {
+        val after = TicketRegistryPage.fromCursor(criteria.getCursor());
+        try (val tickets = stream(criteria.withFrom(0).withCount(Long.MAX_VALUE))) {
+            val selected = TicketRegistryPage.firstAfter(
+                tickets.map(Ticket.class::cast).filter(ticket -> criteria.matches(ticket) && !ticket.isExpired()),
+                Ticket::getId, after, criteria.getCount());
+            return TicketRegistryPage.of(List.copyOf(selected.values()),
+                selected.isEmpty() ? null : selected.lastKey(), selected.size(), criteria.getCount());
+        }
+    }
+
     /**
      * Stream stream.
      *
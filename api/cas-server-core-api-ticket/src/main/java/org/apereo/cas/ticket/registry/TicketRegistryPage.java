@@ -0,0 +1,112 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link TicketRegistryPage}, a single page of tickets fetched from the registry
+ * using keyset pagination. Tickets are ordered by the key under which they are stored
+ * in the registry, and the page carries an opaque cursor that points at the last key
+ * so that the next page can pick up from there without re-reading previous pages.
+ * Tickets that do not match the criteria once fetched, or those that have expired,
+ * are dropped from the page, so a page may contain fewer tickets than requested
+ * while still carrying a cursor for the next page.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class TicketRegistryPage {
+    private final List<? extends Ticket> tickets;
+
+    private final String cursor;
+
+    /**
+     * Empty page.
+     *
+     * @return the page
+     */
+    public static TicketRegistryPage empty() {
+        return new TicketRegistryPage(List.of(), null);
+    }
+
+    /**
+     * Build a page from the given tickets.
+     *
+     * @param tickets the tickets
+     * @param lastKey the key of the last entry fetched from the registry
+     * @param fetched the number of entries fetched from the registry
+     * @param count   the requested page size
+     * @return the page
+     */
+    public static TicketRegistryPage of(final List<? extends Ticket> tickets, final String lastKey,
+                                        final long fetched, final long count) {
+        val cursor = fetched >= count && StringUtils.isNotBlank(lastKey) ? toCursor(lastKey) : null;
+        return new TicketRegistryPage(tickets, cursor);
+    }
+
+    /**
+     * Encode the registry key as an opaque cursor.
+     *
+     * @param key the key
+     * @return the cursor
+     */
+    public static String toCursor(final String key) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode the registry key from the opaque cursor.
+     *
+     * @param cursor the cursor
+     * @return the key, or null if there is no cursor.
+     */
+    public static String fromCursor(final String cursor) {
+        return StringUtils.isBlank(cursor)
+            ? null
+            : new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Select the first entries, ordered by key, whose keys come after the given key.
+     * Only as many entries as requested are held in memory at any given time,
+     * which allows registries that cannot order entries natively to page through
+     * them without sorting the entire collection.
+     *
+     * @param <T>         the type parameter
+     * @param items       the items
+     * @param keyFunction the key function
+     * @param after       the key after which entries are selected, if any
+     * @param count       the number of entries to select
+     * @return the selected entries
+     */
+    public static <T> NavigableMap<String, T> firstAfter(final Stream<T> items, final Function<T, String> keyFunction,
+                                                         final String after, final long count) {
+        val selected = new TreeMap<String, T>();
+        items.sequential().forEach(item -> {
+            val key = keyFunction.apply(item);
+            if (key != null && (after == null || key.compareTo(after) > 0) && !selected.containsKey(key)) {
+                if (selected.size() < count) {
+                    selected.put(key, item);
+                } else if (count > 0 && key.compareTo(selected.lastKey()) < 0) {
+                    selected.pollLastEntry();
+                    selected.put(key, item);
+                }
+            }
+        });
+        return selected;
+    }
+}
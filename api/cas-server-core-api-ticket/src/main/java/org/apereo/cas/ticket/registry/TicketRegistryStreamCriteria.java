@@ -1,5 +1,9 @@
 package org.apereo.cas.ticket.registry;
 
+import org.apereo.cas.ticket.AuthenticationAwareTicket;
+import org.apereo.cas.ticket.ServiceAwareTicket;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -9,6 +13,7 @@ import lombok.ToString;
 import lombok.With;
 import lombok.experimental.Accessors;
 import lombok.experimental.SuperBuilder;
+import org.apache.commons.lang3.StringUtils;
 import java.io.Serial;
 import java.io.Serializable;
 
@@ -34,4 +39,55 @@ public class TicketRegistryStreamCriteria implements Serializable {
 
     @Builder.Default
     private long count = Long.MAX_VALUE;
+
+    /**
+     * Opaque cursor, as returned by a previous {@link TicketRegistryPage},
+     * that marks the position after which the next page of tickets is returned.
+     * Only applicable when tickets are fetched via {@link TicketRegistry#page(TicketRegistryStreamCriteria)},
+     * in which case {@link #count} indicates the page size and {@link #from} is ignored.
+     */
+    private String cursor;
+
+    /**
+     * Ticket prefix (i.e. {@code TGT}) used to restrict results to a given ticket type.
+     */
+    private String type;
+
+    /**
+     * Principal id used to restrict results to tickets owned by the principal.
+     */
+    private String principal;
+
+    /**
+     * Service id used to restrict results to tickets issued to, or used by, the service.
+     */
+    private String service;
+
+    /**
+     * Whether the given ticket matches the type, principal and service filters of this criteria.
+     *
+     * @param ticket the ticket
+     * @return true/false
+     */
+    public boolean matches(final Ticket ticket) {
+        return ticket != null
+            && (StringUtils.isBlank(type) || StringUtils.equals(type, ticket.getPrefix()))
+            && (StringUtils.isBlank(principal) || matchesPrincipal(ticket))
+            && (StringUtils.isBlank(service) || matchesService(ticket));
+    }
+
+    private boolean matchesPrincipal(final Ticket ticket) {
+        return ticket instanceof final AuthenticationAwareTicket aat
+            && aat.getAuthentication() != null
+            && StringUtils.equalsIgnoreCase(principal, aat.getAuthentication().getPrincipal().getId());
+    }
+
+    private boolean matchesService(final Ticket ticket) {
+        if (ticket instanceof final TicketGrantingTicket tgt) {
+            return tgt.getServices().values().stream().anyMatch(svc -> StringUtils.equals(service, svc.getId()));
+        }
+        return ticket instanceof final ServiceAwareTicket sat
+            && sat.getService() != null
+            && StringUtils.equals(service, sat.getService().getId());
+    }
 }
@@ -1,7 +1,10 @@
 package org.apereo.cas.audit.spi;
 
+import org.apereo.cas.configuration.model.core.audit.AuditPipelineProperties;
+import org.apereo.cas.util.concurrent.CasReentrantLock;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -9,8 +12,7 @@ import org.apereo.inspektr.audit.AuditActionContext;
 import org.apereo.inspektr.audit.AuditTrailManager;
 import org.springframework.beans.factory.DisposableBean;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.List;
 
 /**
  * This is {@link AbstractAuditTrailManager}.
@@ -21,7 +23,6 @@ import java.util.concurrent.Executors;
 @Setter
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@AllArgsConstructor(access = AccessLevel.PROTECTED)
 public abstract class AbstractAuditTrailManager implements AuditTrailManager, DisposableBean {
     /**
      * Default maximum number of audit records to fetch.
@@ -30,12 +31,26 @@ public abstract class AbstractAuditTrailManager implements AuditTrailManager, Di
 
     protected boolean asynchronous;
 
-    private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+    private AuditPipelineProperties pipelineProperties = new AuditPipelineProperties();
+
+    private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final CasReentrantLock lock = new CasReentrantLock();
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile AuditRecordPipeline pipeline;
+
+    protected AbstractAuditTrailManager(final boolean asynchronous) {
+        this.asynchronous = asynchronous;
+    }
 
     @Override
     public void record(final AuditActionContext audit) {
         if (this.asynchronous) {
-            executorService.execute(() -> saveAuditRecord(audit));
+            getOrCreatePipeline().submit(audit);
         } else {
             saveAuditRecord(audit);
         }
@@ -43,8 +58,36 @@ public abstract class AbstractAuditTrailManager implements AuditTrailManager, Di
 
     @Override
     public void destroy() {
-        executorService.shutdown();
+        if (pipeline != null) {
+            pipeline.close();
+        }
     }
 
     protected abstract void saveAuditRecord(AuditActionContext audit);
+
+    /**
+     * Save a batch of audit records that are flushed from the audit pipeline.
+     * Audit storage services that support batch operations should override
+     * this method to save the entire batch in a single round trip.
+     *
+     * @param records the records
+     */
+    protected void saveAuditRecords(final List<AuditActionContext> records) {
+        records.forEach(this::saveAuditRecord);
+    }
+
+    private AuditRecordPipeline getOrCreatePipeline() {
+        if (pipeline == null) {
+            lock.lock();
+            try {
+                if (pipeline == null) {
+                    pipeline = new AuditRecordPipeline(getClass().getSimpleName(),
+                        this::saveAuditRecords, pipelineProperties, meterRegistry);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return pipeline;
+    }
 }
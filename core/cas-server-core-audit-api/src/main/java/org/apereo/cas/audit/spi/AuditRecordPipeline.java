@@ -0,0 +1,262 @@
+package org.apereo.cas.audit.spi;
+
+import org.apereo.cas.configuration.model.core.audit.AuditPipelineProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.util.concurrent.CasReentrantLock;
+import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.apereo.inspektr.audit.AuditActionContext;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * This is {@link AuditRecordPipeline}. Audit records are placed into a bounded queue
+ * and are flushed to the audit storage in batches by a dedicated background thread,
+ * once the batch is full or the flush interval has elapsed. When the queue is full,
+ * the configured overflow policy decides whether the caller should block, the oldest
+ * record should be dropped, or the record should be spilled to a local file and replayed
+ * once the queue has been drained.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+public class AuditRecordPipeline implements AutoCloseable {
+    private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
+        .defaultTypingEnabled(false).build().toObjectMapper();
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final Consumer<List<AuditActionContext>> sink;
+
+    private final BlockingQueue<AuditActionContext> queue;
+
+    private final int batchSize;
+
+    private final Duration flushInterval;
+
+    private final AuditPipelineProperties.AuditPipelineOverflowPolicies overflowPolicy;
+
+    @Getter
+    private final Path spillFile;
+
+    private final CasReentrantLock spillLock = new CasReentrantLock();
+
+    private final Counter droppedCounter;
+
+    private final Counter spilledCounter;
+
+    private final Counter failedCounter;
+
+    private final Timer flushTimer;
+
+    private final Thread flusher;
+
+    private volatile boolean running = true;
+
+    public AuditRecordPipeline(final String name,
+                               final Consumer<List<AuditActionContext>> sink,
+                               final AuditPipelineProperties properties,
+                               final MeterRegistry meterRegistry) {
+        this.sink = sink;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.getCapacity()));
+        this.batchSize = Math.max(1, properties.getBatchSize());
+        this.flushInterval = Beans.newDuration(properties.getFlushInterval());
+        this.overflowPolicy = properties.getOverflowPolicy();
+        val spillDirectory = StringUtils.defaultIfBlank(properties.getSpillDirectory(), System.getProperty("java.io.tmpdir"));
+        this.spillFile = Path.of(spillDirectory, "cas-audit-%s.spill".formatted(name));
+
+        Gauge.builder("cas.audit.pipeline.queue.depth", queue, Collection::size)
+            .description("Number of audit records waiting to be flushed to the audit storage")
+            .tag("manager", name)
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder("cas.audit.pipeline.dropped")
+            .description("Number of audit records dropped because the audit queue was full")
+            .tag("manager", name)
+            .register(meterRegistry);
+        this.spilledCounter = Counter.builder("cas.audit.pipeline.spilled")
+            .description("Number of audit records spilled to disk because the audit queue was full")
+            .tag("manager", name)
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("cas.audit.pipeline.failed")
+            .description("Number of audit records dropped because they could not be flushed to the audit storage")
+            .tag("manager", name)
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder("cas.audit.pipeline.flush")
+            .description("Time spent flushing a batch of audit records to the audit storage")
+            .tag("manager", name)
+            .register(meterRegistry);
+
+        this.flusher = Thread.ofVirtual().name("cas-audit-pipeline-" + name).start(this::flushContinuously);
+    }
+
+    /**
+     * Submit the audit record to the pipeline.
+     *
+     * @param record the record
+     */
+    public void submit(final AuditActionContext record) {
+        if (!running) {
+            LOGGER.debug("Audit pipeline is closed; saving audit record [{}] directly", record);
+            flush(List.of(record));
+            return;
+        }
+        if (queue.offer(record)) {
+            return;
+        }
+        switch (overflowPolicy) {
+            case DROP_OLDEST -> {
+                while (!queue.offer(record)) {
+                    if (queue.poll() != null) {
+                        droppedCounter.increment();
+                    }
+                }
+            }
+            case SPILL -> spill(record);
+            default -> {
+                try {
+                    queue.put(record);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    LOGGER.warn("Interrupted while waiting for room in the audit queue; audit record [{}] is dropped", record);
+                    droppedCounter.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * Number of audit records waiting to be flushed.
+     *
+     * @return the size
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        FunctionUtils.doAndHandle(__ -> {
+            if (!flusher.join(SHUTDOWN_TIMEOUT)) {
+                LOGGER.warn("Audit pipeline did not finish flushing [{}] audit record(s) within [{}]", queue.size(), SHUTDOWN_TIMEOUT);
+            }
+        });
+    }
+
+    private void flushContinuously() {
+        while (running || !queue.isEmpty()) {
+            val batch = nextBatch();
+            if (!batch.isEmpty()) {
+                flush(batch);
+            }
+            if (queue.isEmpty()) {
+                replaySpilledRecords();
+            }
+        }
+        replaySpilledRecords();
+    }
+
+    private List<AuditActionContext> nextBatch() {
+        val batch = new ArrayList<AuditActionContext>(batchSize);
+        val deadline = System.nanoTime() + flushInterval.toNanos();
+        try {
+            while (batch.size() < batchSize) {
+                queue.drainTo(batch, batchSize - batch.size());
+                val remaining = deadline - System.nanoTime();
+                if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                    break;
+                }
+                val record = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                if (record != null) {
+                    batch.add(record);
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+        return batch;
+    }
+
+    private void flush(final List<AuditActionContext> batch) {
+        val sample = Timer.start();
+        try {
+            sink.accept(batch);
+            LOGGER.trace("Flushed [{}] audit record(s) to the audit storage", batch.size());
+        } catch (final Exception e) {
+            LOGGER.error("Unable to flush [{}] audit record(s) to the audit storage; the audit records are dropped: [{}]",
+                batch.size(), e.getMessage());
+            LOGGER.debug(e.getMessage(), e);
+            failedCounter.increment(batch.size());
+        } finally {
+            sample.stop(flushTimer);
+        }
+    }
+
+    private void spill(final AuditActionContext record) {
+        spillLock.lock();
+        try {
+            Files.createDirectories(spillFile.getParent());
+            Files.writeString(spillFile, MAPPER.writeValueAsString(record) + System.lineSeparator(),
+                StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            spilledCounter.increment();
+        } catch (final Exception e) {
+            LOGGER.error("Unable to spill audit record [{}] to [{}]: [{}]", record, spillFile, e.getMessage());
+            droppedCounter.increment();
+        } finally {
+            spillLock.unlock();
+        }
+    }
+
+    private void replaySpilledRecords() {
+        try {
+            val lines = spillLock.tryLock(() -> {
+                if (!Files.exists(spillFile)) {
+                    return List.<String>of();
+                }
+                val content = Files.readAllLines(spillFile, StandardCharsets.UTF_8);
+                Files.delete(spillFile);
+                return content;
+            });
+            if (lines != null && !lines.isEmpty()) {
+                LOGGER.debug("Replaying [{}] audit record(s) spilled to [{}]", lines.size(), spillFile);
+                val batch = new ArrayList<AuditActionContext>(batchSize);
+                for (val line : lines) {
+                    if (StringUtils.isNotBlank(line)) {
+                        batch.add(MAPPER.readValue(line, AuditActionContext.class));
+                    }
+                    if (batch.size() >= batchSize) {
+                        flush(List.copyOf(batch));
+                        batch.clear();
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+            }
+        } catch (final Exception e) {
+            LOGGER.error("Unable to replay audit records spilled to [{}]: [{}]", spillFile, e.getMessage());
+            LOGGER.debug(e.getMessage(), e);
+        }
+    }
+}
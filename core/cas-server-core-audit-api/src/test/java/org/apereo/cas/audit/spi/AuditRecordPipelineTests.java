@@ -0,0 +1,138 @@
+package org.apereo.cas.audit.spi;
+
+import org.apereo.cas.configuration.model.core.audit.AuditPipelineProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.apereo.inspektr.audit.AuditActionContext;
+import org.apereo.inspektr.common.web.ClientInfo;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link AuditRecordPipelineTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("Audits")
+class AuditRecordPipelineTests {
+    @TempDir
+    private Path spillDirectory;
+
+    @Test
+    void verifyRecordsFlushedInBatches() {
+        val batches = new CopyOnWriteArrayList<List<AuditActionContext>>();
+        val properties = new AuditPipelineProperties().setBatchSize(10).setFlushInterval("PT5S");
+        val meterRegistry = new SimpleMeterRegistry();
+        try (val pipeline = new AuditRecordPipeline("batches", batches::add, properties, meterRegistry)) {
+            for (var i = 0; i < 25; i++) {
+                pipeline.submit(newAuditRecord());
+            }
+        }
+        assertEquals(25, batches.stream().mapToInt(List::size).sum());
+        assertTrue(batches.stream().allMatch(batch -> batch.size() <= 10));
+        assertTrue(meterRegistry.get("cas.audit.pipeline.flush").timer().count() >= 3);
+        assertEquals(0, meterRegistry.get("cas.audit.pipeline.queue.depth").gauge().value());
+    }
+
+    @Test
+    void verifyFailedFlushesCounted() {
+        val properties = new AuditPipelineProperties().setBatchSize(5).setFlushInterval("PT1S");
+        val meterRegistry = new SimpleMeterRegistry();
+        try (val pipeline = new AuditRecordPipeline("failures", records -> {
+            throw new IllegalStateException("Audit storage is unavailable");
+        }, properties, meterRegistry)) {
+            for (var i = 0; i < 3; i++) {
+                pipeline.submit(newAuditRecord());
+            }
+        }
+        assertEquals(3, meterRegistry.get("cas.audit.pipeline.failed").counter().count());
+    }
+
+    @Test
+    void verifyDropOldest() throws Throwable {
+        val latch = new CountDownLatch(1);
+        val saved = new CopyOnWriteArrayList<AuditActionContext>();
+        val properties = new AuditPipelineProperties()
+            .setCapacity(2)
+            .setBatchSize(1)
+            .setOverflowPolicy(AuditPipelineProperties.AuditPipelineOverflowPolicies.DROP_OLDEST);
+        val meterRegistry = new SimpleMeterRegistry();
+        try (val pipeline = new AuditRecordPipeline("drops", blockUntil(latch, saved), properties, meterRegistry)) {
+            pipeline.submit(newAuditRecord());
+            waitForEmptyQueue(pipeline);
+            for (var i = 0; i < 5; i++) {
+                pipeline.submit(newAuditRecord());
+            }
+            assertEquals(2, pipeline.size());
+            assertEquals(3, meterRegistry.get("cas.audit.pipeline.dropped").counter().count());
+            latch.countDown();
+        }
+        assertEquals(3, saved.size());
+    }
+
+    @Test
+    void verifySpillToDisk() throws Throwable {
+        val latch = new CountDownLatch(1);
+        val saved = new CopyOnWriteArrayList<AuditActionContext>();
+        val properties = new AuditPipelineProperties()
+            .setCapacity(1)
+            .setBatchSize(1)
+            .setSpillDirectory(spillDirectory.toString())
+            .setOverflowPolicy(AuditPipelineProperties.AuditPipelineOverflowPolicies.SPILL);
+        val meterRegistry = new SimpleMeterRegistry();
+        try (val pipeline = new AuditRecordPipeline("spills", blockUntil(latch, saved), properties, meterRegistry)) {
+            pipeline.submit(newAuditRecord());
+            waitForEmptyQueue(pipeline);
+            for (var i = 0; i < 4; i++) {
+                pipeline.submit(newAuditRecord());
+            }
+            assertTrue(Files.exists(pipeline.getSpillFile()));
+            assertEquals(3, meterRegistry.get("cas.audit.pipeline.spilled").counter().count());
+            latch.countDown();
+        }
+        assertEquals(5, saved.size());
+        try (val files = Files.list(spillDirectory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    private static Consumer<List<AuditActionContext>> blockUntil(final CountDownLatch latch,
+                                                                 final List<AuditActionContext> saved) {
+        return records -> {
+            try {
+                latch.await(10, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            saved.addAll(records);
+        };
+    }
+
+    private static void waitForEmptyQueue(final AuditRecordPipeline pipeline) throws Exception {
+        val deadline = System.currentTimeMillis() + 5_000;
+        while (pipeline.size() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, pipeline.size());
+    }
+
+    private static AuditActionContext newAuditRecord() {
+        return new AuditActionContext("casuser", "TEST", "TEST",
+            "CAS", LocalDateTime.now(Clock.systemUTC()),
+            new ClientInfo("1.2.3.4", "1.2.3.4", UUID.randomUUID().toString(), "London"));
+    }
+}
@@ -115,7 +115,15 @@ public abstract class AbstractAggregatingDefaultQueryPersonAttributeDao extends
         return Set.copyOf(results);
     }
 
-    private boolean handleRuntimeException(final PersonAttributeDao currentlyConsidering, final Exception ex) {
+    /**
+     * Handle the exception thrown by the given dao, either recovering from it
+     * or rethrowing it, based on {@link #recoverExceptions}.
+     *
+     * @param currentlyConsidering the dao that produced the exception
+     * @param ex                   the exception
+     * @return true if the exception was handled and recovered.
+     */
+    protected boolean handleRuntimeException(final PersonAttributeDao currentlyConsidering, final Exception ex) {
         if (this.recoverExceptions) {
             LOGGER.warn("Recovering From Exception thrown by [{}]", currentlyConsidering, ex);
             return true;
@@ -4,25 +4,122 @@ import org.apereo.cas.authentication.principal.attribute.PersonAttributeDao;
 import org.apereo.cas.authentication.principal.attribute.PersonAttributeDaoFilter;
 import org.apereo.cas.authentication.principal.attribute.PersonAttributes;
 import org.apereo.cas.authentication.principal.merger.MultivaluedAttributeMerger;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import java.time.Duration;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A {@link PersonAttributeDao} implementation which iterates over child
  * {@link PersonAttributeDao} queries each with the same data and merges their
  * reported attributes in a configurable way. The default merger is
  * {@link MultivaluedAttributeMerger}.
+ * <p>
+ * When running in concurrent mode, child DAOs are queried in parallel on virtual threads
+ * Each child DAO is allowed to run for the per-source timeout, measured from the moment it starts,
+ * while the overall timeout bounds the aggregation as a whole; a child DAO is abandoned
+ * as soon as either of the two is reached.
+ * Results are then merged in the configured order of the child DAOs, regardless of the order
+ * in which they complete. A child DAO that fails or times out is handled according to
+ * {@link #isRecoverExceptions()}, and produces no attributes if recovered.
  *
  * @author andrew.petro@yale.edu
  * @author Eric Dalquist
  * @since 7.1.0
  */
+@Slf4j
+@Getter
+@Setter
 public class MergingPersonAttributeDaoImpl extends AbstractAggregatingDefaultQueryPersonAttributeDao {
+    /**
+     * Query child DAOs concurrently rather than in order.
+     */
+    private boolean concurrent;
+
+    /**
+     * Maximum amount of time to wait for all child DAOs to produce results
+     * when querying in concurrent mode.
+     */
+    private Duration timeout = Duration.ofSeconds(10);
+
+    /**
+     * Maximum amount of time to wait for each child DAO to produce results
+     * when querying in concurrent mode.
+     */
+    private Duration sourceTimeout = Duration.ofSeconds(5);
+
+    @JsonIgnore
+    private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
     public MergingPersonAttributeDaoImpl() {
         setAttributeMerger(new MultivaluedAttributeMerger());
     }
 
+    @Override
+    public Set<PersonAttributes> getPeopleWithMultivaluedAttributes(final Map<String, List<Object>> query,
+                                                                    final PersonAttributeDaoFilter filter,
+                                                                    final Set<PersonAttributes> resultPeople) {
+        if (!concurrent || stopOnSuccess) {
+            return super.getPeopleWithMultivaluedAttributes(query, filter, resultPeople);
+        }
+
+        val daos = personAttributeDaos
+            .stream()
+            .filter(dao -> filter == null || filter.choosePersonAttributeDao(dao))
+            .toList();
+        val executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            val deadline = System.nanoTime() + timeout.toNanos();
+            val queries = daos
+                .stream()
+                .map(dao -> {
+                    val started = new AtomicLong(System.nanoTime());
+                    val future = executor.submit(() -> {
+                        started.set(System.nanoTime());
+                        return queryPersonAttributeDao(query, dao, filter);
+                    });
+                    return new SourceQuery(dao, future, started);
+                })
+                .toList();
+
+            Set<PersonAttributes> results = null;
+            for (val sourceQuery : queries) {
+                val currentlyConsidering = sourceQuery.dao();
+                val currentPeople = waitForPersonAttributes(sourceQuery, deadline);
+                LOGGER.debug("Retrieved attributes=[{}] for query=[{}], currentlyConsidering=[{}]", currentPeople, query, currentlyConsidering);
+                if (currentPeople != null) {
+                    results = results == null
+                        ? new LinkedHashSet<>(currentPeople)
+                        : attributeMerger.mergeResults(results, currentPeople);
+                } else if (requireAll) {
+                    LOGGER.debug("Attribute repository dao [{}] did not resolve a person "
+                        + "and configuration requires all sources to produce valid results. ", currentlyConsidering);
+                    return null;
+                }
+            }
+            LOGGER.debug("Aggregated search results [{}] for query [{}]", results, query);
+            return results == null ? null : Set.copyOf(results);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Override
     protected Set<PersonAttributes> getAttributesFromDao(final Map<String, List<Object>> seed,
                                                          final boolean isFirstQuery,
@@ -31,4 +128,44 @@ public class MergingPersonAttributeDaoImpl extends AbstractAggregatingDefaultQue
                                                          final PersonAttributeDaoFilter filter) {
         return currentlyConsidering.getPeopleWithMultivaluedAttributes(seed, filter, resultPeople);
     }
+
+    private Set<PersonAttributes> queryPersonAttributeDao(final Map<String, List<Object>> query,
+                                                          final PersonAttributeDao dao,
+                                                          final PersonAttributeDaoFilter filter) {
+        return Timer.builder("cas.person.attributes.source.latency")
+            .description("Time spent by an attribute repository source to resolve person attributes")
+            .tag("source", getSourceName(dao))
+            .register(meterRegistry)
+            .record(() -> getAttributesFromDao(query, true, dao, null, filter));
+    }
+
+    private Set<PersonAttributes> waitForPersonAttributes(final SourceQuery sourceQuery, final long deadline) {
+        val dao = sourceQuery.dao();
+        val future = sourceQuery.future();
+        try {
+            val sourceDeadline = Math.min(deadline, sourceQuery.started().get() + sourceTimeout.toNanos());
+            return future.get(Math.max(0, sourceDeadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException e) {
+            future.cancel(true);
+            Counter.builder("cas.person.attributes.source.timeouts")
+                .description("Number of times an attribute repository source failed to resolve person attributes in time")
+                .tag("source", getSourceName(dao))
+                .register(meterRegistry)
+                .increment();
+            handleRuntimeException(dao, e);
+        } catch (final ExecutionException e) {
+            handleRuntimeException(dao, e.getCause() instanceof final Exception cause ? cause : e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            handleRuntimeException(dao, e);
+        }
+        return null;
+    }
+
+    private static String getSourceName(final PersonAttributeDao dao) {
+        return String.join(",", dao.getId());
+    }
+
+    private record SourceQuery(PersonAttributeDao dao, Future<Set<PersonAttributes>> future, AtomicLong started) {
+    }
 }
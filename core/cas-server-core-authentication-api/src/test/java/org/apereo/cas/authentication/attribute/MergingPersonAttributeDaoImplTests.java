@@ -6,16 +6,19 @@ import org.apereo.cas.authentication.principal.attribute.PersonAttributeDaoFilte
 import org.apereo.cas.authentication.principal.attribute.PersonAttributes;
 import org.apereo.cas.authentication.principal.merger.MultivaluedAttributeMerger;
 import org.apereo.cas.authentication.principal.merger.NoncollidingAttributeAdder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.val;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -42,6 +45,16 @@ class MergingPersonAttributeDaoImplTests {
     private Map<String, List<Object>> oneAndTwoAndThree;
 
 
+    private static PersonAttributeDao getSlowSource(final String name, final long delay, final Map<String, List<Object>> attributes) {
+        val dao = mock(PersonAttributeDao.class);
+        when(dao.getId()).thenReturn(new String[]{name});
+        when(dao.getPeopleWithMultivaluedAttributes(any(), any(), any())).thenAnswer(__ -> {
+            Thread.sleep(delay);
+            return Set.of(new SimplePersonAttributes("awp9", attributes));
+        });
+        return dao;
+    }
+
     @BeforeEach
     protected void setUp() {
         sourceNull = new StubPersonAttributeDao();
@@ -281,4 +294,97 @@ class MergingPersonAttributeDaoImplTests {
 
         assertEquals(expectedHomeUsers, homeUsers);
     }
+
+    @Test
+    void verifyConcurrentMergeInOrder() {
+        val impl = new MergingPersonAttributeDaoImpl();
+        impl.setAttributeMerger(new MultivaluedAttributeMerger());
+        impl.setConcurrent(true);
+        impl.setPersonAttributeDaos(List.of(sourceOne, sourceTwo, collidesWithOne));
+        impl.setMeterRegistry(new SimpleMeterRegistry());
+
+        val queryMap = new HashMap<String, List<Object>>();
+        queryMap.put(QUERY_ATTR, List.of("awp9"));
+        val result = impl.getPeopleWithMultivaluedAttributes(queryMap);
+        val attributes = new HashMap<>(oneAndTwoAndThree);
+        attributes.putAll(queryMap);
+        assertEquals(attributes, result.iterator().next().getAttributes());
+        assertEquals(List.of("blue", "white"), result.iterator().next().getAttributes().get("shirtColor"));
+    }
+
+    @Test
+    void verifyConcurrentMergeWithSlowSource() {
+        val slowDao = mock(PersonAttributeDao.class);
+        when(slowDao.getId()).thenReturn(new String[]{"slow"});
+        when(slowDao.getPeopleWithMultivaluedAttributes(any(), any(), any())).thenAnswer(__ -> {
+            Thread.sleep(5_000);
+            return Set.of();
+        });
+        val meterRegistry = new SimpleMeterRegistry();
+        val impl = new MergingPersonAttributeDaoImpl();
+        impl.setConcurrent(true);
+        impl.setSourceTimeout(Duration.ofMillis(200));
+        impl.setPersonAttributeDaos(List.of(slowDao, sourceOne));
+        impl.setMeterRegistry(meterRegistry);
+
+        val queryMap = new HashMap<String, List<Object>>();
+        queryMap.put(QUERY_ATTR, List.of("awp9"));
+        val result = impl.getPeopleWithMultivaluedAttributes(queryMap);
+        assertEquals(List.of("blue"), result.iterator().next().getAttributes().get("shirtColor"));
+        assertEquals(1, meterRegistry.get("cas.person.attributes.source.timeouts").tag("source", "slow").counter().count());
+        assertNotNull(meterRegistry.get("cas.person.attributes.source.latency").tag("source", sourceOne.getId()[0]).timer());
+
+        impl.setRecoverExceptions(false);
+        assertThrows(RuntimeException.class, () -> impl.getPeopleWithMultivaluedAttributes(queryMap));
+    }
+
+    @Test
+    void verifyConcurrentMergeRecoveryDisabled() {
+        val failingDao = mock(PersonAttributeDao.class);
+        when(failingDao.getId()).thenReturn(new String[]{"failing"});
+        when(failingDao.getPeopleWithMultivaluedAttributes(any(), any(), any()))
+            .thenThrow(new UnauthorizedAuthenticationException("Failed"));
+        val impl = new MergingPersonAttributeDaoImpl();
+        impl.setConcurrent(true);
+        impl.setPersonAttributeDaos(List.of(sourceOne, failingDao));
+        impl.setRecoverExceptions(false);
+        impl.setMeterRegistry(new SimpleMeterRegistry());
+
+        val queryMap = new HashMap<String, List<Object>>();
+        queryMap.put(QUERY_ATTR, List.of("awp9"));
+        assertThrows(UnauthorizedAuthenticationException.class, () -> impl.getPeopleWithMultivaluedAttributes(queryMap));
+    }
+
+    @Test
+    void verifyConcurrentSourceAndOverallTimeoutsApplyIndependently() {
+        val queryMap = new HashMap<String, List<Object>>();
+        queryMap.put(QUERY_ATTR, List.of("awp9"));
+
+        val meterRegistry = new SimpleMeterRegistry();
+        val impl = new MergingPersonAttributeDaoImpl();
+        impl.setConcurrent(true);
+        impl.setMeterRegistry(meterRegistry);
+        impl.setPersonAttributeDaos(List.of(
+            getSlowSource("slow-1", 300, Map.of("shirtColor", List.of("blue"))),
+            getSlowSource("slow-2", 3_000, Map.of("tieColor", List.of("black")))));
+
+        impl.setTimeout(Duration.ofSeconds(10));
+        impl.setSourceTimeout(Duration.ofMillis(1_000));
+        var started = System.nanoTime();
+        var attributes = impl.getPeopleWithMultivaluedAttributes(queryMap).iterator().next().getAttributes();
+        assertEquals(List.of("blue"), attributes.get("shirtColor"));
+        assertFalse(attributes.containsKey("tieColor"));
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).compareTo(Duration.ofMillis(2_500)) < 0);
+        assertEquals(1, meterRegistry.get("cas.person.attributes.source.timeouts").tag("source", "slow-2").counter().count());
+
+        impl.setTimeout(Duration.ofMillis(1_000));
+        impl.setSourceTimeout(Duration.ofSeconds(10));
+        started = System.nanoTime();
+        attributes = impl.getPeopleWithMultivaluedAttributes(queryMap).iterator().next().getAttributes();
+        assertEquals(List.of("blue"), attributes.get("shirtColor"));
+        assertFalse(attributes.containsKey("tieColor"));
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).compareTo(Duration.ofMillis(2_500)) < 0);
+        assertEquals(2, meterRegistry.get("cas.person.attributes.source.timeouts").tag("source", "slow-2").counter().count());
+        assertNull(meterRegistry.find("cas.person.attributes.source.timeouts").tag("source", "slow-1").counter());
+    }
 }
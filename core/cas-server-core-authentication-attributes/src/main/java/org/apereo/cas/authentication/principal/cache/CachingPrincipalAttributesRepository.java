@@ -58,39 +58,37 @@ public class CachingPrincipalAttributesRepository extends AbstractPrincipalAttri
         val mergeStrategy = determineMergingStrategy();
         LOGGER.trace("Determined merging strategy as [{}]", mergeStrategy);
 
-        val cachedAttributes = fetchCachedPrincipalAttributes(context);
-        if (cachedAttributes != null && !cachedAttributes.isEmpty()) {
-            LOGGER.debug("Found [{}] cached attributes for principal [{}] that are [{}]", cachedAttributes.size(), principal.getId(), cachedAttributes);
-            return cachedAttributes;
-        }
+        val cache = getPrincipalAttributesRepositoryCache(context);
+        val attributes = cache.fetchAttributes(context.getRegisteredService(), this, principal, __ -> {
+            val principalAttributes = getPrincipalAttributes(principal);
+            LOGGER.trace("Principal attributes extracted for [{}] are [{}]", principal.getId(), principalAttributes);
 
-        val principalAttributes = getPrincipalAttributes(principal);
-        LOGGER.trace("Principal attributes extracted for [{}] are [{}]", principal.getId(), principalAttributes);
+            if (areAttributeRepositoryIdsDefined()) {
+                val personDirectoryAttributes = retrievePersonAttributesFromAttributeRepository(context);
+                LOGGER.debug("Found [{}] attributes for principal [{}] from the attribute repository.", personDirectoryAttributes.size(), principal.getId());
 
-        if (areAttributeRepositoryIdsDefined()) {
-            val personDirectoryAttributes = retrievePersonAttributesFromAttributeRepository(context);
-            LOGGER.debug("Found [{}] attributes for principal [{}] from the attribute repository.", personDirectoryAttributes.size(), principal.getId());
-
-            LOGGER.debug("Merging current principal attributes with that of the repository via strategy [{}]", mergeStrategy);
-            val mergedAttributes = CoreAuthenticationUtils.getAttributeMerger(mergeStrategy)
-                .mergeAttributes(principalAttributes, personDirectoryAttributes);
-            return convertAttributesToPrincipalAttributesAndCache(mergedAttributes, context);
-        }
-        return convertAttributesToPrincipalAttributesAndCache(principalAttributes, context);
+                LOGGER.debug("Merging current principal attributes with that of the repository via strategy [{}]", mergeStrategy);
+                val mergedAttributes = CoreAuthenticationUtils.getAttributeMerger(mergeStrategy)
+                    .mergeAttributes(principalAttributes, personDirectoryAttributes);
+                return convertPersonAttributesToPrincipalAttributes(mergedAttributes);
+            }
+            return convertPersonAttributesToPrincipalAttributes(principalAttributes);
+        });
+        LOGGER.debug("Resolved [{}] attributes for principal [{}] that are [{}]", attributes.size(), principal.getId(), attributes);
+        return attributes;
     }
 
     @Override
     public void update(final String id, final Map<String, List<Object>> attributes,
                        final RegisteredServiceAttributeReleasePolicyContext context) {
-        val cache = context.getApplicationContext().getBean(PrincipalAttributesRepositoryCache.DEFAULT_BEAN_NAME,
-            PrincipalAttributesRepositoryCache.class);
+        val cache = getPrincipalAttributesRepositoryCache(context);
         cache.putAttributes(context.getRegisteredService(), this, id, attributes);
         LOGGER.trace("Cached attributes for [{}] and [{}]", id, context.getRegisteredService().getName());
     }
 
-    protected Map<String, List<Object>> fetchCachedPrincipalAttributes(final RegisteredServiceAttributeReleasePolicyContext context) {
-        val cache = context.getApplicationContext().getBean(PrincipalAttributesRepositoryCache.DEFAULT_BEAN_NAME,
+    protected PrincipalAttributesRepositoryCache getPrincipalAttributesRepositoryCache(
+        final RegisteredServiceAttributeReleasePolicyContext context) {
+        return context.getApplicationContext().getBean(PrincipalAttributesRepositoryCache.DEFAULT_BEAN_NAME,
             PrincipalAttributesRepositoryCache.class);
-        return cache.fetchAttributes(context.getRegisteredService(), this, context.getPrincipal());
     }
 }
@@ -2,98 +2,227 @@ package org.apereo.cas.authentication.principal.cache;
 
 import org.apereo.cas.authentication.principal.Principal;
 import org.apereo.cas.authentication.principal.PrincipalAttributesRepositoryCache;
+import org.apereo.cas.authentication.principal.PrincipalAttributesRepositoryCacheStore;
 import org.apereo.cas.authentication.principal.RegisteredServicePrincipalAttributesRepository;
 import org.apereo.cas.services.RegisteredService;
-import org.apereo.cas.util.DigestUtils;
-import org.apereo.cas.util.concurrent.CasReentrantLock;
+import org.apereo.cas.util.LoggingUtils;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import java.io.Closeable;
-import java.util.HashMap;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 
 /**
- * This is {@link DefaultPrincipalAttributesRepositoryCache}.
+ * This is {@link DefaultPrincipalAttributesRepositoryCache}. Attributes are kept in a two-level
+ * cache: a lock-free, weight-bounded in-memory cache per registered service, backed by
+ * an optional {@link PrincipalAttributesRepositoryCacheStore} that may be shared across nodes.
+ * Concurrent cache misses for the same principal are coalesced into a single load.
  *
  * @author Misagh Moayyed
  * @since 6.1.0
  */
 @Slf4j
 public class DefaultPrincipalAttributesRepositoryCache implements PrincipalAttributesRepositoryCache, Closeable {
-    private static final int DEFAULT_MAXIMUM_CACHE_SIZE = 1_000;
+    private static final long DEFAULT_MAXIMUM_CACHE_WEIGHT = 100_000;
 
     private static final String DEFAULT_CACHE_EXPIRATION_UNIT = TimeUnit.HOURS.name();
 
-    private final CasReentrantLock lock = new CasReentrantLock();
+    private final Map<String, ServiceCache> registeredServicesCache = new ConcurrentHashMap<>();
 
-    private final Map<String, Cache<String, Map<String, List<Object>>>> registeredServicesCache = new HashMap<>(0);
+    private final long maximumWeight;
+
+    private final PrincipalAttributesRepositoryCacheStore cacheStore;
+
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+    private final Timer loadTimer;
+
+    public DefaultPrincipalAttributesRepositoryCache() {
+        this(DEFAULT_MAXIMUM_CACHE_WEIGHT, PrincipalAttributesRepositoryCacheStore.noOp(), Metrics.globalRegistry);
+    }
+
+    public DefaultPrincipalAttributesRepositoryCache(final long maximumWeight,
+                                                     final PrincipalAttributesRepositoryCacheStore cacheStore,
+                                                     final MeterRegistry meterRegistry) {
+        this.maximumWeight = maximumWeight;
+        this.cacheStore = cacheStore;
+        this.hitCounter = Counter.builder("cas.principal.attributes.cache.requests")
+            .description("Number of principal attribute cache lookups that found cached attributes")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.missCounter = Counter.builder("cas.principal.attributes.cache.requests")
+            .description("Number of principal attribute cache lookups that found no cached attributes")
+            .tag("result", "miss")
+            .register(meterRegistry);
+        this.loadTimer = Timer.builder("cas.principal.attributes.cache.load")
+            .description("Time spent loading principal attributes on a cache miss")
+            .register(meterRegistry);
+    }
 
     private static String buildRegisteredServiceCacheKey(final RegisteredService registeredService) {
-        val key = registeredService.getId() + "@" + registeredService.getName();
-        val cacheKey = DigestUtils.sha512(key);
-        LOGGER.trace("Built registered service cache key [{}] for [{}]:", cacheKey, key);
-        return cacheKey;
+        return registeredService.getId() + "@" + registeredService.getName();
     }
 
-    private static Cache<String, Map<String, List<Object>>> initializeCache(
-        final RegisteredServicePrincipalAttributesRepository repository) {
+    private static int weigh(final Map<String, List<Object>> attributes) {
+        return 1 + attributes.values().stream().mapToInt(values -> values == null ? 1 : Math.max(1, values.size())).sum();
+    }
+
+    private static Duration getExpiration(final RegisteredServicePrincipalAttributesRepository repository) {
         val cachedRepository = (CachingPrincipalAttributesRepository) repository;
         val unit = TimeUnit.valueOf(StringUtils.defaultIfBlank(cachedRepository.getTimeUnit(), DEFAULT_CACHE_EXPIRATION_UNIT));
-        return Caffeine.newBuilder()
-            .initialCapacity(DEFAULT_MAXIMUM_CACHE_SIZE)
-            .maximumSize(DEFAULT_MAXIMUM_CACHE_SIZE)
-            .expireAfterWrite(cachedRepository.getExpiration(), unit)
-            .build(s -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
+        return Duration.of(cachedRepository.getExpiration(), unit.toChronoUnit());
     }
 
     @Override
     public void close() {
-        invalidate();
+        registeredServicesCache.values().forEach(serviceCache -> serviceCache.cache().invalidateAll());
     }
 
     @Override
     public void invalidate() {
-        lock.tryLock(__ -> registeredServicesCache.values().forEach(Cache::invalidateAll));
+        close();
+        cacheStore.clear();
     }
 
     @Override
     public Map<String, List<Object>> fetchAttributes(final RegisteredService registeredService,
                                                      final RegisteredServicePrincipalAttributesRepository repository,
                                                      final Principal principal) {
-        return lock.tryLock(() -> {
-            val cache = getRegisteredServiceCacheInstance(registeredService, repository);
-            return cache.get(principal.getId(), __ -> {
+        val serviceCache = getRegisteredServiceCacheInstance(registeredService, repository);
+        return fetchCachedAttributes(serviceCache, principal.getId())
+            .orElseGet(() -> {
                 LOGGER.debug("No cached attributes could be found for [{}]", principal.getId());
                 return new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
             });
+    }
+
+    @Override
+    public Map<String, List<Object>> fetchAttributes(final RegisteredService registeredService,
+                                                     final RegisteredServicePrincipalAttributesRepository repository,
+                                                     final Principal principal,
+                                                     final Function<Principal, Map<String, List<Object>>> loader) {
+        val serviceCache = getRegisteredServiceCacheInstance(registeredService, repository);
+        val computed = new AtomicBoolean();
+        val attributes = serviceCache.cache().get(principal.getId(), id -> {
+            computed.set(true);
+            return fetchStoredAttributes(serviceCache, id)
+                .map(storedAttributes -> {
+                    hitCounter.increment();
+                    return storedAttributes;
+                })
+                .orElseGet(() -> {
+                    missCounter.increment();
+                    val loaded = loadTimer.record(() -> loader.apply(principal));
+                    if (loaded == null || loaded.isEmpty()) {
+                        return null;
+                    }
+                    storeAttributes(serviceCache, id, loaded);
+                    return loaded;
+                });
         });
+        if (!computed.get()) {
+            hitCounter.increment();
+        }
+        return attributes != null ? attributes : new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
     }
 
     @Override
     public void putAttributes(final RegisteredService registeredService,
                               final RegisteredServicePrincipalAttributesRepository repository,
                               final String id, final Map<String, List<Object>> attributes) {
-        lock.tryLock(__ -> {
-            val cache = getRegisteredServiceCacheInstance(registeredService, repository);
-            cache.put(id, attributes);
-        });
+        val serviceCache = getRegisteredServiceCacheInstance(registeredService, repository);
+        serviceCache.cache().put(id, attributes);
+        storeAttributes(serviceCache, id, attributes);
     }
 
-    private Cache<String, Map<String, List<Object>>> getRegisteredServiceCacheInstance(
-        final RegisteredService registeredService, final RegisteredServicePrincipalAttributesRepository repository) {
+    private Optional<Map<String, List<Object>>> fetchCachedAttributes(final ServiceCache serviceCache, final String id) {
+        val cachedAttributes = Optional.ofNullable(serviceCache.cache().getIfPresent(id))
+            .or(() -> fetchStoredAttributes(serviceCache, id).map(attributes -> {
+                serviceCache.cache().put(id, attributes);
+                return attributes;
+            }));
+        if (cachedAttributes.isPresent()) {
+            hitCounter.increment();
+        } else {
+            missCounter.increment();
+        }
+        return cachedAttributes;
+    }
+
+    private Optional<Map<String, List<Object>>> fetchStoredAttributes(final ServiceCache serviceCache, final String id) {
+        try {
+            return cacheStore.get(serviceCache.getStoreKey(id)).map(attributes -> {
+                val result = new TreeMap<String, List<Object>>(String.CASE_INSENSITIVE_ORDER);
+                result.putAll(attributes);
+                return result;
+            });
+        } catch (final Exception e) {
+            LoggingUtils.warn(LOGGER, e);
+            return Optional.empty();
+        }
+    }
+
+    private void storeAttributes(final ServiceCache serviceCache, final String id, final Map<String, List<Object>> attributes) {
+        if (serviceCache.expiration().isZero() || serviceCache.expiration().isNegative()) {
+            return;
+        }
+        try {
+            cacheStore.put(serviceCache.getStoreKey(id), attributes, serviceCache.expiration());
+        } catch (final Exception e) {
+            LoggingUtils.warn(LOGGER, e);
+        }
+    }
 
+    private ServiceCache getRegisteredServiceCacheInstance(
+        final RegisteredService registeredService, final RegisteredServicePrincipalAttributesRepository repository) {
         val key = buildRegisteredServiceCacheKey(registeredService);
-        if (registeredServicesCache.containsKey(key)) {
-            return registeredServicesCache.get(key);
+        val expiration = getExpiration(repository);
+        val serviceCache = registeredServicesCache.get(key);
+        if (serviceCache != null && serviceCache.expiration().equals(expiration)) {
+            return serviceCache;
+        }
+        return registeredServicesCache.compute(key, (__, existing) -> {
+            if (existing != null && existing.expiration().equals(expiration)) {
+                return existing;
+            }
+            if (existing != null) {
+                LOGGER.debug("Attribute cache expiration for [{}] has changed from [{}] to [{}]; rebuilding cache",
+                    key, existing.expiration(), expiration);
+                existing.cache().invalidateAll();
+            }
+            LOGGER.trace("Initializing attribute cache for [{}] with expiration [{}]", key, expiration);
+            val cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((String id, Map<String, List<Object>> attributes) -> weigh(attributes))
+                .expireAfterWrite(expiration)
+                .build();
+            return new ServiceCache(key, expiration, cache);
+        });
+    }
+
+    private record ServiceCache(String key, Duration expiration, Cache<String, Map<String, List<Object>>> cache) {
+        /**
+         * Entries in the cache store are keyed by expiration as well, so that attributes stored
+         * under a previous expiration are never served once the cache is rebuilt, and are left to expire.
+         */
+        String getStoreKey(final String id) {
+            return key + ':' + expiration + ':' + id;
         }
-        val cache = initializeCache(repository);
-        registeredServicesCache.put(key, cache);
-        return cache;
     }
 }
@@ -0,0 +1,139 @@
+package org.apereo.cas.authentication.principal.cache;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.authentication.principal.PrincipalAttributesRepositoryCacheStore;
+import org.apereo.cas.services.RegisteredService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link DefaultPrincipalAttributesRepositoryCacheTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("Attributes")
+class DefaultPrincipalAttributesRepositoryCacheTests {
+
+    private static RegisteredService getRegisteredService() {
+        val registeredService = mock(RegisteredService.class);
+        when(registeredService.getId()).thenReturn(1000L);
+        when(registeredService.getName()).thenReturn("Example");
+        return registeredService;
+    }
+
+    @Test
+    void verifyConcurrentMissesAreCoalesced() throws Throwable {
+        val meterRegistry = new SimpleMeterRegistry();
+        val cache = new DefaultPrincipalAttributesRepositoryCache(1000, PrincipalAttributesRepositoryCacheStore.noOp(), meterRegistry);
+        val repository = new CachingPrincipalAttributesRepository(TimeUnit.MINUTES.name(), 5);
+        val registeredService = getRegisteredService();
+        val principal = CoreAuthenticationTestUtils.getPrincipal("casuser");
+
+        val loads = new AtomicInteger();
+        val latch = new CountDownLatch(1);
+        try (val executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            val futures = IntStream.range(0, 10)
+                .mapToObj(i -> executor.submit(() -> {
+                    latch.await();
+                    return cache.fetchAttributes(registeredService, repository, principal, p -> {
+                        loads.incrementAndGet();
+                        return Map.<String, List<Object>>of("mail", List.of("casuser@example.org"));
+                    });
+                }))
+                .toList();
+            latch.countDown();
+            for (val future : futures) {
+                assertEquals(List.of("casuser@example.org"), future.get().get("mail"));
+            }
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, meterRegistry.get("cas.principal.attributes.cache.load").timer().count());
+        val hits = meterRegistry.get("cas.principal.attributes.cache.requests").tag("result", "hit").counter().count();
+        val misses = meterRegistry.get("cas.principal.attributes.cache.requests").tag("result", "miss").counter().count();
+        assertEquals(1, misses);
+        assertEquals(9, hits);
+    }
+
+    @Test
+    void verifyEmptyAttributesAreNotCached() {
+        val cache = new DefaultPrincipalAttributesRepositoryCache();
+        val repository = new CachingPrincipalAttributesRepository(TimeUnit.MINUTES.name(), 5);
+        val registeredService = getRegisteredService();
+        val principal = CoreAuthenticationTestUtils.getPrincipal("casuser");
+        val loads = new AtomicInteger();
+        for (var i = 0; i < 2; i++) {
+            val attributes = cache.fetchAttributes(registeredService, repository, principal, p -> {
+                loads.incrementAndGet();
+                return Map.of();
+            });
+            assertTrue(attributes.isEmpty());
+        }
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void verifyAttributesServedFromStore() {
+        val store = mock(PrincipalAttributesRepositoryCacheStore.class);
+        val storedAttributes = Map.<String, List<Object>>of("cn", List.of("CAS"));
+        when(store.get(anyString())).thenReturn(Optional.of(storedAttributes));
+
+        val cache = new DefaultPrincipalAttributesRepositoryCache(1000, store, new SimpleMeterRegistry());
+        val repository = new CachingPrincipalAttributesRepository(TimeUnit.MINUTES.name(), 5);
+        val registeredService = getRegisteredService();
+        val principal = CoreAuthenticationTestUtils.getPrincipal("casuser");
+
+        val attributes = cache.fetchAttributes(registeredService, repository, principal, p -> fail("Attributes must be loaded from the store"));
+        assertEquals(List.of("CAS"), attributes.get("CN"));
+        verify(store).get("1000@Example:PT5M:casuser");
+        verify(store, never()).put(anyString(), anyMap(), any());
+
+        cache.putAttributes(registeredService, repository, "casuser", storedAttributes);
+        verify(store).put("1000@Example:PT5M:casuser", storedAttributes, Duration.ofMinutes(5));
+        cache.invalidate();
+        verify(store).clear();
+    }
+
+    @Test
+    void verifyCacheRebuiltWhenExpirationChanges() {
+        val store = mock(PrincipalAttributesRepositoryCacheStore.class);
+        when(store.get(anyString())).thenReturn(Optional.empty());
+        val cache = new DefaultPrincipalAttributesRepositoryCache(1000, store, new SimpleMeterRegistry());
+        val registeredService = getRegisteredService();
+        val principal = CoreAuthenticationTestUtils.getPrincipal("casuser");
+        val loads = new AtomicInteger();
+
+        val repository = new CachingPrincipalAttributesRepository(TimeUnit.MINUTES.name(), 5);
+        for (var i = 0; i < 2; i++) {
+            cache.fetchAttributes(registeredService, repository, principal, p -> {
+                loads.incrementAndGet();
+                return Map.<String, List<Object>>of("mail", List.of("casuser@example.org"));
+            });
+        }
+        assertEquals(1, loads.get());
+        verify(store).put(eq("1000@Example:PT5M:casuser"), anyMap(), eq(Duration.ofMinutes(5)));
+
+        val updatedRepository = new CachingPrincipalAttributesRepository(TimeUnit.HOURS.name(), 2);
+        cache.fetchAttributes(registeredService, updatedRepository, principal, p -> {
+            loads.incrementAndGet();
+            return Map.<String, List<Object>>of("mail", List.of("casuser@example.org"));
+        });
+        assertEquals(2, loads.get());
+        verify(store).get("1000@Example:PT2H:casuser");
+        verify(store).put(eq("1000@Example:PT2H:casuser"), anyMap(), eq(Duration.ofHours(2)));
+    }
+}
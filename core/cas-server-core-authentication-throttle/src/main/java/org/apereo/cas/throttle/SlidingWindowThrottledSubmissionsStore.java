@@ -0,0 +1,242 @@
+package org.apereo.cas.throttle;
+
+import org.apereo.cas.web.support.ThrottledSubmission;
+import org.apereo.cas.web.support.ThrottledSubmissionsStore;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.BooleanUtils;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link SlidingWindowThrottledSubmissionsStore}. Rather than keeping a record per throttled key,
+ * submissions are tracked in a fixed-size count-min sketch whose cells are sliding window counters.
+ * Each key is hashed into one cell per sketch row, and the submission count for the key is estimated
+ * as the smallest count across its cells, which may overestimate but never underestimates the actual count.
+ * <p>
+ * Each cell packs the window epoch, the count for the current fixed window and the count for the previous
+ * fixed window into a single {@code long}, which is updated with a compare-and-set loop. The submission count
+ * for the sliding window is interpolated from the two fixed windows. Counters for older windows are simply
+ * overwritten when a cell is next updated, so memory use is bounded by the size of the sketch, updates are constant
+ * time and there is no need to sweep the store to release entries.
+ * <p>
+ * Keys that are locked out after exceeding the threshold are tracked in a parallel sketch that records when
+ * the lock expires. Since the store does not keep individual submissions, {@link #entries()} is always empty,
+ * and submissions returned by {@link #get(String)} are reconstructed from the sketch.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+public class SlidingWindowThrottledSubmissionsStore implements ThrottledSubmissionsStore<ThrottledSubmission> {
+    private static final int COUNT_BITS = 20;
+
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private static final int EPOCH_SHIFT = COUNT_BITS * 2;
+
+    private static final long EPOCH_MASK = (1L << (Long.SIZE - EPOCH_SHIFT)) - 1;
+
+    private static final long HASH_MULTIPLIER = 0x100000001B3L;
+
+    private final AtomicLongArray counters;
+
+    private final AtomicLongArray locks;
+
+    @Getter
+    private final int width;
+
+    @Getter
+    private final int depth;
+
+    private final long windowMillis;
+
+    private final Clock clock;
+
+    private final long firstSeed;
+
+    private final long secondSeed;
+
+    public SlidingWindowThrottledSubmissionsStore(final int width, final int depth, final Duration window) {
+        this(width, depth, window, Clock.systemUTC());
+    }
+
+    public SlidingWindowThrottledSubmissionsStore(final int width, final int depth,
+                                                  final Duration window, final Clock clock) {
+        this.width = Math.max(1, width);
+        this.depth = Math.max(1, depth);
+        this.windowMillis = Math.max(1, window.toMillis());
+        this.clock = clock;
+        this.counters = new AtomicLongArray(this.width * this.depth);
+        this.locks = new AtomicLongArray(this.width * this.depth);
+        val random = new SecureRandom();
+        this.firstSeed = random.nextLong();
+        this.secondSeed = random.nextLong();
+    }
+
+    @Override
+    public void removeIf(final Predicate<ThrottledSubmission> condition) {
+        LOGGER.trace("Throttled submissions are not individually tracked, and cannot be removed by condition");
+    }
+
+    @Override
+    public void remove(final String key) {
+        for (val index : indexesFor(key)) {
+            locks.set(index, 0);
+        }
+    }
+
+    @Override
+    public void put(final ThrottledSubmission submission) {
+        if (submission.isStillInExpirationWindow()) {
+            val expiration = submission.getExpiration().toInstant().toEpochMilli();
+            for (val index : indexesFor(submission.getKey())) {
+                locks.accumulateAndGet(index, expiration, Math::max);
+            }
+            LOGGER.debug("Throttled submission [{}] is locked until [{}]", submission.getKey(), submission.getExpiration());
+        } else {
+            val now = clock.millis();
+            for (val index : indexesFor(submission.getKey())) {
+                increment(index, now);
+            }
+        }
+    }
+
+    @Override
+    public boolean contains(final String key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public ThrottledSubmission get(final String key) {
+        val now = clock.millis();
+        val indexes = indexesFor(key);
+        val lockedUntil = getLockExpiration(indexes);
+        val count = estimate(indexes, now);
+        if (lockedUntil <= now && count <= 0) {
+            return null;
+        }
+        return ThrottledSubmission.builder()
+            .id(key)
+            .key(key)
+            .value(ZonedDateTime.ofInstant(Instant.ofEpochMilli(now), ZoneOffset.UTC))
+            .expiration(lockedUntil > now ? ZonedDateTime.ofInstant(Instant.ofEpochMilli(lockedUntil), ZoneOffset.UTC) : null)
+            .build();
+    }
+
+    @Override
+    public Stream<ThrottledSubmission> entries() {
+        return Stream.empty();
+    }
+
+    @Override
+    public boolean exceedsThreshold(final String key, final double thresholdRate) {
+        val count = estimate(indexesFor(key), clock.millis());
+        val submissionRate = count * 1000.0 / windowMillis;
+        val result = submissionRate > thresholdRate;
+        LOGGER.debug("Estimated [{}] submission(s) for [{}] in the sliding window, with a submission rate of [{}]. "
+                + "The submission rate is [{}] than the threshold rate [{}], so the request [{}] be throttled.",
+            count, key, submissionRate, BooleanUtils.toString(result, "greater", "less"), thresholdRate,
+            BooleanUtils.toString(result, "may", "may not"));
+        return result;
+    }
+
+    @Override
+    public void release(final double thresholdRate) {
+        LOGGER.trace("Sliding window counters expire on their own, and need not be released");
+    }
+
+    @Override
+    public void clear() {
+        for (var i = 0; i < counters.length(); i++) {
+            counters.set(i, 0);
+            locks.set(i, 0);
+        }
+    }
+
+    private void increment(final int index, final long now) {
+        val epoch = (now / windowMillis) & EPOCH_MASK;
+        var current = counters.get(index);
+        while (true) {
+            val cellEpoch = current >>> EPOCH_SHIFT;
+            val currentCount = current & COUNT_MASK;
+            long updated;
+            if (cellEpoch == epoch) {
+                val previousCount = (current >>> COUNT_BITS) & COUNT_MASK;
+                updated = pack(epoch, previousCount, Math.min(currentCount + 1, COUNT_MASK));
+            } else if (cellEpoch == ((epoch - 1) & EPOCH_MASK)) {
+                updated = pack(epoch, currentCount, 1);
+            } else {
+                updated = pack(epoch, 0, 1);
+            }
+            val witness = counters.compareAndExchange(index, current, updated);
+            if (witness == current) {
+                return;
+            }
+            current = witness;
+        }
+    }
+
+    private double estimate(final int[] indexes, final long now) {
+        val epoch = (now / windowMillis) & EPOCH_MASK;
+        val elapsed = (double) (now % windowMillis) / windowMillis;
+        var estimate = Double.MAX_VALUE;
+        for (val index : indexes) {
+            val cell = counters.get(index);
+            val cellEpoch = cell >>> EPOCH_SHIFT;
+            val currentCount = cell & COUNT_MASK;
+            var count = 0.0D;
+            if (cell != 0 && cellEpoch == epoch) {
+                val previousCount = (cell >>> COUNT_BITS) & COUNT_MASK;
+                count = currentCount + previousCount * (1 - elapsed);
+            } else if (cell != 0 && cellEpoch == ((epoch - 1) & EPOCH_MASK)) {
+                count = currentCount * (1 - elapsed);
+            }
+            estimate = Math.min(estimate, count);
+        }
+        return estimate;
+    }
+
+    private long getLockExpiration(final int[] indexes) {
+        var expiration = Long.MAX_VALUE;
+        for (val index : indexes) {
+            expiration = Math.min(expiration, locks.get(index));
+        }
+        return expiration;
+    }
+
+    private int[] indexesFor(final String key) {
+        val first = hash(key, firstSeed);
+        val second = hash(key, secondSeed) | 1;
+        val indexes = new int[depth];
+        for (var row = 0; row < depth; row++) {
+            val column = (int) Long.remainderUnsigned(first + row * second, width);
+            indexes[row] = row * width + column;
+        }
+        return indexes;
+    }
+
+    private static long hash(final String key, final long seed) {
+        var hash = seed;
+        for (var i = 0; i < key.length(); i++) {
+            hash = (hash ^ key.charAt(i)) * HASH_MULTIPLIER;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    private static long pack(final long epoch, final long previousCount, final long currentCount) {
+        return (epoch << EPOCH_SHIFT) | (previousCount << COUNT_BITS) | currentCount;
+    }
+}
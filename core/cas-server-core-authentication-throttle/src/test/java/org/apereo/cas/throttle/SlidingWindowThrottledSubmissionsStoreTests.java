@@ -0,0 +1,122 @@
+package org.apereo.cas.throttle;
+
+import org.apereo.cas.web.support.ThrottledSubmission;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link SlidingWindowThrottledSubmissionsStoreTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("AuthenticationThrottling")
+class SlidingWindowThrottledSubmissionsStoreTests {
+    private static final double THRESHOLD_RATE = 3 / 10.0;
+
+    private final MutableClock clock = new MutableClock();
+
+    private final SlidingWindowThrottledSubmissionsStore store =
+        new SlidingWindowThrottledSubmissionsStore(1024, 4, Duration.ofSeconds(10), clock);
+
+    private static ThrottledSubmission submission(final String key) {
+        return ThrottledSubmission.builder().id(UUID.randomUUID().toString()).key(key).build();
+    }
+
+    @Test
+    void verifyThresholdInSlidingWindow() {
+        val key = "1.2.3.4;casuser";
+        assertNull(store.get(key));
+        for (var i = 0; i < 3; i++) {
+            store.put(submission(key));
+            assertFalse(store.exceedsThreshold(key, THRESHOLD_RATE));
+        }
+        store.put(submission(key));
+        assertTrue(store.exceedsThreshold(key, THRESHOLD_RATE));
+        assertTrue(store.contains(key));
+        assertFalse(store.exceedsThreshold("5.6.7.8;casuser", THRESHOLD_RATE));
+
+        clock.advance(Duration.ofSeconds(25));
+        assertFalse(store.exceedsThreshold(key, THRESHOLD_RATE));
+        assertNull(store.get(key));
+        assertEquals(0, store.entries().count());
+    }
+
+    @Test
+    void verifyPreviousWindowIsInterpolated() {
+        val key = UUID.randomUUID().toString();
+        IntStream.range(0, 8).forEach(i -> store.put(submission(key)));
+        clock.advance(Duration.ofSeconds(15));
+        assertTrue(store.exceedsThreshold(key, THRESHOLD_RATE));
+        clock.advance(Duration.ofSeconds(4));
+        assertFalse(store.exceedsThreshold(key, THRESHOLD_RATE));
+    }
+
+    @Test
+    void verifyLockedSubmission() {
+        val key = UUID.randomUUID().toString();
+        store.put(submission(key));
+        val submission = store.get(key);
+        assertNotNull(submission);
+        assertTrue(submission.hasExpiredAlready());
+
+        submission.setExpiration(ZonedDateTime.ofInstant(clock.instant(), ZoneOffset.UTC).plusMinutes(5));
+        store.put(submission);
+        assertFalse(store.get(key).hasExpiredAlready());
+        store.remove(key);
+        assertTrue(store.get(key).hasExpiredAlready());
+        store.clear();
+        assertNull(store.get(key));
+    }
+
+    @Test
+    void verifyConcurrentUpdates() throws Throwable {
+        val key = UUID.randomUUID().toString();
+        try (val executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            IntStream.range(0, 1000).forEach(i -> executor.submit(() -> store.put(submission(key))));
+        }
+        assertTrue(store.exceedsThreshold(key, 999 / 10.0));
+        assertFalse(store.exceedsThreshold(key, 1000 / 10.0));
+    }
+
+    private static final class MutableClock extends Clock {
+        private final AtomicLong millis = new AtomicLong(Clock.systemUTC().millis() / 10_000 * 10_000);
+
+        void advance(final Duration duration) {
+            millis.addAndGet(duration.toMillis());
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis.get());
+        }
+
+        @Override
+        public long millis() {
+            return millis.get();
+        }
+    }
+}
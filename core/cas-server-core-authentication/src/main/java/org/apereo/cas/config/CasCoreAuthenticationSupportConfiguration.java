@@ -19,6 +19,7 @@ import org.apereo.cas.authentication.handler.GroovyAuthenticationHandlerResolver
 import org.apereo.cas.authentication.handler.RegisteredServiceAuthenticationHandlerResolver;
 import org.apereo.cas.authentication.policy.RegisteredServiceAuthenticationPolicyResolver;
 import org.apereo.cas.authentication.principal.PrincipalAttributesRepositoryCache;
+import org.apereo.cas.authentication.principal.PrincipalAttributesRepositoryCacheStore;
 import org.apereo.cas.authentication.principal.PrincipalFactory;
 import org.apereo.cas.authentication.principal.PrincipalResolver;
 import org.apereo.cas.authentication.principal.cache.DefaultPrincipalAttributesRepositoryCache;
@@ -32,6 +33,8 @@ import org.apereo.cas.util.spring.beans.BeanCondition;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.util.spring.boot.ConditionalOnMissingGraalVMNativeImage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.springframework.beans.factory.ObjectProvider;
@@ -65,8 +68,15 @@ class CasCoreAuthenticationSupportConfiguration {
         @ConditionalOnMissingBean(name = PrincipalAttributesRepositoryCache.DEFAULT_BEAN_NAME)
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
-        public PrincipalAttributesRepositoryCache principalAttributesRepositoryCache() {
-            return new DefaultPrincipalAttributesRepositoryCache();
+        public PrincipalAttributesRepositoryCache principalAttributesRepositoryCache(
+            final CasConfigurationProperties casProperties,
+            @Qualifier(PrincipalAttributesRepositoryCacheStore.BEAN_NAME)
+            final ObjectProvider<PrincipalAttributesRepositoryCacheStore> principalAttributesRepositoryCacheStore,
+            final ObjectProvider<MeterRegistry> meterRegistry) {
+            val core = casProperties.getAuthn().getAttributeRepository().getCore();
+            return new DefaultPrincipalAttributesRepositoryCache(core.getServiceCacheMaximumWeight(),
+                principalAttributesRepositoryCacheStore.getIfAvailable(PrincipalAttributesRepositoryCacheStore::noOp),
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
         }
     }
 
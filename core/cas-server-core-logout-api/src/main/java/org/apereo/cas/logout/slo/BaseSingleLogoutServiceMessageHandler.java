@@ -17,6 +17,7 @@ import org.apereo.cas.web.HttpMessage;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import java.net.URI;
@@ -47,6 +48,9 @@ public abstract class BaseSingleLogoutServiceMessageHandler implements SingleLog
 
     private final AuthenticationServiceSelectionPlan authenticationRequestServiceSelectionStrategies;
 
+    @Setter
+    private SingleLogoutMessageDispatcher singleLogoutMessageDispatcher;
+
     @Override
     public Collection<SingleLogoutRequestContext> handle(final WebApplicationService singleLogoutService,
                                                          final String ticketId,
@@ -201,11 +205,15 @@ public abstract class BaseSingleLogoutServiceMessageHandler implements SingleLog
     protected boolean sendMessageToEndpoint(final HttpMessage msg,
                                             final SingleLogoutRequestContext request,
                                             final SingleLogoutMessage logoutMessage) {
+        if (this.asynchronous && this.singleLogoutMessageDispatcher != null) {
+            return this.singleLogoutMessageDispatcher.dispatch(request, msg);
+        }
         return this.httpClient.sendMessageToEndPoint(msg);
     }
     
     @Override
     public HttpMessage prepareLogoutHttpMessageToSend(final SingleLogoutRequestContext request, final SingleLogoutMessage logoutMessage) {
-        return new LogoutHttpMessage(CasProtocolConstants.PARAMETER_LOGOUT_REQUEST, request.getLogoutUrl(), logoutMessage.getPayload(), this.asynchronous);
+        return new LogoutHttpMessage(CasProtocolConstants.PARAMETER_LOGOUT_REQUEST, request.getLogoutUrl(), logoutMessage.getPayload(),
+            this.asynchronous && this.singleLogoutMessageDispatcher == null);
     }
 }
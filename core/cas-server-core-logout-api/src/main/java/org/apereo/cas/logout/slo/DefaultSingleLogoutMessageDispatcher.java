@@ -0,0 +1,250 @@
+package org.apereo.cas.logout.slo;
+
+import org.apereo.cas.configuration.model.core.slo.SingleLogoutDispatchProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.util.DigestUtils;
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.concurrent.CasReentrantLock;
+import org.apereo.cas.util.http.HttpClient;
+import org.apereo.cas.web.HttpMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+
+/**
+ * This is {@link DefaultSingleLogoutMessageDispatcher}. Logout messages are queued per target host
+ * and delivered on virtual threads, with a bounded number of concurrent requests per host,
+ * so a burst of logout messages (i.e. mass expiration of tickets) does not saturate outbound connections.
+ * Messages that are already pending for the same endpoint and ticket (i.e. session index) are coalesced,
+ * messages are rejected once the queue for a host is full, and failed deliveries are retried with exponential backoff.
+ * Queued messages are tracked by a {@link SingleLogoutMessageQueueStore} and recovered on startup.
+ * On shutdown, queued messages are given a chance to drain; those that are not delivered in time
+ * are left in the queue store.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+public class DefaultSingleLogoutMessageDispatcher implements SingleLogoutMessageDispatcher, InitializingBean, DisposableBean {
+    private static final String METRIC_DISPATCH = "cas.logout.slo.dispatch";
+
+    private static final String METRIC_DELIVERY = "cas.logout.slo.delivery";
+
+    private final Map<String, HostQueue> hosts = new ConcurrentHashMap<>();
+
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    private final AtomicBoolean shuttingDown = new AtomicBoolean();
+
+    private final CasReentrantLock lock = new CasReentrantLock();
+
+    private final Condition drained = lock.newCondition();
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().daemon().name("cas-slo-dispatch-retry").factory());
+
+    private final HttpClient httpClient;
+
+    private final SingleLogoutMessageQueueStore queueStore;
+
+    private final SingleLogoutDispatchProperties properties;
+
+    private final MeterRegistry meterRegistry;
+
+    public DefaultSingleLogoutMessageDispatcher(final HttpClient httpClient,
+                                                final SingleLogoutMessageQueueStore queueStore,
+                                                final SingleLogoutDispatchProperties properties,
+                                                final MeterRegistry meterRegistry) {
+        this.httpClient = httpClient;
+        this.queueStore = queueStore;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder(METRIC_DISPATCH + ".pending", pending, Set::size)
+            .description("Number of logout messages queued for delivery")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        val queued = queueStore.load();
+        if (!queued.isEmpty()) {
+            LOGGER.info("Recovering [{}] queued logout message(s) for delivery", queued.size());
+            queued.forEach(this::enqueue);
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        shuttingDown.set(true);
+        val timeout = Beans.newDuration(properties.getShutdownTimeout());
+        if (!pending.isEmpty()) {
+            LOGGER.info("Waiting up to [{}] for [{}] queued logout message(s) to be delivered", timeout, pending.size());
+            awaitDelivery(timeout);
+        }
+        scheduler.shutdownNow();
+        executor.shutdownNow();
+        if (!pending.isEmpty()) {
+            LOGGER.warn("[{}] logout message(s) are not delivered before shutdown and remain in the queue store", pending.size());
+        }
+    }
+
+    @Override
+    public boolean dispatch(final SingleLogoutRequestContext request, final HttpMessage message) {
+        if (shuttingDown.get()) {
+            LOGGER.warn("Logout message for [{}] is rejected; dispatcher is shutting down", message.getUrl());
+            record("rejected");
+            return false;
+        }
+        val id = DigestUtils.sha256(message.getUrl().toExternalForm() + '|' + request.getTicketId());
+        return enqueue(id, message);
+    }
+
+    /**
+     * Number of logout messages that are queued for delivery.
+     *
+     * @return the count
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    protected Duration getBackoffDelay(final int attempt) {
+        val initialDelay = Beans.newDuration(properties.getBackoffDelay()).toMillis();
+        val maxDelay = Beans.newDuration(properties.getMaxBackoffDelay()).toMillis();
+        val delay = initialDelay * Math.pow(Math.max(1.0D, properties.getBackoffMultiplier()), attempt - 1);
+        return Duration.ofMillis((long) Math.min(delay, maxDelay));
+    }
+
+    private void awaitDelivery(final Duration timeout) throws InterruptedException {
+        var remaining = timeout.toNanos();
+        lock.lock();
+        try {
+            while (!pending.isEmpty() && remaining > 0) {
+                remaining = drained.awaitNanos(remaining);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean enqueue(final String id, final HttpMessage message) {
+        if (!pending.add(id)) {
+            LOGGER.debug("Logout message for [{}] is already queued for delivery", message.getUrl());
+            record("coalesced");
+            return true;
+        }
+        val host = hosts.computeIfAbsent(message.getUrl().getAuthority(),
+            authority -> new HostQueue(authority, new Semaphore(Math.max(1, properties.getMaxConcurrentRequestsPerHost())), new AtomicInteger()));
+        if (host.queued().incrementAndGet() > properties.getMaxQueuedRequestsPerHost()) {
+            host.queued().decrementAndGet();
+            pending.remove(id);
+            LOGGER.warn("Logout message for [{}] is rejected; the queue for [{}] is full", message.getUrl(), host.authority());
+            record("rejected");
+            return false;
+        }
+        queueStore.save(id, message);
+        record("enqueued");
+        submit(new Delivery(id, message, host, 1));
+        return true;
+    }
+
+    private void submit(final Delivery delivery) {
+        try {
+            executor.execute(() -> deliver(delivery));
+        } catch (final RejectedExecutionException e) {
+            LOGGER.debug("Logout message for [{}] cannot be delivered; dispatcher is shutting down", delivery.message().getUrl());
+        }
+    }
+
+    private void deliver(final Delivery delivery) {
+        val host = delivery.host();
+        val sample = Timer.start(meterRegistry);
+        var delivered = false;
+        try {
+            host.permits().acquire();
+            try {
+                LOGGER.trace("Delivering logout message to [{}], attempt [{}]", delivery.message().getUrl(), delivery.attempt());
+                delivered = httpClient.sendMessageToEndPoint(delivery.message());
+            } finally {
+                host.permits().release();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (final Exception e) {
+            LoggingUtils.warn(LOGGER, e);
+        } finally {
+            sample.stop(Timer.builder(METRIC_DELIVERY)
+                .description("Time spent delivering logout messages")
+                .tag("result", delivered ? "success" : "failure")
+                .register(meterRegistry));
+        }
+
+        if (delivered) {
+            record("delivered");
+            complete(delivery);
+        } else if (delivery.attempt() < properties.getMaxAttempts()) {
+            val delay = getBackoffDelay(delivery.attempt());
+            LOGGER.debug("Logout message to [{}] failed; retrying in [{}]", delivery.message().getUrl(), delay);
+            record("retried");
+            try {
+                scheduler.schedule(() -> submit(delivery.next()), delay.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (final RejectedExecutionException e) {
+                LOGGER.debug("Logout message for [{}] cannot be retried; dispatcher is shutting down", delivery.message().getUrl());
+            }
+        } else {
+            LOGGER.warn("Logout message to [{}] failed after [{}] attempt(s)", delivery.message().getUrl(), delivery.attempt());
+            record("failed");
+            complete(delivery);
+        }
+    }
+
+    private void complete(final Delivery delivery) {
+        delivery.host().queued().decrementAndGet();
+        queueStore.remove(delivery.id());
+        lock.lock();
+        try {
+            pending.remove(delivery.id());
+            drained.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void record(final String outcome) {
+        Counter.builder(METRIC_DISPATCH)
+            .description("Logout messages by dispatch outcome")
+            .tag("outcome", outcome)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    private record HostQueue(String authority, Semaphore permits, AtomicInteger queued) {
+    }
+
+    private record Delivery(String id, HttpMessage message, HostQueue host, int attempt) {
+        Delivery next() {
+            return new Delivery(id, message, host, attempt + 1);
+        }
+    }
+}
@@ -18,10 +18,13 @@ import org.apereo.cas.logout.LogoutPostProcessor;
 import org.apereo.cas.logout.LogoutRedirectionStrategy;
 import org.apereo.cas.logout.LogoutWebApplicationServiceFactory;
 import org.apereo.cas.logout.slo.ChainingSingleLogoutServiceLogoutUrlBuilder;
+import org.apereo.cas.logout.slo.DefaultSingleLogoutMessageDispatcher;
 import org.apereo.cas.logout.slo.DefaultSingleLogoutRequestExecutor;
 import org.apereo.cas.logout.slo.DefaultSingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.DefaultSingleLogoutServiceMessageHandler;
 import org.apereo.cas.logout.slo.SingleLogoutMessageCreator;
+import org.apereo.cas.logout.slo.SingleLogoutMessageDispatcher;
+import org.apereo.cas.logout.slo.SingleLogoutMessageQueueStore;
 import org.apereo.cas.logout.slo.SingleLogoutRequestExecutor;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilderConfigurer;
@@ -38,8 +41,11 @@ import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.web.UrlValidator;
 import org.apereo.cas.web.support.ArgumentExtractor;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureOrder;
@@ -142,13 +148,38 @@ public class CasCoreLogoutAutoConfiguration {
             @Qualifier(HttpClient.BEAN_NAME_HTTPCLIENT_NO_REDIRECT)
             final HttpClient noRedirectHttpClient,
             @Qualifier("singleLogoutServiceLogoutUrlBuilder")
-            final SingleLogoutServiceLogoutUrlBuilder singleLogoutServiceLogoutUrlBuilder) {
-            return new DefaultSingleLogoutServiceMessageHandler(noRedirectHttpClient,
+            final SingleLogoutServiceLogoutUrlBuilder singleLogoutServiceLogoutUrlBuilder,
+            @Qualifier(SingleLogoutMessageDispatcher.BEAN_NAME)
+            final SingleLogoutMessageDispatcher singleLogoutMessageDispatcher) {
+            val handler = new DefaultSingleLogoutServiceMessageHandler(noRedirectHttpClient,
                 defaultSingleLogoutMessageCreator,
                 servicesManager,
                 singleLogoutServiceLogoutUrlBuilder,
                 casProperties.getSlo().isAsynchronous(),
                 authenticationServiceSelectionPlan);
+            BeanSupplier.ifNotProxy(singleLogoutMessageDispatcher, handler::setSingleLogoutMessageDispatcher);
+            return handler;
+        }
+
+        @ConditionalOnMissingBean(name = SingleLogoutMessageDispatcher.BEAN_NAME)
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public SingleLogoutMessageDispatcher singleLogoutMessageDispatcher(
+            final ConfigurableApplicationContext applicationContext,
+            final CasConfigurationProperties casProperties,
+            @Qualifier(HttpClient.BEAN_NAME_HTTPCLIENT_NO_REDIRECT)
+            final HttpClient noRedirectHttpClient,
+            @Qualifier(SingleLogoutMessageQueueStore.BEAN_NAME)
+            final ObjectProvider<SingleLogoutMessageQueueStore> singleLogoutMessageQueueStore,
+            final ObjectProvider<MeterRegistry> meterRegistry) {
+            return BeanSupplier.of(SingleLogoutMessageDispatcher.class)
+                .when(BeanCondition.on("cas.slo.dispatch.enabled").isTrue().given(applicationContext.getEnvironment()))
+                .supply(() -> new DefaultSingleLogoutMessageDispatcher(noRedirectHttpClient,
+                    singleLogoutMessageQueueStore.getIfAvailable(SingleLogoutMessageQueueStore::noOp),
+                    casProperties.getSlo().getDispatch(),
+                    meterRegistry.getIfAvailable(() -> Metrics.globalRegistry)))
+                .otherwiseProxy()
+                .get();
         }
 
         @ConditionalOnMissingBean(name = "defaultSingleLogoutMessageCreator")
@@ -0,0 +1,183 @@
+package org.apereo.cas.logout;
+
+import org.apereo.cas.CasProtocolConstants;
+import org.apereo.cas.configuration.model.core.slo.SingleLogoutDispatchProperties;
+import org.apereo.cas.logout.slo.DefaultSingleLogoutMessageDispatcher;
+import org.apereo.cas.logout.slo.SingleLogoutExecutionRequest;
+import org.apereo.cas.logout.slo.SingleLogoutMessageCreator;
+import org.apereo.cas.logout.slo.SingleLogoutMessageQueueStore;
+import org.apereo.cas.logout.slo.SingleLogoutRequestContext;
+import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.util.http.HttpClient;
+import org.apereo.cas.web.HttpMessage;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link DefaultSingleLogoutMessageDispatcherTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("Logout")
+class DefaultSingleLogoutMessageDispatcherTests {
+    private static final SingleLogoutMessageCreator MESSAGE_CREATOR = new DefaultSingleLogoutMessageCreator();
+
+    private static SingleLogoutRequestContext getLogoutRequest(final String host, final String ticketId) throws Exception {
+        return DefaultSingleLogoutRequestContext.builder()
+            .ticketId(ticketId)
+            .logoutUrl(new URI("https://%s/logout".formatted(host)).toURL())
+            .executionRequest(SingleLogoutExecutionRequest.builder()
+                .ticketGrantingTicket(new MockTicketGrantingTicket("casuser"))
+                .build())
+            .build();
+    }
+
+    private static HttpMessage getLogoutMessage(final SingleLogoutRequestContext request) throws Throwable {
+        return new LogoutHttpMessage(CasProtocolConstants.PARAMETER_LOGOUT_REQUEST,
+            request.getLogoutUrl(), MESSAGE_CREATOR.create(request).getPayload(), false);
+    }
+
+    private static boolean dispatch(final DefaultSingleLogoutMessageDispatcher dispatcher,
+                                    final String host, final String ticketId) throws Throwable {
+        val request = getLogoutRequest(host, ticketId);
+        return dispatcher.dispatch(request, getLogoutMessage(request));
+    }
+
+    private static double getCount(final SimpleMeterRegistry meterRegistry, final String outcome) {
+        val counter = meterRegistry.find("cas.logout.slo.dispatch").tag("outcome", outcome).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    @Test
+    void verifyFailedMessagesAreRetried() throws Throwable {
+        val httpClient = mock(HttpClient.class);
+        when(httpClient.sendMessageToEndPoint(any(HttpMessage.class))).thenReturn(false, true);
+        val properties = new SingleLogoutDispatchProperties().setBackoffDelay("PT0.01S");
+        val meterRegistry = new SimpleMeterRegistry();
+        val queueStore = mock(SingleLogoutMessageQueueStore.class);
+        val dispatcher = new DefaultSingleLogoutMessageDispatcher(httpClient, queueStore, properties, meterRegistry);
+        try {
+            assertTrue(dispatch(dispatcher, "app.example.org", "ST-1"));
+            await().atMost(Duration.ofSeconds(5)).until(() -> dispatcher.getPendingCount() == 0);
+            verify(httpClient, times(2)).sendMessageToEndPoint(any(HttpMessage.class));
+            verify(queueStore).save(anyString(), any(HttpMessage.class));
+            verify(queueStore).remove(anyString());
+            assertEquals(1, getCount(meterRegistry, "retried"));
+            assertEquals(1, getCount(meterRegistry, "delivered"));
+            assertEquals(2, meterRegistry.get("cas.logout.slo.delivery").timers().stream().mapToLong(Timer::count).sum());
+            assertNull(meterRegistry.find("cas.logout.slo.delivery").tagKeys("host").timer());
+        } finally {
+            dispatcher.destroy();
+        }
+    }
+
+    @Test
+    void verifyMessagesAreCoalescedAndRejected() throws Throwable {
+        val latch = new CountDownLatch(1);
+        val httpClient = mock(HttpClient.class);
+        when(httpClient.sendMessageToEndPoint(any(HttpMessage.class))).thenAnswer(invocation -> {
+            latch.await();
+            return true;
+        });
+        val properties = new SingleLogoutDispatchProperties()
+            .setMaxConcurrentRequestsPerHost(1)
+            .setMaxQueuedRequestsPerHost(2);
+        val meterRegistry = new SimpleMeterRegistry();
+        val dispatcher = new DefaultSingleLogoutMessageDispatcher(httpClient,
+            SingleLogoutMessageQueueStore.noOp(), properties, meterRegistry);
+        try {
+            val request = getLogoutRequest("app.example.org", "ST-1");
+            val message = getLogoutMessage(request);
+            val duplicate = getLogoutMessage(request);
+            assertNotEquals(message.getMessage(), duplicate.getMessage());
+            assertTrue(dispatcher.dispatch(request, message));
+            assertTrue(dispatcher.dispatch(request, duplicate));
+            assertTrue(dispatch(dispatcher, "app.example.org", "ST-2"));
+            assertFalse(dispatch(dispatcher, "app.example.org", "ST-3"));
+            assertTrue(dispatch(dispatcher, "other.example.org", "ST-3"));
+            assertEquals(3, dispatcher.getPendingCount());
+            assertEquals(1, getCount(meterRegistry, "coalesced"));
+            assertEquals(1, getCount(meterRegistry, "rejected"));
+
+            latch.countDown();
+            await().atMost(Duration.ofSeconds(5)).until(() -> dispatcher.getPendingCount() == 0);
+            verify(httpClient, times(3)).sendMessageToEndPoint(any(HttpMessage.class));
+            assertEquals(3, getCount(meterRegistry, "delivered"));
+        } finally {
+            dispatcher.destroy();
+        }
+    }
+
+    @Test
+    void verifyQueuedMessagesAreRecovered() throws Throwable {
+        val httpClient = mock(HttpClient.class);
+        when(httpClient.sendMessageToEndPoint(any(HttpMessage.class))).thenReturn(false);
+        val message = getLogoutMessage(getLogoutRequest("app.example.org", "ST-1"));
+        val queueStore = mock(SingleLogoutMessageQueueStore.class);
+        when(queueStore.load()).thenReturn(Map.of("queued", message));
+        val properties = new SingleLogoutDispatchProperties().setMaxAttempts(1);
+        val meterRegistry = new SimpleMeterRegistry();
+        val dispatcher = new DefaultSingleLogoutMessageDispatcher(httpClient, queueStore, properties, meterRegistry);
+        try {
+            dispatcher.afterPropertiesSet();
+            await().atMost(Duration.ofSeconds(5)).until(() -> dispatcher.getPendingCount() == 0);
+            verify(httpClient).sendMessageToEndPoint(message);
+            verify(queueStore).remove("queued");
+            assertEquals(1, getCount(meterRegistry, "failed"));
+            assertEquals(0, getCount(meterRegistry, "retried"));
+        } finally {
+            dispatcher.destroy();
+        }
+    }
+
+    @Test
+    void verifyQueuedMessagesDrainOnShutdown() throws Throwable {
+        val httpClient = mock(HttpClient.class);
+        when(httpClient.sendMessageToEndPoint(any(HttpMessage.class))).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            return true;
+        });
+        val queueStore = mock(SingleLogoutMessageQueueStore.class);
+        val properties = new SingleLogoutDispatchProperties().setMaxConcurrentRequestsPerHost(1);
+        val meterRegistry = new SimpleMeterRegistry();
+        val dispatcher = new DefaultSingleLogoutMessageDispatcher(httpClient, queueStore, properties, meterRegistry);
+        assertTrue(dispatch(dispatcher, "app.example.org", "ST-1"));
+        assertTrue(dispatch(dispatcher, "app.example.org", "ST-2"));
+        dispatcher.destroy();
+        assertEquals(0, dispatcher.getPendingCount());
+        verify(httpClient, times(2)).sendMessageToEndPoint(any(HttpMessage.class));
+        verify(queueStore, times(2)).remove(anyString());
+        assertEquals(2, getCount(meterRegistry, "delivered"));
+        assertFalse(dispatch(dispatcher, "app.example.org", "ST-3"));
+    }
+
+    @Test
+    void verifyUndeliveredMessagesStayQueuedOnShutdown() throws Throwable {
+        val latch = new CountDownLatch(1);
+        val httpClient = mock(HttpClient.class);
+        when(httpClient.sendMessageToEndPoint(any(HttpMessage.class))).thenAnswer(invocation -> {
+            latch.await();
+            return true;
+        });
+        val queueStore = mock(SingleLogoutMessageQueueStore.class);
+        val properties = new SingleLogoutDispatchProperties().setShutdownTimeout("PT0.1S");
+        val dispatcher = new DefaultSingleLogoutMessageDispatcher(httpClient, queueStore, properties, new SimpleMeterRegistry());
+        assertTrue(dispatch(dispatcher, "app.example.org", "ST-1"));
+        dispatcher.destroy();
+        assertEquals(1, dispatcher.getPendingCount());
+        verify(queueStore).save(anyString(), any(HttpMessage.class));
+        verify(queueStore, never()).remove(anyString());
+    }
+}
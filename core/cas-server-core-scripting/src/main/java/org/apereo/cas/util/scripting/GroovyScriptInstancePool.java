@@ -0,0 +1,128 @@
+package org.apereo.cas.util.scripting;
+
+import groovy.lang.GroovyObject;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.jooq.lambda.fi.util.function.CheckedFunction;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * This is {@link GroovyScriptInstancePool}. It holds on to ready instances of a compiled
+ * groovy script class, such that every execution receives an instance of its own
+ * and script state (i.e. bindings) is never shared between concurrent executions.
+ * Instances are created on demand, and idle instances are kept around for reuse
+ * up to a maximum. Execution latency is recorded per script type (i.e. inline or file),
+ * rather than per script, so that the number of meters remains bounded.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ * @param <T> the script type
+ */
+@Slf4j
+@ToString(of = {"name", "scriptClass"})
+public class GroovyScriptInstancePool<T extends GroovyObject> {
+    /**
+     * Script type for inline groovy scripts.
+     */
+    public static final String TYPE_INLINE = "inline";
+
+    /**
+     * Script type for groovy scripts backed by a resource.
+     */
+    public static final String TYPE_FILE = "file";
+
+    private static final int DEFAULT_MAXIMUM_IDLE = Runtime.getRuntime().availableProcessors() * 2;
+
+    private final Queue<T> instances = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger idle = new AtomicInteger();
+
+    private final String name;
+
+    @Getter
+    private final Class<?> scriptClass;
+
+    private final Supplier<T> factory;
+
+    private final int maximumIdle;
+
+    private final Timer timer;
+
+    public GroovyScriptInstancePool(final String name, final String type,
+                                    final Class<?> scriptClass, final Supplier<T> factory) {
+        this(name, type, scriptClass, factory, DEFAULT_MAXIMUM_IDLE);
+    }
+
+    public GroovyScriptInstancePool(final String name, final String type, final Class<?> scriptClass,
+                                    final Supplier<T> factory, final int maximumIdle) {
+        this(name, type, scriptClass, factory, maximumIdle, Metrics.globalRegistry);
+    }
+
+    public GroovyScriptInstancePool(final String name, final String type, final Class<?> scriptClass,
+                                    final Supplier<T> factory, final int maximumIdle,
+                                    final MeterRegistry meterRegistry) {
+        this.name = name;
+        this.scriptClass = scriptClass;
+        this.factory = factory;
+        this.maximumIdle = maximumIdle;
+        this.timer = Timer.builder("cas.groovy.script.execution")
+            .description("Time spent executing groovy scripts")
+            .tag("type", type)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Borrow a script instance from the pool, run the given function
+     * and return the instance to the pool when done.
+     *
+     * @param <R>      the result type
+     * @param function the function
+     * @return the result
+     * @throws Throwable the throwable
+     */
+    public <R> R execute(final CheckedFunction<T, R> function) throws Throwable {
+        val instance = borrow();
+        val sample = Timer.start();
+        try {
+            return function.apply(instance);
+        } finally {
+            sample.stop(timer);
+            release(instance);
+        }
+    }
+
+    /**
+     * Number of idle instances in the pool.
+     *
+     * @return the count
+     */
+    public int getIdleCount() {
+        return idle.get();
+    }
+
+    private T borrow() {
+        val instance = instances.poll();
+        if (instance != null) {
+            idle.decrementAndGet();
+            return instance;
+        }
+        LOGGER.trace("Creating a new instance of script [{}]", name);
+        return factory.get();
+    }
+
+    private void release(final T instance) {
+        if (idle.incrementAndGet() <= maximumIdle) {
+            instances.offer(instance);
+        } else {
+            idle.decrementAndGet();
+        }
+    }
+}
@@ -5,7 +5,6 @@ import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.ResourceUtils;
-import org.apereo.cas.util.concurrent.CasReentrantLock;
 import org.apereo.cas.util.spring.SpringExpressionLanguageValueResolver;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
@@ -14,15 +13,14 @@ import lombok.val;
 import java.util.Set;
 
 /**
- * This is {@link GroovyScriptResourceCacheManager}.
+ * This is {@link GroovyScriptResourceCacheManager}. Lookups are lock-free, and
+ * scripts are compiled at most once per cache key, even when requested concurrently.
  *
  * @author Misagh Moayyed
  * @since 6.3.0
  */
 @Slf4j
 public class GroovyScriptResourceCacheManager implements ScriptResourceCacheManager<String, ExecutableCompiledScript> {
-    private final CasReentrantLock lock = new CasReentrantLock();
-
     private final Cache<String, ExecutableCompiledScript> cache;
 
     public GroovyScriptResourceCacheManager(final ExpiringSimpleCacheProperties properties) {
@@ -31,7 +29,7 @@ public class GroovyScriptResourceCacheManager implements ScriptResourceCacheMana
 
     @Override
     public ExecutableCompiledScript get(final String key) {
-        return lock.tryLock(() -> cache.getIfPresent(key));
+        return cache.getIfPresent(key);
     }
 
     @Override
@@ -43,34 +41,30 @@ public class GroovyScriptResourceCacheManager implements ScriptResourceCacheMana
     @CanIgnoreReturnValue
     public ScriptResourceCacheManager<String, ExecutableCompiledScript> put(
         final String key, final ExecutableCompiledScript value) {
-        return lock.tryLock(() -> {
-            this.cache.put(key, value);
-            return this;
-        });
+        cache.put(key, value);
+        return this;
     }
 
     @Override
     @CanIgnoreReturnValue
     public ScriptResourceCacheManager<String, ExecutableCompiledScript> remove(final String key) {
-        return lock.tryLock(() -> {
-            this.cache.invalidate(key);
-            return this;
-        });
+        cache.invalidate(key);
+        return this;
     }
 
     @Override
     public Set<String> getKeys() {
-        return lock.tryLock(() -> cache.asMap().keySet());
+        return cache.asMap().keySet();
     }
 
     @Override
     public void close() {
-        lock.tryLock(__ -> cache.invalidateAll());
+        cache.invalidateAll();
     }
 
     @Override
     public boolean isEmpty() {
-        return lock.tryLock(() -> cache.asMap().isEmpty());
+        return cache.asMap().isEmpty();
     }
 
     @Override
@@ -80,36 +74,13 @@ public class GroovyScriptResourceCacheManager implements ScriptResourceCacheMana
 
         val cacheKey = computeKey(keys);
         LOGGER.trace("Constructed cache key [{}] for keys [{}] mapped as groovy script", cacheKey, keys);
-
-        val scriptFactory = ExecutableCompiledScriptFactory.getExecutableCompiledScriptFactory();
-        
-        var script = (ExecutableCompiledScript) null;
-        if (containsKey(cacheKey)) {
-            script = get(cacheKey);
-            LOGGER.trace("Located cached groovy script [{}] for key [{}]", script, cacheKey);
-        } else {
-            try {
-                if (ScriptingUtils.isExternalGroovyScript(scriptResource)) {
-                    val scriptPath = SpringExpressionLanguageValueResolver.getInstance().resolve(scriptResource);
-                    val resource = ResourceUtils.getResourceFrom(scriptPath);
-                    script = scriptFactory.fromResource(resource);
-                } else {
-                    var resourceToUse = scriptResource;
-                    if (ScriptingUtils.isInlineGroovyScript(resourceToUse)) {
-                        val matcher = ScriptingUtils.getMatcherForInlineGroovyScript(resourceToUse);
-                        if (matcher.find()) {
-                            resourceToUse = matcher.group(1);
-                        }
-                    }
-                    script = scriptFactory.fromScript(resourceToUse);
-                }
-                LOGGER.trace("Groovy script [{}] for key [{}] is not cached", scriptResource, cacheKey);
-                put(cacheKey, script);
-                LOGGER.trace("Cached groovy script [{}] for key [{}]", script, cacheKey);
-            } catch (final Exception e) {
-                LoggingUtils.error(LOGGER, e);
-            }
-        }
+        val script = cache.get(cacheKey, key -> {
+            LOGGER.trace("Groovy script [{}] for key [{}] is not cached", scriptResource, key);
+            val compiledScript = compileScriptableResource(scriptResource);
+            LOGGER.trace("Cached groovy script [{}] for key [{}]", compiledScript, key);
+            return compiledScript;
+        });
+        LOGGER.trace("Located groovy script [{}] for key [{}]", script, cacheKey);
         return script;
     }
 
@@ -118,4 +89,26 @@ public class GroovyScriptResourceCacheManager implements ScriptResourceCacheMana
         val rawKey = String.join(":", keys);
         return DigestUtils.sha256(rawKey);
     }
+
+    private static ExecutableCompiledScript compileScriptableResource(final String scriptResource) {
+        try {
+            val scriptFactory = ExecutableCompiledScriptFactory.getExecutableCompiledScriptFactory();
+            if (ScriptingUtils.isExternalGroovyScript(scriptResource)) {
+                val scriptPath = SpringExpressionLanguageValueResolver.getInstance().resolve(scriptResource);
+                val resource = ResourceUtils.getResourceFrom(scriptPath);
+                return scriptFactory.fromResource(resource);
+            }
+            var resourceToUse = scriptResource;
+            if (ScriptingUtils.isInlineGroovyScript(resourceToUse)) {
+                val matcher = ScriptingUtils.getMatcherForInlineGroovyScript(resourceToUse);
+                if (matcher.find()) {
+                    resourceToUse = matcher.group(1);
+                }
+            }
+            return scriptFactory.fromScript(resourceToUse);
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+        }
+        return null;
+    }
 }
@@ -1,15 +1,19 @@
 package org.apereo.cas.util.scripting;
 
+import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.concurrent.CasReentrantLock;
+import org.apereo.cas.util.function.FunctionUtils;
 import groovy.lang.Binding;
 import groovy.lang.GroovyRuntimeException;
 import groovy.lang.Script;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.codehaus.groovy.runtime.InvokerHelper;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import java.nio.charset.StandardCharsets;
@@ -17,7 +21,9 @@ import java.util.HashMap;
 import java.util.Map;
 
 /**
- * This is {@link GroovyShellScript}.
+ * This is {@link GroovyShellScript}. The script is compiled once, upon first execution,
+ * and every execution then runs against its own instance of the compiled script
+ * taken from a {@link GroovyScriptInstancePool}, so bindings are never shared between threads.
  *
  * @author Misagh Moayyed
  * @since 6.0.0
@@ -32,7 +38,8 @@ public class GroovyShellScript implements ExecutableCompiledScript {
     private final CasReentrantLock lock = new CasReentrantLock();
     private final String script;
 
-    private Script compiledScript;
+    @Getter(AccessLevel.NONE)
+    private volatile GroovyScriptInstancePool<Script> scriptPool;
 
     @Override
     public <T> T execute(final Object[] args, final Class<T> clazz) throws Throwable {
@@ -46,31 +53,29 @@ public class GroovyShellScript implements ExecutableCompiledScript {
 
     @Override
     public <T> T execute(final Object[] args, final Class<T> clazz, final boolean failOnError) {
-        if (lock.tryLock()) {
-            try {
-                LOGGER.trace("Beginning to execute script [{}]", this);
-                val binding = BINDING_THREAD_LOCAL.get();
-                if (compiledScript == null) {
-                    compiledScript = ScriptingUtils.parseGroovyShellScript(binding, script);
-                }
-                if (binding != null && !binding.isEmpty()) {
-                    LOGGER.trace("Setting binding [{}]", binding);
-                    compiledScript.setBinding(new Binding(binding));
-                }
-                LOGGER.trace("Current binding [{}]", compiledScript.getBinding());
-                val result = ScriptingUtils.executeGroovyShellScript(compiledScript, clazz);
+        try {
+            LOGGER.trace("Beginning to execute script [{}]", this);
+            val binding = BINDING_THREAD_LOCAL.get();
+            val pool = getScriptPool();
+            if (pool != null) {
+                val result = FunctionUtils.doUnchecked(() -> pool.execute(compiledScript -> {
+                    try {
+                        val variables = binding != null ? new HashMap<>(binding) : new HashMap<String, Object>();
+                        compiledScript.setBinding(new Binding(variables));
+                        LOGGER.trace("Current binding [{}]", compiledScript.getBinding());
+                        return ScriptingUtils.executeGroovyShellScript(compiledScript, clazz);
+                    } finally {
+                        compiledScript.setBinding(new Binding(Map.of()));
+                    }
+                }));
                 LOGGER.debug("Groovy script [{}] returns result [{}]", this, result);
                 return result;
-            } catch (final GroovyRuntimeException e) {
-                LoggingUtils.error(LOGGER, e);
-            } finally {
-                BINDING_THREAD_LOCAL.remove();
-                if (compiledScript != null) {
-                    compiledScript.setBinding(new Binding(Map.of()));
-                }
-                LOGGER.trace("Completed script execution [{}]", this);
-                lock.unlock();
             }
+        } catch (final GroovyRuntimeException e) {
+            LoggingUtils.error(LOGGER, e);
+        } finally {
+            BINDING_THREAD_LOCAL.remove();
+            LOGGER.trace("Completed script execution [{}]", this);
         }
         return null;
     }
@@ -89,4 +94,28 @@ public class GroovyShellScript implements ExecutableCompiledScript {
     public Resource getResource() {
         return new ByteArrayResource(script.getBytes(StandardCharsets.UTF_8));
     }
+
+    @Override
+    public Object getCompiledScript() {
+        return scriptPool != null ? scriptPool.getScriptClass() : null;
+    }
+
+    private GroovyScriptInstancePool<Script> getScriptPool() {
+        if (scriptPool == null && lock.tryLock()) {
+            try {
+                if (scriptPool == null) {
+                    val compiledScript = ScriptingUtils.parseGroovyShellScript(script);
+                    if (compiledScript != null) {
+                        val scriptClass = compiledScript.getClass();
+                        val name = "inline-" + DigestUtils.sha256(script).substring(0, 12);
+                        scriptPool = new GroovyScriptInstancePool<>(name, GroovyScriptInstancePool.TYPE_INLINE, scriptClass,
+                            () -> InvokerHelper.createScript(scriptClass, new Binding()));
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return scriptPool;
+    }
 }
@@ -400,13 +400,37 @@ public class ScriptingUtils {
      */
     public static GroovyObject parseGroovyScript(final Resource groovyScript,
                                                  final boolean failOnError) {
-        try (val loader = newGroovyClassLoader()) {
-            val groovyClass = loadGroovyClass(groovyScript, loader);
+        try {
+            val groovyClass = parseGroovyScriptClass(groovyScript, failOnError);
             if (groovyClass != null) {
                 LOGGER.trace("Creating groovy object instance from class [{}]", groovyScript.getURI().getPath());
                 return (GroovyObject) groovyClass.getDeclaredConstructor().newInstance();
             }
-            LOGGER.warn("Groovy script at [{}] does not exist", groovyScript.getURI().getPath());
+        } catch (final Exception e) {
+            if (failOnError) {
+                throw new RuntimeException(e);
+            }
+            LoggingUtils.error(LOGGER, e);
+        }
+        return null;
+    }
+
+    /**
+     * Parse and compile the groovy script into a class,
+     * from which groovy object instances can be created.
+     *
+     * @param groovyScript the groovy script
+     * @param failOnError  the fail on error
+     * @return the groovy class
+     */
+    public static Class<?> parseGroovyScriptClass(final Resource groovyScript,
+                                                  final boolean failOnError) {
+        try (val loader = newGroovyClassLoader()) {
+            val groovyClass = loadGroovyClass(groovyScript, loader);
+            if (groovyClass == null) {
+                LOGGER.warn("Groovy script at [{}] does not exist", groovyScript.getURI().getPath());
+            }
+            return groovyClass;
         } catch (final Exception e) {
             if (failOnError) {
                 throw new RuntimeException(e);
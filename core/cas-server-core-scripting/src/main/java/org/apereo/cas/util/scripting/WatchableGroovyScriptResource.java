@@ -1,19 +1,26 @@
 package org.apereo.cas.util.scripting;
 
+import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.ResourceUtils;
-import org.apereo.cas.util.concurrent.CasReentrantLock;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.io.FileWatcherService;
 import groovy.lang.GroovyObject;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.Accessors;
 import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.jooq.lambda.Unchecked;
+import org.jooq.lambda.fi.util.function.CheckedFunction;
 import org.springframework.core.io.Resource;
 
 /**
- * This is {@link WatchableGroovyScriptResource}.
+ * This is {@link WatchableGroovyScriptResource}. The script resource is compiled once
+ * and every execution runs against its own instance of the compiled class
+ * taken from a {@link GroovyScriptInstancePool}. When the resource is watched for changes,
+ * it is recompiled by the watcher and the pool is swapped, outside of the execution path.
  *
  * @author Misagh Moayyed
  * @since 6.0.0
@@ -23,13 +30,12 @@ import org.springframework.core.io.Resource;
 @ToString(of = "resource")
 @Accessors(chain = true)
 public class WatchableGroovyScriptResource implements ExecutableCompiledScript {
-    private final CasReentrantLock lock = new CasReentrantLock();
-
     private final Resource resource;
 
     private FileWatcherService watcherService;
 
-    private GroovyObject compiledScript;
+    @Getter(AccessLevel.NONE)
+    private volatile GroovyScriptInstancePool<GroovyObject> scriptPool;
 
     @Setter
     private boolean failOnError = true;
@@ -72,16 +78,7 @@ public class WatchableGroovyScriptResource implements ExecutableCompiledScript {
 
     @Override
     public <T> T execute(final Object[] args, final Class<T> clazz, final boolean failOnError) {
-        return lock.tryLock(() -> {
-            try {
-                LOGGER.trace("Beginning to execute script [{}]", this);
-                return compiledScript != null
-                    ? ScriptingUtils.executeGroovyScript(this.compiledScript, args, clazz, failOnError)
-                    : null;
-            } finally {
-                LOGGER.trace("Completed script execution [{}]", this);
-            }
-        });
+        return executeScript(compiledScript -> ScriptingUtils.executeGroovyScript(compiledScript, args, clazz, failOnError));
     }
 
     /**
@@ -96,18 +93,15 @@ public class WatchableGroovyScriptResource implements ExecutableCompiledScript {
      */
     public <T> T execute(final String methodName, final Class<T> clazz, final boolean failOnError,
                          final Object... args) {
-        return lock.tryLock(() -> {
-            try {
-                LOGGER.trace("Beginning to execute script [{}]", this);
-                return compiledScript != null
-                    ? ScriptingUtils.executeGroovyScript(compiledScript, methodName, args, clazz, failOnError)
-                    : null;
-            } finally {
-                LOGGER.trace("Completed script execution [{}]", this);
-            }
-        });
+        return executeScript(compiledScript -> ScriptingUtils.executeGroovyScript(compiledScript, methodName, args, clazz, failOnError));
+    }
+
+    @Override
+    public Object getCompiledScript() {
+        val pool = scriptPool;
+        return pool != null ? pool.getScriptClass() : null;
     }
-    
+
     @Override
     public void close() {
         if (watcherService != null) {
@@ -116,7 +110,27 @@ public class WatchableGroovyScriptResource implements ExecutableCompiledScript {
         }
     }
 
+    private <T> T executeScript(final CheckedFunction<GroovyObject, T> function) {
+        val pool = scriptPool;
+        if (pool == null) {
+            return null;
+        }
+        try {
+            LOGGER.trace("Beginning to execute script [{}]", this);
+            return pool.execute(function);
+        } catch (final Throwable e) {
+            LoggingUtils.error(LOGGER, e);
+            throw new RuntimeException(e);
+        } finally {
+            LOGGER.trace("Completed script execution [{}]", this);
+        }
+    }
+
     private void compileScriptResource(final Resource script) {
-        this.compiledScript = ScriptingUtils.parseGroovyScript(script, failOnError);
+        val scriptClass = ScriptingUtils.parseGroovyScriptClass(script, failOnError);
+        if (scriptClass != null) {
+            this.scriptPool = new GroovyScriptInstancePool<>(script.getFilename(), GroovyScriptInstancePool.TYPE_FILE, scriptClass,
+                Unchecked.supplier(() -> (GroovyObject) scriptClass.getDeclaredConstructor().newInstance()));
+        }
     }
 }
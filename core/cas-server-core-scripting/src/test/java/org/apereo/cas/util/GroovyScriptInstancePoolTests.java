@@ -0,0 +1,73 @@
+package org.apereo.cas.util;
+
+import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.scripting.GroovyScriptInstancePool;
+import org.apereo.cas.util.scripting.ScriptingUtils;
+import groovy.lang.Binding;
+import groovy.lang.Script;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.codehaus.groovy.runtime.InvokerHelper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link GroovyScriptInstancePoolTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("Groovy")
+class GroovyScriptInstancePoolTests {
+
+    @Test
+    void verifyInstancesAreNotShared() throws Throwable {
+        val scriptClass = ScriptingUtils.parseGroovyShellScript("return name").getClass();
+        val created = new AtomicInteger();
+        val name = UUID.randomUUID().toString();
+        val meterRegistry = new SimpleMeterRegistry();
+        val pool = new GroovyScriptInstancePool<Script>(name, GroovyScriptInstancePool.TYPE_INLINE, scriptClass, () -> {
+            created.incrementAndGet();
+            return InvokerHelper.createScript(scriptClass, new Binding());
+        }, 2, meterRegistry);
+
+        val inUse = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<Script, Boolean>()));
+        val latch = new CountDownLatch(1);
+        try (val executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            val futures = IntStream.range(0, 8)
+                .mapToObj(i -> executor.submit(() -> {
+                    latch.await();
+                    return FunctionUtils.doUnchecked(() -> pool.execute(script -> {
+                        assertTrue(inUse.add(script));
+                        try {
+                            script.setBinding(new Binding(CollectionUtils.wrap("name", "user" + i)));
+                            Thread.sleep(50);
+                            return script.run();
+                        } finally {
+                            inUse.remove(script);
+                        }
+                    }));
+                }))
+                .toList();
+            latch.countDown();
+            for (var i = 0; i < futures.size(); i++) {
+                assertEquals("user" + i, futures.get(i).get());
+            }
+        }
+        assertTrue(created.get() > 1);
+        assertEquals(2, pool.getIdleCount());
+        assertEquals(8, meterRegistry.get("cas.groovy.script.execution").tag("type", GroovyScriptInstancePool.TYPE_INLINE).timer().count());
+        assertNull(meterRegistry.find("cas.groovy.script.execution").tagKeys("script").timer());
+
+        assertEquals(scriptClass, pool.execute(Object::getClass));
+        assertEquals(2, pool.getIdleCount());
+    }
+}
@@ -1,12 +1,17 @@
 package org.apereo.cas.services;
 
 import org.apereo.cas.util.RegexUtils;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 import lombok.experimental.Accessors;
+import lombok.val;
+import org.apache.commons.lang3.tuple.Pair;
 import java.io.Serial;
+import java.util.Objects;
+import java.util.regex.Pattern;
 
 /**
  * This is {@link FullRegexRegisteredServiceMatchingStrategy}.
@@ -23,9 +28,22 @@ public class FullRegexRegisteredServiceMatchingStrategy implements RegisteredSer
     @Serial
     private static final long serialVersionUID = -8345895859210185565L;
     
+    @JsonIgnore
+    @ToString.Exclude
+    private transient Pair<String, Pattern> compiledPattern;
+
     @Override
     public boolean matches(final RegisteredService registeredService, final String serviceId) {
-        return RegexUtils.createPattern(registeredService.getServiceId())
-            .matcher(serviceId).matches();
+        return getPattern(registeredService).matcher(serviceId).matches();
+    }
+
+    private Pattern getPattern(final RegisteredService registeredService) {
+        val serviceId = registeredService.getServiceId();
+        var current = this.compiledPattern;
+        if (current == null || !Objects.equals(current.getKey(), serviceId)) {
+            current = Pair.of(serviceId, RegexUtils.createPattern(serviceId));
+            this.compiledPattern = current;
+        }
+        return current.getValue();
     }
 }
@@ -1,12 +1,16 @@
 package org.apereo.cas.services;
 
 import org.apereo.cas.util.RegexUtils;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 import lombok.val;
+import org.apache.commons.lang3.tuple.Pair;
 import java.io.Serial;
+import java.util.Objects;
+import java.util.regex.Pattern;
 
 /**
  * This is {@link PartialRegexRegisteredServiceMatchingStrategy}.
@@ -22,10 +26,22 @@ public class PartialRegexRegisteredServiceMatchingStrategy implements Registered
     @Serial
     private static final long serialVersionUID = -8345895859210185565L;
 
+    @JsonIgnore
+    @ToString.Exclude
+    private transient Pair<String, Pattern> compiledPattern;
+
     @Override
     public boolean matches(final RegisteredService registeredService, final String serviceId) {
-        val pattern = RegexUtils.createPattern(registeredService.getServiceId());
-        return pattern.matcher(serviceId).find();
+        return getPattern(registeredService).matcher(serviceId).find();
     }
 
+    private Pattern getPattern(final RegisteredService registeredService) {
+        val serviceId = registeredService.getServiceId();
+        var current = this.compiledPattern;
+        if (current == null || !Objects.equals(current.getKey(), serviceId)) {
+            current = Pair.of(serviceId, RegexUtils.createPattern(serviceId));
+            this.compiledPattern = current;
+        }
+        return current.getValue();
+    }
 }
@@ -64,6 +64,20 @@ public class DefaultChainingServiceRegistry extends AbstractServiceRegistry impl
             .collect(Collectors.toList());
     }
 
+    @Override
+    public Optional<ServiceRegistryChangeSet> getChangesSince(final long watermark) {
+        var result = Optional.<ServiceRegistryChangeSet>empty();
+        for (val serviceRegistry : serviceRegistries) {
+            val changes = serviceRegistry.getChangesSince(watermark);
+            if (changes.isEmpty()) {
+                LOGGER.trace("Service registry [{}] does not track changes to service definitions", serviceRegistry.getName());
+                return Optional.empty();
+            }
+            result = result.map(changeSet -> changeSet.merge(changes.get())).or(() -> changes);
+        }
+        return result;
+    }
+
     @Override
     public RegisteredService findServiceById(final long id) {
         return serviceRegistries.stream()
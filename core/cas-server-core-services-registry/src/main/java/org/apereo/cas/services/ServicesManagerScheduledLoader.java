@@ -5,6 +5,8 @@ import org.springframework.scheduling.annotation.Scheduled;
 
 /**
  * This is {@link ServicesManagerScheduledLoader}.
+ * The loader asks the services manager to refresh its services, which
+ * either applies the changes tracked by the service registry or reloads all services.
  *
  * @author Misagh Moayyed
  * @since 6.0.0
@@ -31,6 +33,6 @@ public class ServicesManagerScheduledLoader implements Runnable {
     )
     @Override
     public void run() {
-        servicesManager.load();
+        servicesManager.refresh();
     }
 }
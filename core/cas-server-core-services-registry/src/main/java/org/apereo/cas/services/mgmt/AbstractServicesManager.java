@@ -26,12 +26,16 @@ import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.apereo.inspektr.common.web.ClientInfoHolder;
 import org.springframework.context.ApplicationEvent;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -48,12 +52,24 @@ import java.util.stream.Stream;
 @Slf4j
 @Getter
 public abstract class AbstractServicesManager implements IndexableServicesManager {
+    /**
+     * Changes are requested from the registry with some overlap to account for clock skew
+     * between CAS nodes and for transactions that commit after the change has been stamped.
+     */
+    private static final Duration CHANGES_WATERMARK_OVERLAP = Duration.ofSeconds(10);
+
     protected final ServicesManagerConfigurationContext configurationContext;
 
     private final CasReentrantLock lock = new CasReentrantLock();
 
     private final IndexedCollection<RegisteredService> indexedRegisteredServices;
 
+    private final RegisteredServiceMatchingIndex matchingIndex = new RegisteredServiceMatchingIndex();
+
+    private final Set<Long> ignoredServiceIds = ConcurrentHashMap.newKeySet();
+
+    private volatile long changesWatermark = -1;
+
     protected AbstractServicesManager(final ServicesManagerConfigurationContext configurationContext) {
         this.configurationContext = configurationContext;
         this.indexedRegisteredServices = new ConcurrentIndexedCollection<>();
@@ -162,6 +178,9 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
                 publishEvent(new CasRegisteredServicePreDeleteEvent(this, service, clientInfo));
                 configurationContext.getServiceRegistry().delete(service);
                 configurationContext.getServicesCache().invalidate(service.getId());
+                if (isServiceMatchingIndexed()) {
+                    matchingIndex.remove(service.getId());
+                }
                 deleteInternal(service);
                 publishEvent(new CasRegisteredServiceDeletedEvent(this, service, clientInfo));
             }
@@ -337,24 +356,24 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
     @Override
     public Collection<RegisteredService> load() {
         return lock.tryLock(() -> {
+            val loadStartedAt = System.currentTimeMillis();
             LOGGER.trace("Loading services from [{}]", configurationContext.getServiceRegistry().getName());
-            val servicesMap = configurationContext.getServiceRegistry()
-                .load()
-                .stream()
-                .filter(this::supports)
-                .filter(this::validateAndFilterServiceByEnvironment)
-                .peek(this::loadInternal)
-                .filter(Objects::nonNull)
-                .map(this::applyTemplate)
-                .filter(service -> Objects.nonNull(service)
-                    && StringUtils.isNotBlank(service.getName())
-                    && StringUtils.isNotBlank(service.getServiceId()))
+            val loadedServices = configurationContext.getServiceRegistry().load();
+            val servicesMap = prepareLoadedServices(loadedServices)
                 .collect(Collectors.toMap(service -> {
                     LOGGER.trace("Adding registered service [{}] with name [{}] and internal identifier [{}]",
                         service.getServiceId(), service.getName(), service.getId());
                     return service.getId();
                 }, Function.identity(), (__, service) -> service));
             cacheRegisteredServices(servicesMap);
+            ignoredServiceIds.clear();
+            loadedServices
+                .stream()
+                .filter(Objects::nonNull)
+                .map(RegisteredService::getId)
+                .filter(id -> !servicesMap.containsKey(id))
+                .forEach(ignoredServiceIds::add);
+            changesWatermark = loadStartedAt;
             loadInternal();
             val clientInfo = ClientInfoHolder.getClientInfo();
             publishEvent(new CasRegisteredServicesLoadedEvent(this, getAllServices(), clientInfo));
@@ -367,6 +386,77 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
         });
     }
 
+    /**
+     * Apply the changes recorded by the service registry since the last load
+     * to the services cache and indexes, without reading all service definitions again.
+     * Services that exist in the registry and yet are missing from the cache, i.e. because
+     * cached entries have expired, are individually fetched; if too many are missing,
+     * or if the registry cannot track changes, services are fully reloaded instead.
+     */
+    @Override
+    public Collection<RegisteredService> refresh() {
+        if (!configurationContext.getCasProperties().getServiceRegistry().getCore().isIncrementalLoad() || changesWatermark < 0) {
+            return load();
+        }
+        return lock.tryLock(() -> {
+            val serviceRegistry = configurationContext.getServiceRegistry();
+            val since = Math.max(0, changesWatermark - CHANGES_WATERMARK_OVERLAP.toMillis());
+            val changes = serviceRegistry.getChangesSince(since);
+            if (changes.isEmpty()) {
+                LOGGER.trace("Service registry [{}] does not track changes; services will be reloaded", serviceRegistry.getName());
+                return load();
+            }
+            val changeSet = changes.get();
+            val servicesCache = configurationContext.getServicesCache();
+            val modifiedIds = changeSet.getModifiedServices()
+                .stream()
+                .map(RegisteredService::getId)
+                .collect(Collectors.toSet());
+            val missingIds = changeSet.getServiceIds()
+                .stream()
+                .filter(id -> !modifiedIds.contains(id) && !ignoredServiceIds.contains(id) && servicesCache.getIfPresent(id) == null)
+                .toList();
+            if (missingIds.size() > changeSet.getServiceIds().size() / 2) {
+                LOGGER.debug("[{}] service(s) are missing from the cache; services will be reloaded", missingIds.size());
+                return load();
+            }
+            val removedIds = new HashSet<>(servicesCache.asMap().keySet());
+            removedIds.removeAll(changeSet.getServiceIds());
+            removedIds.forEach(this::evictRegisteredService);
+            ignoredServiceIds.retainAll(changeSet.getServiceIds());
+
+            val candidates = new ArrayList<>(changeSet.getModifiedServices());
+            missingIds.stream()
+                .map(serviceRegistry::findServiceById)
+                .filter(Objects::nonNull)
+                .forEach(candidates::add);
+            val candidateIds = candidates.stream().map(RegisteredService::getId).collect(Collectors.toCollection(HashSet::new));
+            val acceptedServices = prepareLoadedServices(candidates).toList();
+            acceptedServices.forEach(service -> {
+                LOGGER.trace("Refreshing registered service [{}] with name [{}] and internal identifier [{}]",
+                    service.getServiceId(), service.getName(), service.getId());
+                cacheRegisteredService(service);
+                ignoredServiceIds.remove(service.getId());
+                candidateIds.remove(service.getId());
+            });
+            candidateIds.forEach(id -> {
+                evictRegisteredService(id);
+                ignoredServiceIds.add(id);
+            });
+            changesWatermark = Math.max(changesWatermark, changeSet.getWatermark());
+            if (!acceptedServices.isEmpty() || !removedIds.isEmpty() || !candidateIds.isEmpty()) {
+                loadInternal();
+                val clientInfo = ClientInfoHolder.getClientInfo();
+                publishEvent(new CasRegisteredServicesLoadedEvent(this, getAllServices(), clientInfo));
+                evaluateExpiredServiceDefinitions();
+            }
+            val results = servicesCache.asMap();
+            LOGGER.debug("Refreshed [{}] and removed [{}] service(s) from [{}]; [{}] service(s) are loaded",
+                acceptedServices.size(), removedIds.size() + candidateIds.size(), serviceRegistry.getName(), results.size());
+            return results.values();
+        });
+    }
+
     private Map<Long, RegisteredService> cacheRegisteredServices(final Map<Long, RegisteredService> servicesMap) {
         val servicesCache = configurationContext.getServicesCache();
         servicesCache.invalidateAll();
@@ -375,6 +465,9 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
             indexedRegisteredServices.clear();
             indexedRegisteredServices.addAll(servicesMap.values());
         }
+        if (isServiceMatchingIndexed()) {
+            matchingIndex.reset(servicesMap.values());
+        }
         return servicesCache.asMap();
     }
 
@@ -408,6 +501,10 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
 
     protected abstract Collection<RegisteredService> getCandidateServicesToMatch(String serviceId);
 
+    protected boolean isServiceMatchingIndexed() {
+        return configurationContext.getCasProperties().getServiceRegistry().getCore().isIndexServiceMatching();
+    }
+
     protected void deleteInternal(final RegisteredService service) {
     }
 
@@ -439,6 +536,32 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
             indexedRegisteredServices.removeIf(registeredService -> registeredService.getId() == service.getId());
             indexedRegisteredServices.add(service);
         }
+        if (isServiceMatchingIndexed()) {
+            matchingIndex.put(service);
+        }
+    }
+
+    private void evictRegisteredService(final long id) {
+        configurationContext.getServicesCache().invalidate(id);
+        if (configurationContext.getCasProperties().getServiceRegistry().getCore().isIndexServices()) {
+            indexedRegisteredServices.removeIf(registeredService -> registeredService.getId() == id);
+        }
+        if (isServiceMatchingIndexed()) {
+            matchingIndex.remove(id);
+        }
+    }
+
+    private Stream<RegisteredService> prepareLoadedServices(final Collection<RegisteredService> services) {
+        return services
+            .stream()
+            .filter(this::supports)
+            .filter(this::validateAndFilterServiceByEnvironment)
+            .peek(this::loadInternal)
+            .filter(Objects::nonNull)
+            .map(this::applyTemplate)
+            .filter(service -> Objects.nonNull(service)
+                && StringUtils.isNotBlank(service.getName())
+                && StringUtils.isNotBlank(service.getServiceId()));
     }
 
     private void evaluateExpiredServiceDefinitions() {
@@ -176,6 +176,13 @@ public class DefaultChainingServicesManager implements ChainingServicesManager {
             .collect(Collectors.toList());
     }
 
+    @Override
+    public Collection<RegisteredService> refresh() {
+        return serviceManagers.stream()
+            .flatMap(manager -> manager.refresh().stream())
+            .collect(Collectors.toList());
+    }
+
     @Override
     public long count() {
         return serviceManagers.stream()
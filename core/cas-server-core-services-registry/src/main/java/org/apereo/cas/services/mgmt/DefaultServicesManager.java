@@ -32,6 +32,9 @@ public class DefaultServicesManager extends AbstractServicesManager {
 
     @Override
     protected Collection<RegisteredService> getCandidateServicesToMatch(final String serviceId) {
+        if (isServiceMatchingIndexed() && getConfigurationContext().getServicesCache().estimatedSize() > 0) {
+            return getMatchingIndex().findCandidates(serviceId);
+        }
         return getCacheableServicesStream()
             .get()
             .sorted(Comparator.naturalOrder())
@@ -0,0 +1,266 @@
+package org.apereo.cas.services.mgmt;
+
+import org.apereo.cas.services.CasRegisteredService;
+import org.apereo.cas.services.FullRegexRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.LiteralRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.PartialRegexRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.util.concurrent.CasReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * This is {@link RegisteredServiceMatchingIndex}. It narrows down the list of registered services
+ * that need to be evaluated against an incoming service request, while preserving the evaluation
+ * order of the matched candidates.
+ * <p>
+ * Registered services whose matching strategy guarantees that any match must begin with a known literal
+ * prefix (literal service ids, anchored regular expressions, etc.) are placed into a character trie keyed by that
+ * prefix. All other service definitions, or those that are not handled by the default CAS locator,
+ * are kept in a sorted list and are always considered as candidates. Lookups walk the trie using the requested service id,
+ * and then merge the hits with the sorted list so that the final result respects the natural order of registered services.
+ * <p>
+ * The index is immutable once built, and is published to readers through a single volatile reference.
+ * Additions, removals and resets build a new index off to the side and swap it in, so lookups never
+ * observe a cleared or partially built index and do not need to acquire a lock.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+public class RegisteredServiceMatchingIndex {
+    private static final String REGEX_META_CHARACTERS = ".[](){}*+?^$|\\";
+
+    private static final String REGEX_QUANTIFIERS = "?*+{";
+
+    private final CasReentrantLock lock = new CasReentrantLock();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * Add or replace the registered service in the index.
+     *
+     * @param registeredService the registered service
+     */
+    public void put(final RegisteredService registeredService) {
+        putAll(List.of(registeredService));
+    }
+
+    /**
+     * Add or replace all given registered services in the index.
+     *
+     * @param services the services
+     */
+    public void putAll(final Collection<? extends RegisteredService> services) {
+        update(current -> {
+            val registeredServices = new LinkedHashMap<>(current.services());
+            services.forEach(service -> registeredServices.put(service.getId(), service));
+            return registeredServices;
+        });
+    }
+
+    /**
+     * Remove the registered service from the index.
+     *
+     * @param id the registered service id
+     */
+    public void remove(final long id) {
+        update(current -> {
+            val registeredServices = new LinkedHashMap<>(current.services());
+            registeredServices.remove(id);
+            return registeredServices;
+        });
+    }
+
+    /**
+     * Replace the contents of the index with the given services.
+     *
+     * @param services the services
+     */
+    public void reset(final Collection<? extends RegisteredService> services) {
+        update(current -> {
+            val registeredServices = new LinkedHashMap<Long, RegisteredService>();
+            services.forEach(service -> registeredServices.put(service.getId(), service));
+            return registeredServices;
+        });
+    }
+
+    /**
+     * Clear the index.
+     */
+    public void clear() {
+        update(current -> Map.of());
+    }
+
+    /**
+     * Size of the index.
+     *
+     * @return the number of indexed services
+     */
+    public long size() {
+        return snapshot.services().size();
+    }
+
+    /**
+     * Find candidate registered services that may match the given service id,
+     * sorted by their natural evaluation order.
+     *
+     * @param serviceId the service id
+     * @return the candidates
+     */
+    public List<RegisteredService> findCandidates(final String serviceId) {
+        val current = snapshot;
+        val hits = new ArrayList<RegisteredService>();
+        if (StringUtils.isNotBlank(serviceId)) {
+            var node = current.root().children.get(foldCharacter(serviceId.charAt(0)));
+            var index = 1;
+            while (node != null) {
+                hits.addAll(node.services);
+                node = index < serviceId.length() ? node.children.get(foldCharacter(serviceId.charAt(index++))) : null;
+            }
+        }
+        val always = current.unindexedServices();
+        if (hits.isEmpty()) {
+            return always;
+        }
+        hits.sort(Comparator.naturalOrder());
+        return merge(hits, always);
+    }
+
+    private void update(final Function<Snapshot, Map<Long, RegisteredService>> function) {
+        lock.lock();
+        try {
+            snapshot = build(function.apply(snapshot));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static Snapshot build(final Map<Long, RegisteredService> services) {
+        val root = new TrieNode();
+        val unindexedServices = new ArrayList<RegisteredService>();
+        services.values().forEach(registeredService -> {
+            val prefix = getLiteralPrefix(registeredService);
+            if (prefix.isPresent()) {
+                var node = root;
+                for (val character : prefix.get().toCharArray()) {
+                    node = node.children.computeIfAbsent(character, c -> new TrieNode());
+                }
+                node.services.add(registeredService);
+                LOGGER.trace("Indexed registered service [{}] under prefix [{}]", registeredService.getName(), prefix.get());
+            } else {
+                unindexedServices.add(registeredService);
+                LOGGER.trace("Registered service [{}] cannot be indexed by prefix and will always be evaluated", registeredService.getName());
+            }
+        });
+        unindexedServices.sort(Comparator.naturalOrder());
+        return new Snapshot(root, Collections.unmodifiableMap(services), List.copyOf(unindexedServices));
+    }
+
+    private static List<RegisteredService> merge(final List<RegisteredService> first, final List<RegisteredService> second) {
+        val results = new ArrayList<RegisteredService>(first.size() + second.size());
+        var i = 0;
+        var j = 0;
+        while (i < first.size() && j < second.size()) {
+            if (first.get(i).compareTo(second.get(j)) <= 0) {
+                results.add(first.get(i++));
+            } else {
+                results.add(second.get(j++));
+            }
+        }
+        results.addAll(first.subList(i, first.size()));
+        results.addAll(second.subList(j, second.size()));
+        return results;
+    }
+
+    /**
+     * Calculate the literal prefix that any matching service id must begin with.
+     * The prefix is case-folded and limited to ASCII characters, so that it can be
+     * safely compared against case-insensitive matches.
+     *
+     * @param registeredService the registered service
+     * @return the prefix, or empty if the service cannot be indexed.
+     */
+    static Optional<String> getLiteralPrefix(final RegisteredService registeredService) {
+        if (!(registeredService instanceof CasRegisteredService)
+            || !CasRegisteredService.FRIENDLY_NAME.equalsIgnoreCase(registeredService.getFriendlyName())
+            || StringUtils.isBlank(registeredService.getServiceId())) {
+            return Optional.empty();
+        }
+        val serviceId = registeredService.getServiceId();
+        val strategy = registeredService.getMatchingStrategy();
+        if (strategy instanceof LiteralRegisteredServiceMatchingStrategy) {
+            return getCaseFoldedPrefix(serviceId.trim());
+        }
+        if (strategy == null || strategy.getClass().equals(FullRegexRegisteredServiceMatchingStrategy.class)) {
+            return getRegexPrefix(StringUtils.removeStart(serviceId, "^"));
+        }
+        if (strategy.getClass().equals(PartialRegexRegisteredServiceMatchingStrategy.class) && serviceId.startsWith("^")) {
+            return getRegexPrefix(serviceId.substring(1));
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<String> getCaseFoldedPrefix(final String serviceId) {
+        val prefix = new StringBuilder();
+        for (val character : serviceId.toCharArray()) {
+            if (character > Byte.MAX_VALUE) {
+                break;
+            }
+            prefix.append(foldCharacter(character));
+        }
+        return prefix.isEmpty() ? Optional.empty() : Optional.of(prefix.toString());
+    }
+
+    private static Optional<String> getRegexPrefix(final String pattern) {
+        if (pattern.indexOf('|') >= 0) {
+            return Optional.empty();
+        }
+        val prefix = new StringBuilder();
+        var index = 0;
+        while (index < pattern.length()) {
+            var character = pattern.charAt(index);
+            var next = index + 1;
+            if (character == '\\') {
+                if (next >= pattern.length() || Character.isLetterOrDigit(pattern.charAt(next))) {
+                    break;
+                }
+                character = pattern.charAt(next++);
+            } else if (REGEX_META_CHARACTERS.indexOf(character) >= 0) {
+                break;
+            }
+            if (character > Byte.MAX_VALUE
+                || next < pattern.length() && REGEX_QUANTIFIERS.indexOf(pattern.charAt(next)) >= 0) {
+                break;
+            }
+            prefix.append(foldCharacter(character));
+            index = next;
+        }
+        return prefix.isEmpty() ? Optional.empty() : Optional.of(prefix.toString());
+    }
+
+    private static char foldCharacter(final char character) {
+        return Character.toLowerCase(Character.toUpperCase(character));
+    }
+
+    private static final class TrieNode {
+        private final Map<Character, TrieNode> children = new HashMap<>();
+
+        private final List<RegisteredService> services = new ArrayList<>();
+    }
+
+    private record Snapshot(TrieNode root, Map<Long, RegisteredService> services, List<RegisteredService> unindexedServices) {
+        private static final Snapshot EMPTY = new Snapshot(new TrieNode(), Map.of(), List.of());
+    }
+}
@@ -233,6 +233,33 @@ public abstract class AbstractServiceRegistryTests {
         });
     }
 
+    @Test
+    void verifyChangesSinceWatermark() {
+        if (serviceRegistry.getChangesSince(0).isEmpty()) {
+            return;
+        }
+        getRegisteredServiceTypes().forEach(type -> {
+            val rs = serviceRegistry.save(buildRegisteredServiceInstance(500, type)
+                .setId(RegisteredServiceDefinition.INITIAL_IDENTIFIER_VALUE));
+            val rs2 = serviceRegistry.save(buildRegisteredServiceInstance(501, type)
+                .setId(RegisteredServiceDefinition.INITIAL_IDENTIFIER_VALUE));
+            val changes = serviceRegistry.getChangesSince(0).orElseThrow();
+            assertTrue(changes.getServiceIds().containsAll(Set.of(rs.getId(), rs2.getId())));
+            assertTrue(changes.getModifiedServices().stream().anyMatch(service -> service.getId() == rs.getId()));
+            assertTrue(changes.getWatermark() > 0);
+
+            val unchanged = serviceRegistry.getChangesSince(changes.getWatermark()).orElseThrow();
+            assertTrue(unchanged.getModifiedServices().isEmpty());
+            assertEquals(changes.getWatermark(), unchanged.getWatermark());
+
+            serviceRegistry.delete(rs2);
+            val deleted = serviceRegistry.getChangesSince(changes.getWatermark()).orElseThrow();
+            assertTrue(deleted.getServiceIds().contains(rs.getId()));
+            assertFalse(deleted.getServiceIds().contains(rs2.getId()));
+            serviceRegistry.delete(rs);
+        });
+    }
+
     @RetryingTest(2)
     void verifyExpiredServiceDeleted() {
         getRegisteredServiceTypes().forEach(type -> {
@@ -1,9 +1,11 @@
 package org.apereo.cas.services;
 
 import org.apereo.cas.config.BaseAutoConfigurationTests;
+import org.apereo.cas.services.mgmt.DefaultServicesManager;
 import org.apereo.cas.services.query.RegisteredServiceQuery;
 import org.apereo.cas.test.CasTestExtension;
 import org.apereo.cas.util.RandomUtils;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.val;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Nested;
@@ -17,6 +19,8 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.core.Ordered;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Stream;
 import static org.junit.jupiter.api.Assertions.*;
@@ -37,6 +41,68 @@ class DefaultServicesManagerTests {
     class NoIndexingTests extends AbstractServicesManagerTests {
     }
 
+    @Nested
+    @SpringBootTest(classes = BaseAutoConfigurationTests.SharedTestConfiguration.class,
+        properties = "cas.service-registry.core.index-service-matching=true")
+    class MatchingIndexTests extends AbstractServicesManagerTests {
+    }
+
+    @Nested
+    @SpringBootTest(classes = BaseAutoConfigurationTests.SharedTestConfiguration.class,
+        properties = "cas.service-registry.core.incremental-load=true")
+    class IncrementalLoadTests extends AbstractServicesManagerTests {
+        @Autowired
+        @Qualifier(ServicesManagerConfigurationContext.BEAN_NAME)
+        private ServicesManagerConfigurationContext servicesManagerConfigurationContext;
+
+        private static CasRegisteredService getRegisteredService(final long id, final String serviceId) {
+            val registeredService = new CasRegisteredService();
+            registeredService.setId(id);
+            registeredService.setName(UUID.randomUUID().toString());
+            registeredService.setServiceId(serviceId);
+            return registeredService;
+        }
+
+        @Test
+        void verifyRefreshAppliesChanges() {
+            val registry = mock(ServiceRegistry.class);
+            when(registry.getName()).thenReturn("MockServiceRegistry");
+            when(registry.load()).thenReturn(List.of(
+                getRegisteredService(1, "https://app1.example.org"),
+                getRegisteredService(2, "https://app2.example.org")));
+            val context = ServicesManagerConfigurationContext.builder()
+                .serviceRegistry(registry)
+                .applicationContext(servicesManagerConfigurationContext.getApplicationContext())
+                .servicesCache(Caffeine.newBuilder().<Long, RegisteredService>build())
+                .registeredServiceLocators(servicesManagerConfigurationContext.getRegisteredServiceLocators())
+                .registeredServicesTemplatesManager(servicesManagerConfigurationContext.getRegisteredServicesTemplatesManager())
+                .casProperties(servicesManagerConfigurationContext.getCasProperties())
+                .tenantExtractor(servicesManagerConfigurationContext.getTenantExtractor())
+                .build();
+            val manager = new DefaultServicesManager(context);
+            assertEquals(2, manager.refresh().size());
+            verify(registry, times(1)).load();
+
+            when(registry.getChangesSince(anyLong())).thenReturn(Optional.of(ServiceRegistryChangeSet.builder()
+                .modifiedServices(List.of(getRegisteredService(1, "https://updated.example.org"),
+                    getRegisteredService(3, "https://app3.example.org")))
+                .serviceIds(Set.of(1L, 3L))
+                .watermark(System.currentTimeMillis())
+                .build()));
+            assertEquals(2, manager.refresh().size());
+            verify(registry, times(1)).load();
+            assertEquals("https://updated.example.org", manager.findServiceBy(1).getServiceId());
+            assertNotNull(manager.findServiceBy(3));
+            assertNull(manager.findServiceBy(2));
+            assertNotNull(manager.findServiceBy(RegisteredServiceTestUtils.getService("https://app3.example.org")));
+            assertNull(manager.findServiceBy(RegisteredServiceTestUtils.getService("https://app2.example.org")));
+
+            when(registry.getChangesSince(anyLong())).thenReturn(Optional.empty());
+            manager.refresh();
+            verify(registry, times(2)).load();
+        }
+    }
+
     @Nested
     @SpringBootTest(classes = BaseAutoConfigurationTests.SharedTestConfiguration.class)
     class DefaultTests extends AbstractServicesManagerTests {
@@ -0,0 +1,130 @@
+package org.apereo.cas.services.mgmt;
+
+import org.apereo.cas.services.CasRegisteredService;
+import org.apereo.cas.services.LiteralRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.PartialRegexRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link RegisteredServiceMatchingIndexTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("RegisteredService")
+class RegisteredServiceMatchingIndexTests {
+
+    @Test
+    void verifyLiteralPrefixes() {
+        assertEquals("https://app.example.org/",
+            RegisteredServiceMatchingIndex.getLiteralPrefix(RegisteredServiceTestUtils.getRegisteredService("^https://app\\.example\\.org/.*")).orElseThrow());
+        assertEquals("https://app",
+            RegisteredServiceMatchingIndex.getLiteralPrefix(RegisteredServiceTestUtils.getRegisteredService("https://app.example.org")).orElseThrow());
+        assertEquals("http",
+            RegisteredServiceMatchingIndex.getLiteralPrefix(RegisteredServiceTestUtils.getRegisteredService("HTTPS?://.+")).orElseThrow());
+        assertTrue(RegisteredServiceMatchingIndex.getLiteralPrefix(RegisteredServiceTestUtils.getRegisteredService("(https|imaps)://.*")).isEmpty());
+        assertTrue(RegisteredServiceMatchingIndex.getLiteralPrefix(RegisteredServiceTestUtils.getRegisteredService("https://a.org|https://b.org")).isEmpty());
+        assertTrue(RegisteredServiceMatchingIndex.getLiteralPrefix(RegisteredServiceTestUtils.getRegisteredService("\\d+")).isEmpty());
+
+        val partial = RegisteredServiceTestUtils.getRegisteredService("example.org");
+        partial.setMatchingStrategy(new PartialRegexRegisteredServiceMatchingStrategy());
+        assertTrue(RegisteredServiceMatchingIndex.getLiteralPrefix(partial).isEmpty());
+        partial.setServiceId("^https://example.org");
+        assertEquals("https://example", RegisteredServiceMatchingIndex.getLiteralPrefix(partial).orElseThrow());
+
+        val literal = RegisteredServiceTestUtils.getRegisteredService("https://Example.org/app?x=1");
+        literal.setMatchingStrategy(new LiteralRegisteredServiceMatchingStrategy(true));
+        assertEquals("https://example.org/app?x=1", RegisteredServiceMatchingIndex.getLiteralPrefix(literal).orElseThrow());
+    }
+
+    @Test
+    void verifyCandidatesPreserveOrder() {
+        val index = new RegisteredServiceMatchingIndex();
+        val services = IntStream.range(0, 100)
+            .mapToObj(i -> {
+                val service = RegisteredServiceTestUtils.getRegisteredService("https://app%d\\.example\\.org/.*".formatted(i));
+                service.setId(i);
+                service.setEvaluationOrder(100 - i);
+                return (RegisteredService) service;
+            })
+            .toList();
+        index.putAll(services);
+
+        val catchAll = RegisteredServiceTestUtils.getRegisteredService("(https|http)://.*");
+        catchAll.setId(1000);
+        catchAll.setEvaluationOrder(50);
+        index.put(catchAll);
+        assertEquals(101, index.size());
+
+        val candidates = index.findCandidates("https://app10.example.org/cas");
+        assertEquals(List.of(1000L, 10L), candidates.stream().map(RegisteredService::getId).toList());
+        assertTrue(candidates.stream().anyMatch(service -> service.matches("https://app10.example.org/cas")));
+        assertEquals(List.of(1000L), index.findCandidates("https://unknown.example.org")
+            .stream().map(RegisteredService::getId).toList());
+        assertEquals(List.of(1000L, 10L), index.findCandidates("HTTPS://APP10.EXAMPLE.ORG/cas")
+            .stream().map(RegisteredService::getId).toList());
+    }
+
+    @Test
+    void verifyUpdatesAndRemovals() {
+        val index = new RegisteredServiceMatchingIndex();
+        val service = RegisteredServiceTestUtils.getRegisteredService("https://first\\.example\\.org/.*");
+        index.put(service);
+        assertEquals(1, index.findCandidates("https://first.example.org/app").size());
+
+        service.setServiceId("https://second\\.example\\.org/.*");
+        index.put(service);
+        assertEquals(1, index.size());
+        assertTrue(index.findCandidates("https://first.example.org/app").isEmpty());
+        assertEquals(1, index.findCandidates("https://second.example.org/app").size());
+
+        index.remove(service.getId());
+        assertEquals(0, index.size());
+        assertTrue(index.findCandidates("https://second.example.org/app").isEmpty());
+
+        val other = new CasRegisteredService();
+        other.setServiceId(".+");
+        index.reset(List.of(service, other));
+        assertEquals(2, index.size());
+        index.clear();
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void verifyLookupsDuringResetNeverSeeEmptyIndex() throws Throwable {
+        val index = new RegisteredServiceMatchingIndex();
+        val services = IntStream.range(0, 500)
+            .mapToObj(i -> {
+                val service = RegisteredServiceTestUtils.getRegisteredService("https://app%d\\.example\\.org/.*".formatted(i));
+                service.setId(i);
+                return (RegisteredService) service;
+            })
+            .toList();
+        index.reset(services);
+
+        val running = new AtomicBoolean(true);
+        val reader = CompletableFuture.supplyAsync(() -> {
+            while (running.get()) {
+                if (index.findCandidates("https://app250.example.org/cas").isEmpty()) {
+                    return false;
+                }
+            }
+            return true;
+        });
+        for (var i = 0; i < 50; i++) {
+            index.reset(services);
+        }
+        running.set(false);
+        assertTrue(reader.get());
+        assertEquals(500, index.size());
+    }
+}
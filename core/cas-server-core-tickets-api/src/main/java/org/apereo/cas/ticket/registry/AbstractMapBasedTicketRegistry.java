@@ -1,5 +1,6 @@
 package org.apereo.cas.ticket.registry;
 
+import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.ticket.AuthenticationAwareTicket;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
@@ -18,9 +19,13 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.context.ApplicationContext;
 
 import java.io.Serializable;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -31,12 +36,15 @@ import java.util.stream.Collectors;
  * @since 5.2.0
  */
 @Slf4j
-public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegistry implements QueueableTicketRegistry {
+public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegistry
+    implements QueueableTicketRegistry, ExpirationIndexedTicketRegistry {
 
     protected final QueueableTicketRegistryMessagePublisher ticketPublisher;
 
     protected final PublisherIdentifier publisherIdentifier;
 
+    protected final MapBasedTicketRegistryIndex ticketIndex = new MapBasedTicketRegistryIndex();
+
     public AbstractMapBasedTicketRegistry(final CipherExecutor cipherExecutor,
                                           final TicketSerializationManager ticketSerializationManager,
                                           final TicketCatalog ticketCatalog,
@@ -120,29 +128,102 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
     public void addTicketToQueue(final Ticket ticket) throws Exception {
         val encTicket = encodeTicket(ticket);
         LOGGER.debug("Putting ticket [{}] in registry.", ticket.getId());
-        getMapInstance().put(encTicket.getId(), encTicket);
+        getMapInstance().compute(encTicket.getId(), (key, __) -> {
+            ticketIndex.put(key, ticket);
+            return encTicket;
+        });
     }
 
     @Override
     public Ticket updateTicketInQueue(final Ticket ticket) throws Exception {
         LOGGER.trace("Updating ticket [{}] in registry...", ticket.getId());
-        addTicket(ticket);
+        if (addTicket(ticket) == null) {
+            getMapInstance().computeIfPresent(digestIdentifier(ticket.getId()), (key, existing) -> {
+                ticketIndex.getExpirationIndex().schedule(key, ticket);
+                return existing;
+            });
+        }
         return ticket;
     }
 
     @Override
     public long deleteTicketFromQueue(final String ticketId) {
         val encTicketId = digestIdentifier(ticketId);
-        return !StringUtils.isBlank(encTicketId) && getMapInstance().remove(encTicketId) != null ? 1 : 0;
+        if (StringUtils.isBlank(encTicketId)) {
+            return 0;
+        }
+        val removed = new AtomicBoolean(false);
+        getMapInstance().computeIfPresent(encTicketId, (key, __) -> {
+            ticketIndex.remove(key);
+            removed.set(true);
+            return null;
+        });
+        return removed.get() ? 1 : 0;
     }
 
     @Override
     public long deleteAllFromQueue() {
         val size = getMapInstance().size();
         getMapInstance().clear();
+        ticketIndex.clear();
         return size;
     }
 
+    @Override
+    public long sessionCount() {
+        return ticketIndex.getSessionCount();
+    }
+
+    @Override
+    public long serviceTicketCount() {
+        return ticketIndex.getServiceTicketCount();
+    }
+
+    @Override
+    public long countSessionsFor(final String principalId) {
+        return ticketIndex.countSessionsFor(principalId);
+    }
+
+    @Override
+    public long countTicketsFor(final Service service) {
+        return ticketIndex.getTicketsFor(service.getId())
+            .stream()
+            .map(getMapInstance()::get)
+            .filter(Objects::nonNull)
+            .map(this::decodeTicket)
+            .filter(ticket -> ticket != null && !ticket.isExpired())
+            .count();
+    }
+
+    @Override
+    public List<? extends Ticket> getTicketsDueForExpiration(final Instant dueBy, final int limit) {
+        val expirationIndex = ticketIndex.getExpirationIndex();
+        return expirationIndex.getDueKeys(dueBy, limit)
+            .stream()
+            .map(key -> {
+                val ticket = Optional.ofNullable(getMapInstance().get(key)).map(this::decodeTicket).orElse(null);
+                if (ticket == null) {
+                    expirationIndex.unschedule(key);
+                }
+                return ticket;
+            })
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    @Override
+    public void rescheduleExpiration(final Ticket ticket) {
+        getMapInstance().computeIfPresent(digestIdentifier(ticket.getId()), (key, existing) -> {
+            ticketIndex.getExpirationIndex().reschedule(key, ticket);
+            return existing;
+        });
+    }
+
+    @Override
+    public Optional<Instant> getEarliestExpiration() {
+        return ticketIndex.getExpirationIndex().getEarliestExpiration();
+    }
+
     @Override
     public List<? extends Serializable> query(final TicketRegistryQueryCriteria criteria) {
         return getMapInstance()
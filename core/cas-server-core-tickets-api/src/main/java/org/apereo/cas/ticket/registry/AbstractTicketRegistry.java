@@ -13,13 +13,13 @@ import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.proxy.ProxyGrantingTicket;
+import org.apereo.cas.ticket.serialization.TicketBinaryCodec;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
-import org.apereo.cas.util.serialization.SerializationUtils;
 import com.google.common.io.ByteSource;
 import lombok.AllArgsConstructor;
 import lombok.NonNull;
@@ -239,14 +239,16 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     @Override
     public long countTicketsFor(final Service service) {
-        return stream()
-            .map(this::decodeTicket)
-            .filter(ServiceAwareTicket.class::isInstance)
-            .filter(ticket -> !ticket.isExpired())
-            .map(ServiceAwareTicket.class::cast)
-            .filter(ticket -> Objects.nonNull(ticket.getService()))
-            .filter(ticket -> ticket.getService().getId().equals(service.getId()))
-            .count();
+        try (val tickets = stream()) {
+            return tickets
+                .map(this::decodeTicket)
+                .filter(ServiceAwareTicket.class::isInstance)
+                .filter(ticket -> !ticket.isExpired())
+                .map(ServiceAwareTicket.class::cast)
+                .filter(ticket -> Objects.nonNull(ticket.getService()))
+                .filter(ticket -> ticket.getService().getId().equals(service.getId()))
+                .count();
+        }
     }
 
     @Override
@@ -354,7 +356,8 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
             return ticketToProcess;
         }
         LOGGER.debug("Attempting to decode [{}]", ticketToProcess);
-        val ticket = SerializationUtils.decodeAndDeserializeObject(encodedTicket.getEncodedTicket(), this.cipherExecutor, Ticket.class);
+        val decodedTicket = (byte[]) cipherExecutor.decode(encodedTicket.getEncodedTicket());
+        val ticket = getTicketBinaryCodec().decode(decodedTicket);
         LOGGER.debug("Decoded ticket to [{}]", ticket);
         return ticket;
     }
@@ -381,10 +384,16 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     protected Ticket createEncodedTicket(final Ticket ticket) throws Exception {
         LOGGER.debug("Encoding ticket [{}]", ticket);
-        val encodedTicketObject = SerializationUtils.serializeAndEncodeObject(cipherExecutor, ticket);
+        val encodedTicketObject = (byte[]) cipherExecutor.encode(getTicketBinaryCodec().encode(ticket));
         return toEncodedTicket(ticket, encodedTicketObject);
     }
 
+    protected TicketBinaryCodec getTicketBinaryCodec() {
+        return Optional.ofNullable(ticketSerializationManager)
+            .map(TicketSerializationManager::getTicketBinaryCodec)
+            .orElseGet(TicketBinaryCodec::javaSerialization);
+    }
+
     protected Ticket toEncodedTicket(final Ticket ticket, final byte[] encodedTicketObject) throws Exception {
         val encodedTicketId = digestIdentifier(ticket.getId());
         return new DefaultEncodedTicket(encodedTicketId,
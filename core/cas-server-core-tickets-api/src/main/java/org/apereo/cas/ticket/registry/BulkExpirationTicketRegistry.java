@@ -0,0 +1,55 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+import java.time.Instant;
+import java.util.function.ToIntFunction;
+
+/**
+ * This is {@link BulkExpirationTicketRegistry}, describing a ticket registry
+ * that records the expiration time of each ticket alongside the ticket itself, allowing
+ * cleaners to locate expired tickets by their recorded expiration time rather than streaming the entire registry.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+public interface BulkExpirationTicketRegistry extends TicketRegistry {
+
+    /**
+     * Remove a batch of tickets whose recorded expiration time is before the given instant,
+     * ordered by their expiration time. The recorded expiration time may be stale, so each ticket
+     * in the batch must be checked again; tickets that are still valid are kept and their recorded expiration
+     * time is recalculated. Expired ticket-granting tickets are handed over to the given cleaner so that
+     * single logout and the removal of descendant tickets can take place, while all other expired tickets
+     * in the batch are removed in bulk.
+     * <p>
+     * Batches are selected using a keyset cursor; only tickets positioned after the given cursor
+     * are examined, so that tickets which could not be removed are not selected again in the same run.
+     *
+     * @param dueBy                       the due by
+     * @param after                       the cursor returned by the previous batch, or {@code null} to start over
+     * @param limit                       the maximum number of tickets to examine
+     * @param ticketGrantingTicketCleaner the ticket-granting ticket cleaner
+     * @return the number of tickets examined and removed
+     */
+    ExpiredTicketsBatch deleteTicketsExpiredBy(Instant dueBy, ExpiredTicketsCursor after, int limit,
+                                               ToIntFunction<Ticket> ticketGrantingTicketCleaner);
+
+    /**
+     * Outcome of removing a batch of expired tickets.
+     *
+     * @param examined the number of tickets examined
+     * @param removed  the number of tickets removed
+     * @param next     the position of the last ticket examined, from which the next batch should continue
+     */
+    record ExpiredTicketsBatch(int examined, int removed, ExpiredTicketsCursor next) {
+    }
+
+    /**
+     * Position of a ticket in the ordering of expired tickets.
+     *
+     * @param expirationTime the recorded expiration time of the ticket
+     * @param id             the identifier under which the ticket is stored
+     */
+    record ExpiredTicketsCursor(Instant expirationTime, String id) {
+    }
+}
@@ -0,0 +1,82 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.util.lock.LockRepository;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * This is {@link BulkTicketRegistryCleaner}. Rather than streaming the entire registry,
+ * this cleaner asks the registry to remove tickets whose recorded expiration time has passed
+ * in bounded batches, until either no more tickets are due or the time budget for the run is exhausted.
+ * Each run walks the due tickets once; tickets that could not be removed are left for the next run.
+ * Ticket-granting tickets are still removed one at a time, so that single logout can take place.
+ * Tickets whose recorded expiration time has passed but which are still valid, such as tickets
+ * used after they were last persisted, are kept and their recorded expiration time is recalculated.
+ * <p>
+ * Tickets that expire ahead of their recorded expiration time, such as tickets that are
+ * explicitly marked as expired, are removed once their recorded expiration time passes.
+ * Registries that do not implement {@link BulkExpirationTicketRegistry} fall back
+ * to the default cleanup behavior.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+public class BulkTicketRegistryCleaner extends DefaultTicketRegistryCleaner {
+    private final int batchSize;
+
+    private final Duration timeBudget;
+
+    private final Clock clock;
+
+    public BulkTicketRegistryCleaner(final LockRepository lockRepository,
+                                     final ConfigurableApplicationContext applicationContext,
+                                     final TicketRegistry ticketRegistry,
+                                     final int batchSize,
+                                     final Duration timeBudget) {
+        this(lockRepository, applicationContext, ticketRegistry, batchSize, timeBudget, Clock.systemUTC());
+    }
+
+    public BulkTicketRegistryCleaner(final LockRepository lockRepository,
+                                     final ConfigurableApplicationContext applicationContext,
+                                     final TicketRegistry ticketRegistry,
+                                     final int batchSize,
+                                     final Duration timeBudget,
+                                     final Clock clock) {
+        super(lockRepository, applicationContext, ticketRegistry);
+        this.batchSize = Math.max(1, batchSize);
+        this.timeBudget = timeBudget;
+        this.clock = clock;
+    }
+
+    @Override
+    protected int cleanInternal() {
+        if (!(getTicketRegistry() instanceof final BulkExpirationTicketRegistry registry)) {
+            LOGGER.debug("Ticket registry [{}] does not record ticket expiration times; falling back to default cleanup",
+                getTicketRegistry().getClass().getSimpleName());
+            return super.cleanInternal();
+        }
+        val dueBy = clock.instant();
+        val deadline = dueBy.plus(timeBudget);
+        var examined = 0L;
+        var removed = 0;
+        var batchCompleted = true;
+        BulkExpirationTicketRegistry.ExpiredTicketsCursor cursor = null;
+        while (batchCompleted) {
+            if (clock.instant().isAfter(deadline)) {
+                LOGGER.debug("Ticket registry cleaner has exhausted its time budget of [{}]; remaining tickets will be processed later", timeBudget);
+                break;
+            }
+            val batch = registry.deleteTicketsExpiredBy(dueBy, cursor, batchSize, this::cleanTicket);
+            cursor = batch.next();
+            examined += batch.examined();
+            removed += batch.removed();
+            batchCompleted = batch.examined() >= batchSize;
+        }
+        LOGGER.info("[{}] expired tickets removed out of [{}] tickets examined.", removed, examined);
+        return removed;
+    }
+}
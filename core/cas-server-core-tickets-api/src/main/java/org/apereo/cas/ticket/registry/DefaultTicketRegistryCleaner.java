@@ -6,6 +6,8 @@ import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.lock.LockRepository;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -28,6 +30,7 @@ public class DefaultTicketRegistryCleaner implements TicketRegistryCleaner {
 
     private final ConfigurableApplicationContext applicationContext;
 
+    @Getter(AccessLevel.PROTECTED)
     private final TicketRegistry ticketRegistry;
 
     @Override
@@ -0,0 +1,42 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * This is {@link ExpirationIndexedTicketRegistry}, describing a ticket registry
+ * that keeps track of tickets ordered by their expiration time, allowing
+ * cleaners to examine only those tickets that are due for expiration.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+public interface ExpirationIndexedTicketRegistry extends TicketRegistry {
+
+    /**
+     * Gets tickets that are due for expiration by the given instant,
+     * ordered by their expiration time.
+     *
+     * @param dueBy the due by
+     * @param limit the maximum number of tickets to return
+     * @return the tickets due for expiration
+     */
+    List<? extends Ticket> getTicketsDueForExpiration(Instant dueBy, int limit);
+
+    /**
+     * Move the ticket to its next expiration window, typically
+     * when the ticket was examined and found not to be expired yet.
+     *
+     * @param ticket the ticket
+     */
+    void rescheduleExpiration(Ticket ticket);
+
+    /**
+     * Gets the earliest expiration time tracked by the registry.
+     *
+     * @return the earliest expiration
+     */
+    Optional<Instant> getEarliestExpiration();
+}
@@ -0,0 +1,121 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.util.lock.LockRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This is {@link IncrementalTicketRegistryCleaner}. Rather than streaming the entire registry,
+ * this cleaner asks the registry for tickets that are due for expiration in the current window
+ * and processes them in bounded batches, until either no more tickets are due or the time budget
+ * for the run is exhausted. Tickets that are examined and found to be not yet expired are rescheduled
+ * by the registry for a future examination.
+ * <p>
+ * Registries that do not implement {@link ExpirationIndexedTicketRegistry} fall back
+ * to the default cleanup behavior.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+public class IncrementalTicketRegistryCleaner extends DefaultTicketRegistryCleaner {
+    private final int batchSize;
+
+    private final Duration timeBudget;
+
+    private final Clock clock;
+
+    private final Counter examinedCounter;
+
+    private final Counter removedCounter;
+
+    private final Timer batchTimer;
+
+    private final AtomicLong lag = new AtomicLong();
+
+    public IncrementalTicketRegistryCleaner(final LockRepository lockRepository,
+                                            final ConfigurableApplicationContext applicationContext,
+                                            final TicketRegistry ticketRegistry,
+                                            final int batchSize,
+                                            final Duration timeBudget,
+                                            final MeterRegistry meterRegistry) {
+        this(lockRepository, applicationContext, ticketRegistry, batchSize, timeBudget, meterRegistry, Clock.systemUTC());
+    }
+
+    public IncrementalTicketRegistryCleaner(final LockRepository lockRepository,
+                                            final ConfigurableApplicationContext applicationContext,
+                                            final TicketRegistry ticketRegistry,
+                                            final int batchSize,
+                                            final Duration timeBudget,
+                                            final MeterRegistry meterRegistry,
+                                            final Clock clock) {
+        super(lockRepository, applicationContext, ticketRegistry);
+        this.batchSize = Math.max(1, batchSize);
+        this.timeBudget = timeBudget;
+        this.clock = clock;
+        this.examinedCounter = Counter.builder("cas.ticket.registry.cleaner.examined")
+            .description("Number of tickets examined by the ticket registry cleaner")
+            .register(meterRegistry);
+        this.removedCounter = Counter.builder("cas.ticket.registry.cleaner.removed")
+            .description("Number of tickets removed by the ticket registry cleaner")
+            .register(meterRegistry);
+        this.batchTimer = Timer.builder("cas.ticket.registry.cleaner.batch")
+            .description("Time spent by the ticket registry cleaner processing a single batch")
+            .register(meterRegistry);
+        TimeGauge.builder("cas.ticket.registry.cleaner.lag", lag, TimeUnit.MILLISECONDS, AtomicLong::get)
+            .description("How far behind the ticket registry cleaner is, compared to the earliest ticket due for expiration")
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected int cleanInternal() {
+        if (!(getTicketRegistry() instanceof final ExpirationIndexedTicketRegistry registry)) {
+            LOGGER.debug("Ticket registry [{}] does not track tickets by expiration; falling back to default cleanup",
+                getTicketRegistry().getClass().getSimpleName());
+            return super.cleanInternal();
+        }
+        val deadline = clock.instant().plus(timeBudget);
+        var examined = 0L;
+        var removed = 0;
+        var batchCompleted = true;
+        while (batchCompleted) {
+            val now = clock.instant();
+            if (now.isAfter(deadline)) {
+                LOGGER.debug("Ticket registry cleaner has exhausted its time budget of [{}]; remaining tickets will be processed later", timeBudget);
+                break;
+            }
+            val sample = Timer.start();
+            val tickets = registry.getTicketsDueForExpiration(now, batchSize);
+            var batchRemoved = 0;
+            for (val ticket : tickets) {
+                val count = ticket.isExpired() ? cleanTicket(ticket) : 0;
+                if (count <= 0) {
+                    registry.rescheduleExpiration(ticket);
+                }
+                batchRemoved += count;
+            }
+            sample.stop(batchTimer);
+            examinedCounter.increment(tickets.size());
+            removedCounter.increment(batchRemoved);
+            examined += tickets.size();
+            removed += batchRemoved;
+            batchCompleted = tickets.size() >= batchSize;
+        }
+        val now = clock.instant();
+        lag.set(registry.getEarliestExpiration()
+            .filter(earliest -> earliest.isBefore(now))
+            .map(earliest -> Duration.between(earliest, now).toMillis())
+            .orElse(0L));
+        LOGGER.info("[{}] expired tickets removed out of [{}] tickets examined.", removed, examined);
+        return removed;
+    }
+}
@@ -0,0 +1,118 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.util.lock.DefaultLockRepository;
+import org.apereo.cas.util.lock.LockRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.jooq.lambda.Unchecked;
+import org.springframework.context.ApplicationContext;
+import org.springframework.integration.support.locks.DefaultLockRegistry;
+import org.springframework.integration.support.locks.LockRegistry;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Supplier;
+
+/**
+ * This is {@link LeaseBasedTicketLockRepository}. Ticket operations are first guarded
+ * by striped locks that are local to this CAS server node, and then by a distributed lease
+ * obtained from the underlying lock registry. The local lock ensures that concurrent requests
+ * for the same ticket on a single node wait in memory, so that at most one thread per node
+ * competes for the distributed lease at any given time. The distributed lease is always
+ * obtained, regardless of which node issued the ticket, so operations on the same ticket
+ * remain mutually exclusive across all nodes of the cluster.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+public class LeaseBasedTicketLockRepository implements LockRepository {
+    private final LockRegistry localLockRegistry = new DefaultLockRegistry(DEFAULT_MASK_ARRAY_LENGTH);
+
+    private final LockRegistry distributedLockRegistry;
+
+    private final Duration waitTime;
+
+    private final Timer localWaitTimer;
+
+    private final Timer distributedWaitTimer;
+
+    public LeaseBasedTicketLockRepository(final LockRegistry distributedLockRegistry,
+                                          final Duration waitTime,
+                                          final MeterRegistry meterRegistry) {
+        this.distributedLockRegistry = distributedLockRegistry;
+        this.waitTime = waitTime;
+        this.localWaitTimer = buildWaitTimer("local", meterRegistry);
+        this.distributedWaitTimer = buildWaitTimer("distributed", meterRegistry);
+    }
+
+    /**
+     * Build the lock repository for the given distributed lock registry,
+     * taking lease locking settings into account.
+     *
+     * @param lockRegistry       the distributed lock registry
+     * @param casProperties      the cas properties
+     * @param applicationContext the application context
+     * @return the lock repository
+     */
+    public static LockRepository of(final LockRegistry lockRegistry,
+                                     final CasConfigurationProperties casProperties,
+                                     final ApplicationContext applicationContext) {
+        val core = casProperties.getTicket().getRegistry().getCore();
+        if (core.isEnableLeaseLocking()) {
+            val meterRegistry = applicationContext.getBeanProvider(MeterRegistry.class).getIfAvailable(() -> Metrics.globalRegistry);
+            return new LeaseBasedTicketLockRepository(lockRegistry, Beans.newDuration(core.getLockWaitTime()), meterRegistry);
+        }
+        return new DefaultLockRepository(lockRegistry);
+    }
+
+    @Override
+    public <T> Optional<T> execute(final Object lockKey, final Supplier<T> consumer) {
+        return Unchecked.supplier(() -> {
+            val deadline = System.nanoTime() + waitTime.toNanos();
+            val localLock = localLockRegistry.obtain(lockKey);
+            if (!acquire(localLock, waitTime.toNanos(), localWaitTimer)) {
+                LOGGER.debug("Unable to obtain local lock for [{}] within [{}]", lockKey, waitTime);
+                return Optional.<T>empty();
+            }
+            try {
+                val distributedLock = distributedLockRegistry.obtain(lockKey);
+                if (!acquire(distributedLock, Math.max(0, deadline - System.nanoTime()), distributedWaitTimer)) {
+                    LOGGER.debug("Unable to obtain distributed lock for [{}] within [{}]", lockKey, waitTime);
+                    return Optional.<T>empty();
+                }
+                try {
+                    return Optional.ofNullable(consumer.get());
+                } finally {
+                    distributedLock.unlock();
+                }
+            } finally {
+                localLock.unlock();
+            }
+        }).get();
+    }
+
+    private static boolean acquire(final Lock lock, final long timeoutNanos, final Timer timer) throws InterruptedException {
+        val start = System.nanoTime();
+        try {
+            return lock.tryLock(timeoutNanos, TimeUnit.NANOSECONDS);
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Timer buildWaitTimer(final String scope, final MeterRegistry meterRegistry) {
+        return Timer.builder("cas.ticket.registry.lock.wait")
+            .description("Time spent waiting to obtain a lock for a ticket operation")
+            .tag("scope", scope)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+}
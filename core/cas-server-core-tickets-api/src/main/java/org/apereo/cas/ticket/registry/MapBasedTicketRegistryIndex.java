@@ -0,0 +1,170 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.Authentication;
+import org.apereo.cas.authentication.principal.Principal;
+import org.apereo.cas.ticket.ServiceAwareTicket;
+import org.apereo.cas.ticket.ServiceTicket;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import lombok.Getter;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This is {@link MapBasedTicketRegistryIndex}, which maintains secondary indexes and counters
+ * for tickets that are stored in a map-based ticket registry. Index entries are keyed by the
+ * same (possibly digested) identifiers that are used as keys in the ticket map, so the index can
+ * be kept consistent regardless of whether tickets are encoded. Tickets are also
+ * tracked by their expiration time via {@link TicketExpirationIndex}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+public class MapBasedTicketRegistryIndex {
+    private final Map<String, IndexEntry> entries = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<String>> sessionsByPrincipal = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<String>> ticketsByService = new ConcurrentHashMap<>();
+
+    private final LongAdder sessionCount = new LongAdder();
+
+    private final LongAdder serviceTicketCount = new LongAdder();
+
+    @Getter
+    private final TicketExpirationIndex expirationIndex = new TicketExpirationIndex();
+
+    /**
+     * Index the given ticket, replacing any previous entry stored under the same key.
+     *
+     * @param key    the key of the ticket in the map
+     * @param ticket the decoded ticket
+     */
+    public void put(final String key, final Ticket ticket) {
+        val principal = ticket instanceof final TicketGrantingTicket tgt
+            ? Optional.ofNullable(tgt.getAuthentication())
+                .map(Authentication::getPrincipal)
+                .map(Principal::getId)
+                .map(MapBasedTicketRegistryIndex::normalizePrincipal)
+                .orElse(null)
+            : null;
+        val service = ticket instanceof final ServiceAwareTicket sat && sat.getService() != null
+            ? sat.getService().getId()
+            : null;
+        val entry = new IndexEntry(ticket instanceof TicketGrantingTicket, ticket instanceof ServiceTicket, principal, service);
+        Optional.ofNullable(entries.put(key, entry)).ifPresent(previous -> unindex(key, previous));
+        expirationIndex.schedule(key, ticket);
+
+        if (entry.session()) {
+            sessionCount.increment();
+            if (StringUtils.isNotBlank(entry.principal())) {
+                addTo(sessionsByPrincipal, entry.principal(), key);
+            }
+        }
+        if (entry.serviceTicket()) {
+            serviceTicketCount.increment();
+        }
+        if (StringUtils.isNotBlank(entry.service())) {
+            addTo(ticketsByService, entry.service(), key);
+        }
+    }
+
+    /**
+     * Remove the ticket stored under the given key from the index.
+     *
+     * @param key the key
+     */
+    public void remove(final String key) {
+        Optional.ofNullable(entries.remove(key)).ifPresent(previous -> unindex(key, previous));
+        expirationIndex.unschedule(key);
+    }
+
+    /**
+     * Clear all indexes and counters.
+     */
+    public void clear() {
+        entries.clear();
+        sessionsByPrincipal.clear();
+        ticketsByService.clear();
+        sessionCount.reset();
+        serviceTicketCount.reset();
+        expirationIndex.clear();
+    }
+
+    public long getSessionCount() {
+        return sessionCount.sum();
+    }
+
+    public long getServiceTicketCount() {
+        return serviceTicketCount.sum();
+    }
+
+    /**
+     * Count ticket-granting tickets that are issued to the given principal.
+     *
+     * @param principalId the principal id
+     * @return the count
+     */
+    public long countSessionsFor(final String principalId) {
+        if (StringUtils.isBlank(principalId)) {
+            return 0;
+        }
+        return Optional.ofNullable(sessionsByPrincipal.get(normalizePrincipal(principalId))).map(Set::size).orElse(0);
+    }
+
+    /**
+     * Gets the keys of all tickets that are linked to the given service.
+     *
+     * @param serviceId the service id
+     * @return the keys
+     */
+    public Set<String> getTicketsFor(final String serviceId) {
+        if (StringUtils.isBlank(serviceId)) {
+            return Set.of();
+        }
+        return Optional.ofNullable(ticketsByService.get(serviceId)).map(Set::copyOf).orElseGet(Set::of);
+    }
+
+    private void unindex(final String key, final IndexEntry entry) {
+        if (entry.session()) {
+            sessionCount.decrement();
+            if (StringUtils.isNotBlank(entry.principal())) {
+                removeFrom(sessionsByPrincipal, entry.principal(), key);
+            }
+        }
+        if (entry.serviceTicket()) {
+            serviceTicketCount.decrement();
+        }
+        if (StringUtils.isNotBlank(entry.service())) {
+            removeFrom(ticketsByService, entry.service(), key);
+        }
+    }
+
+    private static void addTo(final Map<String, Set<String>> index, final String indexKey, final String key) {
+        index.compute(indexKey, (__, keys) -> {
+            val results = keys == null ? ConcurrentHashMap.<String>newKeySet() : keys;
+            results.add(key);
+            return results;
+        });
+    }
+
+    private static void removeFrom(final Map<String, Set<String>> index, final String indexKey, final String key) {
+        index.computeIfPresent(indexKey, (__, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    private static String normalizePrincipal(final String principalId) {
+        return StringUtils.lowerCase(principalId, Locale.ENGLISH);
+    }
+
+    private record IndexEntry(boolean session, boolean serviceTicket, String principal, String service) {
+    }
+}
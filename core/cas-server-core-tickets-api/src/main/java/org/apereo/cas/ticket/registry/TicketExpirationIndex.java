@@ -0,0 +1,184 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.IdleExpirationPolicy;
+import org.apereo.cas.ticket.Ticket;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * This is {@link TicketExpirationIndex}. It organizes ticket keys into time buckets
+ * ordered by the earliest time at which each ticket can expire, as calculated by the ticket's
+ * expiration policy; for policies that expire idle tickets, this is the earlier of the idle
+ * and the maximum expiration times. This allows a cleaner to only examine tickets that are due
+ * for expiration, instead of walking through the entire registry.
+ * <p>
+ * Tickets whose expiration policy is unable to calculate a maximum expiration time,
+ * or those that were examined and found to be not yet expired, are scheduled
+ * for another examination after the configured delay.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@RequiredArgsConstructor
+public class TicketExpirationIndex {
+    /**
+     * Default delay before tickets with unknown expiration times are examined again.
+     */
+    public static final Duration DEFAULT_EXAMINATION_DELAY = Duration.ofMinutes(1);
+
+    private final NavigableMap<Long, Set<String>> buckets = new ConcurrentSkipListMap<>();
+
+    private final Map<String, Long> scheduledKeys = new ConcurrentHashMap<>();
+
+    private final Clock clock;
+
+    private final Duration examinationDelay;
+
+    public TicketExpirationIndex() {
+        this(Clock.systemUTC(), DEFAULT_EXAMINATION_DELAY);
+    }
+
+    /**
+     * Schedule the ticket for expiration based on its expiration policy.
+     *
+     * @param key    the key
+     * @param ticket the ticket
+     */
+    public void schedule(final String key, final Ticket ticket) {
+        if (ticket.isExpired()) {
+            schedule(key, clock.instant());
+        } else {
+            reschedule(key, ticket);
+        }
+    }
+
+    /**
+     * Move the ticket to the next examination window, because it was found to be not
+     * yet expired or could not be removed.
+     *
+     * @param key    the key
+     * @param ticket the ticket
+     */
+    public void reschedule(final String key, final Ticket ticket) {
+        val now = clock.instant();
+        val expirationTime = Optional.ofNullable(getExpirationTime(ticket))
+            .map(ZonedDateTime::toInstant)
+            .filter(time -> time.isAfter(now))
+            .orElseGet(() -> now.plus(examinationDelay));
+        schedule(key, expirationTime);
+    }
+
+    /**
+     * Gets the earliest time at which the ticket is known to expire. For tickets whose
+     * expiration policy can expire idle tickets, this is the earlier of the idle and the
+     * maximum expiration times.
+     *
+     * @param ticket the ticket
+     * @return the expiration time, or null if the policy is unable to calculate one
+     */
+    public static ZonedDateTime getExpirationTime(final Ticket ticket) {
+        val policy = ticket.getExpirationPolicy();
+        if (policy == null) {
+            return null;
+        }
+        val expirationTime = policy.toMaximumExpirationTime(ticket);
+        if (policy instanceof final IdleExpirationPolicy idlePolicy) {
+            val idleExpirationTime = idlePolicy.getIdleExpirationTime(ticket);
+            if (idleExpirationTime != null && (expirationTime == null || idleExpirationTime.isBefore(expirationTime))) {
+                return idleExpirationTime;
+            }
+        }
+        return expirationTime;
+    }
+
+    /**
+     * Remove the key from the index.
+     *
+     * @param key the key
+     */
+    public void unschedule(final String key) {
+        val bucket = scheduledKeys.remove(key);
+        if (bucket != null) {
+            removeFromBucket(bucket, key);
+        }
+    }
+
+    /**
+     * Clear the index.
+     */
+    public void clear() {
+        scheduledKeys.clear();
+        buckets.clear();
+    }
+
+    /**
+     * Gets keys for tickets that are due for expiration, ordered by their expiration time.
+     *
+     * @param dueBy the due by
+     * @param limit the limit
+     * @return the due keys
+     */
+    public List<String> getDueKeys(final Instant dueBy, final int limit) {
+        val results = new ArrayList<String>(Math.max(0, limit));
+        val dueBuckets = buckets.headMap(dueBy.getEpochSecond(), true);
+        for (val entry : dueBuckets.values()) {
+            for (val key : entry) {
+                if (results.size() >= limit) {
+                    return results;
+                }
+                results.add(key);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Gets the earliest scheduled expiration time, if any.
+     *
+     * @return the earliest expiration
+     */
+    public Optional<Instant> getEarliestExpiration() {
+        return Optional.ofNullable(buckets.firstEntry()).map(entry -> Instant.ofEpochSecond(entry.getKey()));
+    }
+
+    /**
+     * Count of tracked keys.
+     *
+     * @return the count
+     */
+    public long size() {
+        return scheduledKeys.size();
+    }
+
+    private void schedule(final String key, final Instant expirationTime) {
+        val bucket = expirationTime.getEpochSecond();
+        val previous = scheduledKeys.put(key, bucket);
+        if (previous != null && previous != bucket) {
+            removeFromBucket(previous, key);
+        }
+        buckets.compute(bucket, (__, keys) -> {
+            val results = keys == null ? ConcurrentHashMap.<String>newKeySet() : keys;
+            results.add(key);
+            return results;
+        });
+    }
+
+    private void removeFromBucket(final long bucket, final String key) {
+        buckets.computeIfPresent(bucket, (__, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+}
@@ -0,0 +1,112 @@
+package org.apereo.cas.ticket.serialization;
+
+import org.apereo.cas.ticket.ProxyGrantingTicketImpl;
+import org.apereo.cas.ticket.ProxyTicketImpl;
+import org.apereo.cas.ticket.ServiceTicketImpl;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.TransientSessionTicketImpl;
+import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * This is {@link DefaultTicketBinaryCodec}. It encodes core ticket types
+ * (ticket-granting tickets, service tickets, proxy tickets, proxy-granting tickets
+ * and transient session tickets) into a compact binary form, using the Smile binary format
+ * where repeated field names and string values are written as short back-references.
+ * <p>
+ * Each payload starts with a small header that carries a marker, the schema version
+ * and a tag that identifies the ticket type, followed by the encoded ticket. Tickets of other types
+ * are encoded via Java serialization. Payloads that do not carry the header, such as those
+ * produced by Java serialization in earlier versions, are read via Java serialization, allowing existing
+ * tickets to be decoded after the codec is turned on.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+public class DefaultTicketBinaryCodec implements TicketBinaryCodec {
+    /**
+     * Current schema version of the encoded payload.
+     */
+    public static final byte SCHEMA_VERSION = 1;
+
+    private static final byte[] MARKER = {(byte) 0xCA, (byte) 0x5B};
+
+    private static final int HEADER_LENGTH = MARKER.length + 2;
+
+    private static final Map<Class<? extends Ticket>, Byte> TYPE_TAGS = Map.of(
+        TicketGrantingTicketImpl.class, (byte) 1,
+        ServiceTicketImpl.class, (byte) 2,
+        ProxyTicketImpl.class, (byte) 3,
+        ProxyGrantingTicketImpl.class, (byte) 4,
+        TransientSessionTicketImpl.class, (byte) 5);
+
+    private final Map<Class<? extends Ticket>, ObjectWriter> writers = new HashMap<>();
+
+    private final Map<Byte, ObjectReader> readers = new HashMap<>();
+
+    public DefaultTicketBinaryCodec() {
+        val smileFactory = SmileFactory.builder()
+            .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+            .build();
+        val objectMapper = JacksonObjectMapperFactory
+            .builder()
+            .defaultTypingEnabled(true)
+            .jsonFactory(smileFactory)
+            .build()
+            .toObjectMapper();
+        TYPE_TAGS.forEach((type, tag) -> {
+            writers.put(type, objectMapper.writerFor(type));
+            readers.put(tag, objectMapper.readerFor(type));
+        });
+    }
+
+    @Override
+    public byte[] encode(final Ticket ticket) {
+        val tag = TYPE_TAGS.get(ticket.getClass());
+        if (tag == null) {
+            LOGGER.trace("Ticket type [{}] has no binary schema and will be encoded via Java serialization", ticket.getClass().getName());
+            return TicketBinaryCodec.javaSerialization().encode(ticket);
+        }
+        return FunctionUtils.doUnchecked(() -> {
+            try (val output = new ByteArrayOutputStream(512)) {
+                output.write(MARKER);
+                output.write(SCHEMA_VERSION);
+                output.write(tag);
+                writers.get(ticket.getClass()).writeValue(output, ticket);
+                return output.toByteArray();
+            }
+        });
+    }
+
+    @Override
+    public Ticket decode(final byte[] payload) {
+        if (!isBinaryEncoded(payload)) {
+            LOGGER.trace("Payload does not carry a binary ticket header and will be decoded via Java serialization");
+            return TicketBinaryCodec.javaSerialization().decode(payload);
+        }
+        val version = payload[MARKER.length];
+        if (version < 1 || version > SCHEMA_VERSION) {
+            throw new IllegalArgumentException("Unsupported ticket schema version " + version);
+        }
+        val tag = payload[MARKER.length + 1];
+        val reader = Objects.requireNonNull(readers.get(tag), () -> "Unknown ticket type tag " + tag);
+        return FunctionUtils.doUnchecked(() -> reader.readValue(payload, HEADER_LENGTH, payload.length - HEADER_LENGTH));
+    }
+
+    private static boolean isBinaryEncoded(final byte[] payload) {
+        return payload.length > HEADER_LENGTH && payload[0] == MARKER[0] && payload[1] == MARKER[1];
+    }
+}
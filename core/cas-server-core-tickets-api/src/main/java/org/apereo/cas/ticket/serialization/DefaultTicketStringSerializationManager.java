@@ -2,6 +2,7 @@ package org.apereo.cas.ticket.serialization;
 
 import org.apereo.cas.ticket.InvalidTicketException;
 import org.apereo.cas.ticket.Ticket;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -20,6 +21,13 @@ import java.util.Objects;
 public class DefaultTicketStringSerializationManager implements TicketSerializationManager {
     private final TicketSerializationExecutionPlan ticketSerializationExecutionPlan;
 
+    @Getter
+    private final TicketBinaryCodec ticketBinaryCodec;
+
+    public DefaultTicketStringSerializationManager(final TicketSerializationExecutionPlan ticketSerializationExecutionPlan) {
+        this(ticketSerializationExecutionPlan, TicketBinaryCodec.javaSerialization());
+    }
+
     @Override
     public String serializeTicket(final Ticket ticket) {
         val serializer = Objects.requireNonNull(ticketSerializationExecutionPlan.getTicketSerializer(ticket),
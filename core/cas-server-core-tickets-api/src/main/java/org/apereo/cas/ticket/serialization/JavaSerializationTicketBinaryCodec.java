@@ -0,0 +1,25 @@
+package org.apereo.cas.ticket.serialization;
+
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.util.serialization.SerializationUtils;
+
+/**
+ * This is {@link JavaSerializationTicketBinaryCodec}, which encodes tickets
+ * using Java serialization.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+class JavaSerializationTicketBinaryCodec implements TicketBinaryCodec {
+    static final TicketBinaryCodec INSTANCE = new JavaSerializationTicketBinaryCodec();
+
+    @Override
+    public byte[] encode(final Ticket ticket) {
+        return SerializationUtils.serialize(ticket);
+    }
+
+    @Override
+    public Ticket decode(final byte[] payload) {
+        return SerializationUtils.deserialize(payload, Ticket.class);
+    }
+}
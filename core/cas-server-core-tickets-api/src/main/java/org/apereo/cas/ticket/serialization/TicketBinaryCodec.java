@@ -0,0 +1,43 @@
+package org.apereo.cas.ticket.serialization;
+
+import org.apereo.cas.ticket.Ticket;
+
+/**
+ * This is {@link TicketBinaryCodec}, responsible for turning tickets into
+ * a binary representation and back, typically before tickets are encrypted
+ * and stored by the ticket registry as encoded tickets.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+public interface TicketBinaryCodec {
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "ticketBinaryCodec";
+
+    /**
+     * Encode ticket into bytes.
+     *
+     * @param ticket the ticket
+     * @return the bytes
+     */
+    byte[] encode(Ticket ticket);
+
+    /**
+     * Decode bytes back into a ticket.
+     *
+     * @param payload the payload
+     * @return the ticket
+     */
+    Ticket decode(byte[] payload);
+
+    /**
+     * Codec that relies on Java serialization.
+     *
+     * @return the ticket binary codec
+     */
+    static TicketBinaryCodec javaSerialization() {
+        return JavaSerializationTicketBinaryCodec.INSTANCE;
+    }
+}
@@ -40,4 +40,14 @@ public interface TicketSerializationManager {
      * @return the ticket instance
      */
     <T extends Ticket> T deserializeTicket(String ticketContent, Class<T> clazz);
+
+    /**
+     * Gets the codec that turns tickets into bytes, typically
+     * before tickets are encrypted and stored as encoded tickets.
+     *
+     * @return the ticket binary codec
+     */
+    default TicketBinaryCodec getTicketBinaryCodec() {
+        return TicketBinaryCodec.javaSerialization();
+    }
 }
@@ -2,7 +2,11 @@ package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.model.core.ticket.registry.TicketRegistryCleanerProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.ticket.registry.BulkTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistryCleaner;
+import org.apereo.cas.ticket.registry.IncrementalTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
 import org.apereo.cas.util.function.FunctionUtils;
@@ -11,8 +15,12 @@ import org.apereo.cas.util.spring.beans.BeanCondition;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.util.spring.boot.ConditionalOnMatchingHostname;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -51,7 +59,18 @@ class CasCoreTicketsSchedulingConfiguration {
         final CasConfigurationProperties casProperties,
         @Qualifier(LockRepository.BEAN_NAME) final LockRepository lockRepository,
         final ConfigurableApplicationContext applicationContext,
-        @Qualifier(TicketRegistry.BEAN_NAME) final TicketRegistry ticketRegistry) {
+        @Qualifier(TicketRegistry.BEAN_NAME) final TicketRegistry ticketRegistry,
+        final ObjectProvider<MeterRegistry> meterRegistry) {
+        val cleaner = casProperties.getTicket().getRegistry().getCleaner();
+        if (cleaner.getMode() == TicketRegistryCleanerProperties.TicketRegistryCleanerModes.INCREMENTAL) {
+            return new IncrementalTicketRegistryCleaner(lockRepository, applicationContext, ticketRegistry,
+                cleaner.getBatchSize(), Beans.newDuration(cleaner.getTimeBudget()),
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+        }
+        if (cleaner.getMode() == TicketRegistryCleanerProperties.TicketRegistryCleanerModes.BULK) {
+            return new BulkTicketRegistryCleaner(lockRepository, applicationContext, ticketRegistry,
+                cleaner.getBatchSize(), Beans.newDuration(cleaner.getTimeBudget()));
+        }
         return new DefaultTicketRegistryCleaner(lockRepository, applicationContext, ticketRegistry);
     }
 
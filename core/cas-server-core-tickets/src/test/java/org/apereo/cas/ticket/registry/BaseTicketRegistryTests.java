@@ -73,6 +73,7 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -296,6 +297,31 @@ public abstract class BaseTicketRegistryTests {
         }
     }
 
+    @RepeatedTest(2)
+    @Transactional(transactionManager = "ticketTransactionManager", readOnly = false)
+    void verifyPagingSsoSessionsPerUser() throws Throwable {
+        assumeTrue(canTicketRegistryIterate());
+        val id = UUID.randomUUID().toString();
+        for (var i = 0; i < 5; i++) {
+            val tgtId = TICKET_GRANTING_TICKET_ID_GENERATOR.getNewTicketId(TicketGrantingTicket.PREFIX);
+            ticketRegistry.addTicket(new TicketGrantingTicketImpl(tgtId,
+                CoreAuthenticationTestUtils.getAuthentication(id),
+                NeverExpiresExpirationPolicy.INSTANCE));
+        }
+        val sessions = new LinkedHashSet<String>();
+        var criteria = TicketRegistryStreamCriteria.builder().type(TicketGrantingTicket.PREFIX).principal(id).count(2).build();
+        for (var i = 0; i < 5; i++) {
+            val page = ticketRegistry.page(criteria);
+            assertTrue(page.getTickets().size() <= 2);
+            page.getTickets().forEach(ticket -> assertTrue(sessions.add(ticket.getId())));
+            if (page.getCursor() == null) {
+                break;
+            }
+            criteria = criteria.withCursor(page.getCursor());
+        }
+        assertEquals(5, sessions.size());
+    }
+
     @RepeatedTest(2)
     void verifyGetExistingTicketWithImproperClass() throws Throwable {
         val ticketGrantingTicketId = TestTicketIdentifiers.generate().ticketGrantingTicketId();
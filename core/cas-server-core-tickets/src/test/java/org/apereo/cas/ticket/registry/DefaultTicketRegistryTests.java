@@ -30,6 +30,7 @@ import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
@@ -57,7 +58,7 @@ class DefaultTicketRegistryTests {
 
         @RepeatedTest(1)
         void verifyCountsUnknown() {
-            val registry = mock(DefaultTicketRegistry.class);
+            val registry = mock(AbstractTicketRegistry.class);
             when(registry.stream()).thenThrow(IllegalArgumentException.class);
             when(registry.sessionCount()).thenCallRealMethod();
             when(registry.serviceTicketCount()).thenCallRealMethod();
@@ -96,6 +97,31 @@ class DefaultTicketRegistryTests {
             assertEquals(5, count);
         }
 
+        @RepeatedTest(1)
+        void verifyIndexedCountsWithQueueCommands() throws Throwable {
+            val service = RegisteredServiceTestUtils.getService(UUID.randomUUID().toString());
+            val user = UUID.randomUUID().toString();
+            val registry = (DefaultTicketRegistry) getNewTicketRegistry();
+
+            val tgt = new MockTicketGrantingTicket(user);
+            val st = tgt.grantServiceTicket(service, TicketTrackingPolicy.noOp());
+            registry.addTicketToQueue(tgt);
+            registry.addTicketToQueue(st);
+            registry.updateTicketInQueue(tgt);
+            assertEquals(1, registry.sessionCount());
+            assertEquals(1, registry.serviceTicketCount());
+            assertEquals(1, registry.countSessionsFor(user.toUpperCase(Locale.ENGLISH)));
+            assertEquals(1, registry.countTicketsFor(service));
+
+            registry.deleteTicketFromQueue(st.getId());
+            assertEquals(0, registry.serviceTicketCount());
+            assertEquals(0, registry.countTicketsFor(service));
+            assertEquals(0, registry.deleteTicketFromQueue(st.getId()));
+
+            registry.deleteAllFromQueue();
+            assertEquals(0, registry.sessionCount());
+            assertEquals(0, registry.countSessionsFor(user));
+        }
 
         @RepeatedTest(1)
         void verifyEncodeFails() throws Throwable {
@@ -0,0 +1,118 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketDestroyedEvent;
+import org.apereo.cas.ticket.DefaultTicketCatalog;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy;
+import org.apereo.cas.ticket.expiration.TicketGrantingTicketExpirationPolicy;
+import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+import org.apereo.cas.util.lock.LockRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link IncrementalTicketRegistryCleanerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("Tickets")
+class IncrementalTicketRegistryCleanerTests {
+
+    @Test
+    void verifyOnlyDueTicketsExamined() throws Throwable {
+        val applicationContext = mock(ConfigurableApplicationContext.class);
+        val ticketRegistry = newTicketRegistry();
+
+        val expiring = new MockTicketGrantingTicket("casuser");
+        expiring.setExpirationPolicy(new HardTimeoutExpirationPolicy(1));
+        ticketRegistry.addTicket(expiring);
+
+        val active = new MockTicketGrantingTicket("casuser");
+        active.setExpirationPolicy(new HardTimeoutExpirationPolicy(3600));
+        ticketRegistry.addTicket(active);
+        expiring.markTicketExpired();
+
+        val meterRegistry = new SimpleMeterRegistry();
+        val clock = Clock.offset(Clock.systemUTC(), Duration.ofMinutes(5));
+        val cleaner = new IncrementalTicketRegistryCleaner(LockRepository.noOp(), applicationContext,
+            ticketRegistry, 10, Duration.ofSeconds(30), meterRegistry, clock);
+        assertEquals(1, cleaner.clean());
+        assertEquals(1, ticketRegistry.sessionCount());
+        assertNotNull(ticketRegistry.getTicket(active.getId()));
+        verify(applicationContext).publishEvent(any(CasTicketGrantingTicketDestroyedEvent.class));
+
+        assertEquals(1, meterRegistry.get("cas.ticket.registry.cleaner.examined").counter().count());
+        assertEquals(1, meterRegistry.get("cas.ticket.registry.cleaner.removed").counter().count());
+        assertTrue(meterRegistry.get("cas.ticket.registry.cleaner.batch").timer().count() > 0);
+        assertNotNull(meterRegistry.get("cas.ticket.registry.cleaner.lag").timeGauge());
+    }
+
+    @Test
+    void verifyIdleTicketsExamined() throws Throwable {
+        val ticketRegistry = newTicketRegistry();
+        val policy = new TicketGrantingTicketExpirationPolicy(3600, 60);
+        val tgt = new MockTicketGrantingTicket("casuser");
+        tgt.setExpirationPolicy(policy);
+        ticketRegistry.addTicket(tgt);
+
+        val earliestExpiration = ticketRegistry.getEarliestExpiration().orElseThrow();
+        assertEquals(tgt.getLastTimeUsed().plusSeconds(60).toEpochSecond(), earliestExpiration.getEpochSecond());
+
+        tgt.setCreated(ZonedDateTime.now(Clock.systemUTC()).plusSeconds(30));
+        ticketRegistry.updateTicket(tgt);
+        val rescheduledExpiration = ticketRegistry.getEarliestExpiration().orElseThrow();
+        assertEquals(tgt.getLastTimeUsed().plusSeconds(60).toEpochSecond(), rescheduledExpiration.getEpochSecond());
+
+        val clock = Clock.offset(Clock.systemUTC(), Duration.ofMinutes(5));
+        policy.setClock(clock);
+        val applicationContext = mock(ConfigurableApplicationContext.class);
+        val cleaner = new IncrementalTicketRegistryCleaner(LockRepository.noOp(), applicationContext,
+            ticketRegistry, 10, Duration.ofSeconds(30), new SimpleMeterRegistry(), clock);
+        assertEquals(1, cleaner.clean());
+        assertEquals(0, ticketRegistry.sessionCount());
+        verify(applicationContext).publishEvent(any(CasTicketGrantingTicketDestroyedEvent.class));
+    }
+
+    @Test
+    void verifyTimeBudgetExhausted() throws Throwable {
+        val ticketRegistry = newTicketRegistry();
+        val tgt = new MockTicketGrantingTicket("casuser");
+        tgt.setExpirationPolicy(new HardTimeoutExpirationPolicy(1));
+        ticketRegistry.addTicket(tgt);
+        tgt.markTicketExpired();
+
+        val cleaner = new IncrementalTicketRegistryCleaner(LockRepository.noOp(), mock(ConfigurableApplicationContext.class),
+            ticketRegistry, 10, Duration.ofSeconds(-1), new SimpleMeterRegistry());
+        assertEquals(0, cleaner.clean());
+        assertEquals(1, ticketRegistry.sessionCount());
+    }
+
+    @Test
+    void verifyFallbackToDefaultCleanup() throws Throwable {
+        val ticketRegistry = mock(TicketRegistry.class);
+        val tgt = new MockTicketGrantingTicket("casuser");
+        tgt.markTicketExpired();
+        when(ticketRegistry.stream()).thenAnswer(__ -> Stream.of(tgt));
+        when(ticketRegistry.deleteTicket(any(Ticket.class))).thenReturn(1);
+        val cleaner = new IncrementalTicketRegistryCleaner(LockRepository.noOp(), mock(ConfigurableApplicationContext.class),
+            ticketRegistry, 10, Duration.ofSeconds(30), new SimpleMeterRegistry());
+        assertEquals(1, cleaner.clean());
+    }
+
+    private static DefaultTicketRegistry newTicketRegistry() {
+        return new DefaultTicketRegistry(mock(TicketSerializationManager.class), new DefaultTicketCatalog(),
+            mock(ConfigurableApplicationContext.class));
+    }
+}
@@ -0,0 +1,78 @@
+package org.apereo.cas.ticket.registry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.integration.support.locks.DefaultLockRegistry;
+import org.springframework.integration.support.locks.LockRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link LeaseBasedTicketLockRepositoryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("Tickets")
+class LeaseBasedTicketLockRepositoryTests {
+
+    @Test
+    void verifyDistributedLeaseObtained() throws Throwable {
+        val lock = mock(Lock.class);
+        when(lock.tryLock(anyLong(), any())).thenReturn(true);
+        val distributedRegistry = mock(LockRegistry.class);
+        when(distributedRegistry.obtain(any())).thenReturn(lock);
+        val meterRegistry = new SimpleMeterRegistry();
+        val repository = new LeaseBasedTicketLockRepository(distributedRegistry, Duration.ofSeconds(1), meterRegistry);
+        val result = repository.execute("TGT-1-abcdef-cas1", () -> "done");
+        assertEquals("done", result.orElseThrow());
+        verify(lock).tryLock(anyLong(), eq(TimeUnit.NANOSECONDS));
+        verify(lock).unlock();
+        assertEquals(1, meterRegistry.get("cas.ticket.registry.lock.wait").tag("scope", "local").timer().count());
+        assertEquals(1, meterRegistry.get("cas.ticket.registry.lock.wait").tag("scope", "distributed").timer().count());
+    }
+
+    @Test
+    void verifyDistributedLeaseUnavailable() throws Throwable {
+        val lock = mock(Lock.class);
+        when(lock.tryLock(anyLong(), any())).thenReturn(false);
+        val distributedRegistry = mock(LockRegistry.class);
+        when(distributedRegistry.obtain(any())).thenReturn(lock);
+        val repository = new LeaseBasedTicketLockRepository(distributedRegistry,
+            Duration.ofMillis(100), new SimpleMeterRegistry());
+        val result = repository.execute("TGT-1-abcdef-cas1", () -> "done");
+        assertTrue(result.isEmpty());
+        verify(lock, never()).unlock();
+    }
+
+    @Test
+    void verifyNodesExcludeEachOther() throws Throwable {
+        val distributedRegistry = new DefaultLockRegistry();
+        val issuingNode = new LeaseBasedTicketLockRepository(distributedRegistry, Duration.ofSeconds(5), new SimpleMeterRegistry());
+        val otherNode = new LeaseBasedTicketLockRepository(distributedRegistry, Duration.ofMillis(200), new SimpleMeterRegistry());
+        val ticketId = "TGT-1-abcdef-cas1";
+
+        val acquired = new CountDownLatch(1);
+        val release = new CountDownLatch(1);
+        val holder = CompletableFuture.supplyAsync(() -> issuingNode.execute(ticketId, () -> {
+            acquired.countDown();
+            return assertDoesNotThrow(() -> release.await(5, TimeUnit.SECONDS));
+        }));
+        assertTrue(acquired.await(5, TimeUnit.SECONDS));
+        val contended = CompletableFuture.supplyAsync(() -> otherNode.execute(ticketId, () -> "done")).get();
+        assertTrue(contended.isEmpty());
+
+        release.countDown();
+        assertTrue(holder.get().orElseThrow());
+        assertEquals("done", otherNode.execute(ticketId, () -> "done").orElseThrow());
+    }
+}
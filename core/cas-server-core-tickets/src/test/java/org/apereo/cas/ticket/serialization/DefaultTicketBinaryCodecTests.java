@@ -0,0 +1,136 @@
+package org.apereo.cas.ticket.serialization;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.ticket.AuthenticationAwareTicket;
+import org.apereo.cas.ticket.ProxyGrantingTicketIssuerTicket;
+import org.apereo.cas.ticket.ServiceTicket;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketAwareTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.TransientSessionTicket;
+import org.apereo.cas.ticket.TransientSessionTicketImpl;
+import org.apereo.cas.ticket.expiration.MultiTimeUseOrTimeoutExpirationPolicy;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.ticket.expiration.TicketGrantingTicketExpirationPolicy;
+import org.apereo.cas.ticket.proxy.ProxyGrantingTicket;
+import org.apereo.cas.ticket.proxy.ProxyTicket;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.tracking.AllServicesSessionTrackingPolicy;
+import org.apereo.cas.ticket.tracking.TicketTrackingPolicy;
+import org.apereo.cas.util.DefaultUniqueTicketIdGenerator;
+import org.apereo.cas.util.serialization.SerializationUtils;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link DefaultTicketBinaryCodecTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("Tickets")
+class DefaultTicketBinaryCodecTests {
+    private final DefaultUniqueTicketIdGenerator idGenerator = new DefaultUniqueTicketIdGenerator();
+
+    private final TicketBinaryCodec codec = new DefaultTicketBinaryCodec();
+
+    @Test
+    void verifyCoreTicketsRoundTrip() throws Throwable {
+        for (val ticket : createTickets()) {
+            val encoded = codec.encode(ticket);
+            val decoded = codec.decode(encoded);
+            assertEquals(ticket, decoded);
+            assertEquals(ticket.getClass(), decoded.getClass());
+            assertEquals(ticket.getCreationTime().toInstant(), decoded.getCreationTime().toInstant());
+            assertEquals(ticket.getExpirationPolicy(), decoded.getExpirationPolicy());
+            verifyTicketGrantingTicket(ticket, decoded);
+            verifyAuthentication(ticket, decoded);
+            if (ticket instanceof final TicketGrantingTicket ticketGrantingTicket) {
+                assertEquals(ticketGrantingTicket.getServices(), ((TicketGrantingTicket) decoded).getServices());
+            }
+        }
+    }
+
+    @Test
+    void verifyEncodingIsSmallerThanJavaSerialization() throws Throwable {
+        for (val ticket : createTickets()) {
+            val binary = codec.encode(ticket);
+            val serialized = SerializationUtils.serialize(ticket);
+            assertTrue(binary.length < serialized.length,
+                () -> "Binary encoding for %s is %s bytes, yet Java serialization is %s bytes"
+                    .formatted(ticket.getPrefix(), binary.length, serialized.length));
+        }
+    }
+
+    @Test
+    void verifyLegacyPayloadIsDecoded() {
+        val ticket = new TicketGrantingTicketImpl(idGenerator.getNewTicketId(TicketGrantingTicket.PREFIX),
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+        val legacyPayload = TicketBinaryCodec.javaSerialization().encode(ticket);
+        assertEquals(ticket, codec.decode(legacyPayload));
+    }
+
+    @Test
+    void verifyUnknownTicketTypeUsesJavaSerialization() {
+        val ticket = new MockTicketGrantingTicket("casuser");
+        val encoded = codec.encode(ticket);
+        assertArrayEquals(TicketBinaryCodec.javaSerialization().encode(ticket), encoded);
+        assertEquals(ticket, codec.decode(encoded));
+    }
+
+    @Test
+    void verifyUnsupportedVersion() throws Throwable {
+        val encoded = codec.encode(createTickets().getFirst());
+        encoded[2] = (byte) (DefaultTicketBinaryCodec.SCHEMA_VERSION + 1);
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(encoded));
+    }
+
+    private static void verifyTicketGrantingTicket(final Ticket ticket, final Ticket decoded) {
+        val ticketGrantingTicket = ((TicketGrantingTicketAwareTicket) ticket).getTicketGrantingTicket();
+        val decodedTicketGrantingTicket = ((TicketGrantingTicketAwareTicket) decoded).getTicketGrantingTicket();
+        if (ticketGrantingTicket == null) {
+            assertNull(decodedTicketGrantingTicket);
+        } else {
+            assertNotNull(decodedTicketGrantingTicket);
+            assertEquals(ticketGrantingTicket.getId(), decodedTicketGrantingTicket.getId());
+        }
+    }
+
+    private static void verifyAuthentication(final Ticket ticket, final Ticket decoded) {
+        if (ticket instanceof final AuthenticationAwareTicket authenticationAware && authenticationAware.getAuthentication() != null) {
+            val authentication = authenticationAware.getAuthentication();
+            val decodedAuthentication = ((AuthenticationAwareTicket) decoded).getAuthentication();
+            assertNotNull(decodedAuthentication);
+            assertEquals(authentication.getPrincipal().getId(), decodedAuthentication.getPrincipal().getId());
+            assertEquals(authentication.getPrincipal().getAttributes(), decodedAuthentication.getPrincipal().getAttributes());
+            assertEquals(authentication.getAttributes(), decodedAuthentication.getAttributes());
+        }
+    }
+
+    private List<Ticket> createTickets() throws Throwable {
+        val authentication = CoreAuthenticationTestUtils.getAuthentication();
+        val service = CoreAuthenticationTestUtils.getService();
+        val ticketGrantingTicket = new TicketGrantingTicketImpl(idGenerator.getNewTicketId(TicketGrantingTicket.PREFIX),
+            authentication, new TicketGrantingTicketExpirationPolicy(28800, 7200));
+        val serviceTicket = ticketGrantingTicket.grantServiceTicket(idGenerator.getNewTicketId(ServiceTicket.PREFIX),
+            service, new MultiTimeUseOrTimeoutExpirationPolicy.ServiceTicketExpirationPolicy(1, 10), false,
+            new AllServicesSessionTrackingPolicy(mock(TicketRegistry.class)));
+        assertFalse(ticketGrantingTicket.getServices().isEmpty());
+        val proxyGrantingTicket = ((ProxyGrantingTicketIssuerTicket) serviceTicket)
+            .grantProxyGrantingTicket(idGenerator.getNewTicketId(ProxyGrantingTicket.PROXY_GRANTING_TICKET_PREFIX),
+                authentication, NeverExpiresExpirationPolicy.INSTANCE);
+        val proxyTicket = proxyGrantingTicket.grantProxyTicket(idGenerator.getNewTicketId(ProxyTicket.PROXY_TICKET_PREFIX),
+            service, NeverExpiresExpirationPolicy.INSTANCE, TicketTrackingPolicy.noOp());
+        val transientTicket = new TransientSessionTicketImpl(idGenerator.getNewTicketId(TransientSessionTicket.PREFIX),
+            NeverExpiresExpirationPolicy.INSTANCE, service, Map.of("key", "value"));
+        return List.of(ticketGrantingTicket, serviceTicket, proxyGrantingTicket, proxyTicket, transientTicket);
+    }
+}
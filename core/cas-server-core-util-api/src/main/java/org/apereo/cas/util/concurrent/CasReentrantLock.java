@@ -6,6 +6,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.jooq.lambda.fi.util.function.CheckedConsumer;
 import org.jooq.lambda.fi.util.function.CheckedSupplier;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
@@ -86,6 +87,24 @@ public class CasReentrantLock {
         }
     }
 
+    /**
+     * Acquires the lock, waiting for as long as it takes
+     * for the lock to be released by another thread.
+     */
+    public void lock() {
+        lock.lock();
+    }
+
+    /**
+     * Returns a new condition bound to this lock. Threads must hold
+     * the lock when they wait on or signal the condition.
+     *
+     * @return the condition
+     */
+    public Condition newCondition() {
+        return lock.newCondition();
+    }
+
     /**
      * Attempts to release this lock.
      */
@@ -56,11 +56,15 @@ public abstract class AbstractDelegatingCasView extends AbstractCasView {
                                            @Nonnull final HttpServletRequest request,
                                            @Nonnull final HttpServletResponse response) {
         FunctionUtils.doAndHandle(__ -> {
-            val requestWrapper = new ContentCachingRequestWrapper(request);
-            val responseWrapper = new ContentCachingResponseWrapper(response);
             LOGGER.debug("Preparing the output model [{}] to render view [{}]", model.keySet(), getClass().getSimpleName());
             prepareMergedOutputModel(model, request, response);
             LOGGER.trace("Prepared output model with objects [{}]. Now rendering view...", model.keySet().toArray());
+            if (!LOGGER.isDebugEnabled()) {
+                getView().render(model, request, response);
+                return;
+            }
+            val requestWrapper = new ContentCachingRequestWrapper(request);
+            val responseWrapper = new ContentCachingResponseWrapper(response);
             try {
                 getView().render(model, requestWrapper, responseWrapper);
             } finally {
@@ -0,0 +1,270 @@
+package org.apereo.cas.web.flow.executor;
+
+import org.apereo.cas.util.LoggingUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.ArrayUtils;
+import org.cryptacular.bean.CipherBean;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * This is {@link StreamingEncryptedTranscoder}. It encodes the flow execution state
+ * by streaming the serialized object graph through a raw deflate stream into a reusable buffer,
+ * which is then handed over to the cipher. Buffers, {@link Deflater} and {@link Inflater} instances
+ * are pooled and reused across requests, rather than being allocated for every flow request and response.
+ * <p>
+ * Class descriptors of types that commonly appear in the flow execution state, such as webflow
+ * scopes and collections, credentials, services and authentication results, are written as a small index
+ * into a fixed dictionary along with their serial version id, instead of the full descriptor with its field names
+ * and types. Types that are not part of the dictionary are written using regular Java serialization.
+ * <p>
+ * The encoded form is not compatible with {@link EncryptedTranscoder}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+public class StreamingEncryptedTranscoder extends EncryptedTranscoder {
+    /**
+     * Format version written as the first byte of the encoded state.
+     */
+    static final byte FORMAT_VERSION = 1;
+
+    private static final int STREAM_BUFFER_SIZE = 512;
+
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+
+    private static final int MAXIMUM_POOLED_BUFFER_SIZE = 256 * 1024;
+
+    private static final List<String> KNOWN_CLASSES = List.of(
+        "org.apereo.cas.web.flow.executor.ClientFlowExecutionRepository$SerializedFlowExecutionState",
+        "org.springframework.webflow.engine.impl.FlowExecutionImpl",
+        "org.springframework.webflow.engine.impl.FlowSessionImpl",
+        "org.springframework.webflow.core.collection.LocalAttributeMap",
+        "org.springframework.webflow.core.collection.LocalParameterMap",
+        "org.apereo.cas.authentication.credential.AbstractCredential",
+        "org.apereo.cas.authentication.credential.UsernamePasswordCredential",
+        "org.apereo.cas.authentication.credential.RememberMeUsernamePasswordCredential",
+        "org.apereo.cas.authentication.credential.BasicIdentifiableCredential",
+        "org.apereo.cas.authentication.metadata.BasicCredentialMetadata",
+        "org.apereo.cas.authentication.principal.AbstractWebApplicationService",
+        "org.apereo.cas.authentication.principal.SimpleWebApplicationServiceImpl",
+        "org.apereo.cas.authentication.principal.SimplePrincipal",
+        "org.apereo.cas.authentication.principal.ClientCredential",
+        "org.apereo.cas.authentication.DefaultAuthentication",
+        "org.apereo.cas.authentication.DefaultAuthenticationHandlerExecutionResult",
+        "org.apereo.cas.services.BaseRegisteredService",
+        "org.apereo.cas.services.BaseWebBasedRegisteredService",
+        "org.apereo.cas.services.CasRegisteredService",
+        "java.util.ArrayList",
+        "java.util.LinkedList",
+        "java.util.HashMap",
+        "java.util.LinkedHashMap",
+        "java.util.TreeMap",
+        "java.util.HashSet",
+        "java.util.LinkedHashSet",
+        "java.util.TreeSet",
+        "java.util.concurrent.ConcurrentHashMap",
+        "java.util.concurrent.CopyOnWriteArrayList",
+        "java.util.Collections$UnmodifiableMap",
+        "java.util.Collections$UnmodifiableList",
+        "java.util.Collections$UnmodifiableRandomAccessList",
+        "java.util.Collections$UnmodifiableCollection",
+        "java.util.Collections$UnmodifiableSet",
+        "java.util.CollSer",
+        "java.lang.Enum",
+        "java.lang.Number",
+        "java.lang.Boolean",
+        "java.lang.Integer",
+        "java.lang.Long",
+        "java.lang.Double",
+        "java.time.Ser",
+        "[Ljava.lang.Object;",
+        "[Ljava.lang.String;"
+    );
+
+    private static final Map<String, Integer> KNOWN_CLASS_INDEXES;
+
+    static {
+        val indexes = new HashMap<String, Integer>();
+        for (var i = 0; i < KNOWN_CLASSES.size(); i++) {
+            indexes.put(KNOWN_CLASSES.get(i), i + 1);
+        }
+        KNOWN_CLASS_INDEXES = Map.copyOf(indexes);
+    }
+
+    private final InstancePool<PooledByteArrayOutputStream> buffers;
+
+    private final InstancePool<Deflater> deflaters;
+
+    private final InstancePool<Inflater> inflaters;
+
+    public StreamingEncryptedTranscoder(final CipherBean cipherBean) {
+        this(cipherBean, Deflater.DEFAULT_COMPRESSION, Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    public StreamingEncryptedTranscoder(final CipherBean cipherBean, final int compressionLevel, final int poolSize) {
+        super(cipherBean, true);
+        this.buffers = new InstancePool<>(poolSize,
+            () -> new PooledByteArrayOutputStream(INITIAL_BUFFER_SIZE),
+            ByteArrayOutputStream::reset, buffer -> buffer.capacity() <= MAXIMUM_POOLED_BUFFER_SIZE,
+            buffer -> LOGGER.trace("Discarding flow execution state buffer with capacity [{}]", buffer.capacity()));
+        this.deflaters = new InstancePool<>(poolSize, () -> new Deflater(compressionLevel, true),
+            Deflater::reset, __ -> true, Deflater::end);
+        this.inflaters = new InstancePool<>(poolSize, () -> new Inflater(true),
+            Inflater::reset, __ -> true, Inflater::end);
+    }
+
+    @Override
+    public byte[] encode(final Object o) throws IOException {
+        if (o == null) {
+            return ArrayUtils.EMPTY_BYTE_ARRAY;
+        }
+        val buffer = buffers.borrow();
+        val deflater = deflaters.borrow();
+        try {
+            buffer.write(FORMAT_VERSION);
+            try (val out = new CompactObjectOutputStream(new DeflaterOutputStream(buffer, deflater, STREAM_BUFFER_SIZE))) {
+                writeObjectToOutputStream(o, out);
+            } catch (final NotSerializableException e) {
+                LoggingUtils.warn(LOGGER, e);
+            }
+            return encrypt(buffer);
+        } finally {
+            deflaters.release(deflater);
+            buffers.release(buffer);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("BanSerializableRead")
+    public Object decode(final byte[] encoded) throws IOException {
+        val data = decrypt(encoded);
+        if (data == null || data.length == 0 || data[0] != FORMAT_VERSION) {
+            throw new IOException("Unsupported or unrecognized flow execution state format");
+        }
+        val inflater = inflaters.borrow();
+        try (val in = new CompactObjectInputStream(new InflaterInputStream(
+            new ByteArrayInputStream(data, 1, data.length - 1), inflater, STREAM_BUFFER_SIZE))) {
+            return in.readObject();
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+            throw new IOException("Deserialization error", e);
+        } finally {
+            inflaters.release(inflater);
+        }
+    }
+
+    private static final class PooledByteArrayOutputStream extends ByteArrayOutputStream {
+        PooledByteArrayOutputStream(final int size) {
+            super(size);
+        }
+
+        int capacity() {
+            return buf.length;
+        }
+    }
+
+    private static final class InstancePool<T> {
+        private final BlockingQueue<T> instances;
+
+        private final Supplier<T> factory;
+
+        private final Consumer<T> reset;
+
+        private final Predicate<T> reusable;
+
+        private final Consumer<T> dispose;
+
+        InstancePool(final int size, final Supplier<T> factory, final Consumer<T> reset,
+                     final Predicate<T> reusable, final Consumer<T> dispose) {
+            this.instances = new ArrayBlockingQueue<>(Math.max(1, size));
+            this.factory = factory;
+            this.reset = reset;
+            this.reusable = reusable;
+            this.dispose = dispose;
+        }
+
+        T borrow() {
+            return Objects.requireNonNullElseGet(instances.poll(), factory);
+        }
+
+        void release(final T instance) {
+            reset.accept(instance);
+            if (!reusable.test(instance) || !instances.offer(instance)) {
+                dispose.accept(instance);
+            }
+        }
+    }
+
+    private static final class CompactObjectOutputStream extends ObjectOutputStream {
+        CompactObjectOutputStream(final OutputStream out) throws IOException {
+            super(out);
+        }
+
+        @Override
+        protected void writeClassDescriptor(final ObjectStreamClass desc) throws IOException {
+            val index = KNOWN_CLASS_INDEXES.get(desc.getName());
+            if (index == null) {
+                writeByte(0);
+                super.writeClassDescriptor(desc);
+            } else {
+                writeByte(index);
+                writeLong(desc.getSerialVersionUID());
+            }
+        }
+    }
+
+    private static final class CompactObjectInputStream extends ObjectInputStream {
+        CompactObjectInputStream(final InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+            val index = readUnsignedByte();
+            if (index == 0) {
+                return super.readClassDescriptor();
+            }
+            if (index > KNOWN_CLASSES.size()) {
+                throw new InvalidClassException("Unknown class descriptor index " + index);
+            }
+            val className = KNOWN_CLASSES.get(index - 1);
+            val serialVersionUID = readLong();
+            val descriptor = ObjectStreamClass.lookupAny(Class.forName(className, false, getClassLoader()));
+            if (descriptor.getSerialVersionUID() != serialVersionUID) {
+                throw new InvalidClassException(className, "Local class is incompatible with the serialized flow execution state");
+            }
+            return descriptor;
+        }
+
+        private static ClassLoader getClassLoader() {
+            return Objects.requireNonNullElse(Thread.currentThread().getContextClassLoader(),
+                StreamingEncryptedTranscoder.class.getClassLoader());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.apereo.cas.web.flow.executor;
 
 import org.apereo.cas.configuration.model.core.web.flow.WebflowProperties;
+import org.apereo.cas.configuration.model.core.web.flow.WebflowSessionManagementProperties;
 import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.util.crypto.CipherExecutor;
 
@@ -87,7 +88,9 @@ public class WebflowExecutorFactory {
 
     private Transcoder getWebflowStateTranscoder() {
         val cipherBean = new WebflowCipherBean(webflowCipherExecutor);
-        return new EncryptedTranscoder(cipherBean);
+        return webflowProperties.getSession().getTranscoder() == WebflowSessionManagementProperties.WebflowSessionTranscoderTypes.STREAMING
+            ? new StreamingEncryptedTranscoder(cipherBean)
+            : new EncryptedTranscoder(cipherBean);
     }
 
     @RequiredArgsConstructor
@@ -0,0 +1,116 @@
+package org.apereo.cas.web.flow.executor;
+
+import lombok.val;
+import org.apache.commons.lang3.ArrayUtils;
+import org.cryptacular.bean.AEADBlockCipherBean;
+import org.cryptacular.bean.CipherBean;
+import org.cryptacular.bean.KeyStoreFactoryBean;
+import org.cryptacular.io.FileResource;
+import org.cryptacular.spec.AEADBlockCipherSpec;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.io.File;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link StreamingEncryptedTranscoderTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("Webflow")
+class StreamingEncryptedTranscoderTests {
+
+    private static CipherBean getCipherBean() throws Exception {
+        val ksFactory = new KeyStoreFactoryBean();
+        ksFactory.setResource(new FileResource(new File("src/test/resources/test-keystore.jceks")));
+        ksFactory.setType("JCEKS");
+        ksFactory.setPassword("changeit");
+
+        val cipherBean = new AEADBlockCipherBean();
+        cipherBean.setBlockCipherSpec(new AEADBlockCipherSpec("AES", "GCM"));
+        cipherBean.setKeyStore(ksFactory.newInstance());
+        cipherBean.setKeyAlias("aes128");
+        cipherBean.setKeyPassword("changeit");
+        cipherBean.setNonce(new org.cryptacular.generator.sp80038d.RBGNonce());
+        return cipherBean;
+    }
+
+    private static Map<String, Object> getFlowScope() {
+        val scope = new LinkedHashMap<String, Object>();
+        scope.put("service", "https://apps.example.org/login?param=" + UUID.randomUUID());
+        scope.put("credential", new SampleCredential("casuser", List.of("mfa-duo", "mfa-gauth")));
+        scope.put("authenticationSuccessful", Boolean.TRUE);
+        scope.put("attempts", 2);
+        scope.put("delegatedClients", new ArrayList<>(List.of("CasClient", "SAML2Client", "OidcClient")));
+        scope.put("nested", new LinkedHashMap<>(Map.of("key", List.of("value1", "value2"))));
+        return scope;
+    }
+
+    @Test
+    void verifyEncodeDecode() throws Throwable {
+        val transcoder = new StreamingEncryptedTranscoder(getCipherBean());
+        val scope = getFlowScope();
+        for (var i = 0; i < 3; i++) {
+            val encoded = transcoder.encode(scope);
+            assertEquals(scope, transcoder.decode(encoded));
+        }
+    }
+
+    @Test
+    void verifyEncodingIsSmaller() throws Throwable {
+        val cipherBean = getCipherBean();
+        val scope = getFlowScope();
+        val streaming = new StreamingEncryptedTranscoder(cipherBean).encode(scope);
+        val standard = new EncryptedTranscoder(cipherBean).encode(scope);
+        assertTrue(streaming.length < standard.length,
+            () -> "Streaming encoding is %s bytes, yet default encoding is %s bytes".formatted(streaming.length, standard.length));
+    }
+
+    @Test
+    void verifyConcurrentUse() throws Throwable {
+        val transcoder = new StreamingEncryptedTranscoder(getCipherBean(), 1, 2);
+        try (val executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            val results = IntStream.range(0, 50)
+                .mapToObj(i -> executor.submit(() -> {
+                    val scope = getFlowScope();
+                    return scope.equals(transcoder.decode(transcoder.encode(scope)));
+                }))
+                .toList();
+            for (val result : results) {
+                assertTrue(result.get());
+            }
+        }
+    }
+
+    @Test
+    void verifyIncompatibleFormat() throws Throwable {
+        val cipherBean = getCipherBean();
+        val encoded = new EncryptedTranscoder(cipherBean).encode("casuser");
+        val transcoder = new StreamingEncryptedTranscoder(cipherBean);
+        assertThrows(IOException.class, () -> transcoder.decode(encoded));
+    }
+
+    @Test
+    void verifyNullAndBadCipher() throws Throwable {
+        val bean = mock(CipherBean.class);
+        when(bean.decrypt(any())).thenThrow(IllegalArgumentException.class);
+        val transcoder = new StreamingEncryptedTranscoder(bean);
+        assertArrayEquals(ArrayUtils.EMPTY_BYTE_ARRAY, transcoder.encode(null));
+        assertThrows(IOException.class, () -> transcoder.decode(ArrayUtils.EMPTY_BYTE_ARRAY));
+    }
+
+    private record SampleCredential(String id, List<String> providers) implements Serializable {
+    }
+}
@@ -31,6 +31,11 @@ public class DynamoDbAuditTrailManager extends AbstractAuditTrailManager {
         this.dynamoDbFacilitator.save(audit);
     }
 
+    @Override
+    protected void saveAuditRecords(final List<AuditActionContext> records) {
+        this.dynamoDbFacilitator.save(records);
+    }
+
     @Override
     public List<? extends AuditActionContext> getAuditRecords(final Map<WhereClauseFields, Object> whereClause) {
         return dynamoDbFacilitator.getAuditRecords(whereClause);
@@ -18,14 +18,19 @@ import org.apereo.inspektr.common.web.ClientInfo;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
 import software.amazon.awssdk.services.dynamodb.model.KeyType;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -40,6 +45,12 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class DynamoDbAuditTrailManagerFacilitator {
 
+    private static final int MAX_BATCH_WRITE_ITEMS = 25;
+
+    private static final int MAX_BATCH_WRITE_ATTEMPTS = 5;
+
+    private static final Duration BATCH_WRITE_BACKOFF = Duration.ofMillis(100);
+
     private final AuditDynamoDbProperties dynamoDbProperties;
     private final DynamoDbClient amazonDynamoDBClient;
 
@@ -100,6 +111,52 @@ public class DynamoDbAuditTrailManagerFacilitator {
         LOGGER.debug("Record added with result [{}]", putItemResult);
     }
 
+    /**
+     * Save the given records in batches, using the {@code BatchWriteItem} operation.
+     * Records that share the same principal within a batch are collapsed into a single write,
+     * keeping the last record, as a batch may not contain multiple writes for the same key.
+     *
+     * @param records the records
+     */
+    public void save(final List<AuditActionContext> records) {
+        val writeRequests = List.copyOf(records
+            .stream()
+            .collect(Collectors.toMap(AuditActionContext::getPrincipal,
+                record -> WriteRequest.builder()
+                    .putRequest(PutRequest.builder().item(buildTableAttributeValuesMap(record)).build())
+                    .build(),
+                (first, second) -> second, LinkedHashMap::new))
+            .values());
+        for (var index = 0; index < writeRequests.size(); index += MAX_BATCH_WRITE_ITEMS) {
+            val batch = writeRequests.subList(index, Math.min(index + MAX_BATCH_WRITE_ITEMS, writeRequests.size()));
+            var requestItems = Map.of(dynamoDbProperties.getTableName(), batch);
+            for (var attempt = 0; !requestItems.isEmpty() && attempt < MAX_BATCH_WRITE_ATTEMPTS; attempt++) {
+                if (attempt > 0 && !backoff(attempt)) {
+                    break;
+                }
+                val request = BatchWriteItemRequest.builder().requestItems(requestItems).build();
+                LOGGER.debug("Submitting batch write request for [{}] record(s)", batch.size());
+                requestItems = amazonDynamoDBClient.batchWriteItem(request).unprocessedItems();
+            }
+            if (!requestItems.isEmpty()) {
+                LOGGER.warn("Unable to save [{}] audit record(s) after [{}] attempts",
+                    requestItems.values().stream().mapToInt(List::size).sum(), MAX_BATCH_WRITE_ATTEMPTS);
+            }
+        }
+    }
+
+    private static boolean backoff(final int attempt) {
+        val delay = BATCH_WRITE_BACKOFF.multipliedBy(1L << (attempt - 1));
+        LOGGER.debug("Retrying unprocessed audit records in [{}]", delay);
+        try {
+            Thread.sleep(delay);
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
     /**
      * Remove all.
      */
@@ -190,6 +190,7 @@ public class CasJdbcAuditAutoConfiguration {
                     manager.setCleanupCriteria(auditCleanupCriteria);
                     val jdbc = casProperties.getAudit().getJdbc();
                     manager.setAsynchronous(jdbc.isAsynchronous());
+                    manager.setPipelineProperties(casProperties.getAudit().getEngine().getPipeline());
                     manager.setColumnLength(jdbc.getColumnLength());
                     manager.setTableName(getAuditTableNameFrom(jdbc));
                     FunctionUtils.doIfNotBlank(jdbc.getSelectSqlQueryTemplate(), manager::setSelectByDateSqlTemplate);
@@ -42,6 +42,11 @@ public class MongoDbAuditTrailManager extends AbstractAuditTrailManager {
         this.mongoTemplate.save(audit, this.collectionName);
     }
 
+    @Override
+    protected void saveAuditRecords(final List<AuditActionContext> records) {
+        this.mongoTemplate.insert(records, this.collectionName);
+    }
+
     @Override
     public List<? extends AuditActionContext> getAuditRecords(final Map<WhereClauseFields, Object> whereClause) {
         val localDate = (LocalDateTime) whereClause.get(WhereClauseFields.DATE);
@@ -49,7 +49,9 @@ public class CasSupportMongoDbAuditAutoConfiguration {
         val factory = new MongoDbConnectionFactory(List.of(new AuditActionContextConverter()), casSslContext.getSslContext());
         val mongoTemplate = factory.buildMongoTemplate(mongo);
         MongoDbConnectionFactory.createCollection(mongoTemplate, mongo.getCollection(), mongo.isDropCollection());
-        return new MongoDbAuditTrailManager(mongoTemplate, mongo.getCollection(), mongo.isAsynchronous());
+        val manager = new MongoDbAuditTrailManager(mongoTemplate, mongo.getCollection(), mongo.isAsynchronous());
+        manager.setPipelineProperties(casProperties.getAudit().getEngine().getPipeline());
+        return manager;
     }
 
     @Bean
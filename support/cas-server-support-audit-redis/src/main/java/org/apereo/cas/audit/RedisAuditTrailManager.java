@@ -7,6 +7,10 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apereo.inspektr.audit.AuditActionContext;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import jakarta.annotation.Nonnull;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
@@ -78,8 +82,24 @@ public class RedisAuditTrailManager extends AbstractAuditTrailManager {
 
     @Override
     protected void saveAuditRecord(final AuditActionContext audit) {
-        val redisKey = getPatternAuditRedisKey(String.valueOf(audit.getWhenActionWasPerformed().toEpochSecond(ZoneOffset.UTC)), audit.getPrincipal());
-        this.redisTemplate.boundValueOps(redisKey).set(audit);
+        this.redisTemplate.boundValueOps(getAuditRedisKey(audit)).set(audit);
+    }
+
+    @Override
+    protected void saveAuditRecords(final List<AuditActionContext> records) {
+        redisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(@Nonnull final RedisOperations<K, V> operations) {
+                val valueOperations = (ValueOperations<String, AuditActionContext>) operations.opsForValue();
+                records.forEach(audit -> valueOperations.set(getAuditRedisKey(audit), audit));
+                return null;
+            }
+        });
+    }
+
+    private static String getAuditRedisKey(final AuditActionContext audit) {
+        return getPatternAuditRedisKey(String.valueOf(audit.getWhenActionWasPerformed().toEpochSecond(ZoneOffset.UTC)), audit.getPrincipal());
     }
 
     private Stream<String> getAuditRedisKeys(final long count) {
@@ -48,7 +48,9 @@ public class CasSupportRedisAuditAutoConfiguration {
             .when(CONDITION.given(applicationContext.getEnvironment()))
             .supply(() -> {
                 val redis = casProperties.getAudit().getRedis();
-                return new RedisAuditTrailManager(auditRedisTemplate, redis.isAsynchronous());
+                val manager = new RedisAuditTrailManager(auditRedisTemplate, redis.isAsynchronous());
+                manager.setPipelineProperties(casProperties.getAudit().getEngine().getPipeline());
+                return manager;
             })
             .otherwiseProxy()
             .get();
@@ -36,7 +36,9 @@ public class CasSupportRestAuditAutoConfiguration {
         final ConfigurableApplicationContext applicationContext,
         final CasConfigurationProperties casProperties) {
         val rest = casProperties.getAudit().getRest();
-        return new RestAuditTrailManager(new AuditActionContextJsonSerializer(applicationContext), rest);
+        val manager = new RestAuditTrailManager(new AuditActionContextJsonSerializer(applicationContext), rest);
+        manager.setPipelineProperties(casProperties.getAudit().getEngine().getPipeline());
+        return manager;
     }
 
     @Bean
@@ -0,0 +1,194 @@
+package org.apereo.cas.api;
+
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
+import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
+import org.apereo.cas.util.DateTimeUtils;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link AuthenticationRiskProfile}. It summarizes the recent authentication history
+ * of a principal as a set of counters, keyed by client ip address, user agent, device fingerprint,
+ * geolocation and hour of the day, so that risk calculators can score an authentication
+ * request against the same profile without having to walk through the history of authentication events.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+@Getter
+@ToString(of = {"principal", "total"})
+@RequiredArgsConstructor
+public class AuthenticationRiskProfile implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 5260389587163213541L;
+
+    private static final int HOURS_IN_DAY = 24;
+
+    private final String principal;
+
+    private final Map<String, Long> clientIpAddresses = new HashMap<>();
+
+    private final Map<String, Long> userAgents = new HashMap<>();
+
+    private final Map<String, Long> deviceFingerprints = new HashMap<>();
+
+    private final Map<String, Long> geoLocations = new HashMap<>();
+
+    private final long[] hoursOfDay = new long[HOURS_IN_DAY];
+
+    private long total;
+
+    /**
+     * Build the risk profile for the principal from the ticket-granting ticket creation events
+     * recorded for the principal since the given date, using a single query.
+     *
+     * @param casEventRepository the cas event repository
+     * @param principal          the principal
+     * @param since              the date since which events should be considered
+     * @return the authentication risk profile
+     */
+    public static AuthenticationRiskProfile forPrincipal(final CasEventRepository casEventRepository,
+                                                         final String principal,
+                                                         final ZonedDateTime since) {
+        val type = CasTicketGrantingTicketCreatedEvent.class.getName();
+        LOGGER.debug("Retrieving events of type [{}] for [{}] to build authentication risk profile", type, principal);
+        return from(principal, casEventRepository.getEventsOfTypeForPrincipal(type, principal, since));
+    }
+
+    /**
+     * Build the risk profile for the principal from the given events.
+     *
+     * @param principal the principal
+     * @param events    the events
+     * @return the authentication risk profile
+     */
+    public static AuthenticationRiskProfile from(final String principal, final Stream<? extends CasEvent> events) {
+        val profile = new AuthenticationRiskProfile(principal);
+        events.forEach(profile::record);
+        LOGGER.debug("Built authentication risk profile [{}]", profile);
+        return profile;
+    }
+
+    /**
+     * Record the event into the profile.
+     *
+     * @param event the event
+     * @return the authentication risk profile
+     */
+    public AuthenticationRiskProfile record(final CasEvent event) {
+        total++;
+        increment(clientIpAddresses, normalize(event.getClientIpAddress()));
+        increment(userAgents, normalize(event.getAgent()));
+        increment(deviceFingerprints, normalize(event.getDeviceFingerprint()));
+        increment(geoLocations, toGeoLocationKey(event.getGeoLocation()));
+        if (StringUtils.isNotBlank(event.getCreationTime())) {
+            val creationTime = DateTimeUtils.convertToZonedDateTime(event.getCreationTime());
+            hoursOfDay[creationTime.withZoneSameInstant(ZoneOffset.UTC).getHour()]++;
+        }
+        return this;
+    }
+
+    /**
+     * Whether the profile has recorded any events.
+     *
+     * @return true/false
+     */
+    public boolean isEmpty() {
+        return total == 0;
+    }
+
+    /**
+     * Count events recorded for the client ip address, ignoring case.
+     *
+     * @param clientIpAddress the client ip address
+     * @return the count
+     */
+    public long countClientIpAddress(final String clientIpAddress) {
+        return count(clientIpAddresses, normalize(clientIpAddress));
+    }
+
+    /**
+     * Count events recorded for the user agent, ignoring case.
+     *
+     * @param userAgent the user agent
+     * @return the count
+     */
+    public long countUserAgent(final String userAgent) {
+        return count(userAgents, normalize(userAgent));
+    }
+
+    /**
+     * Count events recorded for the device fingerprint, ignoring case.
+     *
+     * @param deviceFingerprint the device fingerprint
+     * @return the count
+     */
+    public long countDeviceFingerprint(final String deviceFingerprint) {
+        return count(deviceFingerprints, normalize(deviceFingerprint));
+    }
+
+    /**
+     * Count events recorded for the geolocation.
+     *
+     * @param geoLocation the geo location
+     * @return the count
+     */
+    public long countGeoLocation(final GeoLocationRequest geoLocation) {
+        return count(geoLocations, toGeoLocationKey(geoLocation));
+    }
+
+    /**
+     * Count events recorded between the given hours of the day, inclusive.
+     * If the starting hour is after the ending hour, the range is taken
+     * to wrap around midnight.
+     *
+     * @param fromHour the starting hour
+     * @param toHour   the ending hour
+     * @return the count
+     */
+    public long countHoursOfDay(final int fromHour, final int toHour) {
+        var count = 0L;
+        for (var hour = 0; hour < HOURS_IN_DAY; hour++) {
+            val inRange = fromHour <= toHour
+                ? hour >= fromHour && hour <= toHour
+                : hour >= fromHour || hour <= toHour;
+            if (inRange) {
+                count += hoursOfDay[hour];
+            }
+        }
+        return count;
+    }
+
+    private static void increment(final Map<String, Long> counters, final String key) {
+        if (key != null) {
+            counters.merge(key, 1L, Long::sum);
+        }
+    }
+
+    private static long count(final Map<String, Long> counters, final String key) {
+        return key == null ? 0 : counters.getOrDefault(key, 0L);
+    }
+
+    private static String normalize(final String value) {
+        return StringUtils.isBlank(value) ? null : value.toLowerCase(Locale.ENGLISH);
+    }
+
+    private static String toGeoLocationKey(final GeoLocationRequest geoLocation) {
+        return geoLocation == null ? null : geoLocation.getLatitude() + ',' + geoLocation.getLongitude();
+    }
+}
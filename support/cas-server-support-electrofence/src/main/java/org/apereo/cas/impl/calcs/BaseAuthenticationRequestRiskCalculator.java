@@ -1,13 +1,12 @@
 package org.apereo.cas.impl.calcs;
 
 import org.apereo.cas.api.AuthenticationRequestRiskCalculator;
+import org.apereo.cas.api.AuthenticationRiskProfile;
 import org.apereo.cas.api.AuthenticationRiskScore;
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.support.events.CasEventRepository;
-import org.apereo.cas.support.events.dao.CasEvent;
-import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
 
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -20,9 +19,6 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
-import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * This is {@link BaseAuthenticationRequestRiskCalculator}.
@@ -42,12 +38,19 @@ public abstract class BaseAuthenticationRequestRiskCalculator implements Authent
     public final AuthenticationRiskScore calculate(final Authentication authentication,
                                                    final RegisteredService service,
                                                    final ClientInfo clientInfo) {
-        val principal = authentication.getPrincipal();
-        val events = getCasTicketGrantingTicketCreatedEventsFor(principal.getId()).collect(Collectors.toList());
-        if (events.isEmpty()) {
+        val profile = getAuthenticationRiskProfile(authentication.getPrincipal().getId());
+        return calculate(authentication, service, clientInfo, profile);
+    }
+
+    @Override
+    public final AuthenticationRiskScore calculate(final Authentication authentication,
+                                                   final RegisteredService service,
+                                                   final ClientInfo clientInfo,
+                                                   final AuthenticationRiskProfile profile) {
+        if (profile.isEmpty()) {
             return AuthenticationRiskScore.highestRiskScore();
         }
-        val score = calculateScore(clientInfo, authentication, service, events);
+        val score = calculateScore(clientInfo, authentication, service, profile);
         val authenticationRiskScore = new AuthenticationRiskScore(score).withClientInfo(ClientInfoHolder.getClientInfo());
         LOGGER.debug("Calculated authentication risk score by [{}] is [{}]", getClass().getSimpleName(), authenticationRiskScore);
         return authenticationRiskScore;
@@ -56,23 +59,20 @@ public abstract class BaseAuthenticationRequestRiskCalculator implements Authent
     protected BigDecimal calculateScore(final ClientInfo clientInfo,
                                         final Authentication authentication,
                                         final RegisteredService service,
-                                        final List<? extends CasEvent> events) {
+                                        final AuthenticationRiskProfile profile) {
         return AuthenticationRiskScore.highestRiskScore().getScore();
     }
 
-    protected Stream<? extends CasEvent> getCasTicketGrantingTicketCreatedEventsFor(final String principal) {
-        val type = CasTicketGrantingTicketCreatedEvent.class.getName();
-        LOGGER.debug("Retrieving events of type [{}] for [{}]", type, principal);
-
+    protected AuthenticationRiskProfile getAuthenticationRiskProfile(final String principal) {
         val date = ZonedDateTime.now(ZoneOffset.UTC)
             .minusDays(casProperties.getAuthn().getAdaptive().getRisk().getCore().getDaysInRecentHistory());
-        return casEventRepository.getEventsOfTypeForPrincipal(type, principal, date);
+        return AuthenticationRiskProfile.forPrincipal(casEventRepository, principal, date);
     }
 
     protected BigDecimal calculateScoreBasedOnEventsCount(final Authentication authentication,
-                                                          final List<? extends CasEvent> events,
+                                                          final AuthenticationRiskProfile profile,
                                                           final long count) {
-        val eventCount = events.size();
+        val eventCount = profile.getTotal();
         if (count == eventCount) {
             LOGGER.debug("Principal [{}] is assigned to the lowest risk score with attempted count of [{}]",
                 authentication.getPrincipal(), count);
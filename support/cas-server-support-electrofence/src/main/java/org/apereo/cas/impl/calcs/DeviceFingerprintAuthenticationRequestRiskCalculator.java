@@ -1,16 +1,14 @@
 package org.apereo.cas.impl.calcs;
 
+import org.apereo.cas.api.AuthenticationRiskProfile;
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.support.events.CasEventRepository;
-import org.apereo.cas.support.events.dao.CasEvent;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
-import org.apache.commons.lang3.StringUtils;
 import org.apereo.inspektr.common.web.ClientInfo;
 import java.math.BigDecimal;
-import java.util.List;
 
 /**
  * This is {@link DeviceFingerprintAuthenticationRequestRiskCalculator}.
@@ -30,14 +28,11 @@ public class DeviceFingerprintAuthenticationRequestRiskCalculator extends BaseAu
     protected BigDecimal calculateScore(final ClientInfo clientInfo,
                                         final Authentication authentication,
                                         final RegisteredService service,
-                                        final List<? extends CasEvent> events) {
+                                        final AuthenticationRiskProfile profile) {
         val deviceFingerprint = clientInfo.getDeviceFingerprint();
         LOGGER.debug("Filtering authentication events for device fingerprint [{}]", deviceFingerprint);
-        val count = events.stream()
-            .filter(e -> StringUtils.isNotBlank(e.getDeviceFingerprint()))
-            .filter(e -> e.getDeviceFingerprint().equalsIgnoreCase(deviceFingerprint))
-            .count();
+        val count = profile.countDeviceFingerprint(deviceFingerprint);
         LOGGER.debug("Total authentication events found for [{}]: [{}]", deviceFingerprint, count);
-        return calculateScoreBasedOnEventsCount(authentication, events, count);
+        return calculateScoreBasedOnEventsCount(authentication, profile, count);
     }
 }
@@ -1,5 +1,6 @@
 package org.apereo.cas.impl.calcs;
 
+import org.apereo.cas.api.AuthenticationRiskProfile;
 import org.apereo.cas.api.AuthenticationRiskScore;
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
@@ -7,7 +8,6 @@ import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.support.events.CasEventRepository;
-import org.apereo.cas.support.events.dao.CasEvent;
 import org.apereo.cas.util.http.HttpRequestUtils;
 
 import lombok.extern.slf4j.Slf4j;
@@ -16,7 +16,6 @@ import org.apereo.inspektr.common.web.ClientInfo;
 import org.apereo.inspektr.common.web.ClientInfoHolder;
 
 import java.math.BigDecimal;
-import java.util.List;
 
 /**
  * This is {@link GeoLocationAuthenticationRequestRiskCalculator}.
@@ -38,25 +37,22 @@ public class GeoLocationAuthenticationRequestRiskCalculator extends BaseAuthenti
 
     @Override
     protected BigDecimal calculateScore(final ClientInfo clientInfo, final Authentication authentication,
-                                        final RegisteredService service, final List<? extends CasEvent> events) {
+                                        final RegisteredService service, final AuthenticationRiskProfile profile) {
         val loc = HttpRequestUtils.getHttpServletRequestGeoLocation(clientInfo.getGeoLocation());
         if (loc.isValid()) {
             LOGGER.debug("Filtering authentication events for geolocation [{}]", loc);
-            val count = events.stream().filter(e -> e.getGeoLocation().equals(loc)).count();
+            val count = profile.countGeoLocation(loc);
             LOGGER.debug("Total authentication events found for [{}]: [{}]", loc, count);
-            return calculateScoreBasedOnEventsCount(authentication, events, count);
+            return calculateScoreBasedOnEventsCount(authentication, profile, count);
         }
         val remoteAddr = ClientInfoHolder.getClientInfo().getClientIpAddress();
         LOGGER.debug("Filtering authentication events for location based on ip [{}]", remoteAddr);
         val response = geoLocationService.locate(remoteAddr);
         if (response != null) {
             val locationRequest = new GeoLocationRequest(response.getLatitude(), response.getLongitude());
-            val count = events
-                .stream()
-                .filter(e -> e.getGeoLocation().equals(locationRequest))
-                .count();
+            val count = profile.countGeoLocation(locationRequest);
             LOGGER.debug("Total authentication events found for location of [{}]: [{}]", remoteAddr, count);
-            return calculateScoreBasedOnEventsCount(authentication, events, count);
+            return calculateScoreBasedOnEventsCount(authentication, profile, count);
         }
         LOGGER.debug("Request does not contain enough geolocation data");
         return AuthenticationRiskScore.highestRiskScore().getScore();
@@ -2,6 +2,7 @@ package org.apereo.cas.impl.engine;
 
 import org.apereo.cas.api.AuthenticationRequestRiskCalculator;
 import org.apereo.cas.api.AuthenticationRiskEvaluator;
+import org.apereo.cas.api.AuthenticationRiskProfile;
 import org.apereo.cas.api.AuthenticationRiskScore;
 import org.apereo.cas.audit.AuditActionResolvers;
 import org.apereo.cas.audit.AuditResourceResolvers;
@@ -22,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Clock;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Objects;
@@ -56,9 +58,10 @@ public class DefaultAuthenticationRiskEvaluator implements AuthenticationRiskEva
             return AuthenticationRiskScore.highestRiskScore();
         }
 
+        val profile = buildAuthenticationRiskProfile(authentication);
         val scores = calculators
             .stream()
-            .map(riskCalculator -> riskCalculator.calculate(authentication, service, clientInfo))
+            .map(riskCalculator -> riskCalculator.calculate(authentication, service, clientInfo, profile))
             .filter(Objects::nonNull)
             .toList();
 
@@ -82,6 +85,12 @@ public class DefaultAuthenticationRiskEvaluator implements AuthenticationRiskEva
         return score.isRiskGreaterThan(threshold) && !isRiskyAuthenticationAcceptable(authentication, score);
     }
 
+    protected AuthenticationRiskProfile buildAuthenticationRiskProfile(final Authentication authentication) {
+        val date = ZonedDateTime.now(ZoneOffset.UTC)
+            .minusDays(casProperties.getAuthn().getAdaptive().getRisk().getCore().getDaysInRecentHistory());
+        return AuthenticationRiskProfile.forPrincipal(casEventRepository, authentication.getPrincipal().getId(), date);
+    }
+
     protected boolean isRiskyAuthenticationAcceptable(final Authentication authentication,
                                                       final AuthenticationRiskScore score) {
         val historyWindow = Beans.newDuration(casProperties.getAuthn().getAdaptive()
@@ -0,0 +1,95 @@
+package org.apereo.cas.api;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.impl.calcs.DateTimeAuthenticationRequestRiskCalculator;
+import org.apereo.cas.impl.calcs.DeviceFingerprintAuthenticationRequestRiskCalculator;
+import org.apereo.cas.impl.calcs.IpAddressAuthenticationRequestRiskCalculator;
+import org.apereo.cas.impl.calcs.UserAgentAuthenticationRequestRiskCalculator;
+import org.apereo.cas.impl.engine.DefaultAuthenticationRiskEvaluator;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.dao.CasEvent;
+import lombok.val;
+import org.apereo.inspektr.common.web.ClientInfo;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link AuthenticationRiskProfileTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("Authentication")
+class AuthenticationRiskProfileTests {
+
+    private static CasEvent getEvent(final String ip, final String agent, final int hour) {
+        val event = new CasEvent();
+        event.setPrincipalId("casuser");
+        event.putClientIpAddress(ip);
+        event.putAgent(agent);
+        event.putDeviceFingerprint("fingerprint");
+        event.putGeoLocation(new GeoLocationRequest(40.71, -74.005));
+        event.setCreationTime(ZonedDateTime.now(ZoneOffset.UTC).withHour(hour).toString());
+        return event;
+    }
+
+    private static List<CasEvent> getEvents() {
+        return List.of(
+            getEvent("1.2.3.4", "Firefox", 1),
+            getEvent("1.2.3.4", "firefox", 10),
+            getEvent("5.6.7.8", "Chrome", 23));
+    }
+
+    @Test
+    void verifyProfileCounters() {
+        val profile = AuthenticationRiskProfile.from("casuser", getEvents().stream());
+        assertFalse(profile.isEmpty());
+        assertEquals(3, profile.getTotal());
+        assertEquals(2, profile.countClientIpAddress("1.2.3.4"));
+        assertEquals(0, profile.countClientIpAddress(null));
+        assertEquals(2, profile.countUserAgent("FIREFOX"));
+        assertEquals(1, profile.countUserAgent("chrome"));
+        assertEquals(3, profile.countDeviceFingerprint("Fingerprint"));
+        assertEquals(3, profile.countGeoLocation(new GeoLocationRequest(40.71, -74.005)));
+        assertEquals(0, profile.countGeoLocation(new GeoLocationRequest(48.85, 2.35)));
+        assertEquals(2, profile.countHoursOfDay(0, 12));
+        assertEquals(2, profile.countHoursOfDay(22, 2));
+        assertEquals(0, profile.countHoursOfDay(11, 22));
+        assertTrue(AuthenticationRiskProfile.from("casuser", Stream.empty()).isEmpty());
+    }
+
+    @Test
+    void verifyHistoryIsReadOncePerEvaluation() {
+        val casProperties = new CasConfigurationProperties();
+        val repository = mock(CasEventRepository.class);
+        when(repository.getEventsOfTypeForPrincipal(anyString(), anyString(), any(ZonedDateTime.class)))
+            .thenAnswer(invocation -> getEvents().stream());
+
+        val calculators = List.<AuthenticationRequestRiskCalculator>of(
+            new IpAddressAuthenticationRequestRiskCalculator(repository, casProperties),
+            new UserAgentAuthenticationRequestRiskCalculator(repository, casProperties),
+            new DeviceFingerprintAuthenticationRequestRiskCalculator(repository, casProperties),
+            new DateTimeAuthenticationRequestRiskCalculator(repository, casProperties));
+        val evaluator = new DefaultAuthenticationRiskEvaluator(calculators, casProperties, repository);
+
+        val request = new MockHttpServletRequest();
+        request.setRemoteAddr("1.2.3.4");
+        request.addHeader(HttpHeaders.USER_AGENT, "Firefox");
+        val score = evaluator.evaluate(CoreAuthenticationTestUtils.getAuthentication("casuser"),
+            RegisteredServiceTestUtils.getRegisteredService(), ClientInfo.from(request));
+        assertNotNull(score);
+        assertFalse(score.isHighestRisk());
+        verify(repository, times(1)).getEventsOfTypeForPrincipal(anyString(), anyString(), any(ZonedDateTime.class));
+    }
+}
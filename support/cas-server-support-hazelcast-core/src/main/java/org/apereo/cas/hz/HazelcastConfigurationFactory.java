@@ -2,6 +2,7 @@ package org.apereo.cas.hz;
 
 import org.apereo.cas.configuration.model.support.hazelcast.BaseHazelcastProperties;
 import org.apereo.cas.configuration.model.support.hazelcast.HazelcastClusterProperties;
+import org.apereo.cas.configuration.model.support.hazelcast.HazelcastNearCacheProperties;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.spring.SpringExpressionLanguageValueResolver;
@@ -19,10 +20,12 @@ import com.hazelcast.config.MaxSizePolicy;
 import com.hazelcast.config.MergePolicyConfig;
 import com.hazelcast.config.MulticastConfig;
 import com.hazelcast.config.NamedConfig;
+import com.hazelcast.config.NearCacheConfig;
 import com.hazelcast.config.NetworkConfig;
 import com.hazelcast.config.PartitionGroupConfig;
 import com.hazelcast.config.ReplicatedMapConfig;
 import com.hazelcast.config.SSLConfig;
+import com.hazelcast.config.SerializerConfig;
 import com.hazelcast.config.TcpIpConfig;
 import com.hazelcast.config.WanAcknowledgeType;
 import com.hazelcast.config.WanBatchPublisherConfig;
@@ -43,6 +46,7 @@ import lombok.val;
 import org.apache.commons.lang3.BooleanUtils;
 import org.springframework.util.StringUtils;
 import java.util.Locale;
+import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.UUID;
 
@@ -71,6 +75,22 @@ public class HazelcastConfigurationFactory {
         }
     }
 
+    /**
+     * Sets serializer config, unless a serializer
+     * is already registered for the same type.
+     *
+     * @param serializerConfig the serializer config
+     * @param config           the config
+     */
+    public static void setSerializerConfig(final SerializerConfig serializerConfig, final Config config) {
+        val serializationConfig = config.getSerializationConfig();
+        val registered = serializationConfig.getSerializerConfigs()
+            .stream()
+            .anyMatch(cfg -> cfg.getTypeClass() == serializerConfig.getTypeClass()
+                && Objects.equals(cfg.getTypeClassName(), serializerConfig.getTypeClassName()));
+        FunctionUtils.doIf(!registered, __ -> serializationConfig.addSerializerConfig(serializerConfig)).accept(serializerConfig);
+    }
+
     /**
      * Build config.
      *
@@ -158,6 +178,27 @@ public class HazelcastConfigurationFactory {
             .setProperty(BaseHazelcastProperties.MAX_HEARTBEAT_SECONDS_PROP, String.valueOf(cluster.getCore().getMaxNoHeartbeatSeconds()));
     }
 
+    /**
+     * Build near cache config.
+     *
+     * @param nearCache the near cache
+     * @param mapName   the map name
+     * @return the near cache config
+     */
+    public static NearCacheConfig buildNearCacheConfig(final HazelcastNearCacheProperties nearCache, final String mapName) {
+        val evictionConfig = new EvictionConfig()
+            .setEvictionPolicy(EvictionPolicy.LRU)
+            .setMaxSizePolicy(MaxSizePolicy.ENTRY_COUNT)
+            .setSize(nearCache.getMaxSize());
+        return new NearCacheConfig(mapName)
+            .setInMemoryFormat(InMemoryFormat.BINARY)
+            .setInvalidateOnChange(true)
+            .setCacheLocalEntries(nearCache.isCacheLocalEntries())
+            .setTimeToLiveSeconds(nearCache.getTimeToLiveSeconds())
+            .setMaxIdleSeconds(nearCache.getMaxIdleSeconds())
+            .setEvictionConfig(evictionConfig);
+    }
+
     private static void buildNetworkSslConfig(final NetworkConfig networkConfig, final BaseHazelcastProperties hz) {
         val ssl = hz.getCluster().getNetwork().getSsl();
         val sslConfig = new SSLConfig();
@@ -3,7 +3,7 @@ package org.apereo.cas.config;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.ticket.registry.HazelcastTicketRegistry;
-import org.apereo.cas.util.lock.DefaultLockRepository;
+import org.apereo.cas.ticket.registry.LeaseBasedTicketLockRepository;
 import org.apereo.cas.util.lock.LockRepository;
 import org.apereo.cas.util.spring.beans.BeanCondition;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
@@ -31,7 +31,7 @@ import org.springframework.integration.zookeeper.lock.ZookeeperLockRegistry;
  * @since 6.5.0
  */
 @EnableConfigurationProperties(CasConfigurationProperties.class)
-@AutoConfiguration
+@AutoConfiguration(before = CasHazelcastTicketRegistryAutoConfiguration.class)
 public class CasHazelcastZooKeeperAutoConfiguration {
 
     @Configuration(value = "HazelcastTicketRegistryZooKeeperLockingConfiguration", proxyBeanMethods = false)
@@ -66,11 +66,12 @@ public class CasHazelcastZooKeeperAutoConfiguration {
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public LockRepository casTicketRegistryLockRepository(
             final ConfigurableApplicationContext applicationContext,
+            final CasConfigurationProperties casProperties,
             @Qualifier("casTicketRegistryZooKeeperLockRepository")
             final LockRegistry casTicketRegistryZooKeeperLockRepository) {
             return BeanSupplier.of(LockRepository.class)
                 .when(CONDITION.given(applicationContext.getEnvironment()))
-                .supply(() -> new DefaultLockRepository(casTicketRegistryZooKeeperLockRepository))
+                .supply(() -> LeaseBasedTicketLockRepository.of(casTicketRegistryZooKeeperLockRepository, casProperties, applicationContext))
                 .otherwise(LockRepository::noOp)
                 .get();
         }
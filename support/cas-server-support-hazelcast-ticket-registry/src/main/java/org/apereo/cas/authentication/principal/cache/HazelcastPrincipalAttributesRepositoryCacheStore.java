@@ -0,0 +1,55 @@
+package org.apereo.cas.authentication.principal.cache;
+
+import org.apereo.cas.authentication.principal.PrincipalAttributesRepositoryCacheStore;
+import org.apereo.cas.util.crypto.CipherExecutor;
+import org.apereo.cas.util.serialization.SerializationUtils;
+import com.hazelcast.map.IMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link HazelcastPrincipalAttributesRepositoryCacheStore} that keeps
+ * cached principal attributes in a distributed Hazelcast map, using the expiration of each entry as its TTL.
+ * Attributes are serialized and then signed and encrypted using the cipher of the ticket registry.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class HazelcastPrincipalAttributesRepositoryCacheStore implements PrincipalAttributesRepositoryCacheStore {
+    private final IMap<String, byte[]> map;
+
+    private final CipherExecutor cipherExecutor;
+
+    @Override
+    public Optional<Map<String, List<Object>>> get(final String key) {
+        val encoded = map.get(key);
+        if (encoded == null) {
+            return Optional.empty();
+        }
+        val attributes = SerializationUtils.decodeAndDeserializeObject(encoded, cipherExecutor, HashMap.class);
+        LOGGER.trace("Fetched cached attributes [{}] for [{}]", attributes, key);
+        return Optional.ofNullable(attributes).<Map<String, List<Object>>>map(HashMap::new);
+    }
+
+    @Override
+    public void put(final String key, final Map<String, List<Object>> attributes, final Duration expiration) {
+        val values = new HashMap<String, ArrayList<Object>>();
+        attributes.forEach((name, value) -> values.put(name, new ArrayList<>(value)));
+        map.set(key, SerializationUtils.serializeAndEncodeObject(cipherExecutor, values), expiration.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void clear() {
+        map.clear();
+    }
+}
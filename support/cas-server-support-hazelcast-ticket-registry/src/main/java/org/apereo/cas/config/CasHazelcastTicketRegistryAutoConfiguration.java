@@ -1,25 +1,37 @@
 package org.apereo.cas.config;
 
+import org.apereo.cas.authentication.principal.PrincipalAttributesRepositoryCacheStore;
+import org.apereo.cas.authentication.principal.cache.HazelcastPrincipalAttributesRepositoryCacheStore;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.hz.HazelcastConfigurationFactory;
 import org.apereo.cas.hz.HazelcastMapCustomizer;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketDefinition;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.catalog.CasTicketCatalogConfigurationValuesProvider;
+import org.apereo.cas.ticket.registry.HazelcastLockRegistry;
 import org.apereo.cas.ticket.registry.HazelcastTicketDocument;
+import org.apereo.cas.ticket.registry.HazelcastTicketDocumentSerializer;
 import org.apereo.cas.ticket.registry.HazelcastTicketRegistry;
+import org.apereo.cas.ticket.registry.LeaseBasedTicketLockRepository;
 import org.apereo.cas.ticket.registry.MapAttributeValueExtractor;
 import org.apereo.cas.ticket.registry.NoOpTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
+import org.apereo.cas.ticket.serialization.DefaultTicketBinaryCodec;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.CoreTicketUtils;
+import org.apereo.cas.util.lock.LockRepository;
+import org.apereo.cas.util.spring.beans.BeanCondition;
+import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import com.hazelcast.config.AttributeConfig;
 import com.hazelcast.config.IndexConfig;
 import com.hazelcast.config.IndexType;
 import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.SerializerConfig;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.instance.impl.HazelcastInstanceFactory;
 import lombok.extern.slf4j.Slf4j;
@@ -31,9 +43,11 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.integration.support.locks.LockRegistry;
 import java.util.ArrayList;
 
 /**
@@ -86,7 +100,15 @@ public class CasHazelcastTicketRegistryAutoConfiguration {
         final CasConfigurationProperties casProperties) {
         val hz = casProperties.getTicket().getRegistry().getHazelcast();
         LOGGER.debug("Creating Hazelcast instance for members [{}]", hz.getCluster().getNetwork().getMembers());
-        val hazelcastInstance = HazelcastInstanceFactory.getOrCreateHazelcastInstance(HazelcastConfigurationFactory.build(hz));
+        val hazelcastConfig = HazelcastConfigurationFactory.build(hz);
+        if (hz.isEnableCompactSerialization()) {
+            LOGGER.debug("Registering compact serializer for Hazelcast ticket documents");
+            val serializerConfig = new SerializerConfig()
+                .setTypeClass(HazelcastTicketDocument.class)
+                .setImplementation(new HazelcastTicketDocumentSerializer(new DefaultTicketBinaryCodec()));
+            HazelcastConfigurationFactory.setSerializerConfig(serializerConfig, hazelcastConfig);
+        }
+        val hazelcastInstance = HazelcastInstanceFactory.getOrCreateHazelcastInstance(hazelcastConfig);
         val ticketDefinitions = ticketCatalog.findAll();
 
         ticketDefinitions
@@ -104,6 +126,11 @@ public class CasHazelcastTicketRegistryAutoConfiguration {
                     attributeConfig.setName("attributes");
                     attributeConfig.setExtractorClassName(MapAttributeValueExtractor.class.getName());
                     mapConfig.addAttributeConfig(attributeConfig);
+
+                    if (hz.getNearCache().isEnabled() && TicketGrantingTicket.PREFIX.equals(defn.getPrefix())) {
+                        LOGGER.debug("Enabling near cache for Hazelcast map [{}]", props.getStorageName());
+                        mapConfig.setNearCacheConfig(HazelcastConfigurationFactory.buildNearCacheConfig(hz.getNearCache(), props.getStorageName()));
+                    }
                 }
                 return config;
             })
@@ -144,4 +171,76 @@ public class CasHazelcastTicketRegistryAutoConfiguration {
     public TicketRegistryCleaner ticketRegistryCleaner() {
         return NoOpTicketRegistryCleaner.getInstance();
     }
+
+    @Configuration(value = "HazelcastTicketRegistryPrincipalAttributesCacheConfiguration", proxyBeanMethods = false)
+    @EnableConfigurationProperties(CasConfigurationProperties.class)
+    static class HazelcastTicketRegistryPrincipalAttributesCacheConfiguration {
+        private static final String CACHE_MAP_NAME = "cas-principal-attributes-cache";
+
+        private static final BeanCondition CONDITION =
+            BeanCondition.on("cas.authn.attribute-repository.core.enable-distributed-service-cache").isTrue();
+
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        @ConditionalOnMissingBean(name = PrincipalAttributesRepositoryCacheStore.BEAN_NAME)
+        public PrincipalAttributesRepositoryCacheStore principalAttributesRepositoryCacheStore(
+            final ConfigurableApplicationContext applicationContext,
+            final CasConfigurationProperties casProperties,
+            @Qualifier("casTicketRegistryHazelcastInstance") final HazelcastInstance casTicketRegistryHazelcastInstance) {
+            return BeanSupplier.of(PrincipalAttributesRepositoryCacheStore.class)
+                .when(CONDITION.given(applicationContext.getEnvironment()))
+                .supply(() -> new HazelcastPrincipalAttributesRepositoryCacheStore(
+                    casTicketRegistryHazelcastInstance.getMap(CACHE_MAP_NAME),
+                    CoreTicketUtils.newTicketRegistryCipherExecutor(
+                        casProperties.getTicket().getRegistry().getHazelcast().getCrypto(), "hazelcast")))
+                .otherwise(PrincipalAttributesRepositoryCacheStore::noOp)
+                .get();
+        }
+    }
+
+    @Configuration(value = "HazelcastTicketRegistryLockingConfiguration", proxyBeanMethods = false)
+    @EnableConfigurationProperties(CasConfigurationProperties.class)
+    @ConditionalOnFeatureEnabled(feature = CasFeatureModule.FeatureCatalog.TicketRegistryLocking, module = "hazelcast")
+    static class HazelcastTicketRegistryLockingConfiguration {
+        private static final String LOCK_MAP_NAME = "cas-ticket-registry-locks";
+
+        private static final BeanCondition CONDITION = BeanCondition.on("cas.ticket.registry.core.enable-locking").isTrue().evenIfMissing();
+
+        private static final BeanCondition CONDITION_DISTRIBUTED_LOCKING = BeanCondition.on("cas.ticket.registry.core.enable-locking").isTrue().evenIfMissing()
+            .and("cas.ticket.registry.hazelcast.enable-distributed-locking").isTrue();
+
+        @Bean
+        @ConditionalOnMissingBean(name = "casTicketRegistryHazelcastLockRegistry")
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public LockRegistry casTicketRegistryHazelcastLockRegistry(
+            final ConfigurableApplicationContext applicationContext,
+            final CasConfigurationProperties casProperties,
+            @Qualifier("casTicketRegistryHazelcastInstance") final HazelcastInstance casTicketRegistryHazelcastInstance) {
+            return BeanSupplier.of(LockRegistry.class)
+                .when(CONDITION_DISTRIBUTED_LOCKING.given(applicationContext.getEnvironment()))
+                .supply(() -> {
+                    val leaseTime = Beans.newDuration(casProperties.getTicket().getRegistry().getCore().getLockLeaseTime());
+                    return new HazelcastLockRegistry(casTicketRegistryHazelcastInstance.getMap(LOCK_MAP_NAME), leaseTime);
+                })
+                .otherwiseProxy()
+                .get();
+        }
+
+        @Bean
+        @ConditionalOnMissingBean(name = LockRepository.BEAN_NAME)
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public LockRepository casTicketRegistryLockRepository(
+            final ConfigurableApplicationContext applicationContext,
+            final CasConfigurationProperties casProperties,
+            @Qualifier("casTicketRegistryHazelcastLockRegistry")
+            final LockRegistry casTicketRegistryHazelcastLockRegistry) {
+            return BeanSupplier.of(LockRepository.class)
+                .when(CONDITION.given(applicationContext.getEnvironment()))
+                .supply(() -> casProperties.getTicket().getRegistry().getHazelcast().isEnableDistributedLocking()
+                    ? LeaseBasedTicketLockRepository.of(casTicketRegistryHazelcastLockRegistry, casProperties, applicationContext)
+                    : LockRepository.asDefault())
+                .otherwise(LockRepository::noOp)
+                .get();
+        }
+    }
 }
@@ -0,0 +1,80 @@
+package org.apereo.cas.ticket.registry;
+
+import com.hazelcast.map.IMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.integration.support.locks.LockRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * This is {@link HazelcastLockRegistry} that hands out distributed locks
+ * backed by entry locks of a Hazelcast map. Every lock is obtained with a lease,
+ * so locks held by a CAS server node that disappears from the cluster
+ * are eventually released on their own. Releasing a lock whose lease has already
+ * expired is tolerated.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class HazelcastLockRegistry implements LockRegistry {
+    private final IMap<Object, Object> lockMap;
+
+    private final Duration leaseTime;
+
+    @Override
+    public Lock obtain(final Object lockKey) {
+        return new HazelcastLeaseLock(lockKey.toString());
+    }
+
+    @RequiredArgsConstructor
+    private final class HazelcastLeaseLock implements Lock {
+        private final String lockKey;
+
+        @Override
+        public void lock() {
+            lockMap.lock(lockKey, leaseTime.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            lock();
+        }
+
+        @Override
+        public boolean tryLock() {
+            return lockMap.tryLock(lockKey, 0, TimeUnit.MILLISECONDS, leaseTime.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public boolean tryLock(final long time, final TimeUnit unit) throws InterruptedException {
+            return lockMap.tryLock(lockKey, time, unit, leaseTime.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * Release the lock. If the lease has already expired, the lock is no longer held
+         * by this thread and may have been handed to another owner, so there is nothing to release.
+         */
+        @Override
+        public void unlock() {
+            try {
+                lockMap.unlock(lockKey);
+            } catch (final IllegalMonitorStateException e) {
+                LOGGER.warn("Lock lease for [{}] has expired after [{}] before the lock could be released", lockKey, leaseTime);
+            }
+        }
+
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException("Conditions are not supported by Hazelcast lease locks");
+        }
+    }
+}
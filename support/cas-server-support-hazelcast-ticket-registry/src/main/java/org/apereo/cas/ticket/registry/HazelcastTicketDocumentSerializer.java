@@ -0,0 +1,87 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.serialization.TicketBinaryCodec;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.StreamSerializer;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * This is {@link HazelcastTicketDocumentSerializer}. It writes the fields of a {@link HazelcastTicketDocument}
+ * directly to the Hazelcast data stream, and hands over the ticket itself to a {@link TicketBinaryCodec}
+ * that is able to encode core ticket types into a compact binary form. This avoids Java serialization
+ * of the document envelope and the ticket object graph, along with the class descriptors it carries,
+ * every time a ticket document is written to or read from the cluster.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@RequiredArgsConstructor
+public class HazelcastTicketDocumentSerializer implements StreamSerializer<HazelcastTicketDocument> {
+    /**
+     * Serializer type id registered with Hazelcast.
+     */
+    public static final int TYPE_ID = 7201;
+
+    private final TicketBinaryCodec ticketBinaryCodec;
+
+    @Override
+    public int getTypeId() {
+        return TYPE_ID;
+    }
+
+    @Override
+    public void write(final ObjectDataOutput output, final HazelcastTicketDocument document) throws IOException {
+        output.writeString(document.getId());
+        output.writeString(document.getType());
+        output.writeString(document.getPrincipal());
+        output.writeString(document.getService());
+        output.writeString(document.getPrefix());
+        output.writeLong(document.getTimeToLive());
+        output.writeByteArray(document.getTicket() == null ? null : ticketBinaryCodec.encode(document.getTicket()));
+
+        val attributes = document.getAttributes();
+        output.writeInt(attributes == null ? 0 : attributes.size());
+        if (attributes != null) {
+            for (val entry : attributes.entrySet()) {
+                output.writeString(entry.getKey());
+                val values = entry.getValue();
+                output.writeInt(values.size());
+                for (val value : values) {
+                    output.writeObject(value);
+                }
+            }
+        }
+    }
+
+    @Override
+    public HazelcastTicketDocument read(final ObjectDataInput input) throws IOException {
+        val builder = HazelcastTicketDocument.builder()
+            .id(input.readString())
+            .type(input.readString())
+            .principal(input.readString())
+            .service(input.readString())
+            .prefix(input.readString())
+            .timeToLive(input.readLong());
+        val ticket = input.readByteArray();
+        builder.ticket(ticket == null ? null : ticketBinaryCodec.decode(ticket));
+
+        val attributeCount = input.readInt();
+        val attributes = new HashMap<String, List<Object>>(attributeCount);
+        for (var i = 0; i < attributeCount; i++) {
+            val name = input.readString();
+            val valueCount = input.readInt();
+            val values = new ArrayList<>(valueCount);
+            for (var j = 0; j < valueCount; j++) {
+                values.add(input.readObject());
+            }
+            attributes.put(name, values);
+        }
+        return builder.attributes(attributes).build();
+    }
+}
@@ -22,8 +22,11 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.ConfigurableApplicationContext;
 
+import java.io.Serial;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -274,7 +277,46 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
             .limit(criteria.getCount())
             .map(this::decodeTicket);
     }
-    
+
+    /**
+     * Fetch a page of tickets by querying each ticket map with a paging predicate,
+     * ordered by key, so that each map only returns one page of matching ticket documents.
+     *
+     * @param criteria the criteria
+     * @return the page
+     */
+    @Override
+    public TicketRegistryPage page(final TicketRegistryStreamCriteria criteria) {
+        val after = TicketRegistryPage.fromCursor(criteria.getCursor());
+        var predicate = Predicates.<String, HazelcastTicketDocument>alwaysTrue();
+        if (after != null) {
+            predicate = Predicates.and(predicate, Predicates.greaterThan("__key", after));
+        }
+        if (StringUtils.isNotBlank(criteria.getPrincipal())) {
+            predicate = Predicates.and(predicate, Predicates.equal("principal", digestIdentifier(criteria.getPrincipal())));
+        }
+        val entryPredicate = predicate;
+        val pageSize = (int) Math.max(1, Math.min(criteria.getCount(), Integer.MAX_VALUE));
+        val ticketDefinitions = StringUtils.isNotBlank(criteria.getType())
+            ? List.of(ticketCatalog.find(criteria.getType()))
+            : ticketCatalog.findAll();
+        val entries = ticketDefinitions
+            .stream()
+            .map(this::getTicketMapInstanceByMetadata)
+            .filter(Objects::nonNull)
+            .distinct()
+            .flatMap(map -> map.entrySet(Predicates.pagingPredicate(entryPredicate, new TicketKeyComparator(), pageSize)).stream());
+        val selected = TicketRegistryPage.firstAfter(entries, Map.Entry::getKey, after, criteria.getCount());
+        val tickets = selected.values()
+            .stream()
+            .map(Map.Entry::getValue)
+            .filter(Objects::nonNull)
+            .map(document -> decodeTicket(document.getTicket()))
+            .filter(ticket -> criteria.matches(ticket) && !ticket.isExpired())
+            .toList();
+        return TicketRegistryPage.of(tickets, selected.isEmpty() ? null : selected.lastKey(), selected.size(), criteria.getCount());
+    }
+
     /**
      * Make sure we shutdown HazelCast when the context is destroyed.
      */
@@ -309,4 +351,20 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
             return inst;
         });
     }
+
+    /**
+     * Orders ticket entries by key for paging predicates. Paging predicates are executed
+     * on every member that owns a partition of the map, so this class must be available
+     * on the classpath of every Hazelcast member, including members of an external cluster.
+     */
+    private static final class TicketKeyComparator implements Comparator<Map.Entry<String, HazelcastTicketDocument>>, Serializable {
+        @Serial
+        private static final long serialVersionUID = -4581254398735164022L;
+
+        @Override
+        public int compare(final Map.Entry<String, HazelcastTicketDocument> first,
+                           final Map.Entry<String, HazelcastTicketDocument> second) {
+            return first.getKey().compareTo(second.getKey());
+        }
+    }
 }
@@ -0,0 +1,41 @@
+package org.apereo.cas.ticket.registry;
+
+import com.hazelcast.map.IMap;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link HazelcastLockRegistryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("Hazelcast")
+class HazelcastLockRegistryTests {
+
+    @Test
+    void verifyLockObtainedWithLease() throws Throwable {
+        val lockMap = (IMap<Object, Object>) mock(IMap.class);
+        when(lockMap.tryLock(anyString(), anyLong(), any(), anyLong(), any())).thenReturn(true);
+        val lock = new HazelcastLockRegistry(lockMap, Duration.ofSeconds(30)).obtain("TGT-1");
+        assertTrue(lock.tryLock(1, TimeUnit.SECONDS));
+        verify(lockMap).tryLock("TGT-1", 1, TimeUnit.SECONDS, 30_000, TimeUnit.MILLISECONDS);
+        lock.unlock();
+        verify(lockMap).unlock("TGT-1");
+    }
+
+    @Test
+    void verifyUnlockAfterLeaseExpires() {
+        val lockMap = (IMap<Object, Object>) mock(IMap.class);
+        doThrow(new IllegalMonitorStateException("Current thread is not owner of the lock")).when(lockMap).unlock(any());
+        val lock = new HazelcastLockRegistry(lockMap, Duration.ofMillis(10)).obtain("TGT-1");
+        assertDoesNotThrow(lock::unlock);
+    }
+}
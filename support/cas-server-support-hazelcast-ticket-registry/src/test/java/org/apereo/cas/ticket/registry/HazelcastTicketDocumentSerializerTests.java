@@ -0,0 +1,96 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.ticket.serialization.DefaultTicketBinaryCodec;
+import org.apereo.cas.util.CollectionUtils;
+import com.hazelcast.config.SerializationConfig;
+import com.hazelcast.config.SerializerConfig;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link HazelcastTicketDocumentSerializerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("Hazelcast")
+class HazelcastTicketDocumentSerializerTests {
+    private static HazelcastTicketDocument getTicketDocument() {
+        val ticket = new TicketGrantingTicketImpl(TicketGrantingTicket.PREFIX + '-' + UUID.randomUUID(),
+            CoreAuthenticationTestUtils.getAuthentication("casuser"), NeverExpiresExpirationPolicy.INSTANCE);
+        return HazelcastTicketDocument.builder()
+            .id(ticket.getId())
+            .type(TicketGrantingTicketImpl.class.getName())
+            .principal("casuser")
+            .prefix(TicketGrantingTicket.PREFIX)
+            .timeToLive(60)
+            .ticket(ticket)
+            .attributes(CollectionUtils.wrap("name", List.of("CAS", "User")))
+            .build();
+    }
+
+    private static SerializationService getSerializationService(final boolean compact) {
+        val config = new SerializationConfig();
+        if (compact) {
+            config.addSerializerConfig(new SerializerConfig()
+                .setTypeClass(HazelcastTicketDocument.class)
+                .setImplementation(new HazelcastTicketDocumentSerializer(new DefaultTicketBinaryCodec())));
+        }
+        return new DefaultSerializationServiceBuilder().setConfig(config).build();
+    }
+
+    @Test
+    void verifyDocumentRoundTrip() {
+        val service = getSerializationService(true);
+        val document = getTicketDocument();
+        val data = service.toData(document);
+        assertEquals(HazelcastTicketDocumentSerializer.TYPE_ID, data.getType());
+
+        val result = (HazelcastTicketDocument) service.toObject(data);
+        assertEquals(document.getId(), result.getId());
+        assertEquals(document.getType(), result.getType());
+        assertEquals(document.getPrincipal(), result.getPrincipal());
+        assertNull(result.getService());
+        assertEquals(document.getPrefix(), result.getPrefix());
+        assertEquals(document.getTimeToLive(), result.getTimeToLive());
+        assertEquals(document.getAttributes(), result.getAttributes());
+        assertEquals(document.getTicket(), result.getTicket());
+        val ticket = (TicketGrantingTicket) result.getTicket();
+        assertEquals("casuser", ticket.getAuthentication().getPrincipal().getId());
+    }
+
+    @Test
+    void verifyDocumentWithoutTicket() {
+        val service = getSerializationService(true);
+        val document = HazelcastTicketDocument.builder().id(UUID.randomUUID().toString()).attributes(null).build();
+        val result = (HazelcastTicketDocument) service.toObject(service.toData(document));
+        assertEquals(document.getId(), result.getId());
+        assertNull(result.getTicket());
+        assertTrue(result.getAttributes().isEmpty());
+    }
+
+    @Test
+    void verifyCompactDocumentIsSmaller() {
+        val document = getTicketDocument();
+        val javaService = getSerializationService(false);
+        val compactService = getSerializationService(true);
+
+        val javaData = javaService.toData(document);
+        val compactData = compactService.toData(document);
+        assertTrue(compactData.totalSize() < javaData.totalSize());
+        val javaDocument = (HazelcastTicketDocument) javaService.toObject(javaData);
+        val compactDocument = (HazelcastTicketDocument) compactService.toObject(compactData);
+        assertEquals(javaDocument.getTicket(), compactDocument.getTicket());
+        assertEquals(javaDocument.getAttributes(), compactDocument.getAttributes());
+    }
+}
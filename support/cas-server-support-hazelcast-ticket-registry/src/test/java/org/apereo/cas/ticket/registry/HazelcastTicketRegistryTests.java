@@ -66,6 +66,38 @@ class HazelcastTicketRegistryTests {
         private TicketRegistry newTicketRegistry;
     }
 
+    @Nested
+    @Getter
+    @ImportAutoConfiguration(CasHazelcastTicketRegistryAutoConfiguration.class)
+    @Import(BaseTicketRegistryTests.SharedTestConfiguration.class)
+    @TestPropertySource(
+        properties = {
+            "cas.ticket.registry.hazelcast.enable-compact-serialization=true",
+            "cas.ticket.registry.hazelcast.near-cache.enabled=true",
+            "cas.ticket.registry.hazelcast.cluster.network.port-auto-increment=false",
+            "cas.ticket.registry.hazelcast.cluster.network.port=5709",
+            "cas.ticket.registry.hazelcast.cluster.core.instance-name=testcompactinstance"
+        })
+    class CompactSerializationTests extends BaseTicketRegistryTests {
+        @Autowired
+        @Qualifier(TicketRegistry.BEAN_NAME)
+        private TicketRegistry newTicketRegistry;
+
+        @Autowired
+        @Qualifier("casTicketRegistryHazelcastInstance")
+        private HazelcastInstance casTicketRegistryHazelcastInstance;
+
+        @RepeatedTest(1)
+        void verifyCompactSerializationAndNearCache() {
+            val config = casTicketRegistryHazelcastInstance.getConfig();
+            assertTrue(config.getSerializationConfig().getSerializerConfigs()
+                .stream()
+                .anyMatch(cfg -> cfg.getImplementation() instanceof HazelcastTicketDocumentSerializer));
+            val storageName = ticketCatalog.find(TicketGrantingTicket.PREFIX).getProperties().getStorageName();
+            assertNotNull(config.getMapConfig(storageName).getNearCacheConfig());
+        }
+    }
+
     @Nested
     @Getter
     @ImportAutoConfiguration(CasHazelcastTicketRegistryAutoConfiguration.class)
@@ -19,6 +19,7 @@ import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -97,6 +98,41 @@ public class JpaServiceRegistry extends AbstractServiceRegistry implements JpaPe
         });
     }
 
+    @Override
+    public Optional<ServiceRegistryChangeSet> getChangesSince(final long watermark) {
+        return transactionTemplate.execute(status -> {
+            val idsQuery = String.format("SELECT r.id FROM %s r", JpaRegisteredServiceEntity.ENTITY_NAME);
+            val serviceIds = new HashSet<>(entityManager.createQuery(idsQuery, Long.class).getResultList());
+
+            val query = String.format("SELECT r FROM %s r WHERE r.lastModified > :watermark", JpaRegisteredServiceEntity.ENTITY_NAME);
+            val list = entityManager.createQuery(query, JpaRegisteredServiceEntity.class)
+                .setParameter("watermark", watermark)
+                .getResultList();
+            val latest = list
+                .stream()
+                .map(JpaRegisteredServiceEntity::getLastModified)
+                .filter(Objects::nonNull)
+                .mapToLong(Long::longValue)
+                .max()
+                .orElse(watermark);
+            val clientInfo = ClientInfoHolder.getClientInfo();
+            val modifiedServices = list
+                .stream()
+                .map(this::toRegisteredService)
+                .sorted()
+                .map(this::invokeServiceRegistryListenerPostLoad)
+                .filter(Objects::nonNull)
+                .peek(service -> publishEvent(new CasRegisteredServiceLoadedEvent(this, service, clientInfo)))
+                .collect(Collectors.toList());
+            LOGGER.debug("Found [{}] service(s) modified since [{}] out of [{}]", modifiedServices.size(), watermark, serviceIds.size());
+            return Optional.of(ServiceRegistryChangeSet.builder()
+                .modifiedServices(modifiedServices)
+                .serviceIds(serviceIds)
+                .watermark(Math.max(watermark, latest))
+                .build());
+        });
+    }
+
     @Override
     public Long save(final Supplier<RegisteredService> supplier,
                      final Consumer<RegisteredService> andThenConsume,
@@ -214,6 +250,7 @@ public class JpaServiceRegistry extends AbstractServiceRegistry implements JpaPe
             .serviceId(service.getServiceId())
             .evaluationOrder(service.getEvaluationOrder())
             .body(jsonBody)
+            .lastModified(System.currentTimeMillis())
             .build();
     }
 
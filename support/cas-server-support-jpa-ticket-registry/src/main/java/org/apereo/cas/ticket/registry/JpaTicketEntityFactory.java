@@ -74,7 +74,7 @@ public class JpaTicketEntityFactory extends AbstractJpaEntityFactory<BaseTicketE
             ? tgtAware.getTicketGrantingTicket()
             : null;
 
-        val expirationTime = realTicket.getExpirationPolicy().toMaximumExpirationTime(realTicket);
+        val expirationTime = getExpirationTime(realTicket);
         val entity = FunctionUtils.doUnchecked(() -> getEntityClass().getDeclaredConstructor().newInstance());
         return entity
             .setId(encodedTicket.getId())
@@ -91,6 +91,18 @@ public class JpaTicketEntityFactory extends AbstractJpaEntityFactory<BaseTicketE
             .setCreationTime(ObjectUtils.defaultIfNull(encodedTicket.getCreationTime(), ZonedDateTime.now(Clock.systemUTC())));
     }
 
+    /**
+     * Gets the earliest time at which the ticket is known to expire. For tickets whose
+     * expiration policy can expire idle tickets, this is the earlier of the idle and the
+     * maximum expiration times, so that expired sessions can be located by their recorded expiration time.
+     *
+     * @param ticket the ticket
+     * @return the expiration time
+     */
+    protected ZonedDateTime getExpirationTime(final Ticket ticket) {
+        return TicketExpirationIndex.getExpirationTime(ticket);
+    }
+
     @Override
     public Class<BaseTicketEntity> getType() {
         return (Class<BaseTicketEntity>) getEntityClass();
@@ -19,7 +19,6 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
-import org.jooq.lambda.Unchecked;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.transaction.support.TransactionOperations;
 
@@ -29,11 +28,17 @@ import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceContext;
 
 import java.io.Serializable;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -48,7 +53,7 @@ import java.util.stream.Stream;
 @Slf4j
 @Getter
 @Monitorable
-public class JpaTicketRegistry extends AbstractTicketRegistry {
+public class JpaTicketRegistry extends AbstractTicketRegistry implements BulkExpirationTicketRegistry {
 
     private final JpaBeanFactory jpaBeanFactory;
 
@@ -78,18 +83,35 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
 
     @Override
     public Ticket addSingleTicket(final Ticket ticket) {
-        transactionTemplate.executeWithoutResult(Unchecked.consumer(status -> {
-            val ticketEntity = getTicketEntityFrom(ticket);
-            if (ticket instanceof final TicketGrantingTicketAwareTicket grantingTicketAware && grantingTicketAware.getTicketGrantingTicket() != null) {
-                val parentId = digestIdentifier(grantingTicketAware.getTicketGrantingTicket().getId());
-                ticketEntity.setParentId(parentId);
-            }
-            entityManager.persist(ticketEntity);
-            LOGGER.debug("Added ticket [{}] to registry.", ticketEntity.getId());
-        }));
+        transactionTemplate.executeWithoutResult(status -> persistTicket(ticket));
         return ticket;
     }
 
+    /**
+     * Adds all tickets in a single transaction, flushing the persistence context
+     * once every batch so that rows are inserted using JDBC batch statements.
+     *
+     * @param toSave the tickets to save
+     * @return the tickets saved
+     */
+    @Override
+    public List<? extends Ticket> addTicket(final Stream<? extends Ticket> toSave) {
+        val batchSize = Math.max(1, casProperties.getTicket().getRegistry().getJpa().getBatchSize());
+        return transactionTemplate.execute(status -> {
+            val tickets = new ArrayList<Ticket>();
+            toSave.filter(Objects::nonNull).filter(ticket -> !ticket.isExpired()).forEach(ticket -> {
+                persistTicket(ticket);
+                tickets.add(ticket);
+                if (tickets.size() % batchSize == 0) {
+                    entityManager.flush();
+                }
+            });
+            entityManager.flush();
+            LOGGER.debug("Added [{}] tickets to registry in batches of [{}]", tickets.size(), batchSize);
+            return tickets;
+        });
+    }
+
     @Override
     public Ticket getTicket(final String ticketId, final Predicate<Ticket> predicate) {
         return transactionTemplate.execute(callback -> {
@@ -175,6 +197,51 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
             .map(this::decodeTicket);
     }
 
+    @Override
+    public TicketRegistryPage page(final TicketRegistryStreamCriteria criteria) {
+        val factory = getJpaTicketEntityFactory();
+        val after = TicketRegistryPage.fromCursor(criteria.getCursor());
+        val conditions = new ArrayList<String>();
+        if (StringUtils.isNotBlank(criteria.getType())) {
+            conditions.add("t.type=:type");
+        }
+        if (StringUtils.isNotBlank(criteria.getPrincipal())) {
+            conditions.add("t.principalId=:principalId");
+        }
+        if (after != null) {
+            conditions.add("t.id > :cursor");
+        }
+        val whereClause = conditions.isEmpty() ? StringUtils.EMPTY : " WHERE " + String.join(" AND ", conditions);
+        val sql = String.format("SELECT t FROM %s t%s ORDER BY t.id", factory.getEntityName(), whereClause);
+        LOGGER.trace("Fetching page of tickets via [{}]", sql);
+
+        val entities = Objects.requireNonNull(transactionTemplate.execute(status -> {
+            val query = entityManager.createQuery(sql, factory.getType());
+            if (StringUtils.isNotBlank(criteria.getType())) {
+                query.setParameter("type", getTicketTypeName(ticketCatalog.find(criteria.getType()).getApiClass()));
+            }
+            if (StringUtils.isNotBlank(criteria.getPrincipal())) {
+                query.setParameter("principalId", digestIdentifier(criteria.getPrincipal()));
+            }
+            if (after != null) {
+                query.setParameter("cursor", after);
+            }
+            return query
+                .setMaxResults((int) Math.min(criteria.getCount(), Integer.MAX_VALUE))
+                .setLockMode(LockModeType.NONE)
+                .getResultList();
+        }));
+        val tickets = entities
+            .stream()
+            .map(BaseTicketEntity.class::cast)
+            .map(factory::toTicket)
+            .map(this::decodeTicket)
+            .filter(ticket -> criteria.matches(ticket) && !ticket.isExpired())
+            .toList();
+        val lastKey = entities.isEmpty() ? null : entities.getLast().getId();
+        return TicketRegistryPage.of(tickets, lastKey, entities.size(), criteria.getCount());
+    }
+
     @Override
     public long sessionCount() {
         return transactionTemplate.execute(status -> {
@@ -361,4 +428,99 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
             return query.executeUpdate();
         });
     }
+
+    /**
+     * Select a batch of tickets whose recorded expiration time is before the given instant, and examine each.
+     * The recorded expiration time may be stale if a ticket was used after it was last persisted, so every
+     * ticket is loaded and checked again. Tickets that are still valid are kept, and their recorded expiration
+     * time is recalculated; expired ticket-granting tickets are handed over to the cleaner, and all other
+     * expired tickets are removed in bulk, unless their recorded expiration time moved in the meantime.
+     * Tickets are selected in the order of their recorded expiration time and identifier, starting after
+     * the given cursor, and are detached once loaded so the persistence context does not grow across batches.
+     *
+     * @param dueBy                       the due by
+     * @param after                       the cursor returned by the previous batch, if any
+     * @param limit                       the maximum number of tickets to examine
+     * @param ticketGrantingTicketCleaner the ticket-granting ticket cleaner
+     * @return the number of tickets examined and removed
+     */
+    @Override
+    public ExpiredTicketsBatch deleteTicketsExpiredBy(final Instant dueBy, final ExpiredTicketsCursor after, final int limit,
+                                                      final ToIntFunction<Ticket> ticketGrantingTicketCleaner) {
+        val factory = getJpaTicketEntityFactory();
+        val dueByTime = ZonedDateTime.ofInstant(dueBy, ZoneOffset.UTC);
+        val entities = Objects.requireNonNull(transactionTemplate.execute(status -> {
+            val sql = String.format("SELECT t FROM %s t WHERE t.expirationTime < :dueBy%s ORDER BY t.expirationTime, t.id",
+                factory.getEntityName(), after == null ? StringUtils.EMPTY
+                    : " AND (t.expirationTime > :afterTime OR (t.expirationTime = :afterTime AND t.id > :afterId))");
+            val query = entityManager.createQuery(sql, factory.getType())
+                .setParameter("dueBy", dueByTime)
+                .setMaxResults(limit)
+                .setLockMode(LockModeType.NONE);
+            if (after != null) {
+                query.setParameter("afterTime", ZonedDateTime.ofInstant(after.expirationTime(), ZoneOffset.UTC))
+                    .setParameter("afterId", after.id());
+            }
+            val results = query.getResultList();
+            entityManager.clear();
+            return results;
+        }));
+        val next = entities.isEmpty() ? after
+            : new ExpiredTicketsCursor(entities.getLast().getExpirationTime().toInstant(), entities.getLast().getId());
+
+        var removed = 0;
+        val ticketIds = new ArrayList<String>(entities.size());
+        val expirationTimes = new LinkedHashMap<String, ZonedDateTime>();
+        for (val entity : entities) {
+            val ticket = decodeExpiredTicket(entity);
+            if (ticket == null) {
+                ticketIds.add(entity.getId());
+            } else if (!ticket.isExpired()) {
+                FunctionUtils.doIfNotNull(TicketExpirationIndex.getExpirationTime(ticket),
+                    expirationTime -> expirationTimes.put(entity.getId(), expirationTime));
+            } else if (ticket instanceof TicketGrantingTicket) {
+                removed += ticketGrantingTicketCleaner.applyAsInt(ticket);
+            } else {
+                ticketIds.add(entity.getId());
+            }
+        }
+        if (!expirationTimes.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                val sql = String.format("UPDATE %s t SET t.expirationTime = :expirationTime WHERE t.id = :id", factory.getEntityName());
+                expirationTimes.forEach((id, expirationTime) -> entityManager.createQuery(sql)
+                    .setParameter("expirationTime", expirationTime)
+                    .setParameter("id", id)
+                    .executeUpdate());
+            });
+            LOGGER.debug("Recalculated the expiration time of [{}] tickets that remain valid", expirationTimes.size());
+        }
+        if (!ticketIds.isEmpty()) {
+            removed += Objects.requireNonNull(transactionTemplate.execute(status -> {
+                val sql = String.format("DELETE FROM %s t WHERE t.id IN :ids AND t.expirationTime < :dueBy", factory.getEntityName());
+                return entityManager.createQuery(sql)
+                    .setParameter("ids", ticketIds)
+                    .setParameter("dueBy", dueByTime)
+                    .executeUpdate();
+            }));
+        }
+        LOGGER.debug("Removed [{}] tickets out of [{}] tickets that expired by [{}]", removed, entities.size(), dueBy);
+        return new ExpiredTicketsBatch(entities.size(), removed, next);
+    }
+
+    protected void persistTicket(final Ticket ticket) {
+        val ticketEntity = getTicketEntityFrom(ticket);
+        if (ticket instanceof final TicketGrantingTicketAwareTicket grantingTicketAware && grantingTicketAware.getTicketGrantingTicket() != null) {
+            val parentId = digestIdentifier(grantingTicketAware.getTicketGrantingTicket().getId());
+            ticketEntity.setParentId(parentId);
+        }
+        entityManager.persist(ticketEntity);
+        LOGGER.debug("Added ticket [{}] to registry.", ticketEntity.getId());
+    }
+
+    private Ticket decodeExpiredTicket(final BaseTicketEntity entity) {
+        return FunctionUtils.doAndHandle(() -> decodeTicket(getJpaTicketEntityFactory().toTicket(entity)), e -> {
+            LOGGER.debug("Unable to decode expired ticket [{}]: [{}]", entity.getId(), e.getMessage());
+            return null;
+        }).get();
+    }
 }
@@ -31,6 +31,11 @@ import java.util.Map;
 @Getter
 @Setter
 public abstract class BaseTicketEntity implements Serializable {
+    /**
+     * Name of the index on the ticket expiration time.
+     */
+    public static final String EXPIRATION_TIME_INDEX_NAME = "IDX_CAS_TICKETS_EXPIRATION_TIME";
+
     @Serial
     private static final long serialVersionUID = 6534421912995436609L;
 
@@ -58,6 +63,10 @@ public abstract class BaseTicketEntity implements Serializable {
     @Column(nullable = false, length = 512)
     private ZonedDateTime creationTime;
 
+    /**
+     * The earliest time at which the ticket is known to expire,
+     * taking into account the maximum and idle expiration times of the ticket's expiration policy.
+     */
     @Column(nullable = false, length = 512)
     private ZonedDateTime expirationTime;
 
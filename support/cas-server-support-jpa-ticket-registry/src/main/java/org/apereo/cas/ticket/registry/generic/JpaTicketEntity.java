@@ -10,6 +10,7 @@ import org.hibernate.annotations.Type;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.io.Serial;
 import java.util.List;
@@ -24,7 +25,7 @@ import java.util.Map;
 @SuperBuilder
 @NoArgsConstructor
 @Entity(name = "JpaTicketEntity")
-@Table(name = "CasTickets")
+@Table(name = "CasTickets", indexes = @Index(name = BaseTicketEntity.EXPIRATION_TIME_INDEX_NAME, columnList = "expirationTime"))
 @Setter
 @Getter
 @Accessors(chain = true)
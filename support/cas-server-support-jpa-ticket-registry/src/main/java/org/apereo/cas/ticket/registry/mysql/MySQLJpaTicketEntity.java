@@ -14,6 +14,7 @@ import jakarta.persistence.AttributeOverride;
 import jakarta.persistence.AttributeOverrides;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.io.Serial;
 import java.util.List;
@@ -29,7 +30,7 @@ import java.util.Map;
 @NoArgsConstructor
 @AttributeOverrides(@AttributeOverride(name = "body", column = @Column(columnDefinition = "text")))
 @Entity(name = "MySQLJpaTicketEntity")
-@Table(name = "CasTickets")
+@Table(name = "CasTickets", indexes = @Index(name = BaseTicketEntity.EXPIRATION_TIME_INDEX_NAME, columnList = "expirationTime"))
 @Setter
 @Getter
 @Accessors(chain = true)
@@ -0,0 +1,165 @@
+package org.apereo.cas.ticket.registry.cleaner;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.test.CasTestExtension;
+import org.apereo.cas.ticket.ServiceTicket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.ticket.registry.BaseJpaTicketRegistryTests;
+import org.apereo.cas.ticket.registry.BulkTicketRegistryCleaner;
+import org.apereo.cas.ticket.registry.JpaTicketEntityFactory;
+import org.apereo.cas.ticket.registry.JpaTicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
+import org.apereo.cas.ticket.tracking.TicketTrackingPolicy;
+import org.apereo.cas.util.RandomUtils;
+import lombok.val;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.integration.IntegrationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.stream.IntStream;
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link JpaTicketRegistryBulkCleanerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@SpringBootTest(classes = BaseJpaTicketRegistryTests.SharedTestConfiguration.class,
+    properties = {
+        "spring.integration.jdbc.initialize-schema=ALWAYS",
+        "cas.ticket.registry.jpa.ddl-auto=create-drop",
+        "cas.ticket.registry.cleaner.mode=BULK",
+        "cas.ticket.registry.cleaner.batch-size=2"
+    })
+@EnableConfigurationProperties({IntegrationProperties.class, CasConfigurationProperties.class})
+@ExtendWith(CasTestExtension.class)
+@Tag("JDBC")
+class JpaTicketRegistryBulkCleanerTests {
+    @Autowired
+    private CasConfigurationProperties casProperties;
+
+    @Autowired
+    @Qualifier(TicketTrackingPolicy.BEAN_NAME_SERVICE_TICKET_TRACKING)
+    private TicketTrackingPolicy serviceTicketSessionTrackingPolicy;
+
+    @Autowired
+    @Qualifier(TicketRegistry.BEAN_NAME)
+    private TicketRegistry ticketRegistry;
+
+    @Autowired
+    @Qualifier(TicketRegistryCleaner.BEAN_NAME)
+    private TicketRegistryCleaner ticketRegistryCleaner;
+
+    private static TicketGrantingTicket getTicketGrantingTicket(final long timeToLive) {
+        val expirationPolicy = timeToLive > 0 ? new HardTimeoutExpirationPolicy(timeToLive) : NeverExpiresExpirationPolicy.INSTANCE;
+        return new TicketGrantingTicketImpl(TicketGrantingTicket.PREFIX + '-' + RandomUtils.randomAlphabetic(16),
+            CoreAuthenticationTestUtils.getAuthentication(), expirationPolicy);
+    }
+
+    @BeforeEach
+    void cleanup() {
+        ticketRegistry.deleteAll();
+    }
+
+    @Test
+    void verifyExpiredTicketsRemovedInBulk() throws Throwable {
+        assertInstanceOf(BulkTicketRegistryCleaner.class, ticketRegistryCleaner);
+        val expiredTgt = getTicketGrantingTicket(1);
+        ticketRegistry.addTicket(expiredTgt);
+        val expiredSt = expiredTgt.grantServiceTicket(ServiceTicket.PREFIX + '-' + RandomUtils.randomAlphabetic(16),
+            RegisteredServiceTestUtils.getService(), new HardTimeoutExpirationPolicy(1), true, serviceTicketSessionTrackingPolicy);
+        ticketRegistry.addTicket(expiredSt);
+        ticketRegistry.updateTicket(expiredTgt);
+
+        val validTgt = getTicketGrantingTicket(0);
+        ticketRegistry.addTicket(validTgt);
+        IntStream.range(0, 5).forEach(i -> assertDoesNotThrow(() -> ticketRegistry.addTicket(
+            validTgt.grantServiceTicket(ServiceTicket.PREFIX + '-' + RandomUtils.randomAlphabetic(16),
+                RegisteredServiceTestUtils.getService(), new HardTimeoutExpirationPolicy(1), true, serviceTicketSessionTrackingPolicy))));
+        ticketRegistry.updateTicket(validTgt);
+
+        assertEquals(2, ticketRegistry.sessionCount());
+        assertEquals(6, ticketRegistry.serviceTicketCount());
+        await().until(expiredTgt::isExpired);
+
+        assertTrue(ticketRegistryCleaner.clean() > 0);
+        assertEquals(1, ticketRegistry.sessionCount());
+        assertEquals(0, ticketRegistry.serviceTicketCount());
+        assertNull(ticketRegistry.getTicket(expiredTgt.getId()));
+        assertNotNull(ticketRegistry.getTicket(validTgt.getId()));
+        assertEquals(0, ticketRegistryCleaner.clean());
+    }
+
+    @Test
+    void verifyValidTicketsWithStaleExpirationKept() throws Throwable {
+        val registry = assertInstanceOf(JpaTicketRegistry.class, ticketRegistry);
+        val tgt = getTicketGrantingTicket(3600);
+        ticketRegistry.addTicket(tgt);
+        val st = tgt.grantServiceTicket(ServiceTicket.PREFIX + '-' + RandomUtils.randomAlphabetic(16),
+            RegisteredServiceTestUtils.getService(), new HardTimeoutExpirationPolicy(3600), true, serviceTicketSessionTrackingPolicy);
+        ticketRegistry.addTicket(st);
+        ticketRegistry.updateTicket(tgt);
+
+        val entityName = new JpaTicketEntityFactory(casProperties.getTicket().getRegistry().getJpa().getDialect()).getEntityName();
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        registry.getTransactionTemplate().executeWithoutResult(status -> registry.getEntityManager()
+            .createQuery(String.format("UPDATE %s t SET t.expirationTime = :expirationTime", entityName))
+            .setParameter("expirationTime", now.minusHours(1))
+            .executeUpdate());
+
+        assertEquals(0, ticketRegistryCleaner.clean());
+        assertNotNull(ticketRegistry.getTicket(tgt.getId()));
+        assertNotNull(ticketRegistry.getTicket(st.getId()));
+        val stale = registry.getTransactionTemplate().execute(status -> registry.getEntityManager()
+            .createQuery(String.format("SELECT COUNT(t.id) FROM %s t WHERE t.expirationTime < :now", entityName))
+            .setParameter("now", now)
+            .getSingleResult());
+        assertEquals(0L, ((Number) stale).longValue());
+    }
+
+    @Test
+    void verifyTicketsNotRemovedAreNotSelectedAgain() throws Throwable {
+        val registry = assertInstanceOf(JpaTicketRegistry.class, ticketRegistry);
+        val tickets = IntStream.range(0, 3).mapToObj(i -> getTicketGrantingTicket(1)).toList();
+        ticketRegistry.addTicket(tickets.stream());
+        tickets.forEach(ticket -> await().until(ticket::isExpired));
+
+        val dueBy = Instant.now(Clock.systemUTC());
+        val first = registry.deleteTicketsExpiredBy(dueBy, null, 2, ticket -> 0);
+        assertEquals(2, first.examined());
+        assertEquals(0, first.removed());
+        assertNotNull(first.next());
+        val second = registry.deleteTicketsExpiredBy(dueBy, first.next(), 2, ticket -> 0);
+        assertEquals(1, second.examined());
+        val third = registry.deleteTicketsExpiredBy(dueBy, second.next(), 2, ticket -> 0);
+        assertEquals(0, third.examined());
+        assertEquals(second.next(), third.next());
+        assertEquals(3, ticketRegistry.sessionCount());
+    }
+
+    @Test
+    void verifyTicketsAddedInBatches() {
+        val tickets = IntStream.range(0, 5).mapToObj(i -> getTicketGrantingTicket(0)).toList();
+        val added = ticketRegistry.addTicket(tickets.stream());
+        assertEquals(tickets.size(), added.size());
+        assertEquals(tickets.size(), ticketRegistry.sessionCount());
+        tickets.forEach(ticket -> assertNotNull(ticketRegistry.getTicket(ticket.getId())));
+    }
+}
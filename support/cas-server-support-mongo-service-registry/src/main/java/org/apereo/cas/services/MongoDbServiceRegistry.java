@@ -6,13 +6,18 @@ import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apereo.inspektr.common.web.ClientInfoHolder;
+import org.bson.Document;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -28,6 +33,10 @@ import java.util.stream.Collectors;
 @Slf4j
 @ToString
 public class MongoDbServiceRegistry extends AbstractServiceRegistry {
+    /**
+     * Document field that tracks the last-modified timestamp of service definitions.
+     */
+    public static final String FIELD_NAME_LAST_MODIFIED = "lastModified";
 
     private final MongoOperations mongoTemplate;
     private final String collectionName;
@@ -83,11 +92,39 @@ public class MongoDbServiceRegistry extends AbstractServiceRegistry {
             .collect(Collectors.toList());
     }
 
+    @Override
+    public Optional<ServiceRegistryChangeSet> getChangesSince(final long watermark) {
+        val serviceIds = new HashSet<>(mongoTemplate.findDistinct(new Query(), "id", collectionName, RegisteredService.class, Long.class));
+        val criteria = Criteria.where(FIELD_NAME_LAST_MODIFIED).gt(watermark);
+        val list = mongoTemplate.find(new Query(criteria), RegisteredService.class, collectionName);
+        val latest = mongoTemplate.findOne(new Query(criteria).with(Sort.by(Sort.Direction.DESC, FIELD_NAME_LAST_MODIFIED)).limit(1),
+            Document.class, collectionName);
+        val clientInfo = ClientInfoHolder.getClientInfo();
+        val modifiedServices = list
+            .stream()
+            .map(this::invokeServiceRegistryListenerPostLoad)
+            .filter(Objects::nonNull)
+            .peek(s -> publishEvent(new CasRegisteredServiceLoadedEvent(this, s, clientInfo)))
+            .collect(Collectors.toList());
+        LOGGER.debug("Found [{}] service(s) modified since [{}] out of [{}]", modifiedServices.size(), watermark, serviceIds.size());
+        val lastModified = Optional.ofNullable(latest)
+            .map(document -> document.get(FIELD_NAME_LAST_MODIFIED, Number.class))
+            .map(Number::longValue)
+            .orElse(watermark);
+        return Optional.of(ServiceRegistryChangeSet.builder()
+            .modifiedServices(modifiedServices)
+            .serviceIds(serviceIds)
+            .watermark(Math.max(watermark, lastModified))
+            .build());
+    }
+
     @Override
     public RegisteredService save(final RegisteredService svc) {
         svc.assignIdIfNecessary();
         invokeServiceRegistryListenerPreSave(svc);
         this.mongoTemplate.save(svc, this.collectionName);
+        this.mongoTemplate.updateFirst(new Query(Criteria.where("id").is(svc.getId())),
+            Update.update(FIELD_NAME_LAST_MODIFIED, System.currentTimeMillis()), RegisteredService.class, this.collectionName);
         LOGGER.debug("Saved registered service: [{}]", svc);
         return this.findServiceById(svc.getId());
     }
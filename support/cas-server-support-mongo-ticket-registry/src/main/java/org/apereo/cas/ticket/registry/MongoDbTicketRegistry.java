@@ -21,6 +21,7 @@ import org.hjson.JsonValue;
 import org.hjson.Stringify;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
@@ -189,6 +190,37 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
             .map(ticket -> decodeTicket(deserializeTicket(ticket.getJson(), ticket.getType())));
     }
 
+    @Override
+    public TicketRegistryPage page(final TicketRegistryStreamCriteria criteria) {
+        val after = TicketRegistryPage.fromCursor(criteria.getCursor());
+        val ticketDefinitions = StringUtils.isNotBlank(criteria.getType())
+            ? List.of(ticketCatalog.find(criteria.getType()))
+            : ticketCatalog.findAll();
+        val pageSize = (int) Math.min(criteria.getCount(), Integer.MAX_VALUE);
+        val documents = ticketDefinitions
+            .stream()
+            .map(this::getTicketCollectionInstanceByMetadata)
+            .distinct()
+            .flatMap(collectionName -> {
+                val query = new Query();
+                if (after != null) {
+                    query.addCriteria(Criteria.where(MongoDbTicketDocument.FIELD_NAME_ID).gt(after));
+                }
+                if (StringUtils.isNotBlank(criteria.getPrincipal())) {
+                    query.addCriteria(Criteria.where(MongoDbTicketDocument.FIELD_NAME_PRINCIPAL).is(digestIdentifier(criteria.getPrincipal())));
+                }
+                query.with(Sort.by(Sort.Direction.ASC, MongoDbTicketDocument.FIELD_NAME_ID)).limit(pageSize);
+                return mongoTemplate.find(query, MongoDbTicketDocument.class, collectionName).stream();
+            });
+        val selected = TicketRegistryPage.firstAfter(documents, MongoDbTicketDocument::getTicketId, after, pageSize);
+        val tickets = selected.values()
+            .stream()
+            .map(document -> decodeTicket(deserializeTicket(document.getJson(), document.getType())))
+            .filter(ticket -> criteria.matches(ticket) && !ticket.isExpired())
+            .toList();
+        return TicketRegistryPage.of(tickets, selected.isEmpty() ? null : selected.lastKey(), selected.size(), pageSize);
+    }
+
     @Override
     public long sessionCount() {
         return countTicketsByTicketType(TicketGrantingTicket.class);
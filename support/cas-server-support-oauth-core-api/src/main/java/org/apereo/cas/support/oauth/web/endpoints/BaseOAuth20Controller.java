@@ -103,6 +103,7 @@ public abstract class BaseOAuth20Controller<T extends OAuth20ConfigurationContex
 
     protected void revokeToken(final String token) throws Exception {
         LOGGER.debug("Revoking token [{}]", token);
+        getConfigurationContext().getLocalAccessTokenValidator().revoke(token);
         getConfigurationContext().getTicketRegistry().deleteTicket(token);
     }
 
@@ -9,6 +9,7 @@ import org.apereo.cas.support.oauth.web.response.introspection.OAuth20Introspect
 import org.apereo.cas.support.oauth.web.response.introspection.OAuth20IntrospectionAccessTokenResponse;
 import org.apereo.cas.ticket.InvalidTicketException;
 import org.apereo.cas.ticket.OAuth20Token;
+import org.apereo.cas.ticket.accesstoken.OAuth20AccessToken;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.http.HttpRequestUtils;
@@ -119,7 +120,7 @@ public class OAuth20IntrospectionEndpointController<T extends OAuth20Configurati
                 "Service", registeredService.getName());
             LoggingUtils.protocolMessage("OpenID Connect Introspection Request", protocolMap);
 
-            val accessToken = fetchTokenFromRegistry(tokenId);
+            val accessToken = fetchToken(tokenId);
             val introspect = getConfigurationContext()
                 .getIntrospectionResponseGenerator()
                 .stream()
@@ -134,10 +135,19 @@ public class OAuth20IntrospectionEndpointController<T extends OAuth20Configurati
         return buildBadRequestResponseEntity(OAuth20Constants.INVALID_REQUEST);
     }
 
-    private OAuth20Token fetchTokenFromRegistry(final String accessTokenId) {
+    private OAuth20Token fetchToken(final String accessTokenId) {
+        val localAccessTokenValidator = getConfigurationContext().getLocalAccessTokenValidator();
+        val localAccessToken = localAccessTokenValidator.validate(accessTokenId);
+        if (localAccessToken.isPresent()) {
+            return localAccessToken.get();
+        }
         try {
             val token = extractAccessTokenFrom(accessTokenId);
-            return getConfigurationContext().getTicketRegistry().getTicket(token, OAuth20Token.class);
+            val ticket = getConfigurationContext().getTicketRegistry().getTicket(token, OAuth20Token.class);
+            if (ticket instanceof final OAuth20AccessToken accessToken && !accessToken.isExpired()) {
+                localAccessTokenValidator.register(accessTokenId, accessToken);
+            }
+            return ticket;
         } catch (final InvalidTicketException e) {
             LOGGER.trace(e.getMessage(), e);
             LOGGER.info("Unable to fetch access token [{}]: [{}]", accessTokenId, e.getMessage());
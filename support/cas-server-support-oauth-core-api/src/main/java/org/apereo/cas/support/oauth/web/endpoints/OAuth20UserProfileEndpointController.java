@@ -78,10 +78,12 @@ public class OAuth20UserProfileEndpointController<T extends OAuth20Configuration
             return buildUnauthorizedResponseEntity(OAuth20Constants.MISSING_ACCESS_TOKEN);
         }
 
-        val accessTokenTicket = FunctionUtils.doAndHandle(() -> {
+        val localAccessTokenValidator = getConfigurationContext().getLocalAccessTokenValidator();
+        val localAccessToken = localAccessTokenValidator.validate(accessTokenResult.getKey());
+        val accessTokenTicket = localAccessToken.orElseGet(() -> FunctionUtils.doAndHandle(() -> {
             val decodedToken = getConfigurationContext().getTicketRegistry().getTicket(decodedAccessTokenId, OAuth20AccessToken.class);
             return decodedToken == null || decodedToken.isExpired() ? null : decodedToken;
-        });
+        }));
         if (accessTokenTicket == null || accessTokenTicket.isExpired()) {
             LOGGER.error("Access token [{}] cannot be found in the ticket registry or has expired.", decodedAccessTokenId);
             return buildUnauthorizedResponseEntity(OAuth20Constants.EXPIRED_ACCESS_TOKEN);
@@ -91,7 +93,12 @@ public class OAuth20UserProfileEndpointController<T extends OAuth20Configuration
 
         try {
             validateAccessToken(accessTokenResult.getKey(), accessTokenTicket, request, response);
-            updateAccessTokenUsage(accessTokenTicket);
+            if (localAccessToken.isEmpty()) {
+                updateAccessTokenUsage(accessTokenTicket);
+                if (!accessTokenTicket.isExpired()) {
+                    localAccessTokenValidator.register(accessTokenResult.getKey(), accessTokenTicket);
+                }
+            }
             val map = getConfigurationContext().getUserProfileDataCreator().createFrom(accessTokenTicket);
             return getConfigurationContext().getUserProfileViewRenderer().render(map, accessTokenTicket, response);
         } catch (final Throwable e) {
@@ -54,9 +54,12 @@ public class OAuth20TokenManagementEndpoint extends BaseCasActuatorEndpoint {
     @ReadOperation
     @Operation(summary = "Get access and/or refresh tokens")
     public Collection<Ticket> getTokens() {
-        return ticketRegistry.getObject().getTickets(ticket -> (ticket instanceof OAuth20AccessToken || ticket instanceof OAuth20RefreshToken) && !ticket.isExpired())
-            .sorted(Comparator.comparing(Ticket::getId))
-            .collect(Collectors.toList());
+        try (val tickets = ticketRegistry.getObject().getTickets(ticket ->
+            (ticket instanceof OAuth20AccessToken || ticket instanceof OAuth20RefreshToken) && !ticket.isExpired())) {
+            return tickets
+                .sorted(Comparator.comparing(Ticket::getId))
+                .collect(Collectors.toList());
+        }
     }
 
 
@@ -0,0 +1,155 @@
+package org.apereo.cas.ticket.accesstoken;
+
+import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
+import org.apereo.cas.support.oauth.util.OAuth20Utils;
+import org.apereo.cas.token.JwtBuilder;
+import org.apereo.cas.util.function.FunctionUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.nimbusds.jwt.JWTClaimsSet;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * This is {@link DefaultOAuth20LocalAccessTokenValidator}. When an access token is first found in the ticket registry,
+ * its JWT representation is unpacked using the keys of the registered service, and checked for its identifier,
+ * expiration and audience. The access token is then kept in memory for as long as the JWT is valid, bounded by
+ * the configured expiration, and returned on subsequent requests without a ticket registry lookup.
+ * Tokens are evicted once revoked or once the ticket-granting ticket that issued them is destroyed on this node;
+ * revocations that take place on other nodes are observed once the cached entry expires.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+public class DefaultOAuth20LocalAccessTokenValidator implements OAuth20LocalAccessTokenValidator {
+    private final JwtBuilder accessTokenJwtBuilder;
+
+    private final ServicesManager servicesManager;
+
+    private final Clock clock;
+
+    private final Cache<String, LocalAccessToken> accessTokens;
+
+    public DefaultOAuth20LocalAccessTokenValidator(final JwtBuilder accessTokenJwtBuilder,
+                                                   final ServicesManager servicesManager,
+                                                   final Duration expiration,
+                                                   final long maximumSize) {
+        this(accessTokenJwtBuilder, servicesManager, expiration, maximumSize, Clock.systemUTC());
+    }
+
+    public DefaultOAuth20LocalAccessTokenValidator(final JwtBuilder accessTokenJwtBuilder,
+                                                   final ServicesManager servicesManager,
+                                                   final Duration expiration,
+                                                   final long maximumSize,
+                                                   final Clock clock) {
+        this.accessTokenJwtBuilder = accessTokenJwtBuilder;
+        this.servicesManager = servicesManager;
+        this.clock = clock;
+        this.accessTokens = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new LocalAccessTokenExpiry(expiration, clock))
+            .build();
+    }
+
+    @Override
+    public Optional<OAuth20AccessToken> validate(final String encodedToken) {
+        if (StringUtils.isBlank(encodedToken)) {
+            return Optional.empty();
+        }
+        val localToken = accessTokens.getIfPresent(encodedToken);
+        if (localToken == null) {
+            return Optional.empty();
+        }
+        if (!clock.instant().isBefore(localToken.expiresAt()) || localToken.accessToken().isExpired()) {
+            LOGGER.debug("Access token [{}] has expired and will be removed", localToken.accessToken().getId());
+            accessTokens.invalidate(encodedToken);
+            return Optional.empty();
+        }
+        LOGGER.trace("Access token [{}] is validated locally", localToken.accessToken().getId());
+        return Optional.of(localToken.accessToken());
+    }
+
+    @Override
+    public void register(final String encodedToken, final OAuth20AccessToken accessToken) {
+        if (StringUtils.isBlank(encodedToken) || StringUtils.equals(encodedToken, accessToken.getId()) || accessToken.isExpired()) {
+            return;
+        }
+        FunctionUtils.doAndHandle(__ -> {
+            val registeredService = OAuth20Utils.getRegisteredOAuthServiceByClientId(servicesManager, accessToken.getClientId());
+            val claims = accessTokenJwtBuilder.unpack(Optional.ofNullable(registeredService), encodedToken);
+            val expiresAt = getExpirationTime(claims);
+            if (isValid(claims, accessToken, registeredService, expiresAt)) {
+                val ticketGrantingTicket = accessToken.getTicketGrantingTicket();
+                accessTokens.put(encodedToken, new LocalAccessToken(accessToken,
+                    ticketGrantingTicket != null ? ticketGrantingTicket.getId() : null, expiresAt));
+            }
+        });
+    }
+
+    @Override
+    public void revoke(final String tokenId) {
+        accessTokens.asMap().entrySet().removeIf(entry -> StringUtils.equals(tokenId, entry.getValue().accessToken().getId())
+            || StringUtils.equals(tokenId, entry.getKey()));
+    }
+
+    @Override
+    public void revokeAll(final String ticketGrantingTicketId) {
+        accessTokens.asMap().values().removeIf(token -> StringUtils.equals(ticketGrantingTicketId, token.ticketGrantingTicketId()));
+    }
+
+    protected boolean isValid(final JWTClaimsSet claims, final OAuth20AccessToken accessToken,
+                              final OAuthRegisteredService registeredService, final Instant expiresAt) {
+        if (!StringUtils.equals(claims.getJWTID(), accessToken.getId())) {
+            LOGGER.warn("JWT identifier [{}] does not match access token [{}]", claims.getJWTID(), accessToken.getId());
+            return false;
+        }
+        if (expiresAt == null || !clock.instant().isBefore(expiresAt)) {
+            LOGGER.debug("JWT access token [{}] has no expiration date or has expired", accessToken.getId());
+            return false;
+        }
+        val audience = registeredService != null && !registeredService.getAudience().isEmpty()
+            ? registeredService.getAudience()
+            : Set.of(accessToken.getClientId());
+        if (claims.getAudience().stream().noneMatch(audience::contains)) {
+            LOGGER.warn("JWT access token [{}] is not issued for audience [{}]", accessToken.getId(), audience);
+            return false;
+        }
+        return true;
+    }
+
+    private static Instant getExpirationTime(final JWTClaimsSet claims) {
+        return claims.getExpirationTime() != null ? claims.getExpirationTime().toInstant() : null;
+    }
+
+    private record LocalAccessToken(OAuth20AccessToken accessToken, String ticketGrantingTicketId, Instant expiresAt) {
+    }
+
+    private record LocalAccessTokenExpiry(Duration expiration, Clock clock) implements Expiry<String, LocalAccessToken> {
+        @Override
+        public long expireAfterCreate(final String key, final LocalAccessToken value, final long currentTime) {
+            val remaining = Duration.between(clock.instant(), value.expiresAt());
+            return Math.max(0, Math.min(expiration.toNanos(), remaining.toNanos()));
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final LocalAccessToken value,
+                                      final long currentTime, final long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final LocalAccessToken value,
+                                    final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.apereo.cas.ticket.accesstoken;
+
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketDestroyedEvent;
+import org.apereo.cas.util.spring.CasEventListener;
+import org.springframework.context.event.EventListener;
+import java.util.Optional;
+
+/**
+ * This is {@link OAuth20LocalAccessTokenValidator}. It allows resource endpoints such as user profile
+ * and introspection to validate JWT access tokens locally, so that the ticket registry is only consulted
+ * the first time a token is presented to a node, or once the token is revoked.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+public interface OAuth20LocalAccessTokenValidator extends CasEventListener {
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "oauthLocalAccessTokenValidator";
+
+    /**
+     * Validate the encoded access token locally and return the access token
+     * that was previously registered for it, if any.
+     *
+     * @param encodedToken the encoded token, as presented by the client
+     * @return the access token, or empty if the token is unknown, expired or revoked
+     */
+    Optional<OAuth20AccessToken> validate(String encodedToken);
+
+    /**
+     * Register the access token found in the ticket registry for the encoded token,
+     * so that subsequent requests may be validated locally.
+     *
+     * @param encodedToken the encoded token, as presented by the client
+     * @param accessToken  the access token
+     */
+    void register(String encodedToken, OAuth20AccessToken accessToken);
+
+    /**
+     * Revoke the token locally, forcing the next validation attempt to consult the ticket registry.
+     *
+     * @param tokenId the token id
+     */
+    void revoke(String tokenId);
+
+    /**
+     * Revoke all tokens issued for the ticket-granting ticket.
+     *
+     * @param ticketGrantingTicketId the ticket-granting ticket id
+     */
+    void revokeAll(String ticketGrantingTicketId);
+
+    /**
+     * Handle ticket granting ticket destroyed event, as a result of logout.
+     *
+     * @param event the event
+     */
+    @EventListener
+    default void handleCasTicketGrantingTicketDestroyedEvent(final CasTicketGrantingTicketDestroyedEvent event) {
+        revokeAll(event.getId());
+    }
+
+    /**
+     * Validator that never validates tokens locally.
+     *
+     * @return the validator
+     */
+    static OAuth20LocalAccessTokenValidator noOp() {
+        return new OAuth20LocalAccessTokenValidator() {
+            @Override
+            public Optional<OAuth20AccessToken> validate(final String encodedToken) {
+                return Optional.empty();
+            }
+
+            @Override
+            public void register(final String encodedToken, final OAuth20AccessToken accessToken) {
+            }
+
+            @Override
+            public void revoke(final String tokenId) {
+            }
+
+            @Override
+            public void revokeAll(final String ticketGrantingTicketId) {
+            }
+        };
+    }
+}
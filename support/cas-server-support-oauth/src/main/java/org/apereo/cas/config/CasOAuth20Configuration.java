@@ -19,6 +19,7 @@ import org.apereo.cas.authentication.principal.WebApplicationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.configuration.model.support.replication.CookieSessionReplicationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.logout.LogoutExecutionPlanConfigurer;
 import org.apereo.cas.multitenancy.TenantExtractor;
 import org.apereo.cas.notifications.CommunicationsManager;
@@ -116,12 +117,14 @@ import org.apereo.cas.ticket.TicketCatalogConfigurer;
 import org.apereo.cas.ticket.TicketFactory;
 import org.apereo.cas.ticket.TicketFactoryExecutionPlanConfigurer;
 import org.apereo.cas.ticket.UniqueTicketIdGenerator;
+import org.apereo.cas.ticket.accesstoken.DefaultOAuth20LocalAccessTokenValidator;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessToken;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenCompactor;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenExpirationPolicyBuilder;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenFactory;
 import org.apereo.cas.ticket.accesstoken.OAuth20DefaultAccessTokenFactory;
 import org.apereo.cas.ticket.accesstoken.OAuth20JwtBuilder;
+import org.apereo.cas.ticket.accesstoken.OAuth20LocalAccessTokenValidator;
 import org.apereo.cas.ticket.code.OAuth20Code;
 import org.apereo.cas.ticket.code.OAuth20CodeCompactor;
 import org.apereo.cas.ticket.code.OAuth20CodeExpirationPolicyBuilder;
@@ -273,6 +276,24 @@ class CasOAuth20Configuration {
             return new OAuth20JwtBuilder(oauthAccessTokenJwtCipherExecutor, applicationContext, servicesManager,
                 oauthRegisteredServiceJwtAccessTokenCipherExecutor, casProperties, principalResolver, webApplicationServiceFactory);
         }
+
+        @ConditionalOnMissingBean(name = OAuth20LocalAccessTokenValidator.BEAN_NAME)
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public OAuth20LocalAccessTokenValidator oauthLocalAccessTokenValidator(
+            final CasConfigurationProperties casProperties,
+            @Qualifier(JwtBuilder.ACCESS_TOKEN_JWT_BUILDER_BEAN_NAME)
+            final JwtBuilder accessTokenJwtBuilder,
+            @Qualifier(ServicesManager.BEAN_NAME)
+            final ServicesManager servicesManager) {
+            val accessTokenProps = casProperties.getAuthn().getOauth().getAccessToken();
+            if (accessTokenProps.isValidateJwtLocally()) {
+                return new DefaultOAuth20LocalAccessTokenValidator(accessTokenJwtBuilder, servicesManager,
+                    Beans.newDuration(accessTokenProps.getLocalValidationExpiration()),
+                    accessTokenProps.getLocalValidationMaximumSize());
+            }
+            return OAuth20LocalAccessTokenValidator.noOp();
+        }
     }
 
     @Configuration(value = "CasOAuth20ContextConfiguration", proxyBeanMethods = false)
@@ -352,7 +373,9 @@ class CasOAuth20Configuration {
             @Qualifier("webflowCipherExecutor")
             final CipherExecutor webflowCipherExecutor,
             @Qualifier(HttpClient.BEAN_NAME_HTTPCLIENT)
-            final HttpClient httpClient) {
+            final HttpClient httpClient,
+            @Qualifier(OAuth20LocalAccessTokenValidator.BEAN_NAME)
+            final OAuth20LocalAccessTokenValidator oauthLocalAccessTokenValidator) {
             return OAuth20ConfigurationContext.builder()
                 .argumentExtractor(argumentExtractor)
                 .httpClient(httpClient)
@@ -389,6 +412,7 @@ class CasOAuth20Configuration {
                 .authenticationAttributeReleasePolicy(authenticationAttributeReleasePolicy)
                 .attributeDefinitionStore(attributeDefinitionStore)
                 .introspectionResponseGenerator(oauthIntrospectionResponseGenerator)
+                .localAccessTokenValidator(oauthLocalAccessTokenValidator)
                 .principalResolver(defaultPrincipalResolver)
                 .taskScheduler(taskScheduler)
                 .communicationsManager(communicationManager)
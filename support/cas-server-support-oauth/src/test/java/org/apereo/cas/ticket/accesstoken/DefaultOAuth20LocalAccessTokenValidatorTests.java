@@ -0,0 +1,107 @@
+package org.apereo.cas.ticket.accesstoken;
+
+import org.apereo.cas.AbstractOAuth20Tests;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketDestroyedEvent;
+import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20JwtAccessTokenEncoder;
+import org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.test.context.TestPropertySource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link DefaultOAuth20LocalAccessTokenValidatorTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("OAuthToken")
+@TestPropertySource(properties = "cas.authn.oauth.access-token.validate-jwt-locally=true")
+class DefaultOAuth20LocalAccessTokenValidatorTests extends AbstractOAuth20Tests {
+    @Autowired
+    @Qualifier(OAuth20LocalAccessTokenValidator.BEAN_NAME)
+    private OAuth20LocalAccessTokenValidator oauthLocalAccessTokenValidator;
+
+    private String encode(final OAuth20AccessToken accessToken) {
+        val registeredService = getRegisteredService(accessToken.getService().getId(), accessToken.getClientId(), "secret");
+        registeredService.setJwtAccessToken(true);
+        servicesManager.save(registeredService);
+        return OAuth20JwtAccessTokenEncoder.toEncodableCipher(configurationContext, registeredService, accessToken)
+            .encode(accessToken.getId());
+    }
+
+    private OAuth20LocalAccessTokenValidator getValidator(final Clock clock) {
+        return new DefaultOAuth20LocalAccessTokenValidator(configurationContext.getAccessTokenJwtBuilder(),
+            servicesManager, Duration.ofMinutes(1), 100, clock);
+    }
+
+    @Test
+    void verifyOperation() {
+        assertInstanceOf(DefaultOAuth20LocalAccessTokenValidator.class, oauthLocalAccessTokenValidator);
+        val accessToken = getAccessToken();
+        val encodedToken = encode(accessToken);
+        assertNotEquals(encodedToken, accessToken.getId());
+        assertTrue(oauthLocalAccessTokenValidator.validate(encodedToken).isEmpty());
+        oauthLocalAccessTokenValidator.register(encodedToken, accessToken);
+        assertEquals(accessToken, oauthLocalAccessTokenValidator.validate(encodedToken).orElseThrow());
+        oauthLocalAccessTokenValidator.revoke(accessToken.getId());
+        assertTrue(oauthLocalAccessTokenValidator.validate(encodedToken).isEmpty());
+    }
+
+    @Test
+    void verifyOpaqueTokensAreIgnored() {
+        val accessToken = getAccessToken();
+        oauthLocalAccessTokenValidator.register(accessToken.getId(), accessToken);
+        assertTrue(oauthLocalAccessTokenValidator.validate(accessToken.getId()).isEmpty());
+        oauthLocalAccessTokenValidator.register(UUID.randomUUID().toString(), accessToken);
+        assertTrue(oauthLocalAccessTokenValidator.validate(accessToken.getId()).isEmpty());
+    }
+
+    @Test
+    void verifyMismatchedToken() {
+        val accessToken = getAccessToken();
+        val encodedToken = encode(accessToken);
+        oauthLocalAccessTokenValidator.register(encodedToken, getAccessToken(accessToken.getService().getId(), accessToken.getClientId()));
+        assertTrue(oauthLocalAccessTokenValidator.validate(encodedToken).isEmpty());
+    }
+
+    @Test
+    void verifyTicketGrantingTicketDestroyed() {
+        val accessToken = getAccessToken();
+        val encodedToken = encode(accessToken);
+        oauthLocalAccessTokenValidator.register(encodedToken, accessToken);
+        assertTrue(oauthLocalAccessTokenValidator.validate(encodedToken).isPresent());
+        oauthLocalAccessTokenValidator.handleCasTicketGrantingTicketDestroyedEvent(
+            new CasTicketGrantingTicketDestroyedEvent(this, accessToken.getTicketGrantingTicket(), null));
+        assertTrue(oauthLocalAccessTokenValidator.validate(encodedToken).isEmpty());
+    }
+
+    @Test
+    void verifyExpiredJwt() {
+        val accessToken = getAccessToken();
+        when(accessToken.getExpirationPolicy()).thenReturn(new HardTimeoutExpirationPolicy(60));
+        val encodedToken = encode(accessToken);
+        val validator = getValidator(Clock.fixed(Instant.now().plus(Duration.ofMinutes(5)), ZoneOffset.UTC));
+        validator.register(encodedToken, accessToken);
+        assertTrue(validator.validate(encodedToken).isEmpty());
+    }
+
+    @Test
+    void verifyNoOp() {
+        val accessToken = getAccessToken();
+        val validator = OAuth20LocalAccessTokenValidator.noOp();
+        validator.register("token", accessToken);
+        validator.revoke(accessToken.getId());
+        validator.revokeAll(accessToken.getTicketGrantingTicket().getId());
+        assertTrue(validator.validate("token").isEmpty());
+    }
+}
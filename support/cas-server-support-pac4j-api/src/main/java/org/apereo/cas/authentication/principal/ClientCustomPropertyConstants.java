@@ -27,4 +27,10 @@ public interface ClientCustomPropertyConstants {
      * CSS class assigned to this client to be used in the UI.
      */
     String CLIENT_CUSTOM_PROPERTY_CSS_CLASS = "cssClass";
+
+    /**
+     * Digest of the settings the client was built from, used to tell whether
+     * a rebuilt client carries the same configuration as an existing one.
+     */
+    String CLIENT_CUSTOM_PROPERTY_CONFIGURATION_DIGEST = "configurationDigest";
 }
@@ -5,9 +5,11 @@ import org.apereo.cas.authentication.principal.ClientCustomPropertyConstants;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.model.support.pac4j.Pac4jBaseClientProperties;
 import org.apereo.cas.pac4j.client.DelegatedIdentityProviderFactory;
+import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.RandomUtils;
 import org.apereo.cas.util.concurrent.CasReentrantLock;
 import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.serialization.SerializationUtils;
 import com.github.benmanes.caffeine.cache.Cache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -89,6 +91,8 @@ public abstract class BaseDelegatedIdentityProviderFactory implements DelegatedI
             }
             val customProperties = client.getCustomProperties();
             customProperties.put(ClientCustomPropertyConstants.CLIENT_CUSTOM_PROPERTY_AUTO_REDIRECT_TYPE, clientProperties.getAutoRedirectType());
+            customProperties.put(ClientCustomPropertyConstants.CLIENT_CUSTOM_PROPERTY_CONFIGURATION_DIGEST,
+                DigestUtils.digest("SHA-256", SerializationUtils.serialize(clientProperties)));
 
             FunctionUtils.doIfNotBlank(clientProperties.getPrincipalIdAttribute(),
                 __ -> customProperties.put(ClientCustomPropertyConstants.CLIENT_CUSTOM_PROPERTY_PRINCIPAL_ATTRIBUTE_ID, clientProperties.getPrincipalIdAttribute()));
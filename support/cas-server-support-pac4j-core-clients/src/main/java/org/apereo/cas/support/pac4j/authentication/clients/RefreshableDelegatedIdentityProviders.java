@@ -1,17 +1,41 @@
 package org.apereo.cas.support.pac4j.authentication.clients;
 
+import org.apereo.cas.authentication.principal.ClientCustomPropertyConstants;
 import org.apereo.cas.pac4j.client.DelegatedIdentityProviderFactory;
 import org.apereo.cas.pac4j.client.DelegatedIdentityProviders;
+import org.apereo.cas.util.concurrent.CasReentrantLock;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.pac4j.core.client.BaseClient;
 import org.pac4j.core.client.Client;
 import org.pac4j.core.client.Clients;
+import org.pac4j.core.client.IndirectClient;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
 
 /**
- * This is {@link RefreshableDelegatedIdentityProviders}.
+ * This is {@link RefreshableDelegatedIdentityProviders}. Built and initialized clients
+ * are kept in an immutable, versioned snapshot that is indexed by client name.
+ * Lookups are served from the current snapshot, which is rebuilt in the background once
+ * the refresh interval has passed and is only swapped when the clients produced by
+ * the {@link DelegatedIdentityProviderFactory} have actually changed. Clients are compared by their type,
+ * name and a digest of the settings they were built from, rather than by instance, since factories may
+ * produce new instances on every build. A zero refresh interval checks the factory for changes on every lookup,
+ * without taking a lock unless the clients have changed.
  *
  * @author Misagh Moayyed
  * @since 6.4.0
@@ -20,24 +44,115 @@ import java.util.Optional;
 public class RefreshableDelegatedIdentityProviders extends Clients implements DelegatedIdentityProviders {
     private final DelegatedIdentityProviderFactory delegatedIdentityProviderFactory;
 
+    private final Duration refreshInterval;
+
+    private final Timer refreshTimer;
+
+    private final CasReentrantLock lock = new CasReentrantLock();
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
     public RefreshableDelegatedIdentityProviders(final String callbackUrl,
                                                  final DelegatedIdentityProviderFactory delegatedIdentityProviderFactory) {
+        this(callbackUrl, delegatedIdentityProviderFactory, Duration.ZERO, Metrics.globalRegistry);
+    }
+
+    public RefreshableDelegatedIdentityProviders(final String callbackUrl,
+                                                 final DelegatedIdentityProviderFactory delegatedIdentityProviderFactory,
+                                                 final Duration refreshInterval,
+                                                 final MeterRegistry meterRegistry) {
         setCallbackUrl(callbackUrl);
         this.delegatedIdentityProviderFactory = delegatedIdentityProviderFactory;
+        this.refreshInterval = refreshInterval;
+        this.refreshTimer = Timer.builder("cas.delegation.identity-providers.refresh")
+            .description("Time spent building and initializing delegated identity providers")
+            .register(meterRegistry);
+    }
+
+    private static String normalizeName(final String name) {
+        return StringUtils.trimToEmpty(name).toLowerCase(Locale.ENGLISH);
     }
 
     @Override
     public Optional<Client> findClient(final String name) {
-        setClients(buildDelegatedClients());
-        init();
-        return super.findClient(name);
+        return Optional.ofNullable(currentSnapshot().index().get(normalizeName(name)));
     }
 
     @Override
     public List<Client> findAllClients() {
-        setClients(buildDelegatedClients());
+        return currentSnapshot().clients();
+    }
+
+    /**
+     * Gets the version of the current snapshot of clients,
+     * which is incremented every time a changed collection of clients is swapped in.
+     *
+     * @return the version
+     */
+    public long getVersion() {
+        return Optional.ofNullable(snapshot.get()).map(Snapshot::version).orElse(0L);
+    }
+
+    /**
+     * Rebuild the collection of clients from the factory and swap
+     * the current snapshot if the clients have changed. Checking for changes
+     * does not require a lock; the lock is only taken to initialize and swap in changed clients.
+     *
+     * @return the current snapshot
+     */
+    public Snapshot refresh() {
+        return refreshTimer.record(() -> {
+            val builtClients = buildDelegatedClients();
+            val current = snapshot.get();
+            if (current != null && current.isBuiltFrom(builtClients)) {
+                LOGGER.trace("Delegated clients are unchanged; keeping snapshot version [{}]", current.version());
+                if (isRefreshedOnEveryLookup()) {
+                    return current;
+                }
+                val renewed = current.renew();
+                snapshot.compareAndSet(current, renewed);
+                return renewed;
+            }
+            val result = lock.tryLock(() -> swap(builtClients));
+            return Objects.requireNonNullElseGet(result, () -> Objects.requireNonNullElseGet(snapshot.get(), Snapshot::empty));
+        });
+    }
+
+    protected Snapshot currentSnapshot() {
+        val current = snapshot.get();
+        if (current == null || isRefreshedOnEveryLookup()) {
+            return refresh();
+        }
+        if (current.isOlderThan(refreshInterval) && refreshing.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("delegated-identity-providers-refresh").start(() -> {
+                try {
+                    refresh();
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        }
+        return current;
+    }
+
+    protected boolean isRefreshedOnEveryLookup() {
+        return refreshInterval.isZero() || refreshInterval.isNegative();
+    }
+
+    private Snapshot swap(final List<Client> builtClients) {
+        val current = snapshot.get();
+        if (current != null && current.isBuiltFrom(builtClients)) {
+            return current;
+        }
+        setClients(builtClients);
         init();
-        return super.findAllClients();
+        val version = current == null ? 1 : current.version() + 1;
+        val next = Snapshot.of(version, builtClients, super.findAllClients());
+        snapshot.set(next);
+        LOGGER.debug("Swapped delegated clients to snapshot version [{}] with [{}] client(s)", version, next.clients().size());
+        return next;
     }
 
     protected List<Client> buildDelegatedClients() {
@@ -45,4 +160,61 @@ public class RefreshableDelegatedIdentityProviders extends Clients implements De
         LOGGER.debug("The following clients are built: [{}]", providers);
         return new ArrayList<>(providers);
     }
+
+    /**
+     * Immutable view of built and initialized clients.
+     *
+     * @param version the version of this snapshot
+     * @param source  the clients this snapshot was built from
+     * @param clients the initialized clients
+     * @param index   the clients indexed by their normalized name
+     * @param builtAt the instant this snapshot was last confirmed as current
+     */
+    public record Snapshot(long version, List<Client> source, List<Client> clients,
+                           Map<String, Client> index, Instant builtAt) {
+
+        static Snapshot empty() {
+            return new Snapshot(0, List.of(), List.of(), Map.of(), Instant.now());
+        }
+
+        static Snapshot of(final long version, final List<Client> source, final List<Client> clients) {
+            val index = new LinkedHashMap<String, Client>();
+            clients.forEach(client -> index.putIfAbsent(normalizeName(client.getName()), client));
+            return new Snapshot(version, List.copyOf(source), List.copyOf(clients), Map.copyOf(index), Instant.now());
+        }
+
+        Snapshot renew() {
+            return new Snapshot(version, source, clients, index, Instant.now());
+        }
+
+        boolean isOlderThan(final Duration interval) {
+            return builtAt.plus(interval).isBefore(Instant.now());
+        }
+
+        boolean isBuiltFrom(final List<Client> builtClients) {
+            return source.size() == builtClients.size()
+                && IntStream.range(0, source.size()).allMatch(i -> isSameClient(source.get(i), builtClients.get(i)));
+        }
+
+        /**
+         * Clients are considered the same if they are the same instance, or if they are of the same type
+         * with the same name and carry the same configuration digest, callback URL and custom properties.
+         * Clients that were not built from configuration settings carry no digest, and are only
+         * considered the same if they are the same instance.
+         */
+        private static boolean isSameClient(final Client existing, final Client built) {
+            if (existing == built) {
+                return true;
+            }
+            if (existing instanceof final BaseClient existingClient && built instanceof final BaseClient builtClient
+                && existingClient.getClass().equals(builtClient.getClass())
+                && existingClient.getCustomProperties().containsKey(ClientCustomPropertyConstants.CLIENT_CUSTOM_PROPERTY_CONFIGURATION_DIGEST)
+                && StringUtils.equals(existingClient.getName(), builtClient.getName())
+                && Objects.equals(existingClient.getCustomProperties(), builtClient.getCustomProperties())) {
+                return !(existingClient instanceof final IndirectClient existingIndirect)
+                    || StringUtils.equals(existingIndirect.getCallbackUrl(), ((IndirectClient) builtClient).getCallbackUrl());
+            }
+            return false;
+        }
+    }
 }
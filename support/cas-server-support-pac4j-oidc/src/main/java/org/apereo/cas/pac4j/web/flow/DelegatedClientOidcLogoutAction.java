@@ -42,12 +42,13 @@ public class DelegatedClientOidcLogoutAction extends BaseCasWebflowAction {
                                                     final SessionKeyCredentials sessionKeyCredentials) {
         val sessionKey = sessionKeyCredentials.getSessionKey();
         LOGGER.debug("Destroying SSO session for OIDC authn delegation for session key: [{}]", sessionKey);
-        ticketRegistry
-            .getSessionsWithAttributes(Map.of("sid", List.of(Objects.requireNonNull(sessionKey))))
-            .filter(ticket -> !ticket.isExpired())
-            .map(TicketGrantingTicket.class::cast)
-            .findFirst()
-            .ifPresent(ticket -> singleLogoutRequestExecutor.execute(ticket.getId(), request, response));
+        try (val sessions = ticketRegistry.getSessionsWithAttributes(Map.of("sid", List.of(Objects.requireNonNull(sessionKey))))) {
+            sessions
+                .filter(ticket -> !ticket.isExpired())
+                .map(TicketGrantingTicket.class::cast)
+                .findFirst()
+                .ifPresent(ticket -> singleLogoutRequestExecutor.execute(ticket.getId(), request, response));
+        }
     }
 
     @Override
@@ -50,12 +50,16 @@ public class DelegatedSaml2ClientLogoutAction extends BaseCasWebflowAction {
     private void removeSsoSessionsForSessionIndexes(final HttpServletRequest request,
                                                     final HttpServletResponse response,
                                                     final LogoutRequest logoutRequest) {
-        logoutRequest.getSessionIndexes().forEach(sessionIndex -> ticketRegistry
-            .getSessionsWithAttributes(Map.of("sessionindex", List.of(Objects.requireNonNull(sessionIndex.getValue()))))
-            .filter(ticket -> !ticket.isExpired())
-            .map(TicketGrantingTicket.class::cast)
-            .findFirst()
-            .ifPresent(ticket -> singleLogoutRequestExecutor.execute(ticket.getId(), request, response)));
+        logoutRequest.getSessionIndexes().forEach(sessionIndex -> {
+            try (val sessions = ticketRegistry.getSessionsWithAttributes(
+                Map.of("sessionindex", List.of(Objects.requireNonNull(sessionIndex.getValue()))))) {
+                sessions
+                    .filter(ticket -> !ticket.isExpired())
+                    .map(TicketGrantingTicket.class::cast)
+                    .findFirst()
+                    .ifPresent(ticket -> singleLogoutRequestExecutor.execute(ticket.getId(), request, response));
+            }
+        });
     }
 
     @Override
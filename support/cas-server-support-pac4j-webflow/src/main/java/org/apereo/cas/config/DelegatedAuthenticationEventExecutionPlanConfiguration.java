@@ -52,6 +52,8 @@ import org.apereo.cas.web.support.mgmr.DefaultCasCookieValueManager;
 import org.apereo.cas.web.support.mgmr.DefaultCookieSameSitePolicy;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
@@ -350,8 +352,11 @@ class DelegatedAuthenticationEventExecutionPlanConfiguration {
         @ConditionalOnMissingBean(name = DelegatedIdentityProviders.BEAN_NAME)
         public DelegatedIdentityProviders delegatedIdentityProviders(
             final CasConfigurationProperties casProperties,
+            final ObjectProvider<MeterRegistry> meterRegistry,
             @Qualifier("pac4jDelegatedClientFactory") final DelegatedIdentityProviderFactory pac4jDelegatedIdentityProviderFactory) {
-            return new RefreshableDelegatedIdentityProviders(casProperties.getServer().getLoginUrl(), pac4jDelegatedIdentityProviderFactory);
+            val refreshInterval = Beans.newDuration(casProperties.getAuthn().getPac4j().getCore().getRefreshInterval());
+            return new RefreshableDelegatedIdentityProviders(casProperties.getServer().getLoginUrl(),
+                pac4jDelegatedIdentityProviderFactory, refreshInterval, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
         }
     }
 
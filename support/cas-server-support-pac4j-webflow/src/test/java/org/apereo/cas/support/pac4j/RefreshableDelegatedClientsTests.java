@@ -1,11 +1,14 @@
 package org.apereo.cas.support.pac4j;
 
+import org.apereo.cas.authentication.principal.ClientCustomPropertyConstants;
 import org.apereo.cas.pac4j.client.DelegatedIdentityProviderFactory;
 import org.apereo.cas.support.pac4j.authentication.clients.RefreshableDelegatedIdentityProviders;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.val;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.pac4j.cas.client.CasClient;
+import java.time.Duration;
 import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -18,6 +21,14 @@ import static org.mockito.Mockito.*;
  */
 @Tag("Delegation")
 class RefreshableDelegatedClientsTests {
+    private static CasClient getCasClient(final String digest) {
+        val client = new CasClient();
+        client.setName("CasClient");
+        client.setCallbackUrl("http://localhost:8080/cas/login");
+        client.getCustomProperties().put(ClientCustomPropertyConstants.CLIENT_CUSTOM_PROPERTY_CONFIGURATION_DIGEST, digest);
+        return client;
+    }
+
     @Test
     void verifyOperation() {
         val delegatedFactory = mock(DelegatedIdentityProviderFactory.class);
@@ -30,4 +41,52 @@ class RefreshableDelegatedClientsTests {
         assertTrue(refreshableClients.findClient(client.getName()).isPresent());
 
     }
+
+    @Test
+    void verifySnapshotSwappedOnlyOnChange() {
+        val delegatedFactory = mock(DelegatedIdentityProviderFactory.class);
+        val client = new CasClient();
+        client.setName("CasClient1");
+        val clients = List.of(client);
+        when(delegatedFactory.build()).thenReturn(clients);
+        val meterRegistry = new SimpleMeterRegistry();
+        val refreshableClients = new RefreshableDelegatedIdentityProviders("http://localhost:8080/cas",
+            delegatedFactory, Duration.ofHours(1), meterRegistry);
+        assertEquals(1, refreshableClients.findAllClients().size());
+        assertTrue(refreshableClients.findClient("casclient1").isPresent());
+        assertEquals(1, refreshableClients.getVersion());
+
+        refreshableClients.refresh();
+        assertEquals(1, refreshableClients.getVersion());
+
+        val newClient = new CasClient();
+        newClient.setName("CasClient2");
+        when(delegatedFactory.build()).thenReturn(List.of(client, newClient));
+        assertEquals(1, refreshableClients.findAllClients().size());
+        refreshableClients.refresh();
+        assertEquals(2, refreshableClients.getVersion());
+        assertEquals(2, refreshableClients.findAllClients().size());
+        assertTrue(refreshableClients.findClient("CasClient2").isPresent());
+        assertEquals(3, meterRegistry.get("cas.delegation.identity-providers.refresh").timer().count());
+    }
+
+    @Test
+    void verifyRebuiltClientsWithSameConfigurationKept() {
+        val delegatedFactory = mock(DelegatedIdentityProviderFactory.class);
+        val client = getCasClient("digest-1");
+        when(delegatedFactory.build()).thenReturn(List.of(client));
+        val refreshableClients = new RefreshableDelegatedIdentityProviders("http://localhost:8080/cas",
+            delegatedFactory, Duration.ZERO, new SimpleMeterRegistry());
+        assertSame(client, refreshableClients.findClient("CasClient").orElseThrow());
+        assertEquals(1, refreshableClients.getVersion());
+
+        when(delegatedFactory.build()).thenReturn(List.of(getCasClient("digest-1")));
+        assertSame(client, refreshableClients.findClient("CasClient").orElseThrow());
+        assertEquals(1, refreshableClients.getVersion());
+
+        val changedClient = getCasClient("digest-2");
+        when(delegatedFactory.build()).thenReturn(List.of(changedClient));
+        assertSame(changedClient, refreshableClients.findClient("CasClient").orElseThrow());
+        assertEquals(2, refreshableClients.getVersion());
+    }
 }
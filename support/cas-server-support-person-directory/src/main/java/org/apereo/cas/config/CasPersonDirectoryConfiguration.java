@@ -15,6 +15,7 @@ import org.apereo.cas.authentication.principal.resolvers.PersonDirectoryPrincipa
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.configuration.model.core.authentication.PrincipalAttributesCoreProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.persondir.CascadingPersonAttributeDao;
 import org.apereo.cas.persondir.DefaultAttributeRepositoryResolver;
 import org.apereo.cas.persondir.DefaultPersonDirectoryAttributeRepositoryPlan;
@@ -155,7 +156,13 @@ class CasPersonDirectoryConfiguration {
                 dao.setStopIfFirstDaoReturnsNull(properties.getCore().isStopCascadingWhenNoInitialResults());
                 return dao;
             }
-            return new MergingPersonAttributeDaoImpl();
+            val dao = new MergingPersonAttributeDaoImpl();
+            if (properties.getCore().getAggregation() == PrincipalAttributesCoreProperties.AggregationStrategyTypes.CONCURRENT_MERGE) {
+                dao.setConcurrent(true);
+                dao.setTimeout(Beans.newDuration(properties.getCore().getAggregationTimeout()));
+                dao.setSourceTimeout(Beans.newDuration(properties.getCore().getAggregationSourceTimeout()));
+            }
+            return dao;
         }
 
         @Bean
@@ -3,6 +3,7 @@ package org.apereo.cas.adaptors.redis.services;
 import org.apereo.cas.redis.core.CasRedisTemplate;
 import org.apereo.cas.services.AbstractServiceRegistry;
 import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.ServiceRegistryChangeSet;
 import org.apereo.cas.services.ServiceRegistryListener;
 import org.apereo.cas.support.events.service.CasRegisteredServiceDeletedEvent;
 import org.apereo.cas.support.events.service.CasRegisteredServiceLoadedEvent;
@@ -16,7 +17,9 @@ import org.apereo.inspektr.common.web.ClientInfoHolder;
 import org.springframework.context.ConfigurableApplicationContext;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -32,6 +35,11 @@ public class RedisServiceRegistry extends AbstractServiceRegistry {
 
     private static final String CAS_SERVICE_PREFIX = RegisteredService.class.getSimpleName() + ':';
 
+    /**
+     * Hash that tracks the last-modified timestamp of service definitions, keyed by service identifier.
+     */
+    private static final String CAS_SERVICE_CHANGES_KEY = RegisteredService.class.getSimpleName() + "Changes";
+
     private final CasRedisTemplate<String, RegisteredService> template;
 
     public RedisServiceRegistry(final ConfigurableApplicationContext applicationContext,
@@ -62,6 +70,7 @@ public class RedisServiceRegistry extends AbstractServiceRegistry {
             val clientInfo = ClientInfoHolder.getClientInfo();
             invokeServiceRegistryListenerPreSave(rs);
             template.boundValueOps(redisKey).set(rs);
+            template.<String, Long>opsForHash().put(CAS_SERVICE_CHANGES_KEY, String.valueOf(rs.getId()), System.currentTimeMillis());
             LOGGER.trace("Saved registered service [{}]", rs);
             publishEvent(new CasRegisteredServiceSavedEvent(this, rs, clientInfo));
         } catch (final Exception e) {
@@ -77,6 +86,7 @@ public class RedisServiceRegistry extends AbstractServiceRegistry {
             val redisKey = getRegisteredServiceRedisKey(registeredService);
             val clientInfo = ClientInfoHolder.getClientInfo();
             this.template.delete(redisKey);
+            this.template.<String, Long>opsForHash().delete(CAS_SERVICE_CHANGES_KEY, String.valueOf(registeredService.getId()));
             LOGGER.trace("Deleted registered service [{}]", registeredService);
             publishEvent(new CasRegisteredServiceDeletedEvent(this, registeredService, clientInfo));
             return true;
@@ -91,6 +101,7 @@ public class RedisServiceRegistry extends AbstractServiceRegistry {
         try (val keys = getRegisteredServiceKeys()) {
             keys.forEach(this.template::delete);
         }
+        this.template.delete(CAS_SERVICE_CHANGES_KEY);
     }
 
     @Override
@@ -115,6 +126,34 @@ public class RedisServiceRegistry extends AbstractServiceRegistry {
         }
     }
 
+    @Override
+    public Optional<ServiceRegistryChangeSet> getChangesSince(final long watermark) {
+        val serviceIds = new HashSet<Long>();
+        try (val keys = getRegisteredServiceKeys()) {
+            keys.map(redisKey -> Long.valueOf(redisKey.substring(CAS_SERVICE_PREFIX.length()))).forEach(serviceIds::add);
+        }
+        val changes = template.<String, Long>opsForHash().entries(CAS_SERVICE_CHANGES_KEY);
+        val clientInfo = ClientInfoHolder.getClientInfo();
+        val modifiedServices = changes.entrySet()
+            .stream()
+            .filter(entry -> entry.getValue() > watermark)
+            .map(entry -> Long.valueOf(entry.getKey()))
+            .filter(serviceIds::contains)
+            .map(this::findServiceById)
+            .filter(Objects::nonNull)
+            .map(this::invokeServiceRegistryListenerPostLoad)
+            .filter(Objects::nonNull)
+            .peek(service -> publishEvent(new CasRegisteredServiceLoadedEvent(this, service, clientInfo)))
+            .collect(Collectors.toList());
+        val latest = changes.values().stream().mapToLong(Long::longValue).max().orElse(watermark);
+        LOGGER.debug("Found [{}] service(s) modified since [{}] out of [{}]", modifiedServices.size(), watermark, serviceIds.size());
+        return Optional.of(ServiceRegistryChangeSet.builder()
+            .modifiedServices(modifiedServices)
+            .serviceIds(serviceIds)
+            .watermark(Math.max(watermark, latest))
+            .build());
+    }
+
     @Override
     public RegisteredService findServiceById(final long id) {
         val redisKey = getRegisteredServiceRedisKey(id);
@@ -0,0 +1,58 @@
+package org.apereo.cas.authentication.principal.cache;
+
+import org.apereo.cas.authentication.principal.PrincipalAttributesRepositoryCacheStore;
+import org.apereo.cas.redis.core.CasRedisTemplate;
+import org.apereo.cas.util.crypto.CipherExecutor;
+import org.apereo.cas.util.serialization.SerializationUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * This is {@link RedisPrincipalAttributesRepositoryCacheStore} that keeps
+ * cached principal attributes in Redis, using the expiration of each entry as its TTL.
+ * Attributes are serialized and then signed and encrypted using the cipher of the ticket registry.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RedisPrincipalAttributesRepositoryCacheStore implements PrincipalAttributesRepositoryCacheStore {
+    private static final String KEY_PREFIX = "CAS_PRINCIPAL_ATTRIBUTES:";
+
+    private final CasRedisTemplate<String, byte[]> redisTemplate;
+
+    private final CipherExecutor cipherExecutor;
+
+    @Override
+    public Optional<Map<String, List<Object>>> get(final String key) {
+        val encoded = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+        if (encoded == null) {
+            return Optional.empty();
+        }
+        val attributes = SerializationUtils.decodeAndDeserializeObject(encoded, cipherExecutor, HashMap.class);
+        LOGGER.trace("Fetched cached attributes [{}] for [{}]", attributes, key);
+        return Optional.ofNullable(attributes).<Map<String, List<Object>>>map(HashMap::new);
+    }
+
+    @Override
+    public void put(final String key, final Map<String, List<Object>> attributes, final Duration expiration) {
+        val values = new HashMap<String, ArrayList<Object>>();
+        attributes.forEach((name, value) -> values.put(name, new ArrayList<>(value)));
+        redisTemplate.opsForValue().set(KEY_PREFIX + key, SerializationUtils.serializeAndEncodeObject(cipherExecutor, values), expiration);
+    }
+
+    @Override
+    public void clear() {
+        try (val keys = redisTemplate.scan(KEY_PREFIX + '*')) {
+            redisTemplate.delete(keys.toList());
+        }
+    }
+}
@@ -2,9 +2,13 @@ package org.apereo.cas.config;
 
 import org.apereo.cas.authentication.CasSSLContext;
 import org.apereo.cas.authentication.principal.Principal;
+import org.apereo.cas.authentication.principal.PrincipalAttributesRepositoryCacheStore;
+import org.apereo.cas.authentication.principal.cache.RedisPrincipalAttributesRepositoryCacheStore;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.logout.slo.RedisSingleLogoutMessageQueueStore;
+import org.apereo.cas.logout.slo.SingleLogoutMessageQueueStore;
 import org.apereo.cas.redis.core.CasRedisTemplate;
 import org.apereo.cas.redis.core.RedisModulesOperations;
 import org.apereo.cas.redis.core.RedisObjectFactory;
@@ -13,6 +17,7 @@ import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.registry.CachedTicketExpirationPolicy;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistry;
+import org.apereo.cas.ticket.registry.LeaseBasedTicketLockRepository;
 import org.apereo.cas.ticket.registry.RedisTicketDocument;
 import org.apereo.cas.ticket.registry.RedisTicketRegistry;
 import org.apereo.cas.ticket.registry.RedisTicketRegistryCacheEndpoint;
@@ -25,16 +30,18 @@ import org.apereo.cas.ticket.registry.pub.RedisTicketRegistryMessagePublisher;
 import org.apereo.cas.ticket.registry.sub.DefaultRedisTicketRegistryMessageListener;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.CoreTicketUtils;
+import org.apereo.cas.util.InetAddressUtils;
 import org.apereo.cas.util.PublisherIdentifier;
 import org.apereo.cas.util.function.FunctionUtils;
-import org.apereo.cas.util.lock.DefaultLockRepository;
 import org.apereo.cas.util.lock.LockRepository;
 import org.apereo.cas.util.spring.beans.BeanCondition;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
+import org.apereo.cas.web.HttpMessage;
 import com.github.benmanes.caffeine.cache.Cache;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 import org.jooq.lambda.Unchecked;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -286,6 +293,63 @@ public class CasRedisTicketRegistryAutoConfiguration {
         }
     }
 
+    @Configuration(value = "RedisTicketRegistryPrincipalAttributesCacheConfiguration", proxyBeanMethods = false)
+    @EnableConfigurationProperties(CasConfigurationProperties.class)
+    static class RedisTicketRegistryPrincipalAttributesCacheConfiguration {
+        private static final BeanCondition CONDITION_CACHE =
+            BeanCondition.on("cas.authn.attribute-repository.core.enable-distributed-service-cache").isTrue()
+                .and("cas.ticket.registry.redis.enabled").isTrue().evenIfMissing();
+
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        @ConditionalOnMissingBean(name = PrincipalAttributesRepositoryCacheStore.BEAN_NAME)
+        public PrincipalAttributesRepositoryCacheStore principalAttributesRepositoryCacheStore(
+            final ConfigurableApplicationContext applicationContext,
+            final CasConfigurationProperties casProperties,
+            @Qualifier("redisTicketConnectionFactory")
+            final RedisConnectionFactory redisTicketConnectionFactory) {
+            return BeanSupplier.of(PrincipalAttributesRepositoryCacheStore.class)
+                .when(CONDITION_CACHE.given(applicationContext.getEnvironment()))
+                .supply(() -> {
+                    val template = RedisObjectFactory.<String, byte[]>newRedisTemplate(redisTicketConnectionFactory);
+                    template.initialize();
+                    val cipher = CoreTicketUtils.newTicketRegistryCipherExecutor(
+                        casProperties.getTicket().getRegistry().getRedis().getCrypto(), "redis");
+                    return new RedisPrincipalAttributesRepositoryCacheStore(template, cipher);
+                })
+                .otherwise(PrincipalAttributesRepositoryCacheStore::noOp)
+                .get();
+        }
+    }
+
+    @Configuration(value = "RedisTicketRegistrySingleLogoutConfiguration", proxyBeanMethods = false)
+    @EnableConfigurationProperties(CasConfigurationProperties.class)
+    static class RedisTicketRegistrySingleLogoutConfiguration {
+        private static final BeanCondition CONDITION_QUEUE =
+            BeanCondition.on("cas.slo.dispatch.enable-durable-queue").isTrue()
+                .and("cas.ticket.registry.redis.enabled").isTrue().evenIfMissing();
+
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        @ConditionalOnMissingBean(name = SingleLogoutMessageQueueStore.BEAN_NAME)
+        public SingleLogoutMessageQueueStore singleLogoutMessageQueueStore(
+            final ConfigurableApplicationContext applicationContext,
+            final CasConfigurationProperties casProperties,
+            @Qualifier("redisTicketConnectionFactory")
+            final RedisConnectionFactory redisTicketConnectionFactory) {
+            return BeanSupplier.of(SingleLogoutMessageQueueStore.class)
+                .when(CONDITION_QUEUE.given(applicationContext.getEnvironment()))
+                .supply(() -> {
+                    val template = RedisObjectFactory.<String, HttpMessage>newRedisTemplate(redisTicketConnectionFactory);
+                    template.initialize();
+                    val nodeName = StringUtils.defaultIfBlank(casProperties.getHost().getName(), InetAddressUtils.getCasServerHostName());
+                    return new RedisSingleLogoutMessageQueueStore(template, nodeName);
+                })
+                .otherwise(SingleLogoutMessageQueueStore::noOp)
+                .get();
+        }
+    }
+
     @Configuration(value = "RedisTicketRegistryLockingConfiguration", proxyBeanMethods = false)
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     @ConditionalOnFeatureEnabled(feature = CasFeatureModule.FeatureCatalog.TicketRegistryLocking, module = "redis")
@@ -297,13 +361,15 @@ public class CasRedisTicketRegistryAutoConfiguration {
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public LockRegistry casTicketRegistryRedisLockRegistry(
             final ConfigurableApplicationContext applicationContext,
+            final CasConfigurationProperties casProperties,
             @Qualifier("redisTicketConnectionFactory")
             final RedisConnectionFactory redisTicketConnectionFactory) {
             return BeanSupplier.of(LockRegistry.class)
                 .when(CONDITION_LOCKING.given(applicationContext.getEnvironment()))
                 .supply(() -> {
                     val registryKey = "cas-" + RedisLockRegistry.class.getSimpleName();
-                    return new RedisLockRegistry(redisTicketConnectionFactory, registryKey);
+                    val leaseTime = Beans.newDuration(casProperties.getTicket().getRegistry().getCore().getLockLeaseTime());
+                    return new RedisLockRegistry(redisTicketConnectionFactory, registryKey, leaseTime.toMillis());
                 })
                 .otherwiseProxy()
                 .get();
@@ -313,11 +379,12 @@ public class CasRedisTicketRegistryAutoConfiguration {
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public LockRepository casTicketRegistryLockRepository(
             final ConfigurableApplicationContext applicationContext,
+            final CasConfigurationProperties casProperties,
             @Qualifier("casTicketRegistryRedisLockRegistry")
             final LockRegistry casTicketRegistryRedisLockRegistry) {
             return BeanSupplier.of(LockRepository.class)
                 .when(CONDITION_LOCKING.given(applicationContext.getEnvironment()))
-                .supply(() -> new DefaultLockRepository(casTicketRegistryRedisLockRegistry))
+                .supply(() -> LeaseBasedTicketLockRepository.of(casTicketRegistryRedisLockRegistry, casProperties, applicationContext))
                 .otherwise(LockRepository::noOp)
                 .get();
         }
@@ -0,0 +1,50 @@
+package org.apereo.cas.logout.slo;
+
+import org.apereo.cas.redis.core.CasRedisTemplate;
+import org.apereo.cas.web.HttpMessage;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This is {@link RedisSingleLogoutMessageQueueStore} that keeps
+ * queued logout messages in a Redis hash, keyed by their id.
+ * Each CAS server node is given a hash of its own, identified by the node name,
+ * so that nodes do not recover or remove each other's messages.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+public class RedisSingleLogoutMessageQueueStore implements SingleLogoutMessageQueueStore {
+    private static final String KEY_QUEUE = "CAS_SLO_QUEUE:";
+
+    private final CasRedisTemplate<String, HttpMessage> redisTemplate;
+
+    private final String queueKey;
+
+    public RedisSingleLogoutMessageQueueStore(final CasRedisTemplate<String, HttpMessage> redisTemplate,
+                                              final String nodeName) {
+        this.redisTemplate = redisTemplate;
+        this.queueKey = KEY_QUEUE + nodeName;
+    }
+
+    @Override
+    public void save(final String id, final HttpMessage message) {
+        LOGGER.trace("Queueing logout message [{}] for [{}]", id, message.getUrl());
+        redisTemplate.<String, HttpMessage>opsForHash().put(queueKey, id, message);
+    }
+
+    @Override
+    public void remove(final String id) {
+        redisTemplate.<String, HttpMessage>opsForHash().delete(queueKey, id);
+    }
+
+    @Override
+    public Map<String, HttpMessage> load() {
+        val messages = redisTemplate.<String, HttpMessage>opsForHash().entries(queueKey);
+        LOGGER.trace("Loaded [{}] queued logout message(s) from [{}]", messages.size(), queueKey);
+        return new HashMap<>(messages);
+    }
+}
@@ -23,6 +23,7 @@ import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.thread.Cleanable;
 import com.github.benmanes.caffeine.cache.Cache;
+import com.google.common.collect.Iterators;
 import lombok.Data;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -45,12 +46,19 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -84,6 +92,8 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
 
     private final RedisKeyValueAdapter redisKeyValueAdapter;
 
+    private final Set<String> backfilledTicketCounters = ConcurrentHashMap.newKeySet();
+
     public RedisTicketRegistry(final CipherExecutor cipherExecutor,
                                final TicketSerializationManager ticketSerializationManager,
                                final TicketCatalog ticketCatalog,
@@ -124,6 +134,12 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
                 });
             }
         });
+        val counterKeys = redisKeyGeneratorFactory.getRedisKeyGenerators()
+            .stream()
+            .filter(RedisKeyGenerator::isTicketKeyGenerator)
+            .map(generator -> getTicketCounterKey(generator.getPrefix()))
+            .toList();
+        casRedisTemplates.getSessionsRedisTemplate().delete(counterKeys);
         clean();
         return size.get();
     }
@@ -135,6 +151,8 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
         val count = Stream.of(redisTicketsKey)
             .mapToInt(id -> BooleanUtils.toBoolean(casRedisTemplates.getTicketsRedisTemplate().delete(id)) ? 1 : 0)
             .sum();
+        casRedisTemplates.getSessionsRedisTemplate().boundZSetOps(getTicketCounterKey(ticket.getPrefix()))
+            .remove(digestIdentifier(ticket.getId()));
 
         if (ticket instanceof TicketGrantingTicket) {
             redisKeyGeneratorFactory.getRedisKeyGenerator(Principal.class.getName())
@@ -199,23 +217,10 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
 
     @Override
     public Stream<? extends Ticket> stream(final TicketRegistryStreamCriteria criteria) {
-        return fetchKeysForTickets()
+        val keys = fetchKeysForTickets()
             .skip(criteria.getFrom())
-            .limit(criteria.getCount())
-            .map(redisKey -> {
-                val compositeKey = RedisKeyGenerator.parse(redisKey);
-                val redisKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(compositeKey.getPrefix()).orElseThrow();
-                val keyspace = redisKeyGenerator.getKeyspace();
-                val entryId = redisKeyGenerator.rawKey(redisKey);
-                val document = redisKeyValueAdapter.get(entryId, keyspace, RedisTicketDocument.class);
-                if (document == null) {
-                    casRedisTemplates.getTicketsRedisTemplate().delete(redisKey);
-                    return null;
-                }
-                return document;
-            })
-            .filter(Objects::nonNull)
-            .map(redisTicketDocument -> redisTicketDocument)
+            .limit(criteria.getCount());
+        return fetchTicketDocuments(keys)
             .map(document -> deserializeTicket(document.json(), document.type()))
             .map(this::decodeTicket)
             .filter(Objects::nonNull)
@@ -228,6 +233,48 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
             });
     }
 
+    /**
+     * Fetch a page of tickets by selecting the next set of ticket keys first, and then only
+     * fetching ticket documents for the selected keys in a single pipelined round trip.
+     * Sessions that belong to a principal are located using the principal index, if available.
+     *
+     * @param criteria the criteria
+     * @return the page
+     */
+    @Override
+    public TicketRegistryPage page(final TicketRegistryStreamCriteria criteria) {
+        val after = TicketRegistryPage.fromCursor(criteria.getCursor());
+        val ticketType = StringUtils.defaultIfBlank(criteria.getType(), "*");
+        val redisKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(
+            StringUtils.defaultIfBlank(criteria.getType(), TicketGrantingTicket.PREFIX)).orElseThrow();
+        val keys = StringUtils.isNotBlank(criteria.getPrincipal()) && TicketGrantingTicket.PREFIX.equals(criteria.getType())
+            ? fetchKeysForSessions(criteria.getPrincipal())
+            : fetchKeysForTickets(redisKeyGenerator.forPrefixAndId(ticketType, "*"));
+        try (keys) {
+            val selected = TicketRegistryPage.firstAfter(keys, Function.identity(), after, criteria.getCount());
+            try (val documents = fetchTicketDocuments(selected.keySet().stream())) {
+                val tickets = documents
+                    .map(document -> deserializeTicket(document.json(), document.type()))
+                    .map(this::decodeTicket)
+                    .filter(ticket -> criteria.matches(ticket) && !ticket.isExpired())
+                    .toList();
+                return TicketRegistryPage.of(tickets, selected.isEmpty() ? null : selected.lastKey(),
+                    selected.size(), criteria.getCount());
+            }
+        }
+    }
+
+    private Stream<String> fetchKeysForSessions(final String principalId) {
+        val principalKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(Principal.class.getName()).orElseThrow();
+        val ticketKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(TicketGrantingTicket.PREFIX).orElseThrow();
+        val redisPrincipalKey = principalKeyGenerator.forId(digestIdentifier(principalId));
+        val members = casRedisTemplates.getSessionsRedisTemplate().boundZSetOps(redisPrincipalKey).range(0, Long.MAX_VALUE);
+        return Stream.ofNullable(members)
+            .flatMap(Collection::stream)
+            .filter(Objects::nonNull)
+            .map(ticketId -> ticketKeyGenerator.forPrefixAndId(ticketKeyGenerator.getPrefix(), ticketId));
+    }
+
     @Override
     public Stream<? extends Ticket> getSessionsFor(final String principalId) {
         return redisKeyGeneratorFactory.getRedisKeyGenerator(Principal.class.getName())
@@ -258,23 +305,12 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
 
     @Override
     public long sessionCount() {
-        val redisKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(TicketGrantingTicket.PREFIX).orElseThrow();
-        val redisTicketsKey = redisKeyGenerator.forPrefixAndId(redisKeyGenerator.getPrefix(), "*");
-
-        val options = ScanOptions.scanOptions().match(redisTicketsKey).build();
-        try (val result = casRedisTemplates.getTicketsRedisTemplate().scan(options)) {
-            return result.stream().parallel().count();
-        }
+        return countTicketsByPrefix(TicketGrantingTicket.PREFIX);
     }
 
     @Override
     public long serviceTicketCount() {
-        val redisTicketsKey = redisKeyGeneratorFactory.getRedisKeyGenerator(ServiceTicket.PREFIX)
-            .orElseThrow().forPrefixAndId(ServiceTicket.PREFIX, "*");
-        val options = ScanOptions.scanOptions().match(redisTicketsKey).build();
-        try (val result = casRedisTemplates.getTicketsRedisTemplate().scan(options)) {
-            return result.stream().parallel().count();
-        }
+        return countTicketsByPrefix(ServiceTicket.PREFIX);
     }
 
     @Override
@@ -329,9 +365,13 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
 
     @Override
     public long countTickets() {
-        val redisKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(TicketGrantingTicket.PREFIX).orElseThrow();
-        val redisTicketsKey = redisKeyGenerator.forPrefixAndId("*", "*");
-        return casRedisTemplates.getTicketsRedisTemplate().count(redisTicketsKey);
+        return redisKeyGeneratorFactory.getRedisKeyGenerators()
+            .stream()
+            .filter(RedisKeyGenerator::isTicketKeyGenerator)
+            .map(RedisKeyGenerator::getPrefix)
+            .distinct()
+            .mapToLong(this::countTicketsByPrefix)
+            .sum();
     }
 
     @Override
@@ -375,8 +415,10 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
                     .collect(Collectors.toList());
             }
         }
-        val keys = fetchKeysForTickets(redisTicketsKey);
-        return (queryCriteria.getCount() > 0 ? keys.limit(queryCriteria.getCount()) : keys).collect(Collectors.toList());
+        try (val keys = fetchKeysForTickets(redisTicketsKey)) {
+            val distinctKeys = keys.distinct();
+            return (queryCriteria.getCount() > 0 ? distinctKeys.limit(queryCriteria.getCount()) : distinctKeys).collect(Collectors.toList());
+        }
     }
 
     @Override
@@ -391,9 +433,134 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
         return fetchKeysForTickets(redisKey);
     }
 
+    /**
+     * Scan keys that match the given pattern. The scan cursor is released as soon as it is exhausted,
+     * or when the resulting stream is closed, whichever comes first. Keys are not de-duplicated
+     * here, since that would require holding on to every key that was scanned; the few duplicates
+     * that a scan may return when the keyspace is rehashed are handled by consumers that need to.
+     *
+     * @param key the key pattern
+     * @return the keys
+     */
     private Stream<String> fetchKeysForTickets(final String key) {
-        LOGGER.debug("Loading keys for pattern [{}]", key);
-        return Objects.requireNonNull(casRedisTemplates.getTicketsRedisTemplate().keys(key)).parallelStream();
+        LOGGER.debug("Scanning keys for pattern [{}]", key);
+        val options = ScanOptions.scanOptions().match(key).count(getScanCount()).build();
+        val cursor = casRedisTemplates.getTicketsRedisTemplate().scan(options);
+        val closed = new AtomicBoolean();
+        val closeCursor = (Runnable) () -> {
+            if (closed.compareAndSet(false, true)) {
+                cursor.close();
+            }
+        };
+        val keys = new Iterator<String>() {
+            @Override
+            public boolean hasNext() {
+                if (closed.get()) {
+                    return false;
+                }
+                val hasNext = cursor.hasNext();
+                if (!hasNext) {
+                    closeCursor.run();
+                }
+                return hasNext;
+            }
+
+            @Override
+            public String next() {
+                return cursor.next();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(keys, Spliterator.ORDERED), false)
+            .onClose(closeCursor)
+            .filter(redisKey -> StringUtils.countMatches(redisKey, ':') == 2);
+    }
+
+    /**
+     * Fetch ticket documents for the given keys, one page at a time.
+     * Documents that belong to the same page are fetched in a single pipelined
+     * round trip, and pages are only requested as the resulting stream is consumed.
+     *
+     * @param keys the keys
+     * @return the ticket documents
+     */
+    private Stream<RedisTicketDocument> fetchTicketDocuments(final Stream<String> keys) {
+        val pages = Iterators.partition(keys.iterator(), (int) Math.min(getScanCount(), Integer.MAX_VALUE));
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED), false)
+            .onClose(keys::close)
+            .flatMap(page -> {
+                val results = Objects.requireNonNull(casRedisTemplates.getTicketsRedisTemplate().execute((RedisCallback<List<Object>>) connection -> {
+                    connection.openPipeline();
+                    page.forEach(redisKey -> connection.hashCommands().hGetAll(redisKey.getBytes(StandardCharsets.UTF_8)));
+                    return connection.closePipeline();
+                }));
+                val documents = new ArrayList<RedisTicketDocument>(page.size());
+                for (var i = 0; i < page.size(); i++) {
+                    val rawData = (Map<byte[], byte[]>) results.get(i);
+                    if (rawData != null && !rawData.isEmpty()) {
+                        val redisKey = page.get(i);
+                        val compositeKey = RedisKeyGenerator.parse(redisKey);
+                        val redisKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(compositeKey.getPrefix()).orElseThrow();
+                        val redisData = new RedisData(rawData);
+                        redisData.setId(redisKeyGenerator.rawKey(redisKey));
+                        redisData.setKeyspace(redisKeyGenerator.getKeyspace());
+                        documents.add(redisKeyValueAdapter.getConverter().read(RedisTicketDocument.class, redisData));
+                    }
+                }
+                return documents.stream();
+            });
+    }
+
+    private long countTicketsByPrefix(final String prefix) {
+        val counterKey = getTicketCounterKey(prefix);
+        if (!backfilledTicketCounters.contains(prefix)
+            && !BooleanUtils.toBoolean(casRedisTemplates.getSessionsRedisTemplate().hasKey(counterKey))) {
+            backfillTicketCounter(prefix);
+        }
+        val ops = casRedisTemplates.getSessionsRedisTemplate().boundZSetOps(counterKey);
+        ops.removeRangeByScore(0, Instant.now(Clock.systemUTC()).getEpochSecond());
+        return Objects.requireNonNullElse(ops.zCard(), 0L);
+    }
+
+    /**
+     * Tickets that were stored before ticket counters were tracked are not found in the counter.
+     * When the counter is missing, scan the ticket keys once and record each ticket with the remaining
+     * time to live of its key, so that counts remain accurate after an upgrade.
+     *
+     * @param prefix the ticket prefix
+     */
+    private void backfillTicketCounter(final String prefix) {
+        redisKeyGeneratorFactory.getRedisKeyGenerator(prefix).ifPresent(redisKeyGenerator -> {
+            val counterKey = getTicketCounterKey(prefix);
+            val now = Instant.now(Clock.systemUTC()).getEpochSecond();
+            val count = new AtomicLong();
+            try (val keys = fetchKeysForTickets(redisKeyGenerator.forPrefixAndId(prefix, "*"))) {
+                Iterators.partition(keys.iterator(), (int) Math.min(getScanCount(), Integer.MAX_VALUE)).forEachRemaining(page -> {
+                    val ttls = casRedisTemplates.getTicketsRedisTemplate().executePipelined((RedisCallback<Object>) connection -> {
+                        page.forEach(redisKey -> connection.keyCommands().ttl(redisKey.getBytes(StandardCharsets.UTF_8)));
+                        return null;
+                    });
+                    val ops = casRedisTemplates.getSessionsRedisTemplate().boundZSetOps(counterKey);
+                    for (var i = 0; i < page.size(); i++) {
+                        val ttl = ttls.get(i) instanceof final Long seconds ? seconds : -1L;
+                        if (ttl != -2L) {
+                            val expiration = ttl >= 0 ? now + ttl : Long.MAX_VALUE;
+                            ops.add(RedisKeyGenerator.parse(page.get(i)).getId(), Long.valueOf(expiration).doubleValue());
+                            count.incrementAndGet();
+                        }
+                    }
+                });
+            }
+            LOGGER.debug("Backfilled ticket counter for prefix [{}] with [{}] ticket(s)", prefix, count.get());
+            backfilledTicketCounters.add(prefix);
+        });
+    }
+
+    private long getScanCount() {
+        return Math.max(1, casProperties.getTicket().getRegistry().getRedis().getScanCount());
+    }
+
+    private static String getTicketCounterKey(final String prefix) {
+        return RedisKeyGenerator.REDIS_NAMESPACE_TICKET_COUNTERS + ':' + prefix;
     }
 
     protected RedisTicketDocument buildTicketAsDocument(final Ticket ticket) {
@@ -488,6 +655,7 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
         redisKeyValueAdapter.put(ticketDocument.ticketId(), redisDataItem, keyspace);
         configureTicketExpirationInstant(ticket, redisKeyPattern);
         ticketCache.ifAvailable(cache -> cache.put(digestedId, ticket));
+        trackTicketExpiration(ticket, digestedId);
 
         redisKeyGeneratorFactory.getRedisKeyGenerator(Principal.class.getName())
             .ifPresent(generator -> trackAuthenticationPrincipal(ticket));
@@ -517,6 +685,14 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
         }
     }
 
+    protected void trackTicketExpiration(final Ticket ticket, final String digestedId) {
+        val expirationInstant = ticket.getExpirationPolicy() instanceof final IdleExpirationPolicy iep
+            ? iep.getIdleExpirationTime(ticket).toInstant()
+            : Instant.now(Clock.systemUTC()).plusSeconds(RedisKeyGenerator.getTicketExpirationInSeconds(ticket));
+        val ops = casRedisTemplates.getSessionsRedisTemplate().boundZSetOps(getTicketCounterKey(ticket.getPrefix()));
+        ops.add(digestedId, Long.valueOf(expirationInstant.getEpochSecond()).doubleValue());
+    }
+
     protected void configureTicketExpirationInstant(final Ticket ticket, final String redisKeyPattern) {
         if (ticket.getExpirationPolicy() instanceof final IdleExpirationPolicy iep) {
             val expirationInstant = iep.getIdleExpirationTime(ticket).toInstant();
@@ -24,6 +24,11 @@ public interface RedisKeyGenerator {
      * The namespace for all CAS principals.
      */
     String REDIS_NAMESPACE_PRINCIPALS = "CAS_PRINCIPAL";
+    /**
+     * The namespace for sorted sets that track tickets by type,
+     * scored by their expiration time, used to count tickets.
+     */
+    String REDIS_NAMESPACE_TICKET_COUNTERS = "CAS_TICKET_COUNTER";
 
     /**
      * Redis message topic key used to sync memory cache across nodes.
@@ -0,0 +1,64 @@
+package org.apereo.cas.logout.slo;
+
+import org.apereo.cas.authentication.CasSSLContext;
+import org.apereo.cas.configuration.model.support.redis.BaseRedisProperties;
+import org.apereo.cas.redis.core.RedisObjectFactory;
+import org.apereo.cas.util.junit.EnabledIfListeningOnPort;
+import org.apereo.cas.web.HttpMessage;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.net.URI;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link RedisSingleLogoutMessageQueueStoreTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("Redis")
+@EnabledIfListeningOnPort(port = 6379)
+class RedisSingleLogoutMessageQueueStoreTests {
+
+    @Test
+    void verifyQueuedMessagesSurviveRestart() throws Throwable {
+        val props = new BaseRedisProperties().setHost("localhost").setPort(6379);
+        val connection = RedisObjectFactory.newRedisConnectionFactory(props, true, CasSSLContext.disabled());
+        val template = RedisObjectFactory.<String, HttpMessage>newRedisTemplate(connection);
+        template.initialize();
+
+        val id = UUID.randomUUID().toString();
+        val message = new HttpMessage(new URI("https://app.example.org/logout").toURL(), "<samlp:LogoutRequest/>", false);
+        val node = UUID.randomUUID().toString();
+        new RedisSingleLogoutMessageQueueStore(template, node).save(id, message);
+
+        val store = new RedisSingleLogoutMessageQueueStore(template, node);
+        val loaded = store.load().get(id);
+        assertNotNull(loaded);
+        assertEquals(message.getUrl(), loaded.getUrl());
+        assertEquals(message.getMessage(), loaded.getMessage());
+        store.remove(id);
+        assertFalse(store.load().containsKey(id));
+    }
+
+    @Test
+    void verifyQueuedMessagesArePartitionedByNode() throws Throwable {
+        val props = new BaseRedisProperties().setHost("localhost").setPort(6379);
+        val connection = RedisObjectFactory.newRedisConnectionFactory(props, true, CasSSLContext.disabled());
+        val template = RedisObjectFactory.<String, HttpMessage>newRedisTemplate(connection);
+        template.initialize();
+
+        val id = UUID.randomUUID().toString();
+        val message = new HttpMessage(new URI("https://app.example.org/logout").toURL(), "<samlp:LogoutRequest/>", false);
+        val first = new RedisSingleLogoutMessageQueueStore(template, UUID.randomUUID().toString());
+        val second = new RedisSingleLogoutMessageQueueStore(template, UUID.randomUUID().toString());
+        first.save(id, message);
+        assertFalse(second.load().containsKey(id));
+        second.remove(id);
+        assertTrue(first.load().containsKey(id));
+        first.remove(id);
+        assertFalse(first.load().containsKey(id));
+    }
+}
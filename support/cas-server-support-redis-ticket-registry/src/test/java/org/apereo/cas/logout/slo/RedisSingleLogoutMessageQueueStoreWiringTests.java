@@ -0,0 +1,46 @@
+package org.apereo.cas.logout.slo;
+
+import org.apereo.cas.config.CasRedisCoreAutoConfiguration;
+import org.apereo.cas.config.CasRedisTicketRegistryAutoConfiguration;
+import org.apereo.cas.util.junit.EnabledIfListeningOnPort;
+import org.apereo.cas.web.report.AbstractCasEndpointTests;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link RedisSingleLogoutMessageQueueStoreWiringTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@EnabledIfListeningOnPort(port = 6379)
+@Tag("Redis")
+@TestPropertySource(properties = {
+    "cas.ticket.registry.core.enable-locking=false",
+    "cas.slo.dispatch.enabled=true",
+    "cas.slo.dispatch.enable-durable-queue=true"
+})
+@ImportAutoConfiguration({
+    CasRedisCoreAutoConfiguration.class,
+    CasRedisTicketRegistryAutoConfiguration.class
+})
+class RedisSingleLogoutMessageQueueStoreWiringTests extends AbstractCasEndpointTests {
+    @Autowired
+    @Qualifier(SingleLogoutMessageQueueStore.BEAN_NAME)
+    private SingleLogoutMessageQueueStore singleLogoutMessageQueueStore;
+
+    @Autowired
+    @Qualifier(SingleLogoutMessageDispatcher.BEAN_NAME)
+    private SingleLogoutMessageDispatcher singleLogoutMessageDispatcher;
+
+    @Test
+    void verifyRedisQueueStoreIsWired() {
+        assertInstanceOf(RedisSingleLogoutMessageQueueStore.class, singleLogoutMessageQueueStore);
+        assertInstanceOf(DefaultSingleLogoutMessageDispatcher.class, singleLogoutMessageDispatcher);
+    }
+}
@@ -21,6 +21,7 @@ import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
 import org.apereo.cas.ticket.expiration.TimeoutExpirationPolicy;
 import org.apereo.cas.ticket.proxy.ProxyGrantingTicket;
 import org.apereo.cas.ticket.proxy.ProxyTicket;
+import org.apereo.cas.ticket.registry.key.RedisKeyGenerator;
 import org.apereo.cas.ticket.registry.key.RedisKeyGeneratorFactory;
 import org.apereo.cas.ticket.tracking.TicketTrackingPolicy;
 import org.apereo.cas.util.ProxyGrantingTicketIdGenerator;
@@ -48,6 +49,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.context.TestPropertySource;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
@@ -297,6 +299,53 @@ class RedisServerTicketRegistryTests {
             });
         }
     }
+
+    @Nested
+    @TestPropertySource(properties = {
+        "cas.ticket.registry.redis.queue-identifier=cas-node-5",
+        "cas.ticket.registry.redis.host=localhost",
+        "cas.ticket.registry.redis.port=6379",
+        "cas.ticket.registry.redis.scan-count=2",
+        "cas.ticket.registry.redis.cache.cache-size=0",
+        "cas.ticket.registry.redis.enable-redis-search=false"
+    })
+    class ScanPagingTests extends BaseRedisSentinelTicketRegistryTests {
+        @RepeatedTest(1)
+        void verifyStreamAndCountsInPages() throws Throwable {
+            getNewTicketRegistry().deleteAll();
+            val authentication = CoreAuthenticationTestUtils.getAuthentication(UUID.randomUUID().toString());
+            val ticketGrantingTickets = Stream.generate(() -> {
+                    val tgtId = new TicketGrantingTicketIdGenerator(10, StringUtils.EMPTY)
+                        .getNewTicketId(TicketGrantingTicket.PREFIX);
+                    return new TicketGrantingTicketImpl(tgtId, authentication, NeverExpiresExpirationPolicy.INSTANCE);
+                })
+                .limit(5)
+                .toList();
+            for (val ticket : ticketGrantingTickets) {
+                getNewTicketRegistry().addTicket(ticket);
+            }
+            val serviceTicket = ticketGrantingTickets.getFirst().grantServiceTicket(
+                TestTicketIdentifiers.generate().serviceTicketId(), RegisteredServiceTestUtils.getService(),
+                NeverExpiresExpirationPolicy.INSTANCE, false, serviceTicketSessionTrackingPolicy);
+            getNewTicketRegistry().addTicket(serviceTicket);
+
+            val sessionsRedisTemplate = ((RedisTicketRegistry) getNewTicketRegistry()).getCasRedisTemplates().getSessionsRedisTemplate();
+            sessionsRedisTemplate.delete(List.of(
+                RedisKeyGenerator.REDIS_NAMESPACE_TICKET_COUNTERS + ':' + TicketGrantingTicket.PREFIX,
+                RedisKeyGenerator.REDIS_NAMESPACE_TICKET_COUNTERS + ':' + ServiceTicket.PREFIX));
+
+            try (val stream = getNewTicketRegistry().stream()) {
+                assertEquals(6, stream.count());
+            }
+            assertEquals(5, getNewTicketRegistry().sessionCount());
+            assertEquals(1, getNewTicketRegistry().serviceTicketCount());
+            assertEquals(6, getNewTicketRegistry().countTickets());
+
+            getNewTicketRegistry().deleteTicket(serviceTicket);
+            assertEquals(0, getNewTicketRegistry().serviceTicketCount());
+            assertEquals(5, getNewTicketRegistry().sessionCount());
+        }
+    }
     
     @Nested
     @TestPropertySource(properties = {
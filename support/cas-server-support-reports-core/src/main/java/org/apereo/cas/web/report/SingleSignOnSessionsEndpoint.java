@@ -4,9 +4,9 @@ import org.apereo.cas.authentication.CoreAuthenticationUtils;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.logout.slo.SingleLogoutRequestExecutor;
 import org.apereo.cas.ticket.IdleExpirationPolicy;
-import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistryPage;
 import org.apereo.cas.ticket.registry.TicketRegistryStreamCriteria;
 import org.apereo.cas.util.DateTimeUtils;
 import org.apereo.cas.util.ISOStandardDateFormat;
@@ -40,7 +40,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import java.io.Serial;
 import java.io.Serializable;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -125,15 +124,22 @@ public class SingleSignOnSessionsEndpoint extends BaseCasRestActuatorEndpoint {
         parameters = {
             @Parameter(name = "type", in = ParameterIn.QUERY, description = "Type of sessions to retrieve (ALL, DIRECT, PROXIED)"),
             @Parameter(name = "username", in = ParameterIn.QUERY, description = "Username assigned to each session"),
-            @Parameter(name = "from", schema = @Schema(type = "integer"), in = ParameterIn.QUERY, description = "Starting position/index of the query"),
+            @Parameter(name = "service", in = ParameterIn.QUERY, description = "Service that is used by each session"),
+            @Parameter(name = "cursor", in = ParameterIn.QUERY, description = "Cursor returned by the previous page of sessions as nextCursor"),
             @Parameter(name = "count", schema = @Schema(type = "integer"), in = ParameterIn.QUERY, description = "Total number of sessions to return")
         })
     public Map<String, Object> getSsoSessions(
         @ModelAttribute final @Valid SsoSessionsRequest ssoSessionsRequest) {
+        if (ssoSessionsRequest.getFrom() > 0) {
+            return Map.of(STATUS, HttpServletResponse.SC_BAD_REQUEST,
+                "message", "Sessions are listed using cursor and nextCursor; from is not supported");
+        }
         val sessionsMap = new HashMap<String, Object>();
-        val activeSsoSessions = getActiveSsoSessions(ssoSessionsRequest).toList();
+        val page = getTicketGrantingTickets(ssoSessionsRequest);
+        val activeSsoSessions = getActiveSsoSessions(ssoSessionsRequest, page).toList();
         sessionsMap.put("activeSsoSessions", activeSsoSessions);
         sessionsMap.put("totalSsoSessions", ticketRegistryProvider.getObject().sessionCount());
+        Optional.ofNullable(page.getCursor()).ifPresent(cursor -> sessionsMap.put("nextCursor", cursor));
         return sessionsMap;
     }
 
@@ -179,7 +185,10 @@ public class SingleSignOnSessionsEndpoint extends BaseCasRestActuatorEndpoint {
         parameters = {
             @Parameter(name = "type", in = ParameterIn.QUERY, description = "Type of sessions to retrieve (ALL, DIRECT, PROXIED)"),
             @Parameter(name = "username", in = ParameterIn.QUERY, description = "Username assigned to each session"),
-            @Parameter(name = "from", schema = @Schema(type = "integer"), in = ParameterIn.QUERY, description = "Starting position/index of the query"),
+            @Parameter(name = "service", in = ParameterIn.QUERY, description = "Service that is used by each session"),
+            @Parameter(name = "from", schema = @Schema(type = "integer"), in = ParameterIn.QUERY,
+                description = "Starting position/index of the query, when sessions are removed for a username"),
+            @Parameter(name = "cursor", in = ParameterIn.QUERY, description = "Cursor returned by the previous page of sessions as nextCursor"),
             @Parameter(name = "count", schema = @Schema(type = "integer"), in = ParameterIn.QUERY, description = "Total number of sessions to return")
         })
     @DeleteMapping(produces = MediaType.APPLICATION_JSON_VALUE)
@@ -205,7 +214,7 @@ public class SingleSignOnSessionsEndpoint extends BaseCasRestActuatorEndpoint {
         }
 
         val sessionsMap = new HashMap<String, Object>();
-        getActiveSsoSessions(ssoSessionsRequest)
+        getActiveSsoSessions(ssoSessionsRequest, getTicketGrantingTickets(ssoSessionsRequest))
             .map(sso -> sso.get(SsoSessionAttributeKeys.TICKET_GRANTING_TICKET_ID.getAttributeKey()).toString())
             .forEach(ticketGrantingTicket -> destroySsoSession(ticketGrantingTicket, request, response));
         sessionsMap.put(STATUS, HttpServletResponse.SC_OK);
@@ -269,19 +278,34 @@ public class SingleSignOnSessionsEndpoint extends BaseCasRestActuatorEndpoint {
 
         private String username;
 
+        private String service;
+
         private long from;
 
+        private String cursor;
+
         private long count = 1000L;
     }
 
-    private Stream<Map<String, Object>> getActiveSsoSessions(final SsoSessionsRequest ssoSessionsRequest) {
+    private TicketRegistryPage getTicketGrantingTickets(final SsoSessionsRequest ssoSessionsRequest) {
+        return ticketRegistryProvider
+            .getObject()
+            .page(TicketRegistryStreamCriteria.builder()
+                .type(TicketGrantingTicket.PREFIX)
+                .principal(ssoSessionsRequest.getUsername())
+                .service(ssoSessionsRequest.getService())
+                .cursor(ssoSessionsRequest.getCursor())
+                .count(ssoSessionsRequest.getCount() > 0 ? ssoSessionsRequest.getCount() : Long.MAX_VALUE)
+                .build());
+    }
+
+    private static Stream<Map<String, Object>> getActiveSsoSessions(final SsoSessionsRequest ssoSessionsRequest,
+                                                                    final TicketRegistryPage page) {
         val option = Optional.ofNullable(ssoSessionsRequest.getType()).map(SsoSessionReportOptions::valueOf).orElse(SsoSessionReportOptions.ALL);
-        return getNonExpiredTicketGrantingTickets(ssoSessionsRequest)
+        return page.getTickets()
+            .stream()
             .map(TicketGrantingTicket.class::cast)
             .filter(tgt -> !(option == SsoSessionReportOptions.DIRECT && tgt.getProxiedBy() != null))
-            .filter(tgt -> StringUtils.isBlank(ssoSessionsRequest.getUsername())
-                || StringUtils.equalsIgnoreCase(ssoSessionsRequest.getUsername(), tgt.getAuthentication().getPrincipal().getId()))
-            .sorted(Comparator.comparing(TicketGrantingTicket::getId))
             .map(tgt -> buildSingleSignOnSessionFromTicketGrantingTicket(option, tgt));
     }
 
@@ -338,15 +362,4 @@ public class SingleSignOnSessionsEndpoint extends BaseCasRestActuatorEndpoint {
         return sso;
     }
 
-    private Stream<? extends Ticket> getNonExpiredTicketGrantingTickets(
-        final SsoSessionsRequest ssoSessionsRequest) {
-        return ticketRegistryProvider
-            .getObject()
-            .stream(TicketRegistryStreamCriteria.builder()
-                .count(ssoSessionsRequest.getCount())
-                .from(ssoSessionsRequest.getFrom())
-                .build())
-            .filter(ticket -> ticket instanceof TicketGrantingTicket && !ticket.isExpired());
-    }
-
 }
@@ -7,7 +7,6 @@ import org.apereo.cas.web.BaseCasActuatorEndpoint;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.val;
 import org.apache.commons.io.FileUtils;
-import org.jooq.lambda.Unchecked;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.actuate.endpoint.Access;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
@@ -18,7 +17,6 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Statistics endpoint reports back on cas metrics and ticket stats.
@@ -40,11 +38,15 @@ public class StatisticsEndpoint extends BaseCasActuatorEndpoint {
 
     /**
      * Gets availability times of the server.
+     * Expired tickets are no longer removed by this operation and are left to the registry cleaner;
+     * {@code validTickets} and {@code expiredTickets} are still reported for existing consumers,
+     * with the former carrying the number of tickets in the registry and the latter always zero.
      *
      * @return the availability
      */
     @ReadOperation
-    @Operation(summary = "Get a report of CAS statistics on tickets. Expired tickets will be removed")
+    @Operation(summary = "Get a report of CAS statistics on tickets. "
+        + "validTickets and expiredTickets are deprecated in favor of totalTickets, ssoSessions and serviceTickets")
     public Map<String, Object> statistics() {
         val model = new HashMap<String, Object>();
 
@@ -56,21 +58,13 @@ public class StatisticsEndpoint extends BaseCasActuatorEndpoint {
         model.put("maxMemory", FileUtils.byteCountToDisplaySize(runtime.maxMemory()));
         model.put("freeMemory", FileUtils.byteCountToDisplaySize(runtime.freeMemory()));
 
-        val validTickets = new AtomicInteger();
-        val expiredTickets = new AtomicInteger();
-        try (val stream = ticketRegistry.getObject().stream()) {
-            stream.forEach(Unchecked.consumer(ticket -> {
-                if (ticket.isExpired()) {
-                    ticketRegistry.getObject().deleteTicket(ticket.getId());
-                    expiredTickets.incrementAndGet();
-                } else {
-                    validTickets.incrementAndGet();
-                }
-            }));
-        }
-        
-        model.put("expiredTickets", expiredTickets);
-        model.put("validTickets", validTickets);
+        val registry = ticketRegistry.getObject();
+        val totalTickets = registry.countTickets();
+        model.put("validTickets", totalTickets);
+        model.put("expiredTickets", 0);
+        model.put("totalTickets", totalTickets);
+        model.put("ssoSessions", registry.sessionCount());
+        model.put("serviceTickets", registry.serviceTicketCount());
         return model;
     }
 }
@@ -6,6 +6,7 @@ import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.logout.slo.SingleLogoutRequestExecutor;
 import org.apereo.cas.mock.MockTicketGrantingTicket;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistryPage;
 import org.apereo.cas.util.spring.DirectObjectProvider;
 import lombok.val;
 import org.junit.jupiter.api.AfterEach;
@@ -20,6 +21,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.TestPropertySource;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
@@ -148,10 +150,35 @@ class SingleSignOnSessionsEndpointTests extends AbstractCasEndpointTests {
         assertFalse(results.isEmpty());
     }
 
+    @Test
+    void verifyPaging() throws Throwable {
+        for (var i = 0; i < 3; i++) {
+            ticketRegistry.addTicket(new MockTicketGrantingTicket("casuser"));
+        }
+        val sessions = new HashSet<>();
+        var request = new SingleSignOnSessionsEndpoint.SsoSessionsRequest().withCount(2);
+        var results = singleSignOnSessionsEndpoint.getSsoSessions(request);
+        while (results.containsKey("nextCursor")) {
+            sessions.addAll((List) results.get("activeSsoSessions"));
+            request = request.withCursor(results.get("nextCursor").toString());
+            results = singleSignOnSessionsEndpoint.getSsoSessions(request);
+        }
+        sessions.addAll((List) results.get("activeSsoSessions"));
+        assertEquals(4, sessions.size());
+
+        results = singleSignOnSessionsEndpoint.getSsoSessions(new SingleSignOnSessionsEndpoint.SsoSessionsRequest().withUsername("casuser"));
+        assertEquals(3, ((List) results.get("activeSsoSessions")).size());
+
+        results = singleSignOnSessionsEndpoint.getSsoSessions(new SingleSignOnSessionsEndpoint.SsoSessionsRequest().withFrom(1));
+        assertEquals(HttpStatus.BAD_REQUEST.value(), results.get("status"));
+        assertFalse(results.containsKey("activeSsoSessions"));
+    }
+
     @Test
     void verifyDeleteFails() throws Throwable {
         val registry = mock(TicketRegistry.class);
         when(registry.getTickets(any(Predicate.class))).thenReturn(Stream.of(new MockTicketGrantingTicket("casuser")));
+        when(registry.page(any())).thenReturn(new TicketRegistryPage(List.of(new MockTicketGrantingTicket("casuser")), null));
         when(registry.deleteTicket(anyString())).thenThrow(new RuntimeException());
 
         val results = new SingleSignOnSessionsEndpoint(new DirectObjectProvider<>(registry), applicationContext,
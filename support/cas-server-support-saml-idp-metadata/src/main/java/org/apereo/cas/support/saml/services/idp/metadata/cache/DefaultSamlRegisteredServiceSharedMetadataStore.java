@@ -0,0 +1,323 @@
+package org.apereo.cas.support.saml.services.idp.metadata.cache;
+
+import org.apereo.cas.support.saml.OpenSamlConfigBean;
+import org.apereo.cas.support.saml.SamlUtils;
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.concurrent.CasReentrantLock;
+import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.http.HttpClient;
+import org.apereo.cas.util.http.HttpExecutionRequest;
+import org.apereo.cas.util.http.HttpUtils;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntityContainer;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.HttpStatus;
+import org.opensaml.saml.common.xml.SAMLConstants;
+import org.opensaml.saml.metadata.resolver.impl.DOMMetadataResolver;
+import org.opensaml.saml.saml2.metadata.EntityDescriptor;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpMethod;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import javax.xml.XMLConstants;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link DefaultSamlRegisteredServiceSharedMetadataStore}. It downloads and parses
+ * each distinct metadata location once, regardless of how many SAML registered services
+ * point to it, and indexes entity descriptors found in the metadata by their entity id.
+ * Metadata sources are refreshed in the background using conditional requests, so unchanged
+ * metadata is neither downloaded nor parsed again. Registered services are then handed a view of the
+ * metadata that only contains the entity descriptor they ask for, rather than the entire aggregate.
+ * Metadata that cannot be loaded initially is not fetched again on every request; further attempts
+ * are made with an exponential backoff.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class DefaultSamlRegisteredServiceSharedMetadataStore implements SamlRegisteredServiceSharedMetadataStore, DisposableBean {
+    private static final String ATTRIBUTE_VALID_UNTIL = "validUntil";
+
+    private static final Duration INITIAL_FAILURE_BACKOFF = Duration.ofSeconds(5);
+
+    private static final Duration MAXIMUM_FAILURE_BACKOFF = Duration.ofMinutes(5);
+
+    private final Map<String, MetadataSource> sources = new ConcurrentHashMap<>();
+
+    private final CasReentrantLock lock = new CasReentrantLock();
+
+    private final HttpClient httpClient;
+
+    private final OpenSamlConfigBean configBean;
+
+    private final Duration refreshInterval;
+
+    private final int maximumRetryAttempts;
+
+    private ScheduledExecutorService scheduler;
+
+    @Override
+    public Optional<Snapshot> getSnapshot(final String metadataLocation, final String metadataProxyLocation) {
+        val source = sources.computeIfAbsent(metadataLocation, location -> {
+            scheduleRefreshIfNecessary();
+            return new MetadataSource(location, metadataProxyLocation);
+        });
+        return Optional.ofNullable(source.getSnapshot());
+    }
+
+    @Override
+    public Optional<Element> getEntityDescriptor(final Snapshot snapshot, final String entityId) {
+        return Optional.ofNullable(snapshot.entityDescriptors().get(entityId))
+            .map(entityDescriptor -> {
+                snapshot.lock().lock();
+                try {
+                    return copyEntityDescriptor(entityDescriptor);
+                } finally {
+                    snapshot.lock().unlock();
+                }
+            });
+    }
+
+    @Override
+    public boolean isSignatureValid(final Snapshot snapshot,
+                                    final String metadataSignatureLocation,
+                                    final boolean requireSignedRoot) {
+        return snapshot.signatureVerifications().computeIfAbsent(
+            metadataSignatureLocation + '|' + requireSignedRoot,
+            key -> {
+                snapshot.lock().lock();
+                try {
+                    return verifySignature(snapshot, metadataSignatureLocation, requireSignedRoot);
+                } finally {
+                    snapshot.lock().unlock();
+                }
+            });
+    }
+
+    @Override
+    public void refresh() {
+        sources.values().forEach(source -> {
+            LOGGER.trace("Refreshing shared SAML metadata from [{}]", source.getLocation());
+            FunctionUtils.doAndHandle(__ -> source.refresh());
+        });
+    }
+
+    @Override
+    public int size() {
+        return sources.size();
+    }
+
+    @Override
+    public void clear() {
+        shutdownScheduler();
+        sources.clear();
+    }
+
+    @Override
+    public void destroy() {
+        shutdownScheduler();
+    }
+
+    private void shutdownScheduler() {
+        lock.lock();
+        try {
+            if (scheduler != null) {
+                scheduler.shutdownNow();
+                scheduler = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void scheduleRefreshIfNecessary() {
+        if (refreshInterval.isPositive()) {
+            lock.lock();
+            try {
+                if (scheduler == null) {
+                    scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("saml-metadata-refresh").factory());
+                    scheduler.scheduleWithFixedDelay(this::refresh, refreshInterval.toMillis(),
+                        refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private Boolean verifySignature(final Snapshot snapshot, final String metadataSignatureLocation,
+                                    final boolean requireSignedRoot) {
+        try {
+            val filter = SamlUtils.buildSignatureValidationFilter(metadataSignatureLocation);
+            if (filter == null) {
+                return Boolean.FALSE;
+            }
+            filter.setRequireSignedRoot(requireSignedRoot);
+            filter.initialize();
+            val resolver = new DOMMetadataResolver(snapshot.document().getDocumentElement());
+            resolver.setId("SharedMetadataSignatureVerification-" + snapshot.location());
+            resolver.setParserPool(configBean.getParserPool());
+            resolver.setFailFastInitialization(true);
+            resolver.setRequireValidMetadata(false);
+            resolver.setMetadataFilter(filter);
+            resolver.initialize();
+            resolver.destroy();
+            LOGGER.debug("Verified signature of shared SAML metadata [{}] using [{}]", snapshot.location(), metadataSignatureLocation);
+            return Boolean.TRUE;
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to verify signature of shared SAML metadata [{}] using [{}]", snapshot.location(), metadataSignatureLocation);
+            LoggingUtils.error(LOGGER, e);
+            return Boolean.FALSE;
+        }
+    }
+
+    private Element copyEntityDescriptor(final Element entityDescriptor) {
+        val document = FunctionUtils.doUnchecked(() -> configBean.getParserPool().newDocument());
+        val copy = (Element) document.importNode(entityDescriptor, true);
+        document.appendChild(copy);
+        var parent = entityDescriptor.getParentNode();
+        while (parent instanceof final Element ancestor) {
+            val attributes = ancestor.getAttributes();
+            for (var i = 0; i < attributes.getLength(); i++) {
+                val attribute = (Attr) attributes.item(i);
+                if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attribute.getNamespaceURI())
+                    && !copy.hasAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, attribute.getLocalName())) {
+                    copy.setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, attribute.getName(), attribute.getValue());
+                }
+            }
+            if (!copy.hasAttribute(ATTRIBUTE_VALID_UNTIL) && ancestor.hasAttribute(ATTRIBUTE_VALID_UNTIL)) {
+                copy.setAttribute(ATTRIBUTE_VALID_UNTIL, ancestor.getAttribute(ATTRIBUTE_VALID_UNTIL));
+            }
+            parent = ancestor.getParentNode();
+        }
+        return copy;
+    }
+
+    private static Map<String, Element> indexEntityDescriptors(final Document document) {
+        val index = new HashMap<String, Element>();
+        val root = document.getDocumentElement();
+        if (SAMLConstants.SAML20MD_NS.equals(root.getNamespaceURI())
+            && EntityDescriptor.DEFAULT_ELEMENT_LOCAL_NAME.equals(root.getLocalName())) {
+            index.put(root.getAttribute(EntityDescriptor.ENTITY_ID_ATTRIB_NAME), root);
+        } else {
+            val elements = root.getElementsByTagNameNS(SAMLConstants.SAML20MD_NS, EntityDescriptor.DEFAULT_ELEMENT_LOCAL_NAME);
+            for (var i = 0; i < elements.getLength(); i++) {
+                val element = (Element) elements.item(i);
+                index.putIfAbsent(element.getAttribute(EntityDescriptor.ENTITY_ID_ATTRIB_NAME), element);
+            }
+        }
+        return Map.copyOf(index);
+    }
+
+    private static String getHeaderValue(final HttpResponse response, final String name) {
+        return Optional.ofNullable(response.getFirstHeader(name)).map(Header::getValue).orElse(StringUtils.EMPTY);
+    }
+
+    @RequiredArgsConstructor
+    private final class MetadataSource {
+        @Getter
+        private final String location;
+
+        private final String proxyLocation;
+
+        private final CasReentrantLock sourceLock = new CasReentrantLock();
+
+        private volatile Snapshot snapshot;
+
+        private int failedAttempts;
+
+        private Instant nextAttemptAt = Instant.EPOCH;
+
+        Snapshot getSnapshot() {
+            val current = snapshot;
+            if (current != null) {
+                return current;
+            }
+            sourceLock.lock();
+            try {
+                if (snapshot == null) {
+                    if (Instant.now().isBefore(nextAttemptAt)) {
+                        LOGGER.trace("Shared SAML metadata from [{}] could not be loaded; next attempt is at [{}]", location, nextAttemptAt);
+                    } else {
+                        refresh();
+                        if (snapshot == null) {
+                            failedAttempts++;
+                            val backoff = INITIAL_FAILURE_BACKOFF.multipliedBy(1L << Math.min(failedAttempts - 1, 10));
+                            nextAttemptAt = Instant.now().plus(backoff.compareTo(MAXIMUM_FAILURE_BACKOFF) > 0 ? MAXIMUM_FAILURE_BACKOFF : backoff);
+                            LOGGER.warn("Shared SAML metadata from [{}] could not be loaded; next attempt is at [{}]", location, nextAttemptAt);
+                        }
+                    }
+                }
+                return snapshot;
+            } finally {
+                sourceLock.unlock();
+            }
+        }
+
+        void refresh() {
+            sourceLock.lock();
+            try {
+                val current = this.snapshot;
+                val headers = new LinkedHashMap<String, String>();
+                if (current != null) {
+                    FunctionUtils.doIfNotBlank(current.etag(), value -> headers.put(HttpHeaders.IF_NONE_MATCH, value));
+                    FunctionUtils.doIfNotBlank(current.lastModified(), value -> headers.put(HttpHeaders.IF_MODIFIED_SINCE, value));
+                }
+                HttpResponse response = null;
+                try {
+                    val exec = HttpExecutionRequest.builder()
+                        .method(HttpMethod.GET)
+                        .url(location)
+                        .proxyUrl(proxyLocation)
+                        .headers(headers)
+                        .httpClient(httpClient)
+                        .maximumRetryAttempts(maximumRetryAttempts)
+                        .build();
+                    response = HttpUtils.execute(exec);
+                    if (response == null) {
+                        LOGGER.warn("Unable to fetch shared SAML metadata from [{}]", location);
+                    } else if (response.getCode() == HttpStatus.SC_NOT_MODIFIED) {
+                        LOGGER.debug("Shared SAML metadata from [{}] has not been modified since [{}]", location, current.loadedAt());
+                    } else if (response.getCode() == HttpStatus.SC_OK) {
+                        val entity = ((HttpEntityContainer) response).getEntity();
+                        try (val content = entity.getContent()) {
+                            val document = configBean.getParserPool().parse(content);
+                            val entityDescriptors = indexEntityDescriptors(document);
+                            this.snapshot = new Snapshot(location, document, entityDescriptors,
+                                getHeaderValue(response, HttpHeaders.ETAG), getHeaderValue(response, HttpHeaders.LAST_MODIFIED),
+                                Instant.now(), new ConcurrentHashMap<>(), new CasReentrantLock());
+                            LOGGER.info("Loaded [{}] entity descriptor(s) from shared SAML metadata at [{}]", entityDescriptors.size(), location);
+                        }
+                    } else {
+                        LOGGER.warn("Unable to fetch shared SAML metadata from [{}]; response status code is [{}]", location, response.getCode());
+                    }
+                } finally {
+                    HttpUtils.close(response);
+                }
+            } catch (final Exception e) {
+                LOGGER.warn("Unable to load shared SAML metadata from [{}]: [{}]", location, e.getMessage());
+                LoggingUtils.error(LOGGER, e);
+            } finally {
+                sourceLock.unlock();
+            }
+        }
+    }
+}
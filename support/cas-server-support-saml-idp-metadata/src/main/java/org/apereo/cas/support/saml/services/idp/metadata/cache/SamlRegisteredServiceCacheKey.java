@@ -47,7 +47,13 @@ public class SamlRegisteredServiceCacheKey implements Serializable {
 
     public SamlRegisteredServiceCacheKey(final SamlRegisteredService registeredService,
                                          final CriteriaSet criteriaSet) {
-        this.cacheKey = getCacheKeyForRegisteredService(registeredService, criteriaSet);
+        this(registeredService, criteriaSet, false);
+    }
+
+    public SamlRegisteredServiceCacheKey(final SamlRegisteredService registeredService,
+                                         final CriteriaSet criteriaSet,
+                                         final boolean entityScoped) {
+        this.cacheKey = getCacheKeyForRegisteredService(registeredService, criteriaSet, entityScoped);
         LOGGER.trace("Calculated service cache key [{}]", cacheKey);
         this.id = buildRegisteredServiceCacheKey(this.cacheKey);
         this.registeredService = registeredService;
@@ -61,7 +67,8 @@ public class SamlRegisteredServiceCacheKey implements Serializable {
     }
 
     private static String getCacheKeyForRegisteredService(final SamlRegisteredService service,
-                                                          final CriteriaSet criteriaSet) {
+                                                          final CriteriaSet criteriaSet,
+                                                          final boolean entityScoped) {
         if (SamlUtils.isDynamicMetadataQueryConfigured(service.getMetadataLocation())) {
             val entityId = criteriaSet.contains(EntityIdCriterion.class)
                 ? Objects.requireNonNull(criteriaSet.get(EntityIdCriterion.class)).getEntityId()
@@ -70,6 +77,10 @@ public class SamlRegisteredServiceCacheKey implements Serializable {
                 entityId, service.getMetadataLocation());
             return entityId;
         }
+        if (entityScoped && criteriaSet.contains(EntityIdCriterion.class)) {
+            val entityId = Objects.requireNonNull(criteriaSet.get(EntityIdCriterion.class)).getEntityId();
+            return service.getMetadataLocation() + KEY_SEPARATOR + entityId;
+        }
         return service.getMetadataLocation();
     }
 }
@@ -71,11 +71,16 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
         });
     }
 
+    private SamlRegisteredServiceCacheKey buildCacheKey(final SamlRegisteredService service, final CriteriaSet criteriaSet) {
+        val sharedStoreEnabled = casProperties.getAuthn().getSamlIdp().getMetadata().getHttp().isSharedStoreEnabled();
+        return new SamlRegisteredServiceCacheKey(service, criteriaSet, sharedStoreEnabled);
+    }
+
     @Override
     public CachedMetadataResolverResult resolve(final SamlRegisteredService service, final CriteriaSet criteriaSet) throws Exception {
         val metadataLocation = SpringExpressionLanguageValueResolver.getInstance().resolve(service.getMetadataLocation());
         LOGGER.debug("Resolving metadata for [{}] at [{}]", service.getName(), metadataLocation);
-        val cacheKey = new SamlRegisteredServiceCacheKey(service, criteriaSet);
+        val cacheKey = buildCacheKey(service, criteriaSet);
         return FunctionUtils.doAndRetry(retryContext -> {
             LOGGER.debug("Locating cached metadata resolver using key [{}] for service [{}]. Attempt [{}]",
                 cacheKey.getId(), service.getName(), retryContext.getRetryCount());
@@ -107,14 +112,14 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
     @Override
     public void invalidate(final SamlRegisteredService service, final CriteriaSet criteriaSet) {
         LOGGER.trace("Invalidating cache for [{}].", service.getName());
-        val cacheKey = new SamlRegisteredServiceCacheKey(service, criteriaSet);
+        val cacheKey = buildCacheKey(service, criteriaSet);
         cache.invalidate(cacheKey);
     }
 
     @Override
     public Optional<CachedMetadataResolverResult> getIfPresent(final SamlRegisteredService service, final CriteriaSet criteriaSet) {
         LOGGER.trace("Invalidating cache for [{}].", service.getName());
-        val cacheKey = new SamlRegisteredServiceCacheKey(service, criteriaSet);
+        val cacheKey = buildCacheKey(service, criteriaSet);
         return Optional.ofNullable(cache.getIfPresent(cacheKey));
     }
 
@@ -194,7 +199,7 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
      */
     Optional<MetadataResolver> resolveIfPresent(final SamlRegisteredService service,
                                                 final CriteriaSet criteriaSet) {
-        val cacheKey = new SamlRegisteredServiceCacheKey(service, criteriaSet);
+        val cacheKey = buildCacheKey(service, criteriaSet);
         return Optional.ofNullable(cache.getIfPresent(cacheKey)).map(CachedMetadataResolverResult::getMetadataResolver);
     }
 
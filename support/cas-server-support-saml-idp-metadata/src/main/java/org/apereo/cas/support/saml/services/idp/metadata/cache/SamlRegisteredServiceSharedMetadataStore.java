@@ -0,0 +1,126 @@
+package org.apereo.cas.support.saml.services.idp.metadata.cache;
+
+import org.apereo.cas.util.concurrent.CasReentrantLock;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * This is {@link SamlRegisteredServiceSharedMetadataStore}. It keeps metadata obtained
+ * from remote locations, so that each distinct metadata location is downloaded and parsed once,
+ * regardless of how many SAML registered services point to it.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+public interface SamlRegisteredServiceSharedMetadataStore {
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "samlRegisteredServiceSharedMetadataStore";
+
+    /**
+     * Obtain the current snapshot of the metadata obtained from the given location.
+     * A snapshot is immutable; background refreshes replace it rather than modify it, so
+     * entity descriptors and signature verifications obtained from the same snapshot are
+     * always consistent with one another.
+     *
+     * @param metadataLocation      the metadata location
+     * @param metadataProxyLocation the metadata proxy location
+     * @return the snapshot, if metadata could be loaded
+     */
+    Optional<Snapshot> getSnapshot(String metadataLocation, String metadataProxyLocation);
+
+    /**
+     * Locate the entity descriptor for the given entity id in the metadata
+     * obtained from the given location. The returned element is a standalone copy
+     * of the entity descriptor, carrying the namespace declarations and validity
+     * inherited from its ancestors, and is safe to hand over to a metadata resolver.
+     *
+     * @param metadataLocation      the metadata location
+     * @param metadataProxyLocation the metadata proxy location
+     * @param entityId              the entity id
+     * @return the entity descriptor element
+     */
+    default Optional<Element> getEntityDescriptor(final String metadataLocation,
+                                                  final String metadataProxyLocation,
+                                                  final String entityId) {
+        return getSnapshot(metadataLocation, metadataProxyLocation)
+            .flatMap(snapshot -> getEntityDescriptor(snapshot, entityId));
+    }
+
+    /**
+     * Locate the entity descriptor for the given entity id in the given snapshot.
+     *
+     * @param snapshot the snapshot
+     * @param entityId the entity id
+     * @return the entity descriptor element
+     */
+    Optional<Element> getEntityDescriptor(Snapshot snapshot, String entityId);
+
+    /**
+     * Verify the signature of the metadata obtained from the given location.
+     * The outcome is remembered until the metadata changes.
+     *
+     * @param metadataLocation          the metadata location
+     * @param metadataProxyLocation     the metadata proxy location
+     * @param metadataSignatureLocation the metadata signature location
+     * @param requireSignedRoot         whether the metadata root must be signed
+     * @return true if the signature is valid
+     */
+    default boolean isSignatureValid(final String metadataLocation,
+                                     final String metadataProxyLocation,
+                                     final String metadataSignatureLocation,
+                                     final boolean requireSignedRoot) {
+        return getSnapshot(metadataLocation, metadataProxyLocation)
+            .map(snapshot -> isSignatureValid(snapshot, metadataSignatureLocation, requireSignedRoot))
+            .orElse(Boolean.FALSE);
+    }
+
+    /**
+     * Verify the signature of the metadata in the given snapshot.
+     * The outcome is remembered for the lifetime of the snapshot.
+     *
+     * @param snapshot                  the snapshot
+     * @param metadataSignatureLocation the metadata signature location
+     * @param requireSignedRoot         whether the metadata root must be signed
+     * @return true if the signature is valid
+     */
+    boolean isSignatureValid(Snapshot snapshot, String metadataSignatureLocation, boolean requireSignedRoot);
+
+    /**
+     * Refresh all metadata sources, using conditional requests.
+     */
+    void refresh();
+
+    /**
+     * Number of distinct metadata sources.
+     *
+     * @return the count
+     */
+    int size();
+
+    /**
+     * Remove all metadata sources and stop refreshing them.
+     */
+    void clear();
+
+    /**
+     * Immutable view of the metadata loaded from a location at a point in time.
+     *
+     * @param location               the metadata location
+     * @param document               the parsed metadata document
+     * @param entityDescriptors      entity descriptors indexed by entity id
+     * @param etag                   the entity tag of the response
+     * @param lastModified           the last-modified date of the response
+     * @param loadedAt               when the metadata was loaded
+     * @param signatureVerifications outcome of signature verifications, by signature location
+     * @param lock                   guards access to the document, which is not safe for concurrent use
+     */
+    record Snapshot(String location, Document document, Map<String, Element> entityDescriptors,
+                    String etag, String lastModified, Instant loadedAt,
+                    Map<String, Boolean> signatureVerifications, CasReentrantLock lock) {
+    }
+}
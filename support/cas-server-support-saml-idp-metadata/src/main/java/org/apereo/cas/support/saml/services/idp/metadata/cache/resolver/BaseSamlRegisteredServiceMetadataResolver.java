@@ -53,7 +53,7 @@ public abstract class BaseSamlRegisteredServiceMetadataResolver implements SamlR
      */
     protected final OpenSamlConfigBean configBean;
 
-    private static void buildEntityRoleFilterIfNeeded(final SamlRegisteredService service, final List<MetadataFilter> metadataFilterList) throws Exception {
+    protected static void buildEntityRoleFilterIfNeeded(final SamlRegisteredService service, final List<MetadataFilter> metadataFilterList) throws Exception {
         if (StringUtils.isNotBlank(service.getMetadataCriteriaRoles())) {
             val roles = new ArrayList<QName>();
             val rolesSet = org.springframework.util.StringUtils.commaDelimitedListToSet(service.getMetadataCriteriaRoles());
@@ -76,8 +76,8 @@ public abstract class BaseSamlRegisteredServiceMetadataResolver implements SamlR
         }
     }
 
-    private static void buildPredicateFilterIfNeeded(final SamlRegisteredService service,
-                                                     final List<MetadataFilter> metadataFilterList) throws Exception {
+    protected static void buildPredicateFilterIfNeeded(final SamlRegisteredService service,
+                                                       final List<MetadataFilter> metadataFilterList) throws Exception {
         if (StringUtils.isNotBlank(service.getMetadataCriteriaDirection())
             && StringUtils.isNotBlank(service.getMetadataCriteriaPattern())
             && RegexUtils.isValidRegex(service.getMetadataCriteriaPattern())) {
@@ -11,6 +11,7 @@ import org.apereo.cas.support.saml.OpenSamlConfigBean;
 import org.apereo.cas.support.saml.SamlException;
 import org.apereo.cas.support.saml.SamlUtils;
 import org.apereo.cas.support.saml.services.SamlRegisteredService;
+import org.apereo.cas.support.saml.services.idp.metadata.cache.SamlRegisteredServiceSharedMetadataStore;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.LoggingUtils;
@@ -21,6 +22,7 @@ import org.apereo.cas.util.http.HttpExecutionRequest;
 import org.apereo.cas.util.http.HttpRequestUtils;
 import org.apereo.cas.util.http.HttpUtils;
 import org.apereo.cas.util.spring.SpringExpressionLanguageValueResolver;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import net.shibboleth.shared.resolver.CriteriaSet;
@@ -39,8 +41,11 @@ import org.apache.hc.core5.http.HttpResponse;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apereo.inspektr.audit.annotation.Audit;
 import org.jooq.lambda.Unchecked;
+import org.opensaml.core.criterion.EntityIdCriterion;
 import org.opensaml.saml.metadata.resolver.MetadataResolver;
+import org.opensaml.saml.metadata.resolver.filter.MetadataFilter;
 import org.opensaml.saml.metadata.resolver.impl.AbstractMetadataResolver;
+import org.opensaml.saml.metadata.resolver.impl.DOMMetadataResolver;
 import org.springframework.core.io.AbstractResource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.http.HttpMethod;
@@ -51,6 +56,8 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -69,6 +76,15 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
 
     private final File metadataBackupDirectory;
 
+    /**
+     * Shared metadata store that downloads and parses each metadata location once.
+     * When defined, services that ask for a specific entity are handed a view of the metadata
+     * that only contains the requested entity descriptor. Metadata served from the shared store
+     * is kept in memory only and is not written to the metadata backup directory.
+     */
+    @Setter
+    private SamlRegisteredServiceSharedMetadataStore sharedMetadataStore;
+
     public UrlResourceMetadataResolver(final HttpClient httpClient,
                                        final SamlIdPProperties samlIdPProperties,
                                        final OpenSamlConfigBean configBean) {
@@ -101,6 +117,11 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
             RegisteredServiceAccessStrategyUtils.ensureServiceAccessIsAllowed(service);
             val metadataLocations = getMetadataLocationsForService(service, criteriaSet);
 
+            val sharedMetadataResolver = resolveFromSharedMetadataStore(service, criteriaSet, metadataLocations);
+            if (sharedMetadataResolver.isPresent()) {
+                return CollectionUtils.wrap(sharedMetadataResolver.get());
+            }
+
             for (val metadataLocation : metadataLocations) {
                 LOGGER.info("Loading SAML metadata from [{}]", metadataLocations);
                 val metadataResource = new UrlResource(metadataLocation);
@@ -188,6 +209,57 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
         return false;
     }
 
+    protected Optional<AbstractMetadataResolver> resolveFromSharedMetadataStore(final SamlRegisteredService service,
+                                                                                final CriteriaSet criteriaSet,
+                                                                                final Set<String> metadataLocations) throws Exception {
+        if (sharedMetadataStore == null || !criteriaSet.contains(EntityIdCriterion.class)) {
+            return Optional.empty();
+        }
+        val entityId = Objects.requireNonNull(criteriaSet.get(EntityIdCriterion.class)).getEntityId();
+        for (val metadataLocation : metadataLocations) {
+            val snapshot = sharedMetadataStore.getSnapshot(metadataLocation, service.getMetadataProxyLocation());
+            val entityDescriptor = snapshot.flatMap(metadata -> sharedMetadataStore.getEntityDescriptor(metadata, entityId));
+            if (entityDescriptor.isPresent()) {
+                if (StringUtils.isNotBlank(service.getMetadataSignatureLocation())) {
+                    val signatureLocation = SpringExpressionLanguageValueResolver.getInstance().resolve(service.getMetadataSignatureLocation());
+                    if (!sharedMetadataStore.isSignatureValid(snapshot.get(), signatureLocation, service.isRequireSignedRoot())) {
+                        LOGGER.warn("Signature of shared SAML metadata at [{}] cannot be verified for service [{}]",
+                            metadataLocation, service.getName());
+                        continue;
+                    }
+                }
+                LOGGER.debug("Located entity [{}] in shared SAML metadata at [{}] for service [{}]",
+                    entityId, metadataLocation, service.getName());
+                val metadataResolver = new DOMMetadataResolver(entityDescriptor.get());
+                metadataResolver.setResolveViaPredicatesOnly(true);
+                configureAndInitializeSharedMetadataResolver(metadataResolver, service, entityId);
+                return Optional.of(metadataResolver);
+            }
+        }
+        LOGGER.debug("Entity [{}] cannot be found in shared SAML metadata for service [{}]", entityId, service.getName());
+        return Optional.empty();
+    }
+
+    protected void configureAndInitializeSharedMetadataResolver(final AbstractMetadataResolver metadataResolver,
+                                                                final SamlRegisteredService service,
+                                                                final String entityId) throws Exception {
+        val md = samlIdPProperties.getMetadata();
+        metadataResolver.setParserPool(configBean.getParserPool());
+        metadataResolver.setFailFastInitialization(md.getCore().isFailFast());
+        metadataResolver.setRequireValidMetadata(md.getCore().isRequireValidMetadata());
+        metadataResolver.setId("RegisteredServiceMetadata-" + service.getName() + '-' + DigestUtils.sha(entityId));
+
+        val metadataFilterList = new ArrayList<MetadataFilter>();
+        buildRequiredValidUntilFilterIfNeeded(service, metadataFilterList);
+        buildEntityRoleFilterIfNeeded(service, metadataFilterList);
+        buildPredicateFilterIfNeeded(service, metadataFilterList);
+        addMetadataFiltersFromApplicationContext(metadataFilterList);
+        if (!metadataFilterList.isEmpty()) {
+            addMetadataFiltersToMetadataResolver(metadataResolver, metadataFilterList);
+        }
+        metadataResolver.initialize();
+    }
+
     protected boolean shouldHttpResponseStatusBeProcessed(final HttpStatus status) {
         return status.is2xxSuccessful();
     }
@@ -0,0 +1,137 @@
+package org.apereo.cas.support.saml.services.idp.metadata.cache;
+
+import org.apereo.cas.support.saml.services.BaseSamlIdPServicesTests;
+import org.apereo.cas.util.MockWebServer;
+import org.apereo.cas.util.RandomUtils;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.opensaml.saml.saml2.metadata.EntityDescriptor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link DefaultSamlRegisteredServiceSharedMetadataStoreTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("SAMLMetadata")
+@TestPropertySource(properties = {
+    "cas.authn.saml-idp.metadata.http.shared-store-enabled=true",
+    "cas.authn.saml-idp.metadata.file-system.location=file:/${#systemProperties['java.io.tmpdir']}/saml-shared-store"
+})
+class DefaultSamlRegisteredServiceSharedMetadataStoreTests extends BaseSamlIdPServicesTests {
+
+    @Test
+    void verifyEntityDescriptorsShareSource() throws Throwable {
+        val store = new DefaultSamlRegisteredServiceSharedMetadataStore(httpClient, openSamlConfigBean, Duration.ZERO, 1);
+        try (val webServer = new MockWebServer(new ClassPathResource("aggregate-md.xml"), MediaType.APPLICATION_XML_VALUE)) {
+            webServer.start();
+            val location = "http://localhost:%s".formatted(webServer.getPort());
+            val gitlab = store.getEntityDescriptor(location, null, "https://gitlab.com");
+            assertTrue(gitlab.isPresent());
+            assertEquals("https://gitlab.com", gitlab.get().getAttribute(EntityDescriptor.ENTITY_ID_ATTRIB_NAME));
+            assertTrue(gitlab.get().hasAttribute("validUntil"));
+            assertTrue(store.getEntityDescriptor(location, null, "https://issues.shibboleth.net/shibboleth").isPresent());
+            assertTrue(store.getEntityDescriptor(location, null, "https://unknown.example.org").isEmpty());
+            assertEquals(1, store.size());
+            store.refresh();
+            assertTrue(store.getEntityDescriptor(location, null, "https://gitlab.com").isPresent());
+        } finally {
+            store.destroy();
+        }
+    }
+
+    @Test
+    void verifySnapshotOutlivesRefresh() throws Throwable {
+        val store = new DefaultSamlRegisteredServiceSharedMetadataStore(httpClient, openSamlConfigBean, Duration.ZERO, 1);
+        try (val webServer = new MockWebServer(new ClassPathResource("aggregate-md.xml"), MediaType.APPLICATION_XML_VALUE)) {
+            webServer.start();
+            val location = "http://localhost:%s".formatted(webServer.getPort());
+            val snapshot = store.getSnapshot(location, null).orElseThrow();
+            assertFalse(store.isSignatureValid(snapshot, "classpath:inc-md-cert.pem", true));
+            store.refresh();
+            assertNotSame(snapshot, store.getSnapshot(location, null).orElseThrow());
+            assertTrue(store.getEntityDescriptor(snapshot, "https://gitlab.com").isPresent());
+            assertEquals(1, snapshot.signatureVerifications().size());
+        } finally {
+            store.destroy();
+        }
+    }
+
+    @Test
+    void verifyUnsignedMetadataFailsSignature() throws Throwable {
+        val store = new DefaultSamlRegisteredServiceSharedMetadataStore(httpClient, openSamlConfigBean, Duration.ofMinutes(1), 1);
+        try (val webServer = new MockWebServer(new ClassPathResource("sample-metadata.xml"), MediaType.APPLICATION_XML_VALUE)) {
+            webServer.start();
+            val location = "http://localhost:%s".formatted(webServer.getPort());
+            assertFalse(store.isSignatureValid(location, null, "classpath:inc-md-cert.pem", true));
+        } finally {
+            store.destroy();
+        }
+    }
+
+    @Test
+    void verifyResolverHandsOutEntityView() throws Throwable {
+        val store = new DefaultSamlRegisteredServiceSharedMetadataStore(httpClient, openSamlConfigBean, Duration.ZERO, 1);
+        val resolver = getMetadataResolver();
+        resolver.setSharedMetadataStore(store);
+        try (val webServer = new MockWebServer(new ClassPathResource("aggregate-md.xml"), MediaType.APPLICATION_XML_VALUE)) {
+            webServer.start();
+            val location = "http://localhost:%s".formatted(webServer.getPort());
+            for (val entityId : new String[]{"https://gitlab.com", "https://mfa-auth.dev.phenoapp.com/Saml2"}) {
+                val service = getSamlRegisteredService(RandomUtils.nextInt(), entityId, location);
+                val criteria = getCriteriaFor(entityId);
+                val resolvers = resolver.resolve(service, criteria);
+                assertEquals(1, resolvers.size());
+                val metadataResolver = resolvers.iterator().next();
+                assertNotNull(metadataResolver.resolveSingle(criteria));
+                assertNull(metadataResolver.resolveSingle(getCriteriaFor("https://issues.shibboleth.net/shibboleth")));
+            }
+            assertEquals(1, store.size());
+        } finally {
+            store.destroy();
+        }
+    }
+
+    @Test
+    void verifyFailedLoadIsBackedOff() throws Throwable {
+        val store = new DefaultSamlRegisteredServiceSharedMetadataStore(httpClient, openSamlConfigBean, Duration.ofMinutes(1), 1);
+        try {
+            val port = RandomUtils.nextInt(8000, 9000);
+            val location = "http://localhost:%s".formatted(port);
+            try (val webServer = new MockWebServer(port, HttpStatus.INTERNAL_SERVER_ERROR)) {
+                webServer.start();
+                assertTrue(store.getSnapshot(location, null).isEmpty());
+            }
+            try (val webServer = new MockWebServer(port, new ClassPathResource("aggregate-md.xml"), MediaType.APPLICATION_XML_VALUE)) {
+                webServer.start();
+                assertTrue(store.getSnapshot(location, null).isEmpty());
+                store.refresh();
+                assertTrue(store.getSnapshot(location, null).isPresent());
+                store.clear();
+                assertEquals(0, store.size());
+                assertTrue(store.getSnapshot(location, null).isPresent());
+            }
+        } finally {
+            store.destroy();
+        }
+    }
+
+    @Test
+    void verifyCacheKeyIsScopedByEntity() {
+        val service = getSamlRegisteredService(1, ".*", "https://federation.example.org/metadata.xml");
+        val key1 = new SamlRegisteredServiceCacheKey(service, getCriteriaFor("https://sp1.example.org"), true);
+        val key2 = new SamlRegisteredServiceCacheKey(service, getCriteriaFor("https://sp2.example.org"), true);
+        assertNotEquals(key1, key2);
+        val key3 = new SamlRegisteredServiceCacheKey(service, getCriteriaFor("https://sp1.example.org"));
+        val key4 = new SamlRegisteredServiceCacheKey(service, getCriteriaFor("https://sp2.example.org"));
+        assertEquals(key3, key4);
+    }
+}
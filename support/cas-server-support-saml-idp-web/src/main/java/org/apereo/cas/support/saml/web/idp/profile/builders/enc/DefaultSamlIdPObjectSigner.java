@@ -14,7 +14,6 @@ import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.util.crypto.CertUtils;
-import org.apereo.cas.util.crypto.PrivateKeyFactoryBean;
 import org.apereo.cas.util.function.FunctionUtils;
 import com.google.common.collect.Sets;
 import lombok.Getter;
@@ -77,6 +76,8 @@ public class DefaultSamlIdPObjectSigner implements SamlIdPObjectSigner {
 
     private final SamlIdPMetadataLocator samlIdPMetadataLocator;
 
+    private final SamlIdPCredentialCache credentialCache;
+
     private static boolean doesCredentialFingerprintMatch(final AbstractCredential credential,
                                                           final SamlRegisteredService samlRegisteredService) {
         val fingerprint = samlRegisteredService.getSigningCredentialFingerprint();
@@ -245,6 +246,27 @@ public class DefaultSamlIdPObjectSigner implements SamlIdPObjectSigner {
      * @throws Throwable the throwable
      */
     protected SignatureSigningConfiguration getSignatureSigningConfiguration(final SamlRegisteredService service) throws Throwable {
+        val cacheKey = buildSignatureSigningConfigurationCacheKey(service);
+        return credentialCache.getSigningConfiguration(cacheKey, () -> buildSignatureSigningConfiguration(service));
+    }
+
+    /**
+     * Build the cache key for the signature signing configuration of the given service.
+     * The key tracks the service definition along with the signing key and metadata of the identity provider,
+     * so that changes to any of them, such as key rotation or metadata refresh, lead to a new configuration.
+     *
+     * @param service the service
+     * @return the cache key
+     * @throws Throwable the throwable
+     */
+    protected String buildSignatureSigningConfigurationCacheKey(final SamlRegisteredService service) throws Throwable {
+        val registeredService = Optional.of(service);
+        return service.getId() + "|" + service.hashCode()
+            + '|' + SamlIdPCredentialCache.fingerprint(samlIdPMetadataLocator.resolveSigningKey(registeredService))
+            + '|' + SamlIdPCredentialCache.fingerprint(samlIdPMetadataLocator.resolveMetadata(registeredService));
+    }
+
+    protected SignatureSigningConfiguration buildSignatureSigningConfiguration(final SamlRegisteredService service) throws Throwable {
         val config = configureSignatureSigningSecurityConfiguration(service);
 
         val samlIdp = casProperties.getAuthn().getSamlIdp();
@@ -304,17 +326,10 @@ public class DefaultSamlIdPObjectSigner implements SamlIdPObjectSigner {
     protected PrivateKey getSigningPrivateKey(final SamlRegisteredService registeredService) throws Throwable {
         val samlIdp = casProperties.getAuthn().getSamlIdp();
         val signingKey = samlIdPMetadataLocator.resolveSigningKey(Optional.of(registeredService));
-        val privateKeyFactoryBean = new PrivateKeyFactoryBean();
-        privateKeyFactoryBean.setLocation(signingKey);
-        if (StringUtils.isBlank(registeredService.getSigningKeyAlgorithm())) {
-            privateKeyFactoryBean.setAlgorithm(samlIdp.getAlgs().getPrivateKeyAlgName());
-        } else {
-            privateKeyFactoryBean.setAlgorithm(registeredService.getSigningKeyAlgorithm());
-        }
-        privateKeyFactoryBean.setSingleton(false);
+        val algorithm = StringUtils.defaultIfBlank(registeredService.getSigningKeyAlgorithm(), samlIdp.getAlgs().getPrivateKeyAlgName());
         LOGGER.debug("Locating signature signing key for [{}] using algorithm [{}]",
-            registeredService.getMetadataLocation(), privateKeyFactoryBean.getAlgorithm());
-        return privateKeyFactoryBean.getObject();
+            registeredService.getMetadataLocation(), algorithm);
+        return credentialCache.getPrivateKey(signingKey, algorithm);
     }
 
     protected BasicSignatureSigningConfiguration configureSignatureSigningSecurityConfiguration(final SamlRegisteredService service) {
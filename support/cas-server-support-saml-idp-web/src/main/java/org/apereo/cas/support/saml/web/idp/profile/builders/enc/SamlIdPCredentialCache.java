@@ -0,0 +1,106 @@
+package org.apereo.cas.support.saml.web.idp.profile.builders.enc;
+
+import org.apereo.cas.util.DigestUtils;
+import org.apereo.cas.util.crypto.PrivateKeyFactoryBean;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.jooq.lambda.Unchecked;
+import org.jooq.lambda.fi.util.function.CheckedSupplier;
+import org.opensaml.xmlsec.SignatureSigningConfiguration;
+import org.springframework.core.io.Resource;
+import java.security.PrivateKey;
+import java.time.Duration;
+
+/**
+ * This is {@link SamlIdPCredentialCache} that keeps parsed private keys and fully resolved
+ * signature signing configurations around, so they do not have to be rebuilt for every SAML response.
+ * Entries are keyed by the fingerprint of the key and metadata resources they were built from,
+ * which means that rotating keys or refreshing metadata produces a new key and forces a rebuild.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+public class SamlIdPCredentialCache {
+    /**
+     * Bean name.
+     */
+    public static final String BEAN_NAME = "samlIdPCredentialCache";
+
+    private final Cache<String, PrivateKey> privateKeys;
+
+    private final Cache<String, SignatureSigningConfiguration> signingConfigurations;
+
+    public SamlIdPCredentialCache(final Duration expiration, final long maximumSize) {
+        this.privateKeys = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterAccess(expiration).build();
+        this.signingConfigurations = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterAccess(expiration).build();
+    }
+
+    /**
+     * Build a fingerprint for the given resource that changes whenever the resource contents change.
+     * File-based resources are tracked by their location and modification date, to avoid reading them
+     * on every request; all other resources are tracked by a digest of their contents.
+     *
+     * @param resource the resource
+     * @return the fingerprint
+     * @throws Exception the exception
+     */
+    public static String fingerprint(final Resource resource) throws Exception {
+        if (resource.isFile()) {
+            val file = resource.getFile();
+            return file.getCanonicalPath() + ':' + file.lastModified() + ':' + file.length();
+        }
+        if (!resource.exists()) {
+            return resource.getDescription();
+        }
+        try (val is = resource.getInputStream()) {
+            return DigestUtils.digest("SHA-256", IOUtils.toByteArray(is));
+        }
+    }
+
+    /**
+     * Gets private key, parsing the key resource only if it's not already cached.
+     *
+     * @param location  the key location
+     * @param algorithm the key algorithm, if any
+     * @return the private key
+     * @throws Exception the exception
+     */
+    public PrivateKey getPrivateKey(final Resource location, final String algorithm) throws Exception {
+        val cacheKey = fingerprint(location) + '|' + StringUtils.defaultString(algorithm);
+        return privateKeys.get(cacheKey, Unchecked.function(key -> {
+            LOGGER.debug("Parsing private key from [{}] using algorithm [{}]", location, algorithm);
+            val privateKeyFactoryBean = new PrivateKeyFactoryBean();
+            privateKeyFactoryBean.setLocation(location);
+            if (StringUtils.isNotBlank(algorithm)) {
+                privateKeyFactoryBean.setAlgorithm(algorithm);
+            }
+            privateKeyFactoryBean.setSingleton(false);
+            return privateKeyFactoryBean.getObject();
+        }));
+    }
+
+    /**
+     * Gets signature signing configuration, building it only if it's not already cached.
+     *
+     * @param cacheKey the cache key
+     * @param builder  the builder
+     * @return the signature signing configuration
+     */
+    public SignatureSigningConfiguration getSigningConfiguration(final String cacheKey,
+                                                                 final CheckedSupplier<SignatureSigningConfiguration> builder) {
+        return signingConfigurations.get(cacheKey, Unchecked.function(key -> builder.get()));
+    }
+
+    /**
+     * Invalidate all cached credentials and configurations.
+     */
+    public void invalidate() {
+        privateKeys.invalidateAll();
+        signingConfigurations.invalidateAll();
+    }
+}
@@ -11,7 +11,6 @@ import org.apereo.cas.support.saml.services.idp.metadata.SamlRegisteredServiceMe
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.EncodingUtils;
 import org.apereo.cas.util.crypto.DecryptionException;
-import org.apereo.cas.util.crypto.PrivateKeyFactoryBean;
 import org.apereo.cas.util.function.FunctionUtils;
 
 import lombok.RequiredArgsConstructor;
@@ -80,6 +79,8 @@ public class SamlIdPObjectEncrypter {
 
     private final SamlIdPMetadataLocator samlIdPMetadataLocator;
 
+    private final SamlIdPCredentialCache credentialCache;
+
     private static void handleEncryptionFailure(final SamlRegisteredService service,
                                                 final SamlRegisteredServiceMetadataAdaptor adaptor) {
         val entityId = adaptor.getEntityId();
@@ -478,10 +479,7 @@ public class SamlIdPObjectEncrypter {
         val credential = Objects.requireNonNull(mdCredentialResolver.resolveSingle(criteriaSet));
 
         val encryptionKey = samlIdPMetadataLocator.resolveEncryptionKey(Optional.ofNullable(service));
-        val bean = new PrivateKeyFactoryBean();
-        bean.setSingleton(false);
-        bean.setLocation(encryptionKey);
-        val privateKey = Objects.requireNonNull(bean.getObject());
+        val privateKey = Objects.requireNonNull(credentialCache.getPrivateKey(encryptionKey, null));
 
         val basicCredential = new BasicCredential(Objects.requireNonNull(credential.getPublicKey()), privateKey);
         decryptionConfiguration.setKEKKeyInfoCredentialResolver(new StaticKeyInfoCredentialResolver(basicCredential));
@@ -13,6 +13,7 @@ import org.apereo.cas.authentication.principal.PersistentIdGenerator;
 import org.apereo.cas.authentication.principal.ServiceFactory;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilderConfigurer;
 import org.apereo.cas.services.ServicesManager;
@@ -32,6 +33,7 @@ import org.apereo.cas.support.saml.web.idp.profile.builders.authn.SamlProfileAut
 import org.apereo.cas.support.saml.web.idp.profile.builders.authn.SamlProfileSamlAuthNStatementBuilder;
 import org.apereo.cas.support.saml.web.idp.profile.builders.conditions.SamlProfileSamlConditionsBuilder;
 import org.apereo.cas.support.saml.web.idp.profile.builders.enc.DefaultSamlIdPObjectSigner;
+import org.apereo.cas.support.saml.web.idp.profile.builders.enc.SamlIdPCredentialCache;
 import org.apereo.cas.support.saml.web.idp.profile.builders.enc.SamlIdPObjectEncrypter;
 import org.apereo.cas.support.saml.web.idp.profile.builders.enc.SamlIdPObjectSigner;
 import org.apereo.cas.support.saml.web.idp.profile.builders.nameid.SamlProfileSamlNameIdBuilder;
@@ -478,14 +480,27 @@ class SamlIdPConfiguration {
     @Configuration(value = "SamlIdPCryptoConfiguration", proxyBeanMethods = false)
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     static class SamlIdPCryptoConfiguration {
+        private static final long CREDENTIAL_CACHE_MAX_SIZE = 1_000;
+
+        @ConditionalOnMissingBean(name = SamlIdPCredentialCache.BEAN_NAME)
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public SamlIdPCredentialCache samlIdPCredentialCache(final CasConfigurationProperties casProperties) {
+            val idp = casProperties.getAuthn().getSamlIdp();
+            return new SamlIdPCredentialCache(Beans.newDuration(idp.getMetadata().getCore().getCacheExpiration()),
+                CREDENTIAL_CACHE_MAX_SIZE);
+        }
+
         @ConditionalOnMissingBean(name = "samlObjectEncrypter")
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public SamlIdPObjectEncrypter samlObjectEncrypter(
             @Qualifier(SamlIdPMetadataLocator.BEAN_NAME)
             final SamlIdPMetadataLocator samlIdPMetadataLocator,
+            @Qualifier(SamlIdPCredentialCache.BEAN_NAME)
+            final SamlIdPCredentialCache samlIdPCredentialCache,
             final CasConfigurationProperties casProperties) {
-            return new SamlIdPObjectEncrypter(casProperties.getAuthn().getSamlIdp(), samlIdPMetadataLocator);
+            return new SamlIdPObjectEncrypter(casProperties.getAuthn().getSamlIdp(), samlIdPMetadataLocator, samlIdPCredentialCache);
         }
 
         @ConditionalOnMissingBean(name = SamlIdPObjectSigner.DEFAULT_BEAN_NAME)
@@ -496,8 +511,11 @@ class SamlIdPConfiguration {
             @Qualifier("casSamlIdPMetadataResolver")
             final MetadataResolver casSamlIdPMetadataResolver,
             @Qualifier(SamlIdPMetadataLocator.BEAN_NAME)
-            final SamlIdPMetadataLocator samlIdPMetadataLocator) {
-            return new DefaultSamlIdPObjectSigner(casSamlIdPMetadataResolver, casProperties, samlIdPMetadataLocator);
+            final SamlIdPMetadataLocator samlIdPMetadataLocator,
+            @Qualifier(SamlIdPCredentialCache.BEAN_NAME)
+            final SamlIdPCredentialCache samlIdPCredentialCache) {
+            return new DefaultSamlIdPObjectSigner(casSamlIdPMetadataResolver, casProperties,
+                samlIdPMetadataLocator, samlIdPCredentialCache);
         }
     }
 
@@ -22,10 +22,12 @@ import org.apereo.cas.support.saml.idp.metadata.writer.SamlIdPCertificateAndKeyW
 import org.apereo.cas.support.saml.services.idp.metadata.SamlIdPMetadataDocument;
 import org.apereo.cas.support.saml.services.idp.metadata.SamlRegisteredServiceMetadataHealthIndicator;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.CachedMetadataResolverResult;
+import org.apereo.cas.support.saml.services.idp.metadata.cache.DefaultSamlRegisteredServiceSharedMetadataStore;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.SamlRegisteredServiceCacheKey;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.SamlRegisteredServiceCachingMetadataResolver;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.SamlRegisteredServiceDefaultCachingMetadataResolver;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.SamlRegisteredServiceMetadataResolverCacheLoader;
+import org.apereo.cas.support.saml.services.idp.metadata.cache.SamlRegisteredServiceSharedMetadataStore;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.ClasspathResourceMetadataResolver;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.FileSystemResourceMetadataResolver;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.GroovyResourceMetadataResolver;
@@ -50,6 +52,8 @@ import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.http.HttpClient;
 import org.apereo.cas.util.spring.CasApplicationReadyListener;
 import org.apereo.cas.util.spring.SpringExpressionLanguageValueResolver;
+import org.apereo.cas.util.spring.beans.BeanCondition;
+import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.util.spring.boot.ConditionalOnMissingGraalVMNativeImage;
 import com.github.benmanes.caffeine.cache.Cache;
@@ -221,17 +225,44 @@ class SamlIdPMetadataConfiguration {
             return new FileSystemResourceMetadataResolver(casProperties.getAuthn().getSamlIdp(), openSamlConfigBean);
         }
 
+        @ConditionalOnMissingBean(name = SamlRegisteredServiceSharedMetadataStore.BEAN_NAME)
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public SamlRegisteredServiceSharedMetadataStore samlRegisteredServiceSharedMetadataStore(
+            final ConfigurableApplicationContext applicationContext,
+            final CasConfigurationProperties casProperties,
+            @Qualifier(OpenSamlConfigBean.DEFAULT_BEAN_NAME)
+            final OpenSamlConfigBean openSamlConfigBean,
+            @Qualifier(HttpClient.BEAN_NAME_HTTPCLIENT)
+            final HttpClient httpClient) {
+            return BeanSupplier.of(SamlRegisteredServiceSharedMetadataStore.class)
+                .when(BeanCondition.on("cas.authn.saml-idp.metadata.http.shared-store-enabled").isTrue()
+                    .given(applicationContext.getEnvironment()))
+                .supply(() -> {
+                    val metadata = casProperties.getAuthn().getSamlIdp().getMetadata();
+                    return new DefaultSamlRegisteredServiceSharedMetadataStore(httpClient, openSamlConfigBean,
+                        Beans.newDuration(metadata.getHttp().getSharedStoreRefreshInterval()),
+                        metadata.getCore().getMaximumRetryAttempts());
+                })
+                .otherwiseProxy()
+                .get();
+        }
+
         @ConditionalOnMissingBean(name = "urlResourceMetadataResolver")
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         @Order(Ordered.HIGHEST_PRECEDENCE + 3)
         public SamlRegisteredServiceMetadataResolver urlResourceMetadataResolver(
             final CasConfigurationProperties casProperties,
+            @Qualifier(SamlRegisteredServiceSharedMetadataStore.BEAN_NAME)
+            final SamlRegisteredServiceSharedMetadataStore samlRegisteredServiceSharedMetadataStore,
             @Qualifier(OpenSamlConfigBean.DEFAULT_BEAN_NAME)
             final OpenSamlConfigBean openSamlConfigBean,
             @Qualifier(HttpClient.BEAN_NAME_HTTPCLIENT)
             final HttpClient httpClient) {
-            return new UrlResourceMetadataResolver(httpClient, casProperties.getAuthn().getSamlIdp(), openSamlConfigBean);
+            val resolver = new UrlResourceMetadataResolver(httpClient, casProperties.getAuthn().getSamlIdp(), openSamlConfigBean);
+            BeanSupplier.ifNotProxy(samlRegisteredServiceSharedMetadataStore, resolver::setSharedMetadataStore);
+            return resolver;
         }
 
         @ConditionalOnMissingBean(name = "classpathResourceMetadataResolver")
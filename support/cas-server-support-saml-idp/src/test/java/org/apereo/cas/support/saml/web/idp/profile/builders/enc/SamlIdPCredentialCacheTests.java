@@ -0,0 +1,56 @@
+package org.apereo.cas.support.saml.web.idp.profile.builders.enc;
+
+import lombok.val;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.opensaml.xmlsec.impl.BasicSignatureSigningConfiguration;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link SamlIdPCredentialCacheTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("SAML2")
+class SamlIdPCredentialCacheTests {
+
+    @Test
+    void verifyPrivateKeyCached() throws Throwable {
+        val cache = new SamlIdPCredentialCache(Duration.ofMinutes(5), 10);
+        val signingKey = IOUtils.toByteArray(new ClassPathResource("metadata/idp-signing.key").getInputStream());
+        val key1 = cache.getPrivateKey(new ByteArrayResource(signingKey), "RSA");
+        val key2 = cache.getPrivateKey(new ByteArrayResource(signingKey), "RSA");
+        assertNotNull(key1);
+        assertSame(key1, key2);
+
+        val encryptionKey = IOUtils.toByteArray(new ClassPathResource("metadata/idp-encryption.key").getInputStream());
+        val key3 = cache.getPrivateKey(new ByteArrayResource(encryptionKey), "RSA");
+        assertNotSame(key1, key3);
+
+        cache.invalidate();
+        assertNotSame(key1, cache.getPrivateKey(new ByteArrayResource(signingKey), "RSA"));
+    }
+
+    @Test
+    void verifySigningConfigurationCached() {
+        val cache = new SamlIdPCredentialCache(Duration.ofMinutes(5), 10);
+        val count = new AtomicInteger();
+        val config1 = cache.getSigningConfiguration("key", () -> {
+            count.incrementAndGet();
+            return new BasicSignatureSigningConfiguration();
+        });
+        val config2 = cache.getSigningConfiguration("key", () -> {
+            count.incrementAndGet();
+            return new BasicSignatureSigningConfiguration();
+        });
+        assertSame(config1, config2);
+        assertEquals(1, count.get());
+    }
+}
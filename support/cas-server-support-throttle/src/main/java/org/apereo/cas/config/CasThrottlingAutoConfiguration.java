@@ -3,6 +3,7 @@ package org.apereo.cas.config;
 import org.apereo.cas.audit.AuditTrailExecutionPlan;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.model.support.throttle.ThrottleCoreProperties;
 import org.apereo.cas.throttle.AuthenticationThrottlingExecutionPlan;
 import org.apereo.cas.throttle.AuthenticationThrottlingExecutionPlanConfigurer;
 import org.apereo.cas.throttle.ConcurrentThrottledSubmissionsStore;
@@ -10,6 +11,7 @@ import org.apereo.cas.throttle.DefaultAuthenticationThrottlingExecutionPlan;
 import org.apereo.cas.throttle.DefaultThrottledRequestResponseHandler;
 import org.apereo.cas.throttle.DefaultThrottledSubmissionHandlerInterceptorAdapter;
 import org.apereo.cas.throttle.InMemoryThrottledSubmissionCleaner;
+import org.apereo.cas.throttle.SlidingWindowThrottledSubmissionsStore;
 import org.apereo.cas.throttle.ThrottledRequestExecutor;
 import org.apereo.cas.throttle.ThrottledRequestFilter;
 import org.apereo.cas.throttle.ThrottledRequestResponseHandler;
@@ -34,6 +36,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.ScopedProxyMode;
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -120,6 +123,11 @@ public class CasThrottlingAutoConfiguration {
         @ConditionalOnMissingBean(name = ThrottledSubmissionsStore.BEAN_NAME)
         @Bean
         public ThrottledSubmissionsStore throttleSubmissionStore(final CasConfigurationProperties casProperties) {
+            val throttle = casProperties.getAuthn().getThrottle();
+            if (throttle.getCore().getStoreType() == ThrottleCoreProperties.ThrottledSubmissionStoreTypes.SLIDING_WINDOW) {
+                return new SlidingWindowThrottledSubmissionsStore(throttle.getCore().getSlidingWindowWidth(),
+                    throttle.getCore().getSlidingWindowDepth(), Duration.ofSeconds(Math.max(1, throttle.getFailure().getRangeSeconds())));
+            }
             return new ConcurrentThrottledSubmissionsStore(casProperties);
         }
 
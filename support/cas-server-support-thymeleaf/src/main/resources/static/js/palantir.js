@@ -1487,9 +1487,9 @@ async function initializeSystemOperations() {
         if (actuatorEndpoints.statistics) {
             $.get(actuatorEndpoints.statistics, response => {
 
-                const expired = response.expiredTickets;
-                const valid = response.validTickets;
-                statisticsChart.data.datasets[0].data = [valid, expired];
+                const total = response.totalTickets;
+                const sessions = response.ssoSessions;
+                statisticsChart.data.datasets[0].data = [total, sessions];
                 statisticsChart.update();
             }).fail((xhr, status, error) => console.error("Error fetching data:", error));
         }
@@ -1981,7 +1981,7 @@ async function initializeAllCharts() {
     statisticsChart = new Chart(document.getElementById("statisticsChart").getContext("2d"), {
         type: "bar",
         data: {
-            labels: ["Current Tickets", "Expired (Removed) Tickets"],
+            labels: ["Current Tickets", "Single Sign-On Sessions"],
             datasets: [{
                 label: "Ticket Registry",
                 data: [0, 0],
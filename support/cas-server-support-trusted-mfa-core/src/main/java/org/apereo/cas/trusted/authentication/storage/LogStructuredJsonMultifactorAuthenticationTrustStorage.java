@@ -0,0 +1,322 @@
+package org.apereo.cas.trusted.authentication.storage;
+
+import org.apereo.cas.configuration.model.support.mfa.trusteddevice.TrustedDevicesMultifactorProperties;
+import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustRecord;
+import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustRecordKeyGenerator;
+import org.apereo.cas.util.DateTimeUtils;
+import org.apereo.cas.util.ResourceUtils;
+import org.apereo.cas.util.concurrent.CasReentrantLock;
+import org.apereo.cas.util.crypto.CipherExecutor;
+import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.hjson.JsonValue;
+import org.jooq.lambda.Unchecked;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.io.Resource;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link LogStructuredJsonMultifactorAuthenticationTrustStorage}. Trusted device records
+ * are kept in a JSON snapshot, using the same format as {@link JsonMultifactorAuthenticationTrustStorage},
+ * and changes are appended to a log file next to the snapshot, one JSON document per line.
+ * Saving or removing a record only appends to the log, and the snapshot is rewritten
+ * once enough entries accumulate in the log. Upon startup, the snapshot is loaded and the log is replayed;
+ * an incomplete trailing entry left behind by a crash is ignored. Records are indexed
+ * by principal and identifier for lookups.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+public class LogStructuredJsonMultifactorAuthenticationTrustStorage extends BaseMultifactorAuthenticationTrustStorage implements DisposableBean {
+    /**
+     * File extension of the log file that is kept next to the JSON resource.
+     */
+    public static final String LOG_FILE_EXTENSION = ".log";
+
+    private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
+        .defaultTypingEnabled(false).build().toObjectMapper();
+
+    private final CasReentrantLock lock = new CasReentrantLock();
+
+    private final Map<String, MultifactorAuthenticationTrustRecord> storage = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<String>> principalIndex = new ConcurrentHashMap<>();
+
+    private final Map<Long, String> idIndex = new ConcurrentHashMap<>();
+
+    private final Path snapshotFile;
+
+    private final Path logFile;
+
+    private final long compactionThreshold;
+
+    private FileChannel logChannel;
+
+    @Getter
+    private long logEntries;
+
+    public LogStructuredJsonMultifactorAuthenticationTrustStorage(
+        final TrustedDevicesMultifactorProperties properties,
+        final CipherExecutor<Serializable, String> cipherExecutor,
+        final Resource location,
+        final MultifactorAuthenticationTrustRecordKeyGenerator keyGenerationStrategy) {
+        super(properties, cipherExecutor, keyGenerationStrategy);
+        this.snapshotFile = Unchecked.supplier(location::getFile).get().toPath().toAbsolutePath();
+        this.logFile = snapshotFile.resolveSibling(snapshotFile.getFileName() + LOG_FILE_EXTENSION);
+        this.compactionThreshold = Math.max(1, properties.getJson().getCompactionThreshold());
+        FunctionUtils.doUnchecked(__ -> recover(location));
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        lock.tryLock(__ -> closeLog());
+    }
+
+    @Override
+    public void remove(final String key) {
+        lock.tryLock(__ -> {
+            val recordKey = storage.containsKey(key)
+                ? key
+                : storage.keySet().stream().filter(k -> k.equalsIgnoreCase(key)).findFirst().orElse(null);
+            if (recordKey != null) {
+                append(TrustRecordLogEntry.removal(recordKey));
+                removeRecord(recordKey);
+                compactIfNecessary();
+            }
+        });
+    }
+
+    @Override
+    public void remove(final ZonedDateTime expirationDate) {
+        val expDate = DateTimeUtils.dateOf(expirationDate);
+        val results = storage.values()
+            .stream()
+            .filter(entry -> entry.getExpirationDate() != null)
+            .filter(entry -> expDate.compareTo(entry.getExpirationDate()) >= 0)
+            .map(MultifactorAuthenticationTrustRecord::getRecordKey)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        LOGGER.debug("Found [{}] expired trusted-device records", results.size());
+        lock.tryLock(__ -> {
+            for (val recordKey : results) {
+                append(TrustRecordLogEntry.removal(recordKey));
+                removeRecord(recordKey);
+            }
+            compactIfNecessary();
+        });
+    }
+
+    @Override
+    public Set<? extends MultifactorAuthenticationTrustRecord> getAll() {
+        remove();
+        return new TreeSet<>(storage.values());
+    }
+
+    @Override
+    public MultifactorAuthenticationTrustRecord get(final long id) {
+        return Optional.ofNullable(idIndex.get(id))
+            .map(storage::get)
+            .filter(entry -> StringUtils.isNotBlank(entry.getRecordKey()))
+            .filter(entry -> !entry.isExpired())
+            .orElse(null);
+    }
+
+    @Override
+    public Set<? extends MultifactorAuthenticationTrustRecord> get(final ZonedDateTime onOrAfterDate) {
+        remove();
+        return storage
+            .values()
+            .stream()
+            .filter(entry -> StringUtils.isNotBlank(entry.getRecordKey()))
+            .filter(entry -> entry.getRecordDate().isEqual(onOrAfterDate) || entry.getRecordDate().isAfter(onOrAfterDate))
+            .sorted()
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    @Override
+    public Set<? extends MultifactorAuthenticationTrustRecord> get(final String principal) {
+        val recordKeys = principalIndex.getOrDefault(principal.toLowerCase(Locale.ENGLISH), Set.of());
+        return recordKeys
+            .stream()
+            .map(storage::get)
+            .filter(Objects::nonNull)
+            .filter(entry -> StringUtils.isNotBlank(entry.getRecordKey()))
+            .filter(entry -> !entry.isExpired())
+            .sorted()
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    @Override
+    public MultifactorAuthenticationTrustRecord saveInternal(final MultifactorAuthenticationTrustRecord record) {
+        return lock.tryLock(() -> {
+            append(TrustRecordLogEntry.save(record));
+            putRecord(record);
+            compactIfNecessary();
+            return record;
+        });
+    }
+
+    /**
+     * Rewrite the JSON snapshot with the current set of records and truncate the log.
+     * The snapshot is written to a temporary file first and then moved in place,
+     * so the previous snapshot remains intact if the operation is interrupted.
+     * Replaying the log again on top of a new snapshot is harmless, should the
+     * process stop before the log is truncated.
+     */
+    public void compact() {
+        lock.tryLock(__ -> {
+            val records = new LinkedHashMap<String, MultifactorAuthenticationTrustRecord>(storage);
+            val temporaryFile = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+            try (val channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.wrap(MAPPER.writerWithDefaultPrettyPrinter().writeValueAsBytes(records)));
+                channel.force(true);
+            }
+            Files.move(temporaryFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            closeLog();
+            Files.deleteIfExists(logFile);
+            logEntries = 0;
+            LOGGER.debug("Compacted [{}] trusted-device records into [{}]", records.size(), snapshotFile);
+        });
+    }
+
+    private void recover(final Resource location) throws IOException {
+        if (ResourceUtils.doesResourceExist(location)) {
+            val content = Files.readString(snapshotFile, StandardCharsets.UTF_8);
+            if (StringUtils.isNotBlank(content)) {
+                val records = MAPPER.readValue(JsonValue.readHjson(content).toString(),
+                    new TypeReference<Map<String, MultifactorAuthenticationTrustRecord>>() {
+                    });
+                records.values().forEach(this::putRecord);
+            }
+        }
+        if (Files.exists(logFile)) {
+            val replayed = replayLog();
+            LOGGER.info("Replayed [{}] entries from trusted-device log [{}]", replayed, logFile);
+            compact();
+        }
+        LOGGER.debug("Loaded [{}] trusted-device records from [{}]", storage.size(), snapshotFile);
+    }
+
+    private long replayLog() throws IOException {
+        val lines = Files.readAllLines(logFile, StandardCharsets.UTF_8);
+        var count = 0L;
+        for (var i = 0; i < lines.size(); i++) {
+            val line = lines.get(i);
+            if (StringUtils.isBlank(line)) {
+                continue;
+            }
+            try {
+                val entry = MAPPER.readValue(line, TrustRecordLogEntry.class);
+                if (entry.getRecord() != null) {
+                    putRecord(entry.getRecord());
+                } else {
+                    removeRecord(entry.getRecordKey());
+                }
+                count++;
+            } catch (final IOException e) {
+                if (i == lines.size() - 1) {
+                    LOGGER.warn("Ignoring incomplete trailing entry in trusted-device log [{}]", logFile);
+                } else {
+                    throw e;
+                }
+            }
+        }
+        return count;
+    }
+
+    private void append(final TrustRecordLogEntry entry) throws IOException {
+        if (logChannel == null) {
+            logChannel = FileChannel.open(logFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        val line = MAPPER.writeValueAsString(entry) + System.lineSeparator();
+        val buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            logChannel.write(buffer);
+        }
+        logChannel.force(false);
+        logEntries++;
+    }
+
+    private void compactIfNecessary() {
+        if (logEntries >= compactionThreshold && logEntries > storage.size()) {
+            compact();
+        }
+    }
+
+    private void closeLog() throws IOException {
+        if (logChannel != null) {
+            logChannel.close();
+            logChannel = null;
+        }
+    }
+
+    private void putRecord(final MultifactorAuthenticationTrustRecord record) {
+        val previous = storage.put(record.getRecordKey(), record);
+        if (previous != null) {
+            unindex(previous);
+        }
+        principalIndex.computeIfAbsent(record.getPrincipal().toLowerCase(Locale.ENGLISH),
+            __ -> ConcurrentHashMap.newKeySet()).add(record.getRecordKey());
+        idIndex.put(record.getId(), record.getRecordKey());
+    }
+
+    private void removeRecord(final String recordKey) {
+        FunctionUtils.doIfNotNull(storage.remove(recordKey), this::unindex);
+    }
+
+    private void unindex(final MultifactorAuthenticationTrustRecord record) {
+        principalIndex.computeIfPresent(record.getPrincipal().toLowerCase(Locale.ENGLISH), (principal, keys) -> {
+            keys.remove(record.getRecordKey());
+            return keys.isEmpty() ? null : keys;
+        });
+        idIndex.remove(record.getId(), record.getRecordKey());
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    private static final class TrustRecordLogEntry {
+        private String recordKey;
+
+        private MultifactorAuthenticationTrustRecord record;
+
+        static TrustRecordLogEntry save(final MultifactorAuthenticationTrustRecord record) {
+            return new TrustRecordLogEntry(record.getRecordKey(), record);
+        }
+
+        static TrustRecordLogEntry removal(final String recordKey) {
+            return new TrustRecordLogEntry(recordKey, null);
+        }
+    }
+}
@@ -12,6 +12,7 @@ import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustS
 import org.apereo.cas.trusted.authentication.keys.DefaultMultifactorAuthenticationTrustRecordKeyGenerator;
 import org.apereo.cas.trusted.authentication.storage.InMemoryMultifactorAuthenticationTrustStorage;
 import org.apereo.cas.trusted.authentication.storage.JsonMultifactorAuthenticationTrustStorage;
+import org.apereo.cas.trusted.authentication.storage.LogStructuredJsonMultifactorAuthenticationTrustStorage;
 import org.apereo.cas.trusted.authentication.storage.MultifactorAuthenticationTrustRecordExpiry;
 import org.apereo.cas.trusted.authentication.storage.MultifactorAuthenticationTrustStorageCleaner;
 import org.apereo.cas.trusted.web.MultifactorAuthenticationTrustedDevicesReportEndpoint;
@@ -97,6 +98,10 @@ class MultifactorAuthnTrustConfiguration {
                 });
             return FunctionUtils.doIf(trusted.getJson().getLocation() != null, () -> {
                 LOGGER.debug("Storing trusted device records inside the JSON resource [{}]", trusted.getJson().getLocation());
+                if (trusted.getJson().isAppendOnly()) {
+                    return new LogStructuredJsonMultifactorAuthenticationTrustStorage(casProperties.getAuthn().getMfa().getTrusted(),
+                        mfaTrustCipherExecutor, trusted.getJson().getLocation(), mfaTrustRecordKeyGenerator);
+                }
                 return new JsonMultifactorAuthenticationTrustStorage(casProperties.getAuthn().getMfa().getTrusted(),
                     mfaTrustCipherExecutor, trusted.getJson().getLocation(),
                     mfaTrustRecordKeyGenerator);
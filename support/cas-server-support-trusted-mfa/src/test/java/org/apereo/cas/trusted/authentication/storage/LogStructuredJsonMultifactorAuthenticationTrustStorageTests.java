@@ -0,0 +1,95 @@
+package org.apereo.cas.trusted.authentication.storage;
+
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.test.CasTestExtension;
+import org.apereo.cas.trusted.AbstractMultifactorAuthenticationTrustStorageTests;
+import org.apereo.cas.util.crypto.CipherExecutor;
+import lombok.val;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.test.context.TestPropertySource;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link LogStructuredJsonMultifactorAuthenticationTrustStorageTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@SpringBootTest(classes = AbstractMultifactorAuthenticationTrustStorageTests.SharedTestConfiguration.class)
+@TestPropertySource(properties = {
+    "cas.authn.mfa.trusted.json.location=file:${java.io.tmpdir}/trusted-device-log-structured.json",
+    "cas.authn.mfa.trusted.json.append-only=true"
+})
+@Tag("FileSystem")
+@ExtendWith(CasTestExtension.class)
+class LogStructuredJsonMultifactorAuthenticationTrustStorageTests extends AbstractMultifactorAuthenticationTrustStorageTests {
+    @Autowired
+    private CasConfigurationProperties casProperties;
+
+    private LogStructuredJsonMultifactorAuthenticationTrustStorage getStorage(final File file) {
+        return new LogStructuredJsonMultifactorAuthenticationTrustStorage(casProperties.getAuthn().getMfa().getTrusted(),
+            CipherExecutor.noOpOfSerializableToString(), new FileSystemResource(file), keyGenerationStrategy);
+    }
+
+    @Test
+    void verifyRecoveryFromLog() throws Exception {
+        val file = new File(FileUtils.getTempDirectory(), UUID.randomUUID() + ".json");
+        val logFile = new File(file.getAbsolutePath() + LogStructuredJsonMultifactorAuthenticationTrustStorage.LOG_FILE_EXTENSION);
+        try {
+            val storage = getStorage(file);
+            val record1 = storage.save(getMultifactorAuthenticationTrustRecord());
+            val record2 = getMultifactorAuthenticationTrustRecord();
+            record2.setId(2000);
+            storage.save(record2);
+            storage.remove(record2.getRecordKey());
+            assertEquals(3, storage.getLogEntries());
+            assertFalse(file.exists());
+            assertTrue(logFile.exists());
+            storage.destroy();
+
+            Files.writeString(logFile.toPath(), "{\"recordKey\":\"partial", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+            val recovered = getStorage(file);
+            assertEquals(0, recovered.getLogEntries());
+            assertTrue(file.exists());
+            assertFalse(logFile.exists());
+            assertNotNull(recovered.get(record1.getId()));
+            assertEquals(1, recovered.get(record1.getPrincipal().toUpperCase(Locale.ENGLISH)).size());
+            assertNull(recovered.get(record2.getId()));
+            assertTrue(recovered.get(record2.getPrincipal()).isEmpty());
+            recovered.destroy();
+        } finally {
+            FileUtils.deleteQuietly(file);
+            FileUtils.deleteQuietly(logFile);
+        }
+    }
+
+    @Test
+    void verifyCompaction() throws Exception {
+        val file = new File(FileUtils.getTempDirectory(), UUID.randomUUID() + ".json");
+        try {
+            val storage = getStorage(file);
+            val record = storage.save(getMultifactorAuthenticationTrustRecord());
+            storage.compact();
+            assertEquals(0, storage.getLogEntries());
+            val json = new JsonMultifactorAuthenticationTrustStorage(casProperties.getAuthn().getMfa().getTrusted(),
+                CipherExecutor.noOpOfSerializableToString(), new FileSystemResource(file), keyGenerationStrategy);
+            assertNotNull(json.get(record.getId()));
+            json.destroy();
+            storage.destroy();
+        } finally {
+            FileUtils.deleteQuietly(file);
+        }
+    }
+}
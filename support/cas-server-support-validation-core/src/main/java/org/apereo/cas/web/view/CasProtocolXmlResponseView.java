@@ -0,0 +1,129 @@
+package org.apereo.cas.web.view;
+
+import org.apereo.cas.CasProtocolConstants;
+import org.apereo.cas.CasViewConstants;
+import org.apereo.cas.authentication.principal.Principal;
+import org.apereo.cas.util.LoggingUtils;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.text.StringEscapeUtils;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.View;
+
+import jakarta.annotation.Nonnull;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * This is {@link CasProtocolXmlResponseView}. It writes the CAS2/CAS3 service validation response
+ * straight to the response stream, using the model prepared by {@link Cas20ResponseView} and {@link Cas30ResponseView}.
+ * The produced document carries the same elements as the default protocol templates, without having to
+ * load, compile and execute a template on every validation request. Attributes are rendered as they are
+ * formatted by the configured {@link org.apereo.cas.validation.CasProtocolAttributesRenderer}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@RequiredArgsConstructor
+@Getter
+public class CasProtocolXmlResponseView implements View {
+    private static final String SERVICE_RESPONSE_START = "<cas:serviceResponse xmlns:cas='http://www.yale.edu/tp/cas'>\n";
+
+    private static final String SERVICE_RESPONSE_END = "</cas:serviceResponse>\n";
+
+    private final boolean successResponse;
+
+    @Override
+    public String getContentType() {
+        return MediaType.APPLICATION_XML_VALUE;
+    }
+
+    @Override
+    public void render(final Map<String, ?> model,
+                       @Nonnull final HttpServletRequest request,
+                       @Nonnull final HttpServletResponse response) throws Exception {
+        response.setContentType(getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        if (LoggingUtils.isProtocolMessageLoggerEnabled()) {
+            try (val writer = new StringWriter()) {
+                write(Objects.requireNonNull(model), writer);
+                LoggingUtils.protocolMessage("CAS Validation Response", Map.of(), writer.toString());
+                response.getWriter().write(writer.toString());
+            }
+        } else {
+            write(Objects.requireNonNull(model), response.getWriter());
+        }
+        response.getWriter().flush();
+    }
+
+    protected void write(final Map<String, ?> model, final Writer writer) throws IOException {
+        writer.write(SERVICE_RESPONSE_START);
+        if (successResponse) {
+            writeAuthenticationSuccess(model, writer);
+        } else {
+            writeAuthenticationFailure(model, writer);
+        }
+        writer.write(SERVICE_RESPONSE_END);
+    }
+
+    protected void writeAuthenticationSuccess(final Map<String, ?> model, final Writer writer) throws IOException {
+        writer.write("    <cas:authenticationSuccess>\n");
+        val principal = (Principal) model.get(CasViewConstants.MODEL_ATTRIBUTE_NAME_PRINCIPAL);
+        writer.write("        <cas:user>");
+        writer.write(escape(principal.getId()));
+        writer.write("</cas:user>\n");
+
+        val proxyGrantingTicketIou = (String) model.get(CasViewConstants.MODEL_ATTRIBUTE_NAME_PROXY_GRANTING_TICKET_IOU);
+        if (StringUtils.isNotBlank(proxyGrantingTicketIou)) {
+            writer.write("        <cas:proxyGrantingTicket>");
+            writer.write(escape(proxyGrantingTicketIou));
+            writer.write("</cas:proxyGrantingTicket>\n");
+        }
+
+        val proxies = (Collection<?>) model.get(CasViewConstants.MODEL_ATTRIBUTE_NAME_PROXIES);
+        if (proxies != null && !proxies.isEmpty()) {
+            writer.write("        <cas:proxies>\n");
+            for (val proxy : proxies) {
+                writer.write("            <cas:proxy>");
+                writer.write(proxy.toString());
+                writer.write("</cas:proxy>\n");
+            }
+            writer.write("        </cas:proxies>\n");
+        }
+
+        val attributes = (Collection<?>) model.get(CasProtocolConstants.VALIDATION_CAS_MODEL_ATTRIBUTE_NAME_FORMATTED_ATTRIBUTES);
+        if (attributes != null && !attributes.isEmpty()) {
+            writer.write("        <cas:attributes>\n");
+            for (val attribute : attributes) {
+                writer.write("            ");
+                writer.write(attribute.toString());
+                writer.write('\n');
+            }
+            writer.write("        </cas:attributes>\n");
+        }
+        writer.write("    </cas:authenticationSuccess>\n");
+    }
+
+    protected void writeAuthenticationFailure(final Map<String, ?> model, final Writer writer) throws IOException {
+        writer.write("    <cas:authenticationFailure code=\"");
+        writer.write(escape(model.get(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_CODE)));
+        writer.write("\">");
+        writer.write(escape(model.get(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_DESCRIPTION)));
+        writer.write("</cas:authenticationFailure>\n");
+    }
+
+    private static String escape(final Object value) {
+        return value == null ? StringUtils.EMPTY : StringEscapeUtils.escapeXml10(value.toString());
+    }
+}
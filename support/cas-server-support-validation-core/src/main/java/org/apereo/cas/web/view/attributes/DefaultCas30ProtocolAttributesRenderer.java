@@ -8,6 +8,7 @@ import org.apache.commons.text.StringEscapeUtils;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This is {@link DefaultCas30ProtocolAttributesRenderer}.
@@ -17,6 +18,9 @@ import java.util.Map;
  */
 @Slf4j
 public class DefaultCas30ProtocolAttributesRenderer implements CasProtocolAttributesRenderer {
+    private static final int MAX_ATTRIBUTE_ELEMENTS = 1_000;
+
+    private final Map<String, AttributeElement> attributeElements = new ConcurrentHashMap<>();
 
     @Override
     public Collection<String> render(final Map<String, Object> attributes) {
@@ -24,8 +28,8 @@ public class DefaultCas30ProtocolAttributesRenderer implements CasProtocolAttrib
         LOGGER.trace("Beginning to format/render attributes for the response");
         attributes.forEach((attributeName, v) -> {
             val values = CollectionUtils.toCollection(v);
+            val name = CasProtocolAttributesRenderer.sanitizeAttributeName(attributeName);
             values.forEach(value -> {
-                val name = CasProtocolAttributesRenderer.sanitizeAttributeName(attributeName);
                 val fmt = buildSingleAttributeDefinitionLine(name, value);
                 LOGGER.trace("Formatted attribute for the response: [{}]", fmt);
                 formattedAttributes.add(fmt);
@@ -35,10 +39,26 @@ public class DefaultCas30ProtocolAttributesRenderer implements CasProtocolAttrib
     }
 
     protected String buildSingleAttributeDefinitionLine(final String attributeName, final Object value) {
-        return "<cas:%s>%s</cas:%s>".formatted(attributeName, encodeAttributeValue(value), attributeName);
+        val element = getAttributeElement(attributeName);
+        return element.start() + encodeAttributeValue(value) + element.end();
     }
 
     protected String encodeAttributeValue(final Object value) {
         return StringEscapeUtils.escapeXml10(value.toString().trim());
     }
+
+    private AttributeElement getAttributeElement(final String attributeName) {
+        val element = attributeElements.get(attributeName);
+        if (element != null) {
+            return element;
+        }
+        val newElement = new AttributeElement("<cas:%s>".formatted(attributeName), "</cas:%s>".formatted(attributeName));
+        if (attributeElements.size() < MAX_ATTRIBUTE_ELEMENTS) {
+            attributeElements.putIfAbsent(attributeName, newElement);
+        }
+        return newElement;
+    }
+
+    private record AttributeElement(String start, String end) {
+    }
 }
@@ -42,6 +42,7 @@ import org.apereo.cas.web.v3.V3ServiceValidateController;
 import org.apereo.cas.web.view.Cas10ResponseView;
 import org.apereo.cas.web.view.Cas20ResponseView;
 import org.apereo.cas.web.view.Cas30ResponseView;
+import org.apereo.cas.web.view.CasProtocolXmlResponseView;
 import org.apereo.cas.web.view.attributes.AttributeValuesPerLineProtocolAttributesRenderer;
 import org.apereo.cas.web.view.attributes.DefaultCas30ProtocolAttributesRenderer;
 import org.apereo.cas.web.view.attributes.InlinedCas30ProtocolAttributesRenderer;
@@ -335,6 +336,9 @@ public class CasValidationAutoConfiguration {
             @Qualifier(CasProtocolViewFactory.BEAN_NAME_MUSTACHE_VIEW_FACTORY)
             final CasProtocolViewFactory casProtocolMustacheViewFactory,
             final CasConfigurationProperties casProperties) {
+            if (casProperties.getView().isDirectProtocolResponses()) {
+                return new CasProtocolXmlResponseView(true);
+            }
             return casProtocolMustacheViewFactory.create(applicationContext,
                 casProperties.getView().getCas2().getSuccess(), APPLICATION_XML_VALUE);
         }
@@ -346,6 +350,9 @@ public class CasValidationAutoConfiguration {
             @Qualifier(CasProtocolViewFactory.BEAN_NAME_MUSTACHE_VIEW_FACTORY)
             final CasProtocolViewFactory casProtocolMustacheViewFactory,
             final CasConfigurationProperties casProperties) throws Exception {
+            if (casProperties.getView().isDirectProtocolResponses()) {
+                return new CasProtocolXmlResponseView(false);
+            }
             return casProtocolMustacheViewFactory.create(applicationContext,
                 casProperties.getView().getCas2().getFailure(), APPLICATION_XML_VALUE);
         }
@@ -387,6 +394,9 @@ public class CasValidationAutoConfiguration {
             @Qualifier(CasProtocolViewFactory.BEAN_NAME_MUSTACHE_VIEW_FACTORY)
             final CasProtocolViewFactory casProtocolMustacheViewFactory,
             final CasConfigurationProperties casProperties) {
+            if (casProperties.getView().isDirectProtocolResponses()) {
+                return new CasProtocolXmlResponseView(true);
+            }
             return casProtocolMustacheViewFactory.create(applicationContext,
                 casProperties.getView().getCas3().getSuccess(), APPLICATION_XML_VALUE);
         }
@@ -398,6 +408,9 @@ public class CasValidationAutoConfiguration {
             @Qualifier(CasProtocolViewFactory.BEAN_NAME_MUSTACHE_VIEW_FACTORY)
             final CasProtocolViewFactory casProtocolMustacheViewFactory,
             final CasConfigurationProperties casProperties) throws Exception {
+            if (casProperties.getView().isDirectProtocolResponses()) {
+                return new CasProtocolXmlResponseView(false);
+            }
             return casProtocolMustacheViewFactory.create(applicationContext,
                 casProperties.getView().getCas3().getFailure(), APPLICATION_XML_VALUE);
         }
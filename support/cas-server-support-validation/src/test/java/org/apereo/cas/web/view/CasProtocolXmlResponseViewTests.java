@@ -0,0 +1,105 @@
+package org.apereo.cas.web.view;
+
+import org.apereo.cas.CasProtocolConstants;
+import org.apereo.cas.CasViewConstants;
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import com.samskivert.mustache.Mustache;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import java.io.InputStreamReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link CasProtocolXmlResponseViewTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("CAS")
+class CasProtocolXmlResponseViewTests {
+    private static Map<String, Object> getSuccessModel() {
+        val model = new HashMap<String, Object>();
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_PRINCIPAL, CoreAuthenticationTestUtils.getPrincipal("casuser"));
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_PROXY_GRANTING_TICKET_IOU, "PGTIOU-1-casuser");
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_PROXIES, List.of("https://proxy1.example.org", "https://proxy2.example.org"));
+        model.put(CasProtocolConstants.VALIDATION_CAS_MODEL_ATTRIBUTE_NAME_FORMATTED_ATTRIBUTES,
+            List.of("<cas:email>casuser@example.org</cas:email>", "<cas:memberOf>staff</cas:memberOf>"));
+        return model;
+    }
+
+    private static String renderTemplate(final String location, final Map<String, Object> model) throws Exception {
+        try (val reader = new InputStreamReader(new ClassPathResource(location).getInputStream(), StandardCharsets.UTF_8)) {
+            val writer = new StringWriter();
+            Mustache.compiler().compile(reader).execute(model, writer);
+            return writer.toString();
+        }
+    }
+
+    private static String render(final CasProtocolXmlResponseView view, final Map<String, Object> model) throws Exception {
+        val response = new MockHttpServletResponse();
+        view.render(model, new MockHttpServletRequest(), response);
+        assertEquals(MediaType.APPLICATION_XML_VALUE, view.getContentType());
+        return response.getContentAsString();
+    }
+
+    private static String normalize(final String xml) {
+        return xml.replaceAll(">\\s+<", "><").replaceAll(">\\s+", ">").strip();
+    }
+
+    @Test
+    void verifySuccessMatchesTemplate() throws Exception {
+        val model = getSuccessModel();
+        val result = render(new CasProtocolXmlResponseView(true), model);
+        assertTrue(result.contains("<cas:user>casuser</cas:user>"));
+        assertTrue(result.contains("<cas:proxyGrantingTicket>PGTIOU-1-casuser</cas:proxyGrantingTicket>"));
+        assertTrue(result.contains("<cas:proxy>https://proxy2.example.org</cas:proxy>"));
+        assertTrue(result.contains("<cas:email>casuser@example.org</cas:email>"));
+        val template = renderTemplate("templates/protocol/3.0/casServiceValidationSuccess.mustache", model);
+        assertEquals(normalize(template), normalize(result));
+    }
+
+    @Test
+    void verifySuccessWithoutOptionalElements() throws Exception {
+        val model = new HashMap<String, Object>();
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_PRINCIPAL, CoreAuthenticationTestUtils.getPrincipal("casuser"));
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_PROXIES, List.of());
+        model.put(CasProtocolConstants.VALIDATION_CAS_MODEL_ATTRIBUTE_NAME_FORMATTED_ATTRIBUTES, List.of());
+        val result = render(new CasProtocolXmlResponseView(true), model);
+        assertFalse(result.contains("cas:proxyGrantingTicket"));
+        assertFalse(result.contains("cas:proxies"));
+        assertFalse(result.contains("cas:attributes"));
+        val template = renderTemplate("templates/protocol/2.0/casServiceValidationSuccess.mustache", model);
+        assertEquals(normalize(template), normalize(result));
+    }
+
+    @Test
+    void verifyFailureIsEscaped() throws Exception {
+        val model = new HashMap<String, Object>();
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_CODE, "INVALID_TICKET");
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_DESCRIPTION, "Ticket <ST-1> not \"recognized\" & invalid");
+        val result = render(new CasProtocolXmlResponseView(false), model);
+        assertTrue(result.contains("<cas:authenticationFailure code=\"INVALID_TICKET\">"));
+        assertTrue(result.contains("Ticket &lt;ST-1&gt; not &quot;recognized&quot; &amp; invalid"));
+        assertFalse(result.contains("<ST-1>"));
+    }
+
+    @Test
+    void verifyFailureMatchesTemplate() throws Exception {
+        val model = new HashMap<String, Object>();
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_CODE, "INVALID_TICKET");
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_DESCRIPTION, "Ticket ST-1 not recognized");
+        val result = render(new CasProtocolXmlResponseView(false), model);
+        val template = renderTemplate("templates/protocol/3.0/casServiceValidationFailure.mustache", model);
+        assertEquals(normalize(template), normalize(result));
+    }
+}
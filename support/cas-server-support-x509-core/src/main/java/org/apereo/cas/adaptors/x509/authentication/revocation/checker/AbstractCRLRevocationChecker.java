@@ -97,6 +97,18 @@ public abstract class AbstractCRLRevocationChecker implements RevocationChecker
         }
     }
 
+    /**
+     * Prepare a fetched CRL for revocation checks before it is kept by the checker.
+     * By default, the CRL is reduced to a sorted index of revoked serial numbers
+     * so that lookups do not need to scan or re-parse the CRL.
+     *
+     * @param crl the crl
+     * @return the crl to keep
+     */
+    protected X509CRL indexCRL(final X509CRL crl) {
+        return IndexedX509CRL.of(crl);
+    }
+
     /**
      * Records the addition of a new CRL entry.
      *
@@ -6,7 +6,6 @@ import org.apereo.cas.adaptors.x509.authentication.revocation.policy.RevocationP
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.crypto.CertUtils;
-import org.apereo.cas.util.function.FunctionUtils;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import lombok.extern.slf4j.Slf4j;
@@ -16,7 +15,7 @@ import org.bouncycastle.asn1.ASN1Sequence;
 import org.bouncycastle.asn1.x509.DistributionPoint;
 import org.bouncycastle.asn1.x509.GeneralName;
 import org.cryptacular.x509.ExtensionReader;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.beans.factory.DisposableBean;
 
 import java.net.MalformedURLException;
 import java.net.URI;
@@ -25,10 +24,18 @@ import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.security.cert.X509CRL;
 import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 
 /**
@@ -38,27 +45,41 @@ import java.util.stream.IntStream;
  * expects the name to define an absolute URL, which is the most common
  * implementation.  This implementation caches CRL resources fetched from remote
  * URLs to improve performance by avoiding CRL fetching on every revocation
- * check.
+ * check. Cached CRLs are kept as an index of revoked serial numbers via {@link IndexedX509CRL},
+ * and are refreshed in the background ahead of their next update for as long as they remain cached.
  *
  * @author Marvin S. Addison
  * @since 3.4.6
  */
 @Slf4j
-public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocationChecker {
+public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocationChecker implements DisposableBean {
 
-    private final Cache<URI, byte[]> crlCache;
+    private static final Duration DEFAULT_REFRESH_LEAD_TIME = Duration.ofMinutes(5);
+
+    private static final Duration REFRESH_RETRY_INTERVAL = Duration.ofMinutes(1);
+
+    /**
+     * Executor responsible for refreshing cached CRLs ahead of their next update.
+     */
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1, Thread.ofVirtual().factory());
+
+    private final Map<URI, ScheduledFuture<?>> refreshTasks = new ConcurrentHashMap<>();
+
+    private final Cache<URI, X509CRL> crlCache;
 
     private final CRLFetcher fetcher;
 
     private final boolean throwOnFetchFailure;
 
-    public CRLDistributionPointRevocationChecker(final Cache<URI, byte[]> crlCache,
+    private final Duration refreshLeadTime;
+
+    public CRLDistributionPointRevocationChecker(final Cache<URI, X509CRL> crlCache,
                                                  final RevocationPolicy<X509CRL> expiredCRLPolicy,
                                                  final RevocationPolicy<Void> unavailableCRLPolicy) {
         this(crlCache, expiredCRLPolicy, unavailableCRLPolicy, false);
     }
 
-    public CRLDistributionPointRevocationChecker(final Cache<URI, byte[]> crlCache,
+    public CRLDistributionPointRevocationChecker(final Cache<URI, X509CRL> crlCache,
                                                  final RevocationPolicy<X509CRL> expiredCRLPolicy,
                                                  final RevocationPolicy<Void> unavailableCRLPolicy,
                                                  final boolean throwOnFetchFailure) {
@@ -67,15 +88,23 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
 
     public CRLDistributionPointRevocationChecker(final boolean checkAll, final RevocationPolicy<Void> unavailableCRLPolicy,
                                                  final RevocationPolicy<X509CRL> expiredCRLPolicy,
-                                                 final Cache<URI, byte[]> crlCache,
+                                                 final Cache<URI, X509CRL> crlCache,
                                                  final CRLFetcher fetcher, final boolean throwOnFetchFailure) {
+        this(checkAll, unavailableCRLPolicy, expiredCRLPolicy, crlCache, fetcher, throwOnFetchFailure, DEFAULT_REFRESH_LEAD_TIME);
+    }
+
+    public CRLDistributionPointRevocationChecker(final boolean checkAll, final RevocationPolicy<Void> unavailableCRLPolicy,
+                                                 final RevocationPolicy<X509CRL> expiredCRLPolicy,
+                                                 final Cache<URI, X509CRL> crlCache,
+                                                 final CRLFetcher fetcher, final boolean throwOnFetchFailure,
+                                                 final Duration refreshLeadTime) {
         super(checkAll, unavailableCRLPolicy, expiredCRLPolicy);
         this.crlCache = crlCache;
         this.fetcher = fetcher;
         this.throwOnFetchFailure = throwOnFetchFailure;
+        this.refreshLeadTime = refreshLeadTime;
     }
 
-
     /**
      * Gets the distribution points.
      *
@@ -143,17 +172,11 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
 
         for (var index = 0; !stopFetching && index < urls.length; index++) {
             val url = urls[index];
-            val item = this.crlCache.asMap().get(url);
+            val item = this.crlCache.getIfPresent(url);
 
             if (item != null) {
                 LOGGER.debug("Found CRL in cache for [{}]", CertUtils.toString(cert));
-                val crlFetched = FunctionUtils.doUnchecked(() -> this.fetcher.fetch(new ByteArrayResource(item)));
-
-                if (crlFetched != null) {
-                    listOfLocations.add(crlFetched);
-                } else {
-                    LOGGER.warn("Could fetch X509 CRL for [{}]. Returned value is null", url);
-                }
+                listOfLocations.add(item);
             } else {
                 LOGGER.debug("CRL for [{}] is not cached. Fetching and caching...", CertUtils.toString(cert));
                 try {
@@ -161,7 +184,7 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
                     if (crl != null) {
                         LOGGER.info("Success. Caching fetched CRL at [{}].", url);
                         addCRLbyURI(url, crl);
-                        listOfLocations.add(crl);
+                        listOfLocations.add(Objects.requireNonNullElse(this.crlCache.getIfPresent(url), crl));
                     }
                 } catch (final Exception e) {
                     LoggingUtils.error(LOGGER, e);
@@ -184,16 +207,73 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
 
     @Override
     protected boolean addCRL(final Object id, final X509CRL crl) {
-        return FunctionUtils.doUnchecked(() -> {
-            var uri = (URI) id;
-            if (crl == null) {
-                LOGGER.debug("No CRL was passed. Removing [{}] from cache...", id);
-                this.crlCache.invalidate(uri);
-                return false;
-            }
+        val uri = (URI) id;
+        if (crl == null) {
+            LOGGER.debug("No CRL was passed. Removing [{}] from cache...", id);
+            this.crlCache.invalidate(uri);
+            cancelRefresh(uri);
+            return false;
+        }
+        val indexed = indexCRL(crl);
+        this.crlCache.put(uri, indexed);
+        scheduleRefresh(uri, indexed);
+        return this.crlCache.asMap().containsKey(uri);
+    }
+
+    @Override
+    public void destroy() {
+        this.refreshTasks.values().forEach(task -> task.cancel(false));
+        this.refreshTasks.clear();
+        this.scheduler.shutdown();
+    }
+
+    /**
+     * Schedule the cached CRL to be fetched again ahead of its next update,
+     * so that revocation checks are not held up by fetching an expired CRL.
+     *
+     * @param uri the uri
+     * @param crl the crl
+     */
+    @SuppressWarnings("FutureReturnValueIgnored")
+    private void scheduleRefresh(final URI uri, final X509CRL crl) {
+        if (refreshLeadTime.isNegative() || refreshLeadTime.isZero() || crl.getNextUpdate() == null || scheduler.isShutdown()) {
+            return;
+        }
+        val refreshAt = crl.getNextUpdate().toInstant().minus(refreshLeadTime);
+        val delay = Math.max(0, Duration.between(Instant.now(), refreshAt).toMillis());
+        scheduleRefresh(uri, Duration.ofMillis(delay));
+    }
+
+    private void scheduleRefresh(final URI uri, final Duration delay) {
+        LOGGER.debug("Scheduling CRL at [{}] to be refreshed in [{}]", uri, delay);
+        val task = scheduler.schedule(() -> refresh(uri), delay.toMillis(), TimeUnit.MILLISECONDS);
+        Optional.ofNullable(refreshTasks.put(uri, task)).ifPresent(previous -> previous.cancel(false));
+    }
+
+    private void cancelRefresh(final URI uri) {
+        Optional.ofNullable(refreshTasks.remove(uri)).ifPresent(task -> task.cancel(false));
+    }
 
-            this.crlCache.put(uri, crl.getEncoded());
-            return this.crlCache.asMap().containsKey(uri);
-        });
+    private void refresh(final URI uri) {
+        val cached = this.crlCache.getIfPresent(uri);
+        if (cached == null) {
+            LOGGER.debug("CRL at [{}] is no longer cached and will not be refreshed", uri);
+            refreshTasks.remove(uri);
+            return;
+        }
+        try {
+            LOGGER.debug("Refreshing cached CRL at [{}] ahead of its next update [{}]", uri, cached.getNextUpdate());
+            val crl = this.fetcher.fetch(uri);
+            if (crl != null && (cached.getThisUpdate() == null || crl.getThisUpdate().after(cached.getThisUpdate()))) {
+                addCRLbyURI(uri, crl);
+                return;
+            }
+            LOGGER.debug("CRL at [{}] has not been updated yet", uri);
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to refresh CRL at [{}]: [{}]", uri, e.getMessage());
+        }
+        if (!scheduler.isShutdown()) {
+            scheduleRefresh(uri, REFRESH_RETRY_INTERVAL.compareTo(refreshLeadTime) < 0 ? REFRESH_RETRY_INTERVAL : refreshLeadTime);
+        }
     }
 }
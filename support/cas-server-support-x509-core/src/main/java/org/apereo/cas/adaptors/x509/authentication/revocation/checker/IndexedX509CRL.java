@@ -0,0 +1,344 @@
+package org.apereo.cas.adaptors.x509.authentication.revocation.checker;
+
+import lombok.val;
+
+import javax.security.auth.x500.X500Principal;
+import java.math.BigInteger;
+import java.security.Principal;
+import java.security.PublicKey;
+import java.security.cert.CRLException;
+import java.security.cert.CRLReason;
+import java.security.cert.Certificate;
+import java.security.cert.X509CRL;
+import java.security.cert.X509CRLEntry;
+import java.security.cert.X509Certificate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * This is {@link IndexedX509CRL}. It is a compact, read-only view of a parsed {@link X509CRL}
+ * that only retains the CRL header and a sorted index of revoked serial numbers, along with
+ * the revocation date and reason of each entry. Revocation lookups are carried out via a binary search
+ * over the index, and revoked entries are only materialized when a certificate is found to be revoked.
+ * <p>
+ * The encoded form of the CRL and its signature are not retained; the CRL is expected to have been
+ * verified by the fetcher before it is indexed. Indirect CRLs whose entries carry a certificate issuer
+ * extension cannot be indexed by serial number alone, and are left as they are.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+public final class IndexedX509CRL extends X509CRL {
+    private static final String CRL_REASON_OID = "2.5.29.21";
+
+    private static final byte NO_REASON = -1;
+
+    private final X500Principal issuer;
+
+    private final int version;
+
+    private final Date thisUpdate;
+
+    private final Date nextUpdate;
+
+    private final String sigAlgName;
+
+    private final String sigAlgOID;
+
+    private final Map<String, byte[]> criticalExtensions;
+
+    private final Map<String, byte[]> nonCriticalExtensions;
+
+    private final BigInteger[] serials;
+
+    private final long[] revocationDates;
+
+    private final byte[] reasons;
+
+    private IndexedX509CRL(final X509CRL crl, final X509CRLEntry[] entries) {
+        this.issuer = crl.getIssuerX500Principal();
+        this.version = crl.getVersion();
+        this.thisUpdate = crl.getThisUpdate();
+        this.nextUpdate = crl.getNextUpdate();
+        this.sigAlgName = crl.getSigAlgName();
+        this.sigAlgOID = crl.getSigAlgOID();
+        this.criticalExtensions = getExtensions(crl, crl.getCriticalExtensionOIDs());
+        this.nonCriticalExtensions = getExtensions(crl, crl.getNonCriticalExtensionOIDs());
+
+        Arrays.sort(entries, Comparator.comparing(X509CRLEntry::getSerialNumber));
+        this.serials = new BigInteger[entries.length];
+        this.revocationDates = new long[entries.length];
+        this.reasons = new byte[entries.length];
+        for (var i = 0; i < entries.length; i++) {
+            val entry = entries[i];
+            serials[i] = entry.getSerialNumber();
+            revocationDates[i] = entry.getRevocationDate().getTime();
+            val reason = entry.getRevocationReason();
+            reasons[i] = reason == null ? NO_REASON : (byte) reason.ordinal();
+        }
+    }
+
+    /**
+     * Build an index for the given CRL.
+     *
+     * @param crl the crl
+     * @return the indexed crl, or the crl itself if it is already indexed or cannot be indexed.
+     */
+    public static X509CRL of(final X509CRL crl) {
+        if (crl == null || crl instanceof IndexedX509CRL) {
+            return crl;
+        }
+        val revoked = Objects.requireNonNullElse(crl.getRevokedCertificates(), Set.<X509CRLEntry>of());
+        val entries = revoked.toArray(X509CRLEntry[]::new);
+        if (Arrays.stream(entries).anyMatch(entry -> entry.getCertificateIssuer() != null)) {
+            return crl;
+        }
+        return new IndexedX509CRL(crl, entries);
+    }
+
+    /**
+     * Number of revoked serial numbers in the index.
+     *
+     * @return the size
+     */
+    public int size() {
+        return serials.length;
+    }
+
+    @Override
+    public X509CRLEntry getRevokedCertificate(final BigInteger serialNumber) {
+        val index = Arrays.binarySearch(serials, serialNumber);
+        return index >= 0 ? new IndexedX509CRLEntry(index) : null;
+    }
+
+    @Override
+    public X509CRLEntry getRevokedCertificate(final X509Certificate certificate) {
+        return issuer.equals(certificate.getIssuerX500Principal())
+            ? getRevokedCertificate(certificate.getSerialNumber())
+            : null;
+    }
+
+    @Override
+    public Set<? extends X509CRLEntry> getRevokedCertificates() {
+        if (serials.length == 0) {
+            return null;
+        }
+        val entries = new LinkedHashSet<X509CRLEntry>(serials.length);
+        IntStream.range(0, serials.length).mapToObj(IndexedX509CRLEntry::new).forEach(entries::add);
+        return Collections.unmodifiableSet(entries);
+    }
+
+    @Override
+    public boolean isRevoked(final Certificate cert) {
+        return cert instanceof final X509Certificate certificate && getRevokedCertificate(certificate) != null;
+    }
+
+    @Override
+    public X500Principal getIssuerX500Principal() {
+        return issuer;
+    }
+
+    @Override
+    @SuppressWarnings("JavaUtilDate")
+    public Principal getIssuerDN() {
+        return issuer;
+    }
+
+    @Override
+    public int getVersion() {
+        return version;
+    }
+
+    @Override
+    @SuppressWarnings("JavaUtilDate")
+    public Date getThisUpdate() {
+        return thisUpdate == null ? null : new Date(thisUpdate.getTime());
+    }
+
+    @Override
+    @SuppressWarnings("JavaUtilDate")
+    public Date getNextUpdate() {
+        return nextUpdate == null ? null : new Date(nextUpdate.getTime());
+    }
+
+    @Override
+    public String getSigAlgName() {
+        return sigAlgName;
+    }
+
+    @Override
+    public String getSigAlgOID() {
+        return sigAlgOID;
+    }
+
+    @Override
+    public byte[] getSigAlgParams() {
+        return null;
+    }
+
+    @Override
+    public byte[] getEncoded() throws CRLException {
+        throw new CRLException("Encoded form of the CRL is not retained by the index");
+    }
+
+    @Override
+    public byte[] getTBSCertList() throws CRLException {
+        throw new CRLException("Encoded form of the CRL is not retained by the index");
+    }
+
+    @Override
+    public byte[] getSignature() {
+        return null;
+    }
+
+    @Override
+    public void verify(final PublicKey key) throws CRLException {
+        throw new CRLException("Signature of the CRL is not retained by the index");
+    }
+
+    @Override
+    public void verify(final PublicKey key, final String sigProvider) throws CRLException {
+        throw new CRLException("Signature of the CRL is not retained by the index");
+    }
+
+    @Override
+    public boolean hasUnsupportedCriticalExtension() {
+        return false;
+    }
+
+    @Override
+    public Set<String> getCriticalExtensionOIDs() {
+        return criticalExtensions.isEmpty() ? null : Set.copyOf(criticalExtensions.keySet());
+    }
+
+    @Override
+    public Set<String> getNonCriticalExtensionOIDs() {
+        return nonCriticalExtensions.isEmpty() ? null : Set.copyOf(nonCriticalExtensions.keySet());
+    }
+
+    @Override
+    public byte[] getExtensionValue(final String oid) {
+        val value = Objects.requireNonNullElseGet(criticalExtensions.get(oid), () -> nonCriticalExtensions.get(oid));
+        return value == null ? null : value.clone();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        return other instanceof final IndexedX509CRL crl
+            && issuer.equals(crl.issuer)
+            && Objects.equals(thisUpdate, crl.thisUpdate)
+            && Objects.equals(nextUpdate, crl.nextUpdate)
+            && Arrays.equals(serials, crl.serials);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(issuer, thisUpdate, nextUpdate, serials.length);
+    }
+
+    @Override
+    public String toString() {
+        return "IndexedX509CRL[issuer=%s, thisUpdate=%s, nextUpdate=%s, revoked=%s]"
+            .formatted(issuer, thisUpdate, nextUpdate, serials.length);
+    }
+
+    private static Map<String, byte[]> getExtensions(final X509CRL crl, final Set<String> oids) {
+        if (oids == null || oids.isEmpty()) {
+            return Map.of();
+        }
+        val extensions = new HashMap<String, byte[]>(oids.size());
+        oids.forEach(oid -> extensions.put(oid, crl.getExtensionValue(oid)));
+        return Map.copyOf(extensions);
+    }
+
+    private final class IndexedX509CRLEntry extends X509CRLEntry {
+        private final int index;
+
+        IndexedX509CRLEntry(final int index) {
+            this.index = index;
+        }
+
+        @Override
+        public BigInteger getSerialNumber() {
+            return serials[index];
+        }
+
+        @Override
+        @SuppressWarnings("JavaUtilDate")
+        public Date getRevocationDate() {
+            return new Date(revocationDates[index]);
+        }
+
+        @Override
+        public CRLReason getRevocationReason() {
+            return reasons[index] == NO_REASON ? null : CRLReason.values()[reasons[index]];
+        }
+
+        @Override
+        public X500Principal getCertificateIssuer() {
+            return null;
+        }
+
+        @Override
+        public boolean hasExtensions() {
+            return reasons[index] != NO_REASON;
+        }
+
+        @Override
+        public boolean hasUnsupportedCriticalExtension() {
+            return false;
+        }
+
+        @Override
+        public Set<String> getCriticalExtensionOIDs() {
+            return null;
+        }
+
+        @Override
+        public Set<String> getNonCriticalExtensionOIDs() {
+            return hasExtensions() ? Set.of(CRL_REASON_OID) : null;
+        }
+
+        @Override
+        public byte[] getExtensionValue(final String oid) {
+            if (hasExtensions() && CRL_REASON_OID.equals(oid)) {
+                return new byte[]{0x04, 0x03, 0x0A, 0x01, reasons[index]};
+            }
+            return null;
+        }
+
+        @Override
+        public byte[] getEncoded() throws CRLException {
+            throw new CRLException("Encoded form of the CRL entry is not retained by the index");
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof final IndexedX509CRLEntry entry
+                && getSerialNumber().equals(entry.getSerialNumber())
+                && revocationDates[index] == entry.getRevocationDate().getTime();
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(getSerialNumber(), revocationDates[index]);
+        }
+
+        @Override
+        public String toString() {
+            return "IndexedX509CRLEntry[serialNumber=%s, revocationDate=%s, reason=%s]"
+                .formatted(getSerialNumber(), getRevocationDate(), getRevocationReason());
+        }
+    }
+}
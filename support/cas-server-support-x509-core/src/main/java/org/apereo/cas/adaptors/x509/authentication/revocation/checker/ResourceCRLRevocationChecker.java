@@ -167,7 +167,7 @@ public class ResourceCRLRevocationChecker extends AbstractCRLRevocationChecker i
     @Override
     protected boolean addCRL(final Object issuer, final X509CRL crl) {
         LOGGER.debug("Adding CRL for issuer [{}]", issuer);
-        this.crlIssuerMap.put((X500Principal) issuer, crl);
+        this.crlIssuerMap.put((X500Principal) issuer, indexCRL(crl));
         return this.crlIssuerMap.containsKey(issuer);
     }
 
@@ -0,0 +1,94 @@
+package org.apereo.cas.adaptors.x509.authentication.handler.support;
+
+import org.apereo.cas.adaptors.x509.authentication.CRLFetcher;
+import org.apereo.cas.adaptors.x509.authentication.ResourceCRLFetcher;
+import org.apereo.cas.adaptors.x509.authentication.revocation.RevokedCertificateException;
+import org.apereo.cas.adaptors.x509.authentication.revocation.checker.CRLDistributionPointRevocationChecker;
+import org.apereo.cas.adaptors.x509.authentication.revocation.checker.IndexedX509CRL;
+import org.apereo.cas.adaptors.x509.authentication.revocation.policy.AllowRevocationPolicy;
+import org.apereo.cas.util.crypto.CertUtils;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.net.URI;
+import java.security.cert.CRLException;
+import java.security.cert.CRLReason;
+import java.security.cert.X509CRL;
+import java.time.Duration;
+
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link IndexedX509CRLTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("X509")
+class IndexedX509CRLTests {
+
+    private static X509CRL fetch(final String crl) throws Exception {
+        return new ResourceCRLFetcher().fetch(new ClassPathResource(crl));
+    }
+
+    @Test
+    void verifyIndexMatchesCRL() throws Throwable {
+        val crl = fetch("userCA-valid.crl");
+        val indexed = IndexedX509CRL.of(crl);
+        assertInstanceOf(IndexedX509CRL.class, indexed);
+        assertSame(indexed, IndexedX509CRL.of(indexed));
+        assertEquals(crl.getRevokedCertificates().size(), ((IndexedX509CRL) indexed).size());
+        assertEquals(crl.getIssuerX500Principal(), indexed.getIssuerX500Principal());
+        assertEquals(crl.getThisUpdate(), indexed.getThisUpdate());
+        assertEquals(crl.getNextUpdate(), indexed.getNextUpdate());
+        assertThrows(CRLException.class, indexed::getEncoded);
+
+        for (val certFile : new String[]{"user-revoked.crt", "user-revoked-distcrl.crt", "user-valid.crt", "user-valid-distcrl.crt"}) {
+            val cert = CertUtils.readCertificate(new ClassPathResource(certFile));
+            val expected = crl.getRevokedCertificate(cert);
+            val entry = indexed.getRevokedCertificate(cert);
+            assertEquals(crl.isRevoked(cert), indexed.isRevoked(cert));
+            if (expected == null) {
+                assertNull(entry);
+            } else {
+                assertEquals(expected.getSerialNumber(), entry.getSerialNumber());
+                assertEquals(expected.getRevocationDate(), entry.getRevocationDate());
+                assertEquals(expected.getRevocationReason(), entry.getRevocationReason());
+                assertEquals(CRLReason.KEY_COMPROMISE, entry.getRevocationReason());
+                assertNotNull(new RevokedCertificateException(entry).getMessage());
+            }
+        }
+    }
+
+    @Test
+    void verifyCachedCRLIsRefreshedAheadOfNextUpdate() throws Throwable {
+        val expired = fetch("userCA-expired.crl");
+        val valid = fetch("userCA-valid.crl");
+        val fetcher = mock(CRLFetcher.class);
+        when(fetcher.fetch(any(URI.class))).thenReturn(expired, valid);
+
+        val cache = Caffeine.newBuilder().maximumSize(10).<URI, X509CRL>build();
+        val checker = new CRLDistributionPointRevocationChecker(false, new AllowRevocationPolicy(),
+            crl -> {
+            }, cache, fetcher, true, Duration.ofMinutes(5));
+        try {
+            val cert = CertUtils.readCertificate(new ClassPathResource("user-valid-distcrl.crt"));
+            checker.check(cert);
+            await().untilAsserted(() -> {
+                val cached = cache.asMap().values().iterator().next();
+                assertInstanceOf(IndexedX509CRL.class, cached);
+                assertEquals(valid.getNextUpdate(), cached.getNextUpdate());
+            });
+            checker.check(cert);
+            verify(fetcher, times(2)).fetch(any(URI.class));
+        } finally {
+            checker.destroy();
+        }
+    }
+}
@@ -55,6 +55,7 @@ import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ScopedProxyMode;
 import java.net.URI;
+import java.security.cert.X509CRL;
 import java.util.Locale;
 import java.util.stream.Collectors;
 
@@ -200,12 +201,12 @@ public class CasX509AuthenticationAutoConfiguration {
         val cache = Caffeine.newBuilder()
             .maximumSize(x509.getCacheMaxElementsInMemory())
             .expireAfterWrite(Beans.newDuration(x509.getCacheTimeToLiveSeconds()))
-            .<URI, byte[]>build();
+            .<URI, X509CRL>build();
 
         return new CRLDistributionPointRevocationChecker(x509.isCheckAll(),
             getRevocationPolicy(x509.getCrlUnavailablePolicy(), allowRevocationPolicy, thresholdExpiredCRLRevocationPolicy, denyRevocationPolicy),
             getRevocationPolicy(x509.getCrlExpiredPolicy(), allowRevocationPolicy, thresholdExpiredCRLRevocationPolicy, denyRevocationPolicy),
-            cache, crlFetcher, x509.isThrowOnFetchFailure());
+            cache, crlFetcher, x509.isThrowOnFetchFailure(), Beans.newDuration(x509.getCacheRefreshLeadTime()));
     }
 
     @Bean